@@ -0,0 +1,56 @@
+#!/bin/bash
+# Load comparison between platform-thread and virtual-thread request handling.
+#
+# Starts the packaged service once per mode and drives the same two workloads against each:
+#   equity - short CPU-bound requests handed to the equity fork/join pool
+#   batch  - long streamed NDJSON batches, the case where a thread per stream is the limit
+# Requires `hey` (https://github.com/rakyll/hey) and a built jar (./mvnw -DskipTests package).
+#
+# Usage: scripts/compare-thread-modes.sh [concurrency] [duration]
+set -euo pipefail
+
+CONCURRENCY=${1:-800}
+DURATION=${2:-30s}
+PORT=18080
+JAR=$(ls target/pokerengine-*.jar | grep -v original | head -n 1)
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+command -v hey >/dev/null || { echo "hey is required: go install github.com/rakyll/hey@latest"; exit 1; }
+
+# 20k seven-card hands per batch request
+python3 - "$WORK_DIR/hands.ndjson" <<'PY'
+import random, sys
+random.seed(42)
+ranks, suits = "23456789TJQKA", "hdcs"
+with open(sys.argv[1], "w") as out:
+    for _ in range(20000):
+        cards = random.sample([r + s for r in ranks for s in suits], 7)
+        out.write('{"cards":"%s"}\n' % "".join(cards))
+PY
+cat > "$WORK_DIR/equity.json" <<'JSON'
+{"players": ["AsAh", "KsKh"], "board": "2c7dJc", "mode": "EXACT"}
+JSON
+
+run_mode() {
+  local virtual=$1
+  echo "=== poker.web.virtual-threads=$virtual (concurrency $CONCURRENCY, $DURATION) ==="
+  java -jar "$JAR" --server.port=$PORT --poker.web.virtual-threads="$virtual" \
+    --rate-limit.enabled=false --logging.level.com.midgard.pokerengine=WARN >"$WORK_DIR/app.log" 2>&1 &
+  local pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" >/dev/null; do sleep 1; done
+
+  echo "--- equity"
+  hey -z "$DURATION" -c "$CONCURRENCY" -m POST -T application/json -D "$WORK_DIR/equity.json" \
+    "http://localhost:$PORT/api/v1/equity" | grep -E "Requests/sec|Average|99%|\[[0-9]+\]"
+  echo "--- batch"
+  hey -z "$DURATION" -c "$CONCURRENCY" -m POST -T application/x-ndjson -D "$WORK_DIR/hands.ndjson" \
+    "http://localhost:$PORT/api/v1/hand/batch" | grep -E "Requests/sec|Average|99%|\[[0-9]+\]"
+  echo "--- live threads: $(curl -s "http://localhost:$PORT/actuator/metrics/jvm.threads.live" \
+    | grep -o '"value":[0-9.]*')"
+
+  kill "$pid" && wait "$pid" 2>/dev/null || true
+}
+
+run_mode false
+run_mode true
@@ -0,0 +1,101 @@
+package com.midgard.pokerengine.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.HandRequest;
+import com.midgard.pokerengine.model.Rank;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request binding: rank lookup, single card deserialization and whole {@link HandRequest}
+ * bodies in both the object and the compact card notation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CardBindingBenchmark {
+
+    private static final int SAMPLES = 256;
+    private static final String RANK_SYMBOLS = "23456789TJQKA";
+    private static final String SUIT_SYMBOLS = "hdcs";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ObjectReader cardReader;
+    private ObjectReader requestReader;
+    private int[] rankValues;
+    private byte[][] cards;
+    private byte[][] requests;
+    private byte[][] compactRequests;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        cardReader = objectMapper.readerFor(Card.class);
+        requestReader = objectMapper.readerFor(HandRequest.class);
+        SplittableRandom random = new SplittableRandom(HandSamples.SEED);
+        rankValues = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            rankValues[i] = 2 + random.nextInt(13);
+        }
+
+        List<List<Card>> hands = HandSamples.hands(7);
+        cards = new byte[SAMPLES][];
+        requests = new byte[SAMPLES][];
+        compactRequests = new byte[SAMPLES][];
+        for (int i = 0; i < SAMPLES; i++) {
+            List<Card> hand = hands.get(i);
+            cards[i] = objectMapper.writeValueAsBytes(hand.get(0));
+            requests[i] = objectMapper.writeValueAsBytes(new HandRequest(hand));
+            StringBuilder compact = new StringBuilder("{\"cards\":\"");
+            for (Card card : hand) {
+                compact.append(RANK_SYMBOLS.charAt(card.getRank().ordinal()))
+                    .append(SUIT_SYMBOLS.charAt(card.getSuit().ordinal()));
+            }
+            compactRequests[i] = compact.append("\"}").toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (SAMPLES - 1);
+        return next;
+    }
+
+    @Benchmark
+    public Rank rankFromValue() {
+        return Rank.fromValue(rankValues[nextIndex()]);
+    }
+
+    @Benchmark
+    public Card deserializeCard() throws IOException {
+        return cardReader.readValue(cards[nextIndex()]);
+    }
+
+    @Benchmark
+    public HandRequest bindHandRequest() throws IOException {
+        return requestReader.readValue(requests[nextIndex()]);
+    }
+
+    @Benchmark
+    public HandRequest bindCompactHandRequest() throws IOException {
+        return requestReader.readValue(compactRequests[nextIndex()]);
+    }
+}
@@ -0,0 +1,85 @@
+package com.midgard.pokerengine.benchmark;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.EquityMode;
+import com.midgard.pokerengine.model.EquityRequest;
+import com.midgard.pokerengine.model.EquityResult;
+import com.midgard.pokerengine.model.GameVariant;
+import com.midgard.pokerengine.model.Rank;
+import com.midgard.pokerengine.model.Suit;
+import com.midgard.pokerengine.service.EquityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end equity requests for AA vs KK: a seeded preflop simulation and exact enumeration
+ * from the flop, and the same simulation for AAKQ vs KKJT in Omaha.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EquityBenchmark {
+
+    private static final List<List<Card>> PLAYERS = List.of(
+        List.of(new Card(Suit.SPADES, Rank.ACE), new Card(Suit.HEARTS, Rank.ACE)),
+        List.of(new Card(Suit.SPADES, Rank.KING), new Card(Suit.HEARTS, Rank.KING)));
+
+    private static final List<List<Card>> OMAHA_PLAYERS = List.of(
+        List.of(new Card(Suit.SPADES, Rank.ACE), new Card(Suit.HEARTS, Rank.ACE),
+            new Card(Suit.DIAMONDS, Rank.KING), new Card(Suit.DIAMONDS, Rank.QUEEN)),
+        List.of(new Card(Suit.SPADES, Rank.KING), new Card(Suit.HEARTS, Rank.KING),
+            new Card(Suit.CLUBS, Rank.JACK), new Card(Suit.CLUBS, Rank.TEN)));
+
+    private static final List<Card> FLOP = List.of(
+        new Card(Suit.CLUBS, Rank.TWO), new Card(Suit.DIAMONDS, Rank.SEVEN),
+        new Card(Suit.CLUBS, Rank.JACK));
+
+    private ForkJoinPool pool;
+    private EquityService equityService;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        equityService = new EquityService(pool, new PokerConfig());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public EquityResult monteCarloPreflop() {
+        return equityService.calculate(new EquityRequest(PLAYERS, null, null, 100_000L, null,
+            HandSamples.SEED, EquityMode.MONTE_CARLO, null));
+    }
+
+    @Benchmark
+    public EquityResult monteCarloOmahaPreflop() {
+        return equityService.calculate(new EquityRequest(OMAHA_PLAYERS, null, null, 100_000L, null,
+            HandSamples.SEED, EquityMode.MONTE_CARLO, GameVariant.OMAHA));
+    }
+
+    @Benchmark
+    public EquityResult exactFlop() {
+        return equityService.calculate(new EquityRequest(PLAYERS, FLOP, null, null, null, null,
+            EquityMode.EXACT, null));
+    }
+}
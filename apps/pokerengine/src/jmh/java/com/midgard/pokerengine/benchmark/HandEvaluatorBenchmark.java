@@ -0,0 +1,79 @@
+package com.midgard.pokerengine.benchmark;
+
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.service.HandEvaluatorService;
+import com.midgard.pokerengine.service.HandRankCache;
+import com.midgard.pokerengine.service.HandRankTables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluator hot paths over seeded random 5 and 7 card hands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class HandEvaluatorBenchmark {
+
+    @Param({"5", "7"})
+    int handSize;
+
+    private HandEvaluatorService evaluator;
+    private HandEvaluatorService cachedEvaluator;
+    private long[] masks;
+    private List<List<Card>> hands;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        evaluator = new HandEvaluatorService();
+        cachedEvaluator = new HandEvaluatorService(HandRankTables.standard(), new HandRankCache(1 << 16));
+        masks = HandSamples.masks(handSize);
+        hands = HandSamples.hands(handSize);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (HandSamples.SIZE - 1);
+        return next;
+    }
+
+    @Benchmark
+    public boolean isStraightCards() {
+        return evaluator.isStraight(hands.get(nextIndex()));
+    }
+
+    @Benchmark
+    public boolean isStraightMask() {
+        return evaluator.isStraight(masks[nextIndex()]);
+    }
+
+    @Benchmark
+    public int strength() {
+        return evaluator.strength(masks[nextIndex()]);
+    }
+
+    @Benchmark
+    public int strengthCached() {
+        return cachedEvaluator.strength(masks[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object rankCards() {
+        return evaluator.rank(hands.get(nextIndex()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.midgard.pokerengine.benchmark;
+
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded pools of random hands, uniformly dealt from a full deck, so every run and every
+ * version of the engine benchmarks the same inputs.
+ */
+final class HandSamples {
+    static final int SIZE = 4096;
+    static final long SEED = 0x5EEDL;
+
+    private HandSamples() {
+    }
+
+    static long[] masks(int handSize) {
+        SplittableRandom random = new SplittableRandom(SEED + handSize);
+        long[] masks = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            long mask = 0L;
+            while (Long.bitCount(mask) < handSize) {
+                mask |= 1L << random.nextInt(CardMask.DECK_SIZE);
+            }
+            masks[i] = mask;
+        }
+        return masks;
+    }
+
+    static List<List<Card>> hands(int handSize) {
+        List<List<Card>> hands = new ArrayList<>(SIZE);
+        for (long mask : masks(handSize)) {
+            List<Card> cards = new ArrayList<>(handSize);
+            for (long rest = mask; rest != 0; rest &= rest - 1) {
+                cards.add(CardMask.card(Long.numberOfTrailingZeros(rest)));
+            }
+            hands.add(cards);
+        }
+        return hands;
+    }
+}
@@ -0,0 +1,88 @@
+package com.midgard.pokerengine;
+
+import com.midgard.pokerengine.history.HandHistoryGenerator;
+import com.midgard.pokerengine.history.HandHistoryIngester;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.HandHistoryReport;
+import com.midgard.pokerengine.model.PlayerResult;
+import com.midgard.pokerengine.service.HandRankTables;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Offline entry point for hand history ingestion, without starting the web application.
+ *
+ * <pre>
+ * HandHistoryCli &lt;file&gt; [workers] [players]    ingest a file and print its report
+ * HandHistoryCli --generate &lt;file&gt; &lt;hands&gt; [seed]    write a synthetic hand history
+ * </pre>
+ */
+public class HandHistoryCli {
+
+    private static final int DEFAULT_PLAYERS = 20;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 3 && args[0].equals("--generate")) {
+            long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+            HandHistoryGenerator.generate(Path.of(args[1]), Long.parseLong(args[2]), seed);
+            return;
+        }
+        if (args.length < 1 || args.length > 3 || args[0].startsWith("--")) {
+            System.err.println("Usage: HandHistoryCli <file> [workers] [players]");
+            System.err.println("       HandHistoryCli --generate <file> <hands> [seed]");
+            System.exit(2);
+        }
+        Path file = Path.of(args[0]);
+        int workers = args.length > 1 ? Integer.parseInt(args[1])
+            : Runtime.getRuntime().availableProcessors();
+        int players = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PLAYERS;
+
+        long size = Files.size(file);
+        AtomicLong processed = new AtomicLong();
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        long start = System.nanoTime();
+        HandHistoryReport report;
+        try {
+            HandHistoryIngester ingester = new HandHistoryIngester(HandRankTables.standard(), pool,
+                HandHistoryIngester.DEFAULT_SEGMENT_BYTES);
+            report = ingester.ingest(file, bytes -> {
+                // Report every tenth of the file
+                long done = processed.addAndGet(bytes);
+                if (done * 10 / size != (done - bytes) * 10 / size) {
+                    System.err.printf("%3d%%%n", done * 100 / size);
+                }
+            }).toReport(players);
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        print(report, size, seconds);
+    }
+
+    private static void print(HandHistoryReport report, long size, double seconds) {
+        System.out.printf("%d hands, %d showdowns, %d malformed records in %.2f s "
+                + "(%.0f MB/s, %.0f hands/s)%n",
+            report.getHands(), report.getShowdowns(), report.getMalformed(), seconds,
+            size / 1e6 / seconds, report.getHands() / seconds);
+        if (report.getFirstMalformedOffset() != null) {
+            System.out.println("First malformed record at byte "
+                + report.getFirstMalformedOffset());
+        }
+        System.out.printf("%n%-16s %12s %12s%n", "Category", "Shown", "Won");
+        for (HandCategory category : HandCategory.values()) {
+            System.out.printf("%-16s %12d %12d%n", category, report.getShownHands().get(category),
+                report.getWinningHands().get(category));
+        }
+        System.out.printf("%n%d players, most hands first:%n", report.getPlayerCount());
+        System.out.printf("%-20s %10s %12s %10s %10s%n",
+            "Player", "Hands", "Net", "Showdowns", "Won");
+        for (PlayerResult player : report.getPlayers()) {
+            System.out.printf("%-20s %10d %12d %10d %10d%n", player.getName(), player.getHands(),
+                player.getNet(), player.getShowdowns(), player.getShowdownsWon());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.midgard.pokerengine.config;
+
+import com.midgard.pokerengine.service.PreflopEquityTable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Dedicated fork/join pool for CPU-bound equity work, kept apart from the common pool and the
+ * web tier so simulations cannot starve request handling threads or oversubscribe cores.
+ * Also loads the precomputed preflop equity table shipped on the classpath.
+ */
+@Configuration
+public class EquityConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool equityPool(PokerConfig pokerConfig) {
+        int parallelism = pokerConfig.getEquity().getParallelism();
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public PreflopEquityTable preflopEquityTable() {
+        try {
+            return PreflopEquityTable.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load preflop equity table", e);
+        }
+    }
+}
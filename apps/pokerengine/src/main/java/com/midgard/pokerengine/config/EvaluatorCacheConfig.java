@@ -0,0 +1,20 @@
+package com.midgard.pokerengine.config;
+
+import com.midgard.pokerengine.service.HandRankCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hand strength cache shared by every evaluation path. As a {@code MeterBinder} bean its
+ * hit, miss and eviction counters are picked up by the actuator registry automatically.
+ */
+@Configuration
+public class EvaluatorCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "poker.cache", name = "enabled", matchIfMissing = true)
+    public HandRankCache handRankCache(PokerConfig pokerConfig) {
+        return new HandRankCache(pokerConfig.getCache().getCapacity());
+    }
+}
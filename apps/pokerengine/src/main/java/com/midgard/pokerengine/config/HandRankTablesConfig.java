@@ -0,0 +1,48 @@
+package com.midgard.pokerengine.config;
+
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.service.HandRankTableFile;
+import com.midgard.pokerengine.service.HandRankTables;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the hand rank tables, memory-mapped from {@code poker.tables.path} when set so that
+ * startup skips the table build and replicas on one host share the pages. Tables for any other
+ * deck than the standard one ({@code poker.deck.type}) are generated on the heap instead.
+ */
+@Configuration
+public class HandRankTablesConfig {
+    private static final Logger logger = LoggerFactory.getLogger(HandRankTablesConfig.class);
+
+    @Bean
+    public HandRankTables handRankTables(PokerConfig pokerConfig) {
+        DeckDefinition deck = pokerConfig.getDeck().definition();
+        if (!deck.isStandard()) {
+            HandRankTables tables = HandRankTables.generate(deck);
+            logger.info("Generated hand rank tables for the {}: {} distinct hands", deck,
+                tables.distinctHands());
+            return tables;
+        }
+        PokerConfig.Tables config = pokerConfig.getTables();
+        if (config.getPath() == null || config.getPath().isBlank()) {
+            return HandRankTables.standard();
+        }
+        Path path = Paths.get(config.getPath());
+        try {
+            HandRankTables tables = config.isGenerateIfMissing()
+                ? HandRankTableFile.mapOrGenerate(path)
+                : HandRankTableFile.map(path);
+            logger.info("Mapped hand rank tables from {}", path);
+            return tables;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load hand rank tables from " + path, e);
+        }
+    }
+}
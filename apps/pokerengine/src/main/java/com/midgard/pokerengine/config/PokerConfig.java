@@ -1,5 +1,10 @@
 package com.midgard.pokerengine.config;
 
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.model.DeckType;
+import com.midgard.pokerengine.model.GameVariant;
+import com.midgard.pokerengine.model.Rank;
+import com.midgard.pokerengine.model.Suit;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -11,4 +16,120 @@ import java.util.List;
 @ConfigurationProperties(prefix = "poker")
 public class PokerConfig {
   private List<Integer> validHandSizes;
-}
\ No newline at end of file
+  private Equity equity = new Equity();
+  private Cache cache = new Cache();
+  private Tables tables = new Tables();
+  private Web web = new Web();
+  private Logging logging = new Logging();
+  private Deck deck = new Deck();
+  private History history = new History();
+  private Variants variants = new Variants();
+
+  /**
+   * Limits for equity calculations.
+   */
+  @Data
+  public static class Equity {
+    private long defaultTrials = 100_000;
+    private long maxTrials = 10_000_000;
+    private long maxTimeBudgetMs = 5_000;
+    // Range equity trials each deal a board and evaluate every combo of both ranges on it
+    private long defaultRangeTrials = 10_000;
+    private long maxRangeTrials = 1_000_000;
+    // 0 uses one worker per available processor
+    private int parallelism = 0;
+  }
+
+  /**
+   * Hand strength cache in front of the evaluator.
+   */
+  @Data
+  public static class Cache {
+    private boolean enabled = true;
+    // Rounded up to a power of two, 8 bytes per entry
+    private int capacity = 65_536;
+  }
+
+  /**
+   * Location of the memory-mapped hand rank table file.
+   */
+  @Data
+  public static class Tables {
+    // Blank builds the tables on the heap instead of mapping a file
+    private String path = "";
+    private boolean generateIfMissing = true;
+  }
+
+  /**
+   * Request execution for the web tier.
+   */
+  @Data
+  public static class Web {
+    // Run Tomcat request handling on virtual threads instead of the platform thread pool
+    private boolean virtualThreads = false;
+  }
+
+  /**
+   * Request logging.
+   */
+  @Data
+  public static class Logging {
+    // Log one request in this many, 1 logs all and 0 none; errors are always logged
+    private int requestSampleRate = 1000;
+  }
+
+  /**
+   * The deck every endpoint plays with, and limits for dealing.
+   */
+  @Data
+  public static class Deck {
+    // Hands per deal request
+    private int maxDeals = 10_000;
+    // STANDARD, SHORT or CUSTOM; the hand rank tables are generated for it at startup
+    private DeckType type = DeckType.STANDARD;
+    // The ranks and suits of a CUSTOM deck
+    private List<Rank> ranks = List.of(Rank.values());
+    private List<Suit> suits = List.of(Suit.values());
+    // Rank a flush above a full house in a CUSTOM deck
+    private boolean flushBeatsFullHouse = false;
+
+    /**
+     * Returns the configured deck.
+     */
+    public DeckDefinition definition() {
+      return switch (type) {
+        case STANDARD -> DeckDefinition.STANDARD;
+        case SHORT -> DeckDefinition.SHORT;
+        case CUSTOM -> DeckDefinition.custom(ranks, suits, flushBeatsFullHouse);
+      };
+    }
+  }
+
+  /**
+   * Hand history ingestion jobs.
+   */
+  @Data
+  public static class History {
+    // Jobs may only read files under this directory
+    private String directory = "hand-history";
+    // 0 uses one worker per available processor
+    private int parallelism = 0;
+    // Bytes each parallel task maps and parses
+    private int segmentBytes = 16 << 20;
+    // Finished jobs kept for status requests
+    private int maxJobs = 100;
+    // Players listed in a report, most hands first
+    private int maxPlayers = 100;
+  }
+
+  /**
+   * Game variants served by the equity and showdown endpoints.
+   */
+  @Data
+  public static class Variants {
+    // Played when a request names no variant
+    private GameVariant defaultVariant = GameVariant.HOLDEM;
+    // Requests for any other variant are rejected
+    private List<GameVariant> enabled = List.of(GameVariant.values());
+  }
+}
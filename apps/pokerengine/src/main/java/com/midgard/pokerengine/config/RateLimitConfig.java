@@ -1,9 +1,12 @@
 package com.midgard.pokerengine.config;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import com.midgard.pokerengine.interceptor.ClientRateLimiter;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -18,11 +21,19 @@ public class RateLimitConfig {
     private int capacity;
     private int timeWindow;
     private boolean enabled;
+    // Header identifying a client; requests without it are limited by remote address
+    private String clientHeader = "X-API-Key";
+    // Keys that get a bucket of their own; requests with any other key are limited by address
+    private List<String> apiKeys = new ArrayList<>();
+    private int maxClients = 100_000;
+    // Seconds a client bucket may stay unused before it is dropped
+    private int idleTimeout = 300;
+    // Tokens charged per request by path, 1 when not listed
+    private Map<String, Integer> costs = new HashMap<>();
 
     @Bean
-    public Bucket bucket() {
-        return Bucket.builder()
-                    .addLimit(Bandwidth.classic(capacity, Refill.intervally(capacity, Duration.ofSeconds(timeWindow))))
-                    .build();
+    public ClientRateLimiter clientRateLimiter() {
+        return new ClientRateLimiter(enabled, capacity, Duration.ofSeconds(timeWindow), clientHeader,
+                new HashSet<>(apiKeys), maxClients, Duration.ofSeconds(Math.max(idleTimeout, timeWindow)), costs);
     }
-}
\ No newline at end of file
+}
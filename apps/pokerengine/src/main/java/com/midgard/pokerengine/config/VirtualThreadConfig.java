@@ -0,0 +1,31 @@
+package com.midgard.pokerengine.config;
+
+import java.util.concurrent.Executors;
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs Tomcat request handling on virtual threads when {@code poker.web.virtual-threads} is set.
+ *
+ * <p>Streaming batch and equity responses then hold a cheap virtual thread rather than a pooled
+ * platform thread, so concurrent streams are no longer capped by {@code server.tomcat.threads.max}.
+ * CPU-bound work is unchanged: equity simulations still run on the bounded {@code equityPool},
+ * whose joins park the calling virtual thread without pinning its carrier.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "poker.web", name = "virtual-threads", havingValue = "true")
+public class VirtualThreadConfig {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadExecutorCustomizer() {
+        logger.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(
+            Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
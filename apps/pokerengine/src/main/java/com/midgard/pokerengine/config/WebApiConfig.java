@@ -1,9 +1,13 @@
 package com.midgard.pokerengine.config;
 
+import com.midgard.pokerengine.converter.PokerHandMessageConverter;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebApiConfig implements WebMvcConfigurer {
     @Override
@@ -13,4 +17,10 @@ public class WebApiConfig implements WebMvcConfigurer {
                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                .allowedHeaders("*");
     }
-}
\ No newline at end of file
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Appended after Jackson so JSON stays the default; only used for application/x-poker-hand
+        converters.add(new PokerHandMessageConverter());
+    }
+}
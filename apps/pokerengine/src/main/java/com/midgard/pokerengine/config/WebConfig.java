@@ -15,6 +15,8 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(rateLimitInterceptor);
+        // Batch requests are charged per hand by HandBatchService instead of per request
+        registry.addInterceptor(rateLimitInterceptor)
+                .excludePathPatterns("/api/v1/hand/batch");
     }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.midgard.pokerengine.controller;
+
+import com.midgard.pokerengine.logging.RequestLogSampler;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.model.DealRequest;
+import com.midgard.pokerengine.model.DealResult;
+import com.midgard.pokerengine.model.StandardResponse;
+import com.midgard.pokerengine.service.DeckService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * Controller for shuffling and dealing.
+ */
+@RestController
+@RequestMapping("/api/v1/deck")
+public class DeckController {
+
+    private final DeckService deckService;
+    private final PokerMetrics metrics;
+    private final RequestLogSampler requestLog;
+
+    public DeckController(DeckService deckService, PokerMetrics metrics, RequestLogSampler requestLog) {
+        this.deckService = deckService;
+        this.metrics = metrics;
+        this.requestLog = requestLog;
+    }
+
+    @Operation(
+        summary = "Deal hands from freshly shuffled decks",
+        description = "Deals 'deals' independent hands, each from a new shuffle: two hole cards to each of " +
+                    "'players' players and 'boardCards' board cards (default 5), in compact notation. Mode " +
+                    "FAST (default) uses a per-thread generator, SECURE a per-thread SecureRandom for " +
+                    "real-money dealing, and SEEDED a seeded generator whose seed is returned, so the same " +
+                    "deals can be reproduced. Passing a seed selects SEEDED."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully dealt the hands",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request (e.g., too many deals or players, seed outside SEEDED mode)",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping("/deal")
+    public ResponseEntity<StandardResponse<DealResult>> deal(@RequestBody DealRequest request) {
+        requestLog.logDeal(request.getDeals(), request.getPlayers(), request.getMode());
+
+        long start = System.nanoTime();
+        DealResult result = deckService.deal(request);
+        metrics.recordEvaluation(PokerMetrics.Operation.DEAL, start, result.getDeals().size(),
+            request.getPlayers());
+
+        StandardResponse<DealResult> response = new StandardResponse<>(
+            LocalDateTime.now(),
+            HttpStatus.OK.value(),
+            "Successfully dealt " + result.getDeals().size() + " hands",
+            result
+        );
+
+        return ResponseEntity.ok(response);
+    }
+}
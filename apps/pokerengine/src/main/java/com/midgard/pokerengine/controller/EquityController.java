@@ -0,0 +1,170 @@
+package com.midgard.pokerengine.controller;
+
+import com.midgard.pokerengine.logging.RequestLogSampler;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.model.EquityRequest;
+import com.midgard.pokerengine.model.EquityResult;
+import com.midgard.pokerengine.model.PreflopEquity;
+import com.midgard.pokerengine.model.RangeEquityRequest;
+import com.midgard.pokerengine.model.RangeEquityResult;
+import com.midgard.pokerengine.model.StandardResponse;
+import com.midgard.pokerengine.service.EquityService;
+import com.midgard.pokerengine.service.PreflopEquityService;
+import com.midgard.pokerengine.service.RangeEquityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * Controller for equity calculations.
+ */
+@RestController
+@RequestMapping("/api/v1/equity")
+public class EquityController {
+
+    private final EquityService equityService;
+    private final RangeEquityService rangeEquityService;
+    private final PreflopEquityService preflopEquityService;
+    private final PokerMetrics metrics;
+    private final RequestLogSampler requestLog;
+
+    public EquityController(EquityService equityService, RangeEquityService rangeEquityService,
+                            PreflopEquityService preflopEquityService, PokerMetrics metrics,
+                            RequestLogSampler requestLog) {
+        this.equityService = equityService;
+        this.rangeEquityService = rangeEquityService;
+        this.preflopEquityService = preflopEquityService;
+        this.metrics = metrics;
+        this.requestLog = requestLog;
+    }
+
+    @Operation(
+        summary = "Calculate equity by Monte Carlo simulation or exact enumeration",
+        description = "Deals random runouts of the remaining board for two to ten players, each holding " +
+                    "the hole cards of the 'variant' (HOLDEM two, OMAHA and OMAHA_HI_LO four, OMAHA_5 " +
+                    "five; the configured default when omitted), and returns win, tie, loss and equity " +
+                    "per player with a 95% " +
+                    "confidence interval. The board may be empty or hold 3 to 5 cards; dead cards are " +
+                    "removed from the deck. Stops after 'trials' runouts or 'timeBudgetMs' milliseconds, " +
+                    "whichever comes first. A fixed 'seed' makes the result reproducible. With mode EXACT " +
+                    "every runout is enumerated instead, with suit-isomorphic runouts evaluated once."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully calculated equity",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request (e.g., wrong number of players or cards, duplicate cards, " +
+                        "variant not enabled)",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping
+    public ResponseEntity<StandardResponse<EquityResult>> calculate(@RequestBody EquityRequest request) {
+        requestLog.logEquity(request.getPlayers(), request.getBoard(), request.getMode());
+
+        long start = System.nanoTime();
+        EquityResult result = equityService.calculate(request);
+        metrics.recordEvaluation(PokerMetrics.Operation.EQUITY, start, result.getPlayers().size(),
+            result.getEvaluatedRunouts());
+
+        StandardResponse<EquityResult> response = new StandardResponse<>(
+            LocalDateTime.now(),
+            HttpStatus.OK.value(),
+            "Successfully calculated equity",
+            result
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "Calculate range-vs-range equity",
+        description = "Calculates the equity of two weighted ranges in standard notation, e.g. " +
+                    "\"TT+, AKs, A2s-A5s, KQo:0.5\", against each other. Combos blocked by the board, " +
+                    "dead cards or each other are removed. Boards are sampled ('trials', 'seed') or, with " +
+                    "mode EXACT and at least a flop, enumerated; every combo is evaluated once per board."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully calculated range equity",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request (e.g., malformed range, no combos left, duplicate cards)",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping("/range")
+    public ResponseEntity<StandardResponse<RangeEquityResult>> calculateRange(
+            @RequestBody RangeEquityRequest request) {
+        requestLog.logRangeEquity(request.getRanges(), request.getBoard(), request.getMode());
+
+        long start = System.nanoTime();
+        RangeEquityResult result = rangeEquityService.calculate(request);
+        metrics.recordEvaluation(PokerMetrics.Operation.RANGE_EQUITY, start, result.getRanges().size(),
+            result.getBoards());
+
+        StandardResponse<RangeEquityResult> response = new StandardResponse<>(
+            LocalDateTime.now(),
+            HttpStatus.OK.value(),
+            "Successfully calculated range equity",
+            result
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "Look up heads-up preflop equity",
+        description = "Returns the precomputed all-in preflop equity of a starting hand such as AA, AKs or " +
+                    "T9o against another starting hand, or against a random hand when 'versus' is omitted. " +
+                    "Results are exact over every board and every pair of combos of the two hands."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully looked up preflop equity",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid starting hand (e.g., missing s/o suffix)",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/preflop")
+    public ResponseEntity<StandardResponse<PreflopEquity>> preflop(
+            @RequestParam String hand, @RequestParam(required = false) String versus) {
+        requestLog.logPreflopEquity(hand, versus);
+
+        long start = System.nanoTime();
+        PreflopEquity result = preflopEquityService.lookup(hand, versus);
+        metrics.recordEvaluation(PokerMetrics.Operation.PREFLOP_EQUITY, start, 2, 0);
+
+        StandardResponse<PreflopEquity> response = new StandardResponse<>(
+            LocalDateTime.now(),
+            HttpStatus.OK.value(),
+            "Successfully looked up preflop equity",
+            result
+        );
+
+        return ResponseEntity.ok(response);
+    }
+}
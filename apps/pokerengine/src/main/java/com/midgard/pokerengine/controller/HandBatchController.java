@@ -0,0 +1,82 @@
+package com.midgard.pokerengine.controller;
+
+import com.midgard.pokerengine.converter.PokerHandFormat;
+import com.midgard.pokerengine.interceptor.ClientRateLimiter;
+import com.midgard.pokerengine.service.HandBatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for streaming batch hand evaluation.
+ */
+@RestController
+@RequestMapping("/api/v1/hand")
+public class HandBatchController {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final HandBatchService handBatchService;
+    private final ClientRateLimiter rateLimiter;
+
+    public HandBatchController(HandBatchService handBatchService, ClientRateLimiter rateLimiter) {
+        this.handBatchService = handBatchService;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Operation(
+        summary = "Rank a batch of hands",
+        description = "Accepts a JSON array or newline-delimited JSON of hand requests and streams back one " +
+                    "NDJSON line per hand with its category and strength, in input order. Hands are " +
+                    "evaluated as they are parsed. An invalid hand yields an inline error line and does " +
+                    "not fail the batch. The client's rate limit bucket is charged one token per hand."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Results streamed",
+            content = @Content(
+                mediaType = APPLICATION_NDJSON_VALUE,
+                examples = @ExampleObject(
+                    value = "{\"index\":0,\"category\":\"STRAIGHT\",\"strength\":5855}\n" +
+                            "{\"index\":1,\"error\":\"Invalid hand size: 4. Valid sizes are: [5, 7]\"}",
+                    summary = "One ranked hand and one invalid hand"
+                )
+            )
+        )
+    })
+    @PostMapping(value = "/batch", consumes = {APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public void batch(InputStream body, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        handBatchService.evaluate(body, response.getOutputStream(), rateLimiter.bucketFor(request));
+    }
+
+    @Operation(
+        summary = "Rank a batch of binary hands",
+        description = "Accepts back-to-back hands in the application/x-poker-hand format (a count byte and " +
+                    "card index bytes, or 0xFF and an 8-byte hand mask) and streams back one big-endian " +
+                    "16-bit strength per hand: 0 for an invalid hand, 0xFFFF if the rate limit cut the " +
+                    "batch short."
+    )
+    @PostMapping(value = "/batch", consumes = PokerHandFormat.MEDIA_TYPE_VALUE)
+    public void batchBinary(InputStream body, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(PokerHandFormat.MEDIA_TYPE_VALUE);
+        handBatchService.evaluateBinary(body, response.getOutputStream(),
+            rateLimiter.bucketFor(request));
+    }
+}
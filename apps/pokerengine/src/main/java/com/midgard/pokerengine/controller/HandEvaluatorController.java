@@ -2,8 +2,16 @@ package com.midgard.pokerengine.controller;
 
 import com.midgard.pokerengine.config.PokerConfig;
 import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.logging.RequestLogSampler;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.HandRank;
 import com.midgard.pokerengine.model.HandRequest;
+import com.midgard.pokerengine.model.MixedRank;
+import com.midgard.pokerengine.model.OutsRequest;
+import com.midgard.pokerengine.model.OutsResult;
 import com.midgard.pokerengine.service.HandEvaluatorService;
+import com.midgard.pokerengine.service.OutsService;
 import com.midgard.pokerengine.model.StandardResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,14 +19,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.bind.annotation.ExceptionHandler;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.Operation;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import java.time.LocalDateTime;
 
 /**
@@ -28,14 +33,19 @@ import java.time.LocalDateTime;
 @RequestMapping("/api/v1/hand")
 public class HandEvaluatorController {
 
-    private static final Logger logger = LoggerFactory.getLogger(HandEvaluatorController.class);
-
     private final HandEvaluatorService handEvaluatorService;
+    private final OutsService outsService;
     private final PokerConfig pokerConfig;
+    private final PokerMetrics metrics;
+    private final RequestLogSampler requestLog;
 
-    public HandEvaluatorController(HandEvaluatorService handEvaluatorService, PokerConfig pokerConfig) {
+    public HandEvaluatorController(HandEvaluatorService handEvaluatorService, OutsService outsService,
+                                   PokerConfig pokerConfig, PokerMetrics metrics, RequestLogSampler requestLog) {
         this.handEvaluatorService = handEvaluatorService;
+        this.outsService = outsService;
         this.pokerConfig = pokerConfig;
+        this.metrics = metrics;
+        this.requestLog = requestLog;
     }
 
     @Operation(
@@ -66,23 +76,13 @@ public class HandEvaluatorController {
     })
     @PostMapping("/isstraight")
     public ResponseEntity<StandardResponse<Boolean>> isStraight(@RequestBody HandRequest handRequest) {
-        logger.info("Received request: {}", handRequest);
-
-        // Validate that the cards list is not null
-        if (handRequest.getCards() == null) {
-            logger.error("Cards list is null");
-            throw new BusinessException("Cards list is null", HttpStatus.BAD_REQUEST);
-        }
-
-        // Validate that the hand size is valid
-        if (!pokerConfig.getValidHandSizes().contains(handRequest.getCards().size())) {
-            logger.error("Invalid hand size: {}. Valid sizes are: {}", handRequest.getCards().size(), pokerConfig.getValidHandSizes());
-            String errorMessage = String.format("Invalid hand size: %d. Valid sizes are: %s", handRequest.getCards().size(), pokerConfig.getValidHandSizes());
-            throw new BusinessException(errorMessage, HttpStatus.BAD_REQUEST);
-        }
+        requestLog.logHand("isstraight", handRequest.getCards());
+        validateHand(handRequest);
 
         // Evaluate if the hand is a straight
+        long start = System.nanoTime();
         boolean result = handEvaluatorService.isStraight(handRequest.getCards());
+        metrics.recordEvaluation(PokerMetrics.Operation.IS_STRAIGHT, start, 1, result ? 1 : 0);
 
         // Return a standardized response
         StandardResponse<Boolean> response = new StandardResponse<>(
@@ -95,9 +95,154 @@ public class HandEvaluatorController {
         return ResponseEntity.ok(response);
     }
 
-    // Handle invalid input exceptions
-    @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
-        return ResponseEntity.badRequest().body(e.getMessage());
+    @Operation(
+        summary = "Rank a poker hand",
+        description = "Ranks a 5 or 7 card hand by its best five cards. " +
+                    "Returns the hand category (high card through straight flush) and a strength " +
+                    "from 1 (7-5-4-3-2 high) to 7462 (royal flush); a higher strength wins and " +
+                    "equal strengths tie."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully ranked the hand",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = "{\"category\": \"STRAIGHT\", \"strength\": 5855}",
+                    summary = "Six-high straight response"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request (e.g., invalid card values, missing or duplicate cards)",
+            content = @Content(
+                mediaType = "application/json"
+            )
+        )
+    })
+    @PostMapping("/rank")
+    public ResponseEntity<StandardResponse<HandRank>> rank(@RequestBody HandRequest handRequest) {
+        requestLog.logHand("rank", handRequest.getCards());
+        validateHand(handRequest);
+
+        long start = System.nanoTime();
+        HandRank result = handEvaluatorService.rank(handRequest.getCards());
+        metrics.recordEvaluation(PokerMetrics.Operation.RANK, start, 1, result.getStrength());
+        metrics.recordCategory(result.getCategory());
+
+        StandardResponse<HandRank> response = new StandardResponse<>(
+            LocalDateTime.now(),
+            HttpStatus.OK.value(),
+            "Successfully ranked the hand",
+            result
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "Rank a hand high and low",
+        description = "Ranks a 5 or 7 card hand under the three orderings of mixed games: high, " +
+                    "ace-to-five low (razz; aces low, straights and flushes ignored) and " +
+                    "deuce-to-seven low (aces high, straights and flushes count). Each low has " +
+                    "a category, its five ranks and a strength where higher is the better low, " +
+                    "up to 6175 for 5-4-3-2-A and 7462 for 7-5-4-3-2."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully ranked the hand",
+            content = @Content(
+                mediaType = "application/json"
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request (e.g., invalid card values, missing or duplicate cards)",
+            content = @Content(
+                mediaType = "application/json"
+            )
+        )
+    })
+    @PostMapping("/lowball")
+    public ResponseEntity<StandardResponse<MixedRank>> lowball(@RequestBody HandRequest handRequest) {
+        requestLog.logHand("lowball", handRequest.getCards());
+        validateHand(handRequest);
+
+        long start = System.nanoTime();
+        MixedRank result = handEvaluatorService.mixed(handRequest.getCards());
+        metrics.recordEvaluation(PokerMetrics.Operation.LOWBALL, start, 1,
+            result.getAceToFive().getStrength());
+
+        StandardResponse<MixedRank> response = new StandardResponse<>(
+            LocalDateTime.now(),
+            HttpStatus.OK.value(),
+            "Successfully ranked the hand",
+            result
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "Count the outs of a hand",
+        description = "Given two hole cards and a 3 or 4 card board, returns the current rank, the draws " +
+                    "held (flush draw, open-ended, double gutshot, gutshot), every unseen card that lifts " +
+                    "the hand to a higher category grouped by that category, and the chance of improving " +
+                    "on the next card and by the river (runner-runner included on the flop)."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully counted the outs",
+            content = @Content(
+                mediaType = "application/json"
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request (e.g., not two hole cards, board of the wrong size, duplicate cards)",
+            content = @Content(
+                mediaType = "application/json"
+            )
+        )
+    })
+    @PostMapping("/outs")
+    public ResponseEntity<StandardResponse<OutsResult>> outs(@RequestBody OutsRequest outsRequest) {
+        requestLog.logOuts(outsRequest.getHole(), outsRequest.getBoard());
+
+        long start = System.nanoTime();
+        OutsResult result = outsService.outs(outsRequest);
+        metrics.recordEvaluation(PokerMetrics.Operation.OUTS, start, 1, result.getTotalOuts());
+
+        StandardResponse<OutsResult> response = new StandardResponse<>(
+            LocalDateTime.now(),
+            HttpStatus.OK.value(),
+            "Successfully counted the outs",
+            result
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    private void validateHand(HandRequest handRequest) {
+        // Validate that the cards list is not null
+        if (handRequest.getCards() == null) {
+            throw new BusinessException("Cards list is null", HttpStatus.BAD_REQUEST);
+        }
+        metrics.recordHandSize(handRequest.getCards().size());
+
+        // Validate that the hand size is valid
+        if (!pokerConfig.getValidHandSizes().contains(handRequest.getCards().size())) {
+            String errorMessage = String.format("Invalid hand size: %d. Valid sizes are: %s", handRequest.getCards().size(), pokerConfig.getValidHandSizes());
+            throw new BusinessException(errorMessage, HttpStatus.BAD_REQUEST);
+        }
+
+        // Repeated cards would collapse into a smaller hand
+        if (Long.bitCount(CardMask.mask(handRequest.getCards())) != handRequest.getCards().size()) {
+            throw new BusinessException("Hand contains duplicate cards", HttpStatus.BAD_REQUEST);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.midgard.pokerengine.controller;
+
+import com.midgard.pokerengine.model.HandHistoryJob;
+import com.midgard.pokerengine.model.HandHistoryJobRequest;
+import com.midgard.pokerengine.model.StandardResponse;
+import com.midgard.pokerengine.service.HandHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * Controller for hand history ingestion jobs.
+ */
+@RestController
+@RequestMapping("/api/v1/history/jobs")
+public class HandHistoryController {
+
+    private final HandHistoryService handHistoryService;
+
+    public HandHistoryController(HandHistoryService handHistoryService) {
+        this.handHistoryService = handHistoryService;
+    }
+
+    @Operation(
+        summary = "Ingest a hand history file",
+        description = "Queues a job that memory-maps a hand history file under the configured " +
+                    "directory, parses it in parallel, ranks every showdown and gathers hand category " +
+                    "frequencies and per-player results. Poll the returned job for progress and the report."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Job queued",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid path, e.g. outside the hand history directory",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "File not found",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping
+    public ResponseEntity<StandardResponse<HandHistoryJob>> submit(
+            @RequestBody HandHistoryJobRequest request) {
+        HandHistoryJob job = handHistoryService.submit(request);
+
+        StandardResponse<HandHistoryJob> response = new StandardResponse<>(
+            LocalDateTime.now(),
+            HttpStatus.ACCEPTED.value(),
+            "Hand history job queued",
+            job
+        );
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @Operation(
+        summary = "Get a hand history job",
+        description = "Returns the job's state and progress, and its report once it has completed."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Job status",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Unknown job",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<StandardResponse<HandHistoryJob>> status(@PathVariable String id) {
+        HandHistoryJob job = handHistoryService.status(id);
+
+        StandardResponse<HandHistoryJob> response = new StandardResponse<>(
+            LocalDateTime.now(),
+            HttpStatus.OK.value(),
+            "Hand history job " + job.getState().name().toLowerCase(),
+            job
+        );
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,81 @@
+package com.midgard.pokerengine.controller;
+
+import com.midgard.pokerengine.logging.RequestLogSampler;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.model.ShowdownRequest;
+import com.midgard.pokerengine.model.ShowdownResult;
+import com.midgard.pokerengine.model.StandardResponse;
+import com.midgard.pokerengine.service.ShowdownService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * Controller for settling hands at showdown.
+ */
+@RestController
+@RequestMapping("/api/v1/showdown")
+public class ShowdownController {
+
+    private final ShowdownService showdownService;
+    private final PokerMetrics metrics;
+    private final RequestLogSampler requestLog;
+
+    public ShowdownController(ShowdownService showdownService, PokerMetrics metrics,
+                              RequestLogSampler requestLog) {
+        this.showdownService = showdownService;
+        this.metrics = metrics;
+        this.requestLog = requestLog;
+    }
+
+    @Operation(
+        summary = "Determine the winners of a hand and split the pots",
+        description = "Ranks two to ten players' hole cards against a five card board and returns each " +
+                    "player's best five cards, hand rank and payout, the players holding the best hand, " +
+                    "and the main and side pots built from each player's total contribution. Folded " +
+                    "players' chips stay in the pots but they cannot win them. Odd chips of a split pot " +
+                    "go to the winners in request order. The 'variant' sets the hole cards and how hands " +
+                    "are made (HOLDEM, OMAHA, OMAHA_5, OMAHA_HI_LO); in OMAHA_HI_LO each pot is split with " +
+                    "the best eight-or-better low, the odd chip going to the high half."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully settled the hand",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request (e.g., wrong number of players or cards, duplicate cards, " +
+                        "variant not enabled)",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping
+    public ResponseEntity<StandardResponse<ShowdownResult>> settle(@RequestBody ShowdownRequest request) {
+        requestLog.logShowdown(request.getBoard(), request.getPlayers());
+
+        long start = System.nanoTime();
+        ShowdownResult result = showdownService.settle(request);
+        metrics.recordEvaluation(PokerMetrics.Operation.SHOWDOWN, start, result.getPlayers().size(),
+            result.getPots().size());
+
+        StandardResponse<ShowdownResult> response = new StandardResponse<>(
+            LocalDateTime.now(),
+            HttpStatus.OK.value(),
+            "Successfully settled the hand",
+            result
+        );
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,90 @@
+package com.midgard.pokerengine.converter;
+
+import com.midgard.pokerengine.model.CardMask;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.MediaType;
+
+/**
+ * Binary wire format for hands, media type {@code application/x-poker-hand}.
+ *
+ * <p>A hand is either
+ * <ul>
+ *   <li>a count byte {@code n} (0-52) followed by {@code n} card index bytes, or</li>
+ *   <li>the marker byte {@code 0xFF} followed by an 8-byte big-endian hand mask.</li>
+ * </ul>
+ * Card indices and masks use the {@link CardMask} encoding. A request body holds one hand, or
+ * any number of back-to-back hands for the batch endpoint.
+ *
+ * <p>Responses start with the HTTP status as an unsigned 16-bit big-endian value, followed by
+ * the payload: one byte (0 or 1) for a boolean, one category ordinal byte and a 16-bit strength
+ * for a hand rank, or a 16-bit length and UTF-8 message when there is no data. Batch responses
+ * are a bare sequence of 16-bit strengths, one per hand: {@link #INVALID_HAND} for a hand that
+ * could not be ranked and {@link #RATE_LIMITED} when the batch was cut short.
+ */
+public final class PokerHandFormat {
+  public static final String MEDIA_TYPE_VALUE = "application/x-poker-hand";
+  public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+  public static final int MASK_MARKER = 0xFF;
+  public static final int INVALID_HAND = 0;
+  public static final int RATE_LIMITED = 0xFFFF;
+
+  private PokerHandFormat() {
+  }
+
+  /**
+   * Reads one hand and returns its mask, with the number of cards as sent (duplicates included)
+   * stored in {@code count[0]}. Returns -1 at a clean end of stream.
+   *
+   * @throws EOFException if the stream ends inside a hand
+   * @throws IllegalArgumentException if a card index or mask is outside the deck
+   */
+  public static long readHand(InputStream in, int[] count) throws IOException {
+    int header = in.read();
+    if (header < 0) {
+      return -1L;
+    }
+    if (header == MASK_MARKER) {
+      long mask = readMask(in);
+      count[0] = Long.bitCount(mask);
+      return mask;
+    }
+    if (header > CardMask.DECK_SIZE) {
+      throw new IllegalArgumentException("Invalid card count: " + header);
+    }
+    long mask = 0L;
+    for (int i = 0; i < header; i++) {
+      int card = readByte(in);
+      if (card >= CardMask.DECK_SIZE) {
+        throw new IllegalArgumentException("Invalid card index: " + card);
+      }
+      mask |= 1L << card;
+    }
+    count[0] = header;
+    return mask;
+  }
+
+  /**
+   * Reads the 8-byte hand mask that follows a {@link #MASK_MARKER}.
+   */
+  public static long readMask(InputStream in) throws IOException {
+    long mask = 0L;
+    for (int i = 0; i < Long.BYTES; i++) {
+      mask = mask << 8 | readByte(in);
+    }
+    if ((mask & ~CardMask.FULL_DECK) != 0) {
+      throw new IllegalArgumentException("Hand mask has bits outside the 52-card deck");
+    }
+    return mask;
+  }
+
+  static int readByte(InputStream in) throws IOException {
+    int value = in.read();
+    if (value < 0) {
+      throw new EOFException("Stream ended inside a hand");
+    }
+    return value;
+  }
+}
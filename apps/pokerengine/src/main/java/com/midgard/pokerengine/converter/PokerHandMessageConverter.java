@@ -0,0 +1,139 @@
+package com.midgard.pokerengine.converter;
+
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.HandRank;
+import com.midgard.pokerengine.model.HandRequest;
+import com.midgard.pokerengine.model.StandardResponse;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Reads {@link HandRequest} bodies and writes {@link StandardResponse} bodies in the
+ * {@link PokerHandFormat} binary format, so the existing hand endpoints can be called without
+ * any JSON processing. The response drops the timestamp and message and keeps only the status
+ * and the packed result.
+ *
+ * <p>Only responses whose declared payload has a binary encoding (a straight check, a hand rank
+ * or an error without data) are claimed, so asking any other endpoint for this media type is
+ * answered with 406 Not Acceptable rather than failing while the body is written.
+ */
+public class PokerHandMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+  public PokerHandMessageConverter() {
+    super(PokerHandFormat.MEDIA_TYPE);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return HandRequest.class == clazz || StandardResponse.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return HandRequest.class == clazz && canRead(mediaType);
+  }
+
+  @Override
+  public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+    return HandRequest.class == type && canRead(mediaType);
+  }
+
+  @Override
+  public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+    if (!StandardResponse.class.isAssignableFrom(clazz) || !canWrite(mediaType)) {
+      return false;
+    }
+    Class<?> data = ResolvableType.forType(type != null ? type : clazz)
+        .as(StandardResponse.class).getGeneric(0).resolve();
+    return data == Boolean.class || data == HandRank.class || data == Void.class;
+  }
+
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException {
+    return readInternal(HandRequest.class, inputMessage);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+    InputStream in = inputMessage.getBody();
+    int header = in.read();
+    if (header < 0) {
+      throw new HttpMessageNotReadableException("Empty poker hand body", inputMessage);
+    }
+    try {
+      List<Card> cards = header == PokerHandFormat.MASK_MARKER
+          ? cardsOf(PokerHandFormat.readMask(in))
+          : readCards(in, header);
+      return new HandRequest(cards);
+    } catch (IllegalArgumentException | IOException e) {
+      throw new HttpMessageNotReadableException(
+          "Invalid poker hand body: " + e.getMessage(), e, inputMessage);
+    }
+  }
+
+  @Override
+  protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    StandardResponse<?> response = (StandardResponse<?>) value;
+    DataOutputStream out = new DataOutputStream(outputMessage.getBody());
+    out.writeShort(response.getStatus());
+    Object data = response.getData();
+    if (data instanceof Boolean) {
+      out.writeByte((Boolean) data ? 1 : 0);
+    } else if (data instanceof HandRank) {
+      HandRank rank = (HandRank) data;
+      out.writeByte(rank.getCategory().ordinal());
+      out.writeShort(rank.getStrength());
+    } else if (data == null) {
+      byte[] message = response.getMessage() == null
+          ? new byte[0]
+          : response.getMessage().getBytes(StandardCharsets.UTF_8);
+      out.writeShort(message.length);
+      out.write(message);
+    } else {
+      throw new HttpMessageNotWritableException(
+          "No binary encoding for " + data.getClass().getSimpleName());
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads a count-prefixed hand keeping the cards as sent, so duplicates still reach validation.
+   */
+  private static List<Card> readCards(InputStream in, int count) throws IOException {
+    if (count > CardMask.DECK_SIZE) {
+      throw new IllegalArgumentException("Invalid card count: " + count);
+    }
+    List<Card> cards = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int card = PokerHandFormat.readByte(in);
+      if (card >= CardMask.DECK_SIZE) {
+        throw new IllegalArgumentException("Invalid card index: " + card);
+      }
+      cards.add(CardMask.card(card));
+    }
+    return cards;
+  }
+
+  private static List<Card> cardsOf(long mask) {
+    List<Card> cards = new ArrayList<>(Long.bitCount(mask));
+    for (long rest = mask; rest != 0; rest &= rest - 1) {
+      cards.add(CardMask.card(Long.numberOfTrailingZeros(rest)));
+    }
+    return cards;
+  }
+}
@@ -1,6 +1,9 @@
 package com.midgard.pokerengine.exception;
 
 import com.midgard.pokerengine.model.StandardResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -9,15 +12,32 @@ import java.time.LocalDateTime;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<StandardResponse<Void>> handleBusinessException(BusinessException ex) {
+        return reject(ex.getStatus(), ex.getMessage());
+    }
+
+    // Invalid input raised below the controllers: duplicate cards, cards outside the deck, bad sizes
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<StandardResponse<Void>> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return reject(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    private static ResponseEntity<StandardResponse<Void>> reject(HttpStatus status, String message) {
+        // Rejected requests are always logged, unlike the sampled request log
+        logger.atWarn()
+              .setMessage("Request rejected")
+              .addKeyValue("status", status::value)
+              .addKeyValue("error", () -> message)
+              .log();
         StandardResponse<Void> response = new StandardResponse<>(
             LocalDateTime.now(),
-            ex.getStatus().value(),
-            ex.getMessage(),
+            status.value(),
+            message,
             null
         );
-        return ResponseEntity.status(ex.getStatus()).body(response);
+        return ResponseEntity.status(status).body(response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.midgard.pokerengine.health;
+
+import com.midgard.pokerengine.service.HandRankTableFile;
+import com.midgard.pokerengine.service.HandRankTables;
+import java.time.Instant;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports whether the hand rank tables matched their checksum and ranked known hands correctly,
+ * so a corrupt or truncated table file takes the instance out of rotation.
+ *
+ * <p>Verifying reads every page of the ~20 MB payload, so it runs once when the tables are
+ * loaded and each probe reports the cached result.
+ */
+@Component
+public class HandRankTablesHealthIndicator extends AbstractHealthIndicator {
+  private final HandRankTables tables;
+  private final boolean intact;
+  private final Instant verifiedAt;
+
+  public HandRankTablesHealthIndicator(HandRankTables tables) {
+    super("Hand rank table check failed");
+    this.tables = tables;
+    this.intact = tables.verify();
+    this.verifiedAt = Instant.now();
+  }
+
+  @Override
+  protected void doHealthCheck(Health.Builder builder) {
+    if (intact) {
+      builder.up();
+    } else {
+      builder.down();
+    }
+    builder.withDetail("source", tables.source())
+        .withDetail("deck", tables.deck().toString())
+        .withDetail("distinctHands", tables.distinctHands())
+        .withDetail("formatVersion", HandRankTableFile.FORMAT_VERSION)
+        .withDetail("bytes", HandRankTables.PAYLOAD_BYTES)
+        .withDetail("checksum", Long.toHexString(tables.expectedChecksum()))
+        .withDetail("verifiedAt", verifiedAt.toString());
+  }
+}
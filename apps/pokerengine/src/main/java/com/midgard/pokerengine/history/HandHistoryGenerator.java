@@ -0,0 +1,102 @@
+package com.midgard.pokerengine.history;
+
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.service.Deck;
+import com.midgard.pokerengine.service.HandRankTables;
+import com.midgard.pokerengine.service.ShowdownService;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Writes synthetic hand histories in the {@link HandHistoryParser} format, for trying out and
+ * load testing ingestion. Each hand seats 2 to 9 of a pool of players, who put in random
+ * amounts; some of them reach the end of the hand and, with a full board, show down. Pots are
+ * paid out as {@link ShowdownService#payouts} would, so every hand's nets add up to zero.
+ */
+public final class HandHistoryGenerator {
+  static final int PLAYERS = 1000;
+  private static final String RANK_CHARS = "23456789TJQKA";
+  private static final String SUIT_CHARS = "hdcs";
+
+  private HandHistoryGenerator() {
+  }
+
+  /**
+   * Writes {@code hands} hands to {@code file}, replacing it.
+   */
+  public static void generate(Path file, long hands, long seed) throws IOException {
+    HandRankTables tables = HandRankTables.standard();
+    ShowdownService showdown = new ShowdownService(tables);
+    SplittableRandom random = new SplittableRandom(seed);
+    Deck deck = new Deck(random.split());
+    StringBuilder line = new StringBuilder(256);
+    try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+      out.write("# id board name:cards:net ...\n");
+      for (long id = 1; id <= hands; id++) {
+        line.setLength(0);
+        hand(id, random, deck, tables, showdown, line);
+        out.append(line);
+      }
+    }
+  }
+
+  private static void hand(long id, SplittableRandom random, Deck deck, HandRankTables tables,
+      ShowdownService showdown, StringBuilder line) {
+    int seats = random.nextInt(2, 10);
+    deck.shuffle();
+    long[] holes = new long[seats];
+    long[] contributions = new long[seats];
+    int[] strengths = new int[seats];
+    int live = 0;
+    for (int s = 0; s < seats; s++) {
+      holes[s] = deck.draw(2);
+      contributions[s] = 2L * random.nextInt(1, 51);
+      if (random.nextInt(3) == 0) {
+        live |= 1 << s;
+      }
+    }
+    if (live == 0) {
+      live = 1 << random.nextInt(seats);
+    }
+    boolean showdownReached = Integer.bitCount(live) > 1;
+    int boardCards = showdownReached ? 5 : new int[] {0, 3, 4, 5}[random.nextInt(4)];
+    long board = deck.draw(boardCards);
+    for (int s = 0; s < seats; s++) {
+      if (showdownReached && (live & 1 << s) != 0) {
+        strengths[s] = tables.evaluate(board | holes[s]);
+      }
+    }
+    long[] payouts = showdown.payouts(strengths, contributions, live);
+
+    line.append(id).append(' ');
+    if (boardCards == 0) {
+      line.append('-');
+    } else {
+      cards(board, line);
+    }
+    // A table of players with consecutive numbers, so nobody sits twice
+    int first = random.nextInt(PLAYERS - seats + 1);
+    for (int s = 0; s < seats; s++) {
+      line.append(" player").append(first + s).append(':');
+      if (strengths[s] != 0) {
+        cards(holes[s], line);
+      } else {
+        line.append('-');
+      }
+      line.append(':').append(payouts[s] - contributions[s]);
+    }
+    line.append('\n');
+  }
+
+  private static void cards(long mask, StringBuilder line) {
+    for (long rest = mask; rest != 0; rest &= rest - 1) {
+      int card = Long.numberOfTrailingZeros(rest);
+      line.append(RANK_CHARS.charAt(CardMask.rank(card)))
+          .append(SUIT_CHARS.charAt(CardMask.suit(card)));
+    }
+  }
+}
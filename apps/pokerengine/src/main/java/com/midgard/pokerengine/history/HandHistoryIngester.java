@@ -0,0 +1,143 @@
+package com.midgard.pokerengine.history;
+
+import com.midgard.pokerengine.service.HandRankTables;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongConsumer;
+
+/**
+ * Ingests hand history files (see {@link HandHistoryParser} for the format) in parallel.
+ *
+ * <p>The file is cut into segments of a fixed number of bytes, which fork/join tasks map and
+ * parse on their own, so memory use does not depend on the size of the file and mappings stay
+ * under the 2 GB limit of a buffer. A record belongs to the segment it starts in: a segment
+ * skips the tail of a record that started before it and maps up to {@link #MAX_RECORD_BYTES}
+ * past its end to finish its last record. Each task fills its own statistics, merged as the
+ * tasks join.
+ */
+public final class HandHistoryIngester {
+  public static final int DEFAULT_SEGMENT_BYTES = 16 << 20;
+  public static final int MAX_RECORD_BYTES = 64 << 10;
+
+  private final HandRankTables tables;
+  private final ForkJoinPool pool;
+  private final int segmentBytes;
+
+  /**
+   * Creates an ingester.
+   *
+   * @param tables       ranks the hands shown at showdown
+   * @param pool         runs the segment tasks
+   * @param segmentBytes bytes per segment, at least 1
+   */
+  public HandHistoryIngester(HandRankTables tables, ForkJoinPool pool, int segmentBytes) {
+    if (segmentBytes < 1) {
+      throw new IllegalArgumentException("Segments must have at least one byte");
+    }
+    this.tables = tables;
+    this.pool = pool;
+    this.segmentBytes = segmentBytes;
+  }
+
+  /**
+   * Parses a hand history file.
+   *
+   * @param file     the hand history
+   * @param progress receives the size of every segment once it has been parsed
+   * @return the statistics of the whole file
+   */
+  public HandHistoryStats ingest(Path file, LongConsumer progress) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long segments = (size + segmentBytes - 1) / segmentBytes;
+      if (segments == 0) {
+        return new HandHistoryStats();
+      }
+      try {
+        return pool.invoke(new Segments(channel, size, progress, 0, segments));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+  }
+
+  /**
+   * Parses the segments {@code [from, to)}, splitting the range in halves down to one segment.
+   */
+  private final class Segments extends RecursiveTask<HandHistoryStats> {
+    private final FileChannel channel;
+    private final long size;
+    private final LongConsumer progress;
+    private final long from;
+    private final long to;
+
+    Segments(FileChannel channel, long size, LongConsumer progress, long from, long to) {
+      this.channel = channel;
+      this.size = size;
+      this.progress = progress;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected HandHistoryStats compute() {
+      if (to - from > 1) {
+        long mid = (from + to) >>> 1;
+        Segments right = new Segments(channel, size, progress, mid, to);
+        right.fork();
+        HandHistoryStats left = new Segments(channel, size, progress, from, mid).compute();
+        return left.merge(right.join());
+      }
+      long start = from * segmentBytes;
+      long end = Math.min(size, start + segmentBytes);
+      HandHistoryStats stats = new HandHistoryStats();
+      try {
+        parse(start, end, stats);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      progress.accept(end - start);
+      return stats;
+    }
+
+    /**
+     * Parses the records that start in {@code [start, end)}.
+     */
+    private void parse(long start, long end, HandHistoryStats stats) throws IOException {
+      // Map the byte before the segment too, to tell whether a record starts at its first byte
+      long mapStart = Math.max(0, start - 1);
+      long mapEnd = Math.min(size, end + MAX_RECORD_BYTES);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapStart,
+          mapEnd - mapStart);
+      int limit = buffer.limit();
+      int segmentEnd = (int) (end - mapStart);
+      int pos = (int) (start - mapStart);
+      if (start > 0 && buffer.get(pos - 1) != '\n') {
+        while (pos < limit && buffer.get(pos) != '\n') {
+          pos++;
+        }
+        pos++;
+      }
+      HandHistoryParser parser = new HandHistoryParser(tables, stats);
+      while (pos < segmentEnd) {
+        int lineEnd = pos;
+        while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+          lineEnd++;
+        }
+        if (lineEnd == limit && mapEnd < size) {
+          // The record runs past the overlap: too long to be a hand
+          stats.malformed(mapStart + pos);
+          return;
+        }
+        parser.parse(buffer, pos, lineEnd, mapStart + pos);
+        pos = lineEnd + 1;
+      }
+    }
+  }
+}
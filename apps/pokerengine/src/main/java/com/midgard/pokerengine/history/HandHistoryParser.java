@@ -0,0 +1,241 @@
+package com.midgard.pokerengine.history;
+
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.service.HandRankTables;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Parses hand history records and adds them to a {@link HandHistoryStats}.
+ *
+ * <p>A hand history is ASCII text with one hand per line, ended by {@code \n} (a {@code \r}
+ * before it is ignored). Blank lines and lines starting with {@code #} are skipped. A hand is
+ * a hand id, the board and one entry per seat, separated by spaces or tabs:
+ * <pre>
+ * 1042 AhKhQd7c2s alice:AsAd:-100 bob:JhTh:250 carol:-:-150
+ * </pre>
+ * <ul>
+ *   <li>the id is any token and is not interpreted</li>
+ *   <li>the board is 0 to 5 cards in compact notation, or {@code -} for none</li>
+ *   <li>a seat is {@code name:cards:net}: a name without spaces or colons, the two hole cards
+ *   shown at showdown or {@code -} if they were not shown, and the chips won minus the chips put
+ *   in over the hand</li>
+ * </ul>
+ *
+ * <p>A hand goes to showdown when the board has five cards and at least two seats show their
+ * cards; the shown hands are ranked and the best of them win. A record that does not follow the
+ * format, or deals a card twice, is counted as malformed and otherwise ignored.
+ *
+ * <p>Records are read straight from a byte buffer, usually a mapped file: cards become masks and
+ * names are looked up by their bytes, so a record allocates nothing unless it brings a new
+ * player. A parser is not thread-safe.
+ */
+public final class HandHistoryParser {
+  public static final int MAX_SEATS = 10;
+
+  private static final byte[] RANKS = new byte[128];
+  private static final byte[] SUITS = new byte[128];
+  private static final int BOARD_CARDS = 5;
+
+  static {
+    Arrays.fill(RANKS, (byte) -1);
+    Arrays.fill(SUITS, (byte) -1);
+    String ranks = "23456789TJQKA";
+    for (int i = 0; i < ranks.length(); i++) {
+      RANKS[ranks.charAt(i)] = (byte) i;
+      RANKS[Character.toLowerCase(ranks.charAt(i))] = (byte) i;
+    }
+    String suits = "HDCS";
+    for (int i = 0; i < suits.length(); i++) {
+      SUITS[suits.charAt(i)] = (byte) i;
+      SUITS[Character.toLowerCase(suits.charAt(i))] = (byte) i;
+    }
+  }
+
+  private final HandRankTables tables;
+  private final HandHistoryStats stats;
+  private final int[] nameFrom = new int[MAX_SEATS];
+  private final int[] nameTo = new int[MAX_SEATS];
+  private final long[] holes = new long[MAX_SEATS];
+  private final long[] nets = new long[MAX_SEATS];
+  private final int[] strengths = new int[MAX_SEATS];
+
+  public HandHistoryParser(HandRankTables tables, HandHistoryStats stats) {
+    this.tables = tables;
+    this.stats = stats;
+  }
+
+  /**
+   * Parses the record in {@code buffer[from, to)}, without its line break.
+   *
+   * @param offset the record's position in the file, kept for the first malformed record
+   */
+  public void parse(ByteBuffer buffer, int from, int to, long offset) {
+    if (to > from && buffer.get(to - 1) == '\r') {
+      to--;
+    }
+    int pos = skipBlanks(buffer, from, to);
+    if (pos == to || buffer.get(pos) == '#') {
+      return;
+    }
+    if (!record(buffer, pos, to)) {
+      stats.malformed(offset);
+    }
+  }
+
+  private boolean record(ByteBuffer buffer, int pos, int to) {
+    // Hand id
+    pos = skipToken(buffer, pos, to);
+    pos = skipBlanks(buffer, pos, to);
+    int boardEnd = skipToken(buffer, pos, to);
+    long board = cards(buffer, pos, boardEnd);
+    if (board < 0 || Long.bitCount(board) > BOARD_CARDS) {
+      return false;
+    }
+    long used = board;
+    int seats = 0;
+    int shown = 0;
+    pos = skipBlanks(buffer, boardEnd, to);
+    while (pos < to) {
+      if (seats == MAX_SEATS) {
+        return false;
+      }
+      int end = skipToken(buffer, pos, to);
+      int nameEnd = indexOf(buffer, pos, end, ':');
+      int cardsEnd = indexOf(buffer, nameEnd + 1, end, ':');
+      if (nameEnd == pos || cardsEnd >= end) {
+        return false;
+      }
+      long hole = cards(buffer, nameEnd + 1, cardsEnd);
+      if (hole < 0 || hole != 0 && Long.bitCount(hole) != 2 || (used & hole) != 0) {
+        return false;
+      }
+      if (!number(buffer, cardsEnd + 1, end, seats)) {
+        return false;
+      }
+      used |= hole;
+      nameFrom[seats] = pos;
+      nameTo[seats] = nameEnd;
+      holes[seats] = hole;
+      if (hole != 0) {
+        shown++;
+      }
+      seats++;
+      pos = skipBlanks(buffer, end, to);
+    }
+    if (seats == 0) {
+      return false;
+    }
+    add(buffer, seats, Long.bitCount(board) == BOARD_CARDS && shown >= 2 ? board : -1L);
+    return true;
+  }
+
+  /**
+   * Adds a valid hand to the statistics.
+   *
+   * @param board the five board cards if the hand went to showdown, otherwise -1
+   */
+  private void add(ByteBuffer buffer, int seats, long board) {
+    int best = 0;
+    if (board >= 0) {
+      for (int s = 0; s < seats; s++) {
+        strengths[s] = holes[s] != 0 ? tables.evaluate(board | holes[s]) : 0;
+        if (strengths[s] != 0) {
+          stats.shown[tables.category(strengths[s]).ordinal()]++;
+        }
+        best = Math.max(best, strengths[s]);
+      }
+      stats.winning[tables.category(best).ordinal()]++;
+      stats.showdowns++;
+    }
+    stats.hands++;
+    PlayerTotals players = stats.players;
+    for (int s = 0; s < seats; s++) {
+      int p = players.find(buffer, nameFrom[s], nameTo[s]);
+      players.hands[p]++;
+      players.net[p] += nets[s];
+      if (board >= 0 && strengths[s] != 0) {
+        players.showdowns[p]++;
+        if (strengths[s] == best) {
+          players.showdownsWon[p]++;
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads compact cards, or {@code -} for none.
+   *
+   * @return the cards' mask, or -1 if they are invalid or repeated
+   */
+  private static long cards(ByteBuffer buffer, int from, int to) {
+    if (to - from == 1 && buffer.get(from) == '-') {
+      return 0L;
+    }
+    if (to == from || (to - from) % 2 != 0) {
+      return -1L;
+    }
+    long mask = 0L;
+    for (int i = from; i < to; i += 2) {
+      byte rankChar = buffer.get(i);
+      byte suitChar = buffer.get(i + 1);
+      int rank = rankChar >= 0 ? RANKS[rankChar] : -1;
+      int suit = suitChar >= 0 ? SUITS[suitChar] : -1;
+      if (rank < 0 || suit < 0) {
+        return -1L;
+      }
+      long card = 1L << (suit * CardMask.RANK_COUNT + rank);
+      if ((mask & card) != 0) {
+        return -1L;
+      }
+      mask |= card;
+    }
+    return mask;
+  }
+
+  /**
+   * Reads a signed decimal of up to 18 digits into {@code nets[seat]}.
+   */
+  private boolean number(ByteBuffer buffer, int from, int to, int seat) {
+    boolean negative = from < to && buffer.get(from) == '-';
+    int pos = negative || from < to && buffer.get(from) == '+' ? from + 1 : from;
+    if (pos == to || to - pos > 18) {
+      return false;
+    }
+    long value = 0;
+    for (; pos < to; pos++) {
+      int digit = buffer.get(pos) - '0';
+      if (digit < 0 || digit > 9) {
+        return false;
+      }
+      value = value * 10 + digit;
+    }
+    nets[seat] = negative ? -value : value;
+    return true;
+  }
+
+  private static int skipBlanks(ByteBuffer buffer, int pos, int to) {
+    while (pos < to && isBlank(buffer.get(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static int skipToken(ByteBuffer buffer, int pos, int to) {
+    while (pos < to && !isBlank(buffer.get(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static int indexOf(ByteBuffer buffer, int pos, int to, char c) {
+    while (pos < to && buffer.get(pos) != c) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static boolean isBlank(byte b) {
+    return b == ' ' || b == '\t';
+  }
+}
@@ -0,0 +1,101 @@
+package com.midgard.pokerengine.history;
+
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.HandHistoryReport;
+import com.midgard.pokerengine.model.PlayerResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Statistics gathered from hand history records: hand, showdown and malformed record counts,
+ * hand category frequencies at showdown and results per player. Each parser fills its own and
+ * they are merged when the parsers are done.
+ */
+public final class HandHistoryStats {
+  private static final HandCategory[] CATEGORIES = HandCategory.values();
+
+  final long[] shown = new long[CATEGORIES.length];
+  final long[] winning = new long[CATEGORIES.length];
+  final PlayerTotals players = new PlayerTotals();
+  long hands;
+  long showdowns;
+  long malformed;
+  long firstMalformedOffset = -1;
+
+  void malformed(long offset) {
+    if (malformed++ == 0 || offset < firstMalformedOffset) {
+      firstMalformedOffset = offset;
+    }
+  }
+
+  /**
+   * Adds another parser's statistics to these.
+   *
+   * @return these statistics
+   */
+  public HandHistoryStats merge(HandHistoryStats other) {
+    hands += other.hands;
+    showdowns += other.showdowns;
+    if (other.malformed > 0
+        && (malformed == 0 || other.firstMalformedOffset < firstMalformedOffset)) {
+      firstMalformedOffset = other.firstMalformedOffset;
+    }
+    malformed += other.malformed;
+    for (int c = 0; c < CATEGORIES.length; c++) {
+      shown[c] += other.shown[c];
+      winning[c] += other.winning[c];
+    }
+    players.merge(other.players);
+    return this;
+  }
+
+  public long getHands() {
+    return hands;
+  }
+
+  public long getShowdowns() {
+    return showdowns;
+  }
+
+  public long getMalformed() {
+    return malformed;
+  }
+
+  /**
+   * Builds the report, listing the {@code maxPlayers} players with the most hands.
+   */
+  public HandHistoryReport toReport(int maxPlayers) {
+    // Keep the most active players in a min-heap on hands, ties broken by entry order
+    PriorityQueue<Integer> top = new PriorityQueue<>((a, b) -> players.hands[a] != players.hands[b]
+        ? Long.compare(players.hands[a], players.hands[b]) : Integer.compare(b, a));
+    for (int p = 0; p < players.size && maxPlayers > 0; p++) {
+      top.add(p);
+      if (top.size() > maxPlayers) {
+        top.poll();
+      }
+    }
+    List<PlayerResult> results = new ArrayList<>(top.size());
+    while (!top.isEmpty()) {
+      int p = top.poll();
+      results.add(new PlayerResult(new String(players.names[p], StandardCharsets.UTF_8),
+          players.hands[p], players.net[p], players.showdowns[p], players.showdownsWon[p]));
+    }
+    Collections.reverse(results);
+    return new HandHistoryReport(hands, showdowns, malformed,
+        malformed > 0 ? firstMalformedOffset : null, categories(shown), categories(winning),
+        players.size, results);
+  }
+
+  private static Map<HandCategory, Long> categories(long[] counts) {
+    Map<HandCategory, Long> map = new EnumMap<>(HandCategory.class);
+    for (HandCategory category : CATEGORIES) {
+      map.put(category, counts[category.ordinal()]);
+    }
+    return map;
+  }
+}
@@ -0,0 +1,130 @@
+package com.midgard.pokerengine.history;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Results per player name, in parallel arrays behind an open-addressing table keyed by the
+ * name's bytes, so a record's players are found without decoding their names.
+ */
+final class PlayerTotals {
+  private static final int INITIAL_CAPACITY = 64;
+
+  // Entry index + 1 per slot, 0 when the slot is empty
+  private int[] slots = new int[INITIAL_CAPACITY * 2];
+  private int[] hashes = new int[INITIAL_CAPACITY];
+  byte[][] names = new byte[INITIAL_CAPACITY][];
+  long[] hands = new long[INITIAL_CAPACITY];
+  long[] net = new long[INITIAL_CAPACITY];
+  long[] showdowns = new long[INITIAL_CAPACITY];
+  long[] showdownsWon = new long[INITIAL_CAPACITY];
+  int size;
+
+  /**
+   * Returns the entry of the name in {@code buffer[from, to)}, adding it if it is new.
+   */
+  int find(ByteBuffer buffer, int from, int to) {
+    int hash = 1;
+    for (int i = from; i < to; i++) {
+      hash = 31 * hash + buffer.get(i);
+    }
+    int mask = slots.length - 1;
+    for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+      int entry = slots[slot] - 1;
+      if (entry < 0) {
+        byte[] name = new byte[to - from];
+        buffer.get(from, name);
+        return add(slot, hash, name);
+      }
+      if (hashes[entry] == hash && matches(names[entry], buffer, from, to)) {
+        return entry;
+      }
+    }
+  }
+
+  /**
+   * Returns the entry of a name, adding it if it is new.
+   */
+  int find(byte[] name) {
+    int hash = 1;
+    for (byte b : name) {
+      hash = 31 * hash + b;
+    }
+    int mask = slots.length - 1;
+    for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+      int entry = slots[slot] - 1;
+      if (entry < 0) {
+        return add(slot, hash, name);
+      }
+      if (hashes[entry] == hash && Arrays.equals(names[entry], name)) {
+        return entry;
+      }
+    }
+  }
+
+  /**
+   * Adds another table's results to this one.
+   */
+  void merge(PlayerTotals other) {
+    for (int e = 0; e < other.size; e++) {
+      int p = find(other.names[e]);
+      hands[p] += other.hands[e];
+      net[p] += other.net[e];
+      showdowns[p] += other.showdowns[e];
+      showdownsWon[p] += other.showdownsWon[e];
+    }
+  }
+
+  private int add(int slot, int hash, byte[] name) {
+    if (size == names.length) {
+      grow();
+      // The table was rebuilt, so look for a free slot again
+      int mask = slots.length - 1;
+      slot = mix(hash) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+    }
+    int entry = size++;
+    slots[slot] = entry + 1;
+    hashes[entry] = hash;
+    names[entry] = name;
+    return entry;
+  }
+
+  private void grow() {
+    int capacity = names.length * 2;
+    hashes = Arrays.copyOf(hashes, capacity);
+    names = Arrays.copyOf(names, capacity);
+    hands = Arrays.copyOf(hands, capacity);
+    net = Arrays.copyOf(net, capacity);
+    showdowns = Arrays.copyOf(showdowns, capacity);
+    showdownsWon = Arrays.copyOf(showdownsWon, capacity);
+    // Keep the table at most half full
+    slots = new int[capacity * 2];
+    int mask = slots.length - 1;
+    for (int e = 0; e < size; e++) {
+      int slot = mix(hashes[e]) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = e + 1;
+    }
+  }
+
+  private static boolean matches(byte[] name, ByteBuffer buffer, int from, int to) {
+    if (name.length != to - from) {
+      return false;
+    }
+    for (int i = 0; i < name.length; i++) {
+      if (name[i] != buffer.get(from + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int mix(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,160 @@
+package com.midgard.pokerengine.interceptor;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets, keyed by API key header or remote address. Only configured API keys
+ * get a bucket of their own; any other key is ignored, so a caller cannot escape its address's
+ * bucket, or churn the map, by sending a new random key with every request.
+ *
+ * <p>Each client has its own lock-free bucket, so requests from different clients never touch
+ * the same memory and one noisy client only throttles itself. Buckets live in a
+ * {@link ConcurrentHashMap} whose lookups take no locks. Buckets idle for longer than the idle
+ * timeout are dropped by a periodic sweep, run by whichever request wins a CAS on the sweep
+ * clock; if the map still holds more than {@code maxClients} entries, it is trimmed to 90% of
+ * that bound by dropping the least recently used. An idle bucket has refilled anyway, so
+ * dropping it loses no state.
+ */
+public class ClientRateLimiter {
+    public static final String UNKNOWN_CLIENT = "unknown";
+
+    // Last-access stamps are only refreshed this often, to keep hot clients' writes cheap
+    private static final long ACCESS_GRANULARITY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentHashMap<String, ClientBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep;
+    private final LongSupplier nanoClock;
+    private final boolean enabled;
+    private final long capacity;
+    private final Duration window;
+    private final String clientHeader;
+    private final Set<String> apiKeys;
+    private final int maxClients;
+    private final long idleNanos;
+    private final Map<String, Integer> costs;
+
+    public ClientRateLimiter(boolean enabled, long capacity, Duration window, String clientHeader,
+                             Set<String> apiKeys, int maxClients, Duration idleTimeout,
+                             Map<String, Integer> costs) {
+        this(enabled, capacity, window, clientHeader, apiKeys, maxClients, idleTimeout, costs,
+                System::nanoTime);
+    }
+
+    ClientRateLimiter(boolean enabled, long capacity, Duration window, String clientHeader,
+                      Set<String> apiKeys, int maxClients, Duration idleTimeout,
+                      Map<String, Integer> costs, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.window = window;
+        this.clientHeader = clientHeader;
+        this.apiKeys = Set.copyOf(apiKeys);
+        this.maxClients = maxClients;
+        this.idleNanos = idleTimeout.toNanos();
+        this.costs = Map.copyOf(costs);
+        this.nanoClock = nanoClock;
+        this.lastSweep = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the bucket of the client that sent the request, or null when rate limiting is off.
+     */
+    public Bucket bucketFor(HttpServletRequest request) {
+        if (!enabled) {
+            return null;
+        }
+        return bucketFor(clientKey(request));
+    }
+
+    Bucket bucketFor(String client) {
+        long now = nanoClock.getAsLong();
+        ClientBucket entry = buckets.get(client);
+        if (entry == null) {
+            entry = buckets.computeIfAbsent(client, key -> new ClientBucket(newBucket(), now));
+        } else if (now - entry.lastAccess > ACCESS_GRANULARITY_NANOS) {
+            entry.lastAccess = now;
+        }
+        maybeSweep(now);
+        return entry.bucket;
+    }
+
+    /**
+     * Returns the number of tokens a request costs: the configured weight of its path, or 1.
+     */
+    public int cost(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return costs.getOrDefault(path, 1);
+    }
+
+    /**
+     * Identifies the client by the API key header when it holds a configured key, otherwise by
+     * remote address.
+     */
+    String clientKey(HttpServletRequest request) {
+        String apiKey = clientHeader == null ? null : request.getHeader(clientHeader);
+        if (apiKey != null && apiKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        String address = request.getRemoteAddr();
+        return "ip:" + (address == null ? UNKNOWN_CLIENT : address);
+    }
+
+    int clientCount() {
+        return buckets.size();
+    }
+
+    private Bucket newBucket() {
+        return Bucket.builder()
+                    .addLimit(Bandwidth.classic(capacity, Refill.intervally(capacity, window)))
+                    .build();
+    }
+
+    private void maybeSweep(long now) {
+        long last = lastSweep.get();
+        boolean due = now - last >= idleNanos || buckets.size() > maxClients;
+        if (!due || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        long cutoff = now - idleNanos;
+        buckets.values().removeIf(entry -> entry.lastAccess - cutoff < 0);
+        int excess = buckets.size() - maxClients;
+        if (excess > 0) {
+            // Trim a tenth below the bound so a flood of new clients does not sort on every request
+            excess += maxClients / 10;
+            buckets.entrySet().stream()
+                   .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess - now))
+                   .limit(excess)
+                   .map(Map.Entry::getKey)
+                   .toList()
+                   .forEach(buckets::remove);
+        }
+    }
+
+    private static final class ClientBucket {
+        final Bucket bucket;
+        volatile long lastAccess;
+
+        ClientBucket(Bucket bucket, long lastAccess) {
+            this.bucket = bucket;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -1,26 +1,51 @@
 package com.midgard.pokerengine.interceptor;
 
-import io.github.bucket4j.Bucket;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import io.github.bucket4j.ConsumptionProbe;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 @Component
 public class RateLimitInterceptor implements HandlerInterceptor {
-    private final Bucket bucket;
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String RESET_HEADER = "X-RateLimit-Reset";
 
-    public RateLimitInterceptor(Bucket bucket) {
-        this.bucket = bucket;
+    private final ClientRateLimiter rateLimiter;
+    private final PokerMetrics metrics;
+
+    public RateLimitInterceptor(ClientRateLimiter rateLimiter, PokerMetrics metrics) {
+        this.rateLimiter = rateLimiter;
+        this.metrics = metrics;
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (!bucket.tryConsume(1)) {
+        if (!rateLimiter.isEnabled()) {
+            return true;
+        }
+        ConsumptionProbe probe = rateLimiter.bucketFor(request)
+                .tryConsumeAndReturnRemaining(rateLimiter.cost(request));
+        response.setHeader(LIMIT_HEADER, Long.toString(rateLimiter.getCapacity()));
+        response.setHeader(REMAINING_HEADER, Long.toString(probe.getRemainingTokens()));
+        response.setHeader(RESET_HEADER, Long.toString(toSeconds(probe.getNanosToWaitForReset())));
+        if (!probe.isConsumed()) {
+            metrics.recordRateLimited();
+            long retryAfter = toSeconds(probe.getNanosToWaitForRefill());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             return false;
         }
         return true;
     }
-}
\ No newline at end of file
+
+    private static long toSeconds(long nanos) {
+        // Round up so clients never retry before the tokens are back
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,32 @@
+package com.midgard.pokerengine.logging;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/requestlog}) to read and change the request log sample
+ * rate without a restart, e.g. {@code POST {"sampleRate": 1}} while debugging.
+ */
+@Component
+@Endpoint(id = "requestlog")
+public class RequestLogEndpoint {
+  private final RequestLogSampler sampler;
+
+  public RequestLogEndpoint(RequestLogSampler sampler) {
+    this.sampler = sampler;
+  }
+
+  @ReadOperation
+  public Map<String, Object> settings() {
+    return Map.of("sampleRate", sampler.getSampleRate(), "logger", RequestLogSampler.LOGGER_NAME);
+  }
+
+  @WriteOperation
+  public Map<String, Object> update(int sampleRate) {
+    sampler.setSampleRate(sampleRate);
+    return settings();
+  }
+}
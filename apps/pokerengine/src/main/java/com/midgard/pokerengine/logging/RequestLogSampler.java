@@ -0,0 +1,193 @@
+package com.midgard.pokerengine.logging;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.EquityMode;
+import com.midgard.pokerengine.model.ShowdownPlayer;
+import com.midgard.pokerengine.model.ShuffleMode;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs a random 1-in-N sample of evaluation requests on the
+ * {@code com.midgard.pokerengine.requests} logger. Errors are not sampled; they keep being
+ * logged where they are raised.
+ *
+ * <p>Requests are logged with the fluent SLF4J API and key-value pairs whose values are
+ * suppliers, so nothing is formatted unless the event is sampled and the logger is enabled.
+ * The rate can be changed at runtime through the {@code requestlog} actuator endpoint and the
+ * logger level through {@code /actuator/loggers}.
+ */
+@Component
+public class RequestLogSampler {
+  public static final String LOGGER_NAME = "com.midgard.pokerengine.requests";
+
+  private static final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
+  private static final String RANKS = "23456789TJQKA";
+  private static final String SUITS = "hdcs";
+
+  private volatile int sampleRate;
+
+  public RequestLogSampler(PokerConfig pokerConfig) {
+    setSampleRate(pokerConfig.getLogging().getRequestSampleRate());
+  }
+
+  public int getSampleRate() {
+    return sampleRate;
+  }
+
+  /**
+   * Logs one request in {@code sampleRate}; 1 logs every request and 0 none.
+   */
+  public void setSampleRate(int sampleRate) {
+    if (sampleRate < 0) {
+      throw new IllegalArgumentException("Sample rate must not be negative: " + sampleRate);
+    }
+    this.sampleRate = sampleRate;
+  }
+
+  /**
+   * Decides whether the current request is sampled. Uses a thread-local random rather than a
+   * shared counter, so concurrent requests do not contend.
+   */
+  public boolean sample() {
+    int rate = sampleRate;
+    return rate == 1 || (rate > 1 && ThreadLocalRandom.current().nextInt(rate) == 0);
+  }
+
+  /**
+   * Logs a single-hand request if it is sampled.
+   */
+  public void logHand(String operation, List<Card> cards) {
+    if (!sample() || !logger.isInfoEnabled()) {
+      return;
+    }
+    logger.atInfo()
+        .setMessage("Sampled request")
+        .addKeyValue("operation", operation)
+        .addKeyValue("size", () -> cards == null ? null : cards.size())
+        .addKeyValue("cards", () -> compact(cards))
+        .log();
+  }
+
+  /**
+   * Logs an equity request if it is sampled.
+   */
+  public void logEquity(List<List<Card>> players, List<Card> board, EquityMode mode) {
+    if (!sample() || !logger.isInfoEnabled()) {
+      return;
+    }
+    logger.atInfo()
+        .setMessage("Sampled request")
+        .addKeyValue("operation", "equity")
+        .addKeyValue("players", () -> players == null ? null
+            : players.stream().map(RequestLogSampler::compact).toList())
+        .addKeyValue("board", () -> compact(board))
+        .addKeyValue("mode", mode)
+        .log();
+  }
+
+  /**
+   * Logs a range equity request if it is sampled.
+   */
+  public void logRangeEquity(List<String> ranges, List<Card> board, EquityMode mode) {
+    if (!sample() || !logger.isInfoEnabled()) {
+      return;
+    }
+    logger.atInfo()
+        .setMessage("Sampled request")
+        .addKeyValue("operation", "range_equity")
+        .addKeyValue("ranges", ranges)
+        .addKeyValue("board", () -> compact(board))
+        .addKeyValue("mode", mode)
+        .log();
+  }
+
+  /**
+   * Logs a preflop equity lookup if it is sampled.
+   */
+  public void logPreflopEquity(String hand, String versus) {
+    if (!sample() || !logger.isInfoEnabled()) {
+      return;
+    }
+    logger.atInfo()
+        .setMessage("Sampled request")
+        .addKeyValue("operation", "preflop_equity")
+        .addKeyValue("hand", hand)
+        .addKeyValue("versus", versus)
+        .log();
+  }
+
+  /**
+   * Logs a showdown request if it is sampled.
+   */
+  public void logShowdown(List<Card> board, List<ShowdownPlayer> players) {
+    if (!sample() || !logger.isInfoEnabled()) {
+      return;
+    }
+    logger.atInfo()
+        .setMessage("Sampled request")
+        .addKeyValue("operation", "showdown")
+        .addKeyValue("board", () -> compact(board))
+        .addKeyValue("players", () -> players == null ? null
+            : players.stream()
+                .map(player -> player == null ? null
+                    : player.isFolded() ? "fold/" + player.getContribution()
+                    : compact(player.getCards()) + "/" + player.getContribution())
+                .toList())
+        .log();
+  }
+
+  /**
+   * Logs an outs request if it is sampled.
+   */
+  public void logOuts(List<Card> hole, List<Card> board) {
+    if (!sample() || !logger.isInfoEnabled()) {
+      return;
+    }
+    logger.atInfo()
+        .setMessage("Sampled request")
+        .addKeyValue("operation", "outs")
+        .addKeyValue("hole", () -> compact(hole))
+        .addKeyValue("board", () -> compact(board))
+        .log();
+  }
+
+  /**
+   * Logs a deal request if it is sampled.
+   */
+  public void logDeal(Integer deals, Integer players, ShuffleMode mode) {
+    if (!sample() || !logger.isInfoEnabled()) {
+      return;
+    }
+    logger.atInfo()
+        .setMessage("Sampled request")
+        .addKeyValue("operation", "deal")
+        .addKeyValue("deals", deals)
+        .addKeyValue("players", players)
+        .addKeyValue("mode", mode)
+        .log();
+  }
+
+  /**
+   * Formats cards in compact notation, e.g. {@code AhKd}.
+   */
+  static String compact(List<Card> cards) {
+    if (cards == null) {
+      return null;
+    }
+    StringBuilder text = new StringBuilder(cards.size() * 2);
+    for (Card card : cards) {
+      if (card == null) {
+        text.append("??");
+      } else {
+        text.append(RANKS.charAt(card.getRank().ordinal()))
+            .append(SUITS.charAt(card.getSuit().ordinal()));
+      }
+    }
+    return text.toString();
+  }
+}
@@ -0,0 +1,37 @@
+package com.midgard.pokerengine.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one evaluation call. Disabled by default; enable it in the
+ * recording's .jfc settings file with
+ * {@code <event name="com.midgard.pokerengine.Evaluation"><setting name="enabled">true</setting></event>}.
+ */
+@Name("com.midgard.pokerengine.Evaluation")
+@Label("Poker Evaluation")
+@Category({"Poker Engine"})
+@Description("Evaluation stage of a hand, batch or equity request")
+@Enabled(false)
+@StackTrace(false)
+class EvaluationEvent extends jdk.jfr.Event {
+  @Label("Operation")
+  String operation;
+
+  @Label("Hands")
+  @Description("Hands in the request, or players for equity")
+  int hands;
+
+  @Label("Result")
+  @Description("Strength, straight flag, batch error count or evaluated runouts")
+  long result;
+
+  @Label("Evaluation Time")
+  @Timespan(Timespan.NANOSECONDS)
+  long evaluationNanos;
+}
@@ -0,0 +1,123 @@
+package com.midgard.pokerengine.metrics;
+
+import com.midgard.pokerengine.model.HandCategory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.EventType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluation metrics. Every meter is registered up front and held in arrays indexed by enum
+ * ordinal, so recording is a lookup and an atomic update with no tag maps, strings or other
+ * allocation per call.
+ *
+ * <p>Published meters:
+ * <ul>
+ *   <li>{@code poker.evaluation}: timer per {@link Operation} with p50/p95/p99 and a histogram,
+ *       covering the evaluation stage; {@code http.server.requests} covers the whole request,
+ *       so the difference is parsing, validation and serialization. Batches parse, rank and
+ *       write each hand in turn, so their timers cover the whole streamed body,</li>
+ *   <li>{@code poker.hand.size}: cards per evaluated hand,</li>
+ *   <li>{@code poker.hand.category}: ranked hands per {@link HandCategory},</li>
+ *   <li>{@code poker.ratelimit.rejected}: requests and batch hands refused by the rate limiter.</li>
+ * </ul>
+ * Cache hits and misses are published by the cache itself.
+ */
+@Component
+public class PokerMetrics {
+
+  /**
+   * Instrumented evaluation entry points.
+   */
+  public enum Operation {
+    IS_STRAIGHT("is_straight"),
+    RANK("rank"),
+    BATCH("batch"),
+    BATCH_BINARY("batch_binary"),
+    EQUITY("equity"),
+    RANGE_EQUITY("range_equity"),
+    PREFLOP_EQUITY("preflop_equity"),
+    SHOWDOWN("showdown"),
+    DEAL("deal"),
+    OUTS("outs"),
+    LOWBALL("lowball");
+
+    private final String tag;
+
+    Operation(String tag) {
+      this.tag = tag;
+    }
+
+    public String getTag() {
+      return tag;
+    }
+  }
+
+  private static final EventType EVALUATION_EVENT = EventType.getEventType(EvaluationEvent.class);
+
+  private final Timer[] evaluationTimers = new Timer[Operation.values().length];
+  private final Counter[] categoryCounters = new Counter[HandCategory.values().length];
+  private final DistributionSummary handSize;
+  private final Counter rateLimited;
+
+  public PokerMetrics(MeterRegistry registry) {
+    for (Operation operation : Operation.values()) {
+      evaluationTimers[operation.ordinal()] = Timer.builder("poker.evaluation")
+          .description("Time spent evaluating; batches include streaming the hands in and out")
+          .tag("operation", operation.getTag())
+          .publishPercentiles(0.5, 0.95, 0.99)
+          .publishPercentileHistogram()
+          .register(registry);
+    }
+    for (HandCategory category : HandCategory.values()) {
+      categoryCounters[category.ordinal()] = Counter.builder("poker.hand.category")
+          .description("Ranked hands by category")
+          .tag("category", category.name())
+          .register(registry);
+    }
+    handSize = DistributionSummary.builder("poker.hand.size")
+        .description("Cards per evaluated hand")
+        .baseUnit("cards")
+        .serviceLevelObjectives(5, 6, 7)
+        .register(registry);
+    rateLimited = Counter.builder("poker.ratelimit.rejected")
+        .description("Requests and batch hands refused by the rate limiter")
+        .register(registry);
+  }
+
+  /**
+   * Records an evaluation that started at {@code startNanos} ({@link System#nanoTime()}) and
+   * emits an {@link EvaluationEvent} when Flight Recorder has it enabled.
+   *
+   * @param hands  hands evaluated or dealt, or players for equity
+   * @param result strength, 1/0 for a straight check, batch errors, evaluated runouts, players
+   *               per deal, outs or the ace-to-five low strength
+   */
+  public void recordEvaluation(Operation operation, long startNanos, int hands, long result) {
+    long elapsed = System.nanoTime() - startNanos;
+    evaluationTimers[operation.ordinal()].record(elapsed, TimeUnit.NANOSECONDS);
+    if (EVALUATION_EVENT.isEnabled()) {
+      EvaluationEvent event = new EvaluationEvent();
+      event.operation = operation.getTag();
+      event.hands = hands;
+      event.result = result;
+      event.evaluationNanos = elapsed;
+      event.commit();
+    }
+  }
+
+  public void recordHandSize(int cards) {
+    handSize.record(cards);
+  }
+
+  public void recordCategory(HandCategory category) {
+    categoryCounters[category.ordinal()].increment();
+  }
+
+  public void recordRateLimited() {
+    rateLimited.increment();
+  }
+}
@@ -1,37 +1,159 @@
 package com.midgard.pokerengine.model;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 
 import java.io.IOException;
 import java.util.Arrays;
 
+/**
+ * Streaming deserializer for cards.
+ *
+ * <p>Accepts either the object form {@code {"suit": "HEARTS", "rank": "TEN"}} (names are case
+ * insensitive) or the compact form {@code "TH"}: a rank character ({@code 2-9 T J Q K A}) followed
+ * by a suit character ({@code H D C S}), case insensitive. Values are matched straight from the
+ * parser's character buffer to the shared {@link CardMask#card(int)} instances, so a valid card
+ * creates no tree, strings or new {@link Card}.
+ */
 public class CardDeserializer extends JsonDeserializer<Card> {
 
+    private static final Suit[] SUITS = Suit.values();
+    private static final Rank[] RANKS = Rank.values();
+    private static final char[][] SUIT_NAMES = names(SUITS);
+    private static final char[][] RANK_NAMES = names(RANKS);
+    private static final String VALID_SUITS = Arrays.toString(SUITS);
+    private static final String VALID_RANKS = Arrays.toString(RANKS);
+
+    private static final byte[] RANK_CHARS = new byte[128];
+    private static final byte[] SUIT_CHARS = new byte[128];
+
+    static {
+        Arrays.fill(RANK_CHARS, (byte) -1);
+        Arrays.fill(SUIT_CHARS, (byte) -1);
+        String rankChars = "23456789TJQKA";
+        for (int i = 0; i < rankChars.length(); i++) {
+            RANK_CHARS[rankChars.charAt(i)] = (byte) i;
+            RANK_CHARS[Character.toLowerCase(rankChars.charAt(i))] = (byte) i;
+        }
+        for (Suit suit : SUITS) {
+            char symbol = suit.getSymbol().charAt(0);
+            SUIT_CHARS[symbol] = (byte) suit.ordinal();
+            SUIT_CHARS[Character.toLowerCase(symbol)] = (byte) suit.ordinal();
+        }
+    }
+
     @Override
     public Card deserialize(JsonParser parser, DeserializationContext context) throws IOException {
-        JsonNode node = parser.getCodec().readTree(parser);
+        return readCard(parser);
+    }
 
-        String suitValue = node.get("suit").asText();
-        String rankValue = node.get("rank").asText();
+    /**
+     * Reads one card in object or compact form from the parser's current token.
+     */
+    static Card readCard(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            char[] text = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            if (length != 2) {
+                throw new IllegalArgumentException("Invalid card: " + parser.getText());
+            }
+            return compactCard(text, offset);
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Invalid card: expected an object or a string, got " + token);
+        }
+        int suit = -1;
+        int rank = -1;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            if ("suit".equals(field)) {
+                suit = suit(parser);
+            } else if ("rank".equals(field)) {
+                rank = rank(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (suit < 0 || rank < 0) {
+            throw new IllegalArgumentException("Invalid card: both suit and rank are required");
+        }
+        return CardMask.card(suit * CardMask.RANK_COUNT + rank);
+    }
 
-        Suit suit;
-        Rank rank;
+    /**
+     * Decodes the two-character card at {@code text[offset]}.
+     */
+    static Card compactCard(char[] text, int offset) {
+        char rankChar = text[offset];
+        char suitChar = text[offset + 1];
+        int rank = rankChar < 128 ? RANK_CHARS[rankChar] : -1;
+        int suit = suitChar < 128 ? SUIT_CHARS[suitChar] : -1;
+        if (rank < 0 || suit < 0) {
+            throw new IllegalArgumentException("Invalid card: " + new String(text, offset, 2)
+                + ". Expected a rank (2-9, T, J, Q, K, A) followed by a suit (H, D, C, S)");
+        }
+        return CardMask.card(suit * CardMask.RANK_COUNT + rank);
+    }
+
+    private static int suit(JsonParser parser) throws IOException {
+        int suit = match(parser, SUIT_NAMES, SUIT_CHARS);
+        if (suit < 0) {
+            throw new IllegalArgumentException("Invalid suit: " + parser.getText() + ". Valid values are: " + VALID_SUITS);
+        }
+        return suit;
+    }
+
+    private static int rank(JsonParser parser) throws IOException {
+        int rank = match(parser, RANK_NAMES, RANK_CHARS);
+        if (rank < 0) {
+            throw new IllegalArgumentException("Invalid rank: " + parser.getText() + ". Valid values are: " + VALID_RANKS);
+        }
+        return rank;
+    }
 
-        try {
-            suit = Suit.valueOf(suitValue.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid suit: " + suitValue + ". Valid values are: " + Arrays.toString(Suit.values()));
+    /**
+     * Matches the current string token against enum names, ignoring case, or against the
+     * one-character symbols when the value is a single character. Returns the ordinal or -1.
+     */
+    private static int match(JsonParser parser, char[][] names, byte[] symbols) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return -1;
+        }
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        if (length == 1) {
+            char c = text[offset];
+            return c < 128 ? symbols[c] : -1;
+        }
+        for (int i = 0; i < names.length; i++) {
+            char[] name = names[i];
+            if (name.length == length && equalsIgnoreCase(name, text, offset)) {
+                return i;
+            }
         }
+        return -1;
+    }
 
-        try {
-            rank = Rank.valueOf(rankValue.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid rank: " + rankValue + ". Valid values are: " + Arrays.toString(Rank.values()));
+    private static boolean equalsIgnoreCase(char[] upperName, char[] text, int offset) {
+        for (int i = 0; i < upperName.length; i++) {
+            if (upperName[i] != Character.toUpperCase(text[offset + i])) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        return new Card(suit, rank);
+    private static char[][] names(Enum<?>[] values) {
+        char[][] names = new char[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = values[i].name().toCharArray();
+        }
+        return names;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package com.midgard.pokerengine.model;
+
+import java.util.List;
+
+/**
+ * Primitive card encoding used by the evaluators.
+ *
+ * <p>A card index is {@code suit.ordinal() * 13 + rank.ordinal()} (0-51), a hand mask is a
+ * 52-bit {@code long} with one bit per card, and a rank mask is a 13-bit {@code int} with
+ * bit 0 for TWO and bit 12 for ACE. Keeping each suit in its own 13-bit lane means the
+ * rank mask of a hand is four shifts and ORs away from the hand mask.
+ */
+public final class CardMask {
+  public static final int DECK_SIZE = 52;
+  public static final int RANK_COUNT = 13;
+  public static final int SUIT_COUNT = 4;
+  public static final int ALL_RANKS = 0x1FFF;
+  public static final long FULL_DECK = (1L << DECK_SIZE) - 1;
+
+  private static final Suit[] SUITS = Suit.values();
+  private static final Rank[] RANKS = Rank.values();
+  private static final Card[] CARDS = new Card[DECK_SIZE];
+
+  static {
+    for (Suit suit : SUITS) {
+      for (Rank rank : RANKS) {
+        CARDS[index(suit, rank)] = new Card(suit, rank);
+      }
+    }
+  }
+
+  private CardMask() {
+  }
+
+  public static int index(Suit suit, Rank rank) {
+    return suit.ordinal() * RANK_COUNT + rank.ordinal();
+  }
+
+  public static int index(Card card) {
+    return index(card.getSuit(), card.getRank());
+  }
+
+  public static Card card(int index) {
+    return CARDS[index];
+  }
+
+  public static int rank(int index) {
+    return index % RANK_COUNT;
+  }
+
+  public static int suit(int index) {
+    return index / RANK_COUNT;
+  }
+
+  /**
+   * Converts a list of cards into a hand mask. Duplicate cards collapse into one bit.
+   */
+  public static long mask(List<Card> cards) {
+    long mask = 0L;
+    for (int i = 0; i < cards.size(); i++) {
+      mask |= 1L << index(cards.get(i));
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the 13-bit mask of ranks held in the given suit.
+   */
+  public static int suitRanks(long handMask, int suit) {
+    return (int) (handMask >>> (suit * RANK_COUNT)) & ALL_RANKS;
+  }
+
+  /**
+   * Returns the 13-bit mask of ranks present in the hand, regardless of suit.
+   */
+  public static int rankMask(long handMask) {
+    return (int) (handMask | handMask >>> 13 | handMask >>> 26 | handMask >>> 39) & ALL_RANKS;
+  }
+}
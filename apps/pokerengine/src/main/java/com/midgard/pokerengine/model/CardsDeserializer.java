@@ -0,0 +1,46 @@
+package com.midgard.pokerengine.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming deserializer for a list of cards.
+ *
+ * <p>Accepts a JSON array of cards in any form {@link CardDeserializer} understands, or a whole
+ * hand in compact notation as one string, e.g. {@code "AhKdQcJsTh"}.
+ */
+public class CardsDeserializer extends JsonDeserializer<List<Card>> {
+
+    @Override
+    public List<Card> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            char[] text = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            if (length % 2 != 0) {
+                throw new IllegalArgumentException("Invalid hand: " + parser.getText()
+                    + ". Expected two characters per card, e.g. AhKd");
+            }
+            List<Card> cards = new ArrayList<>(length / 2);
+            for (int i = 0; i < length; i += 2) {
+                cards.add(CardDeserializer.compactCard(text, offset + i));
+            }
+            return cards;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Invalid hand: expected an array of cards or a string, got " + token);
+        }
+        List<Card> cards = new ArrayList<>(7);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            cards.add(CardDeserializer.readCard(parser));
+        }
+        return cards;
+    }
+}
@@ -0,0 +1,15 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One dealt hand in compact notation, cards in the order they were dealt: each player's hole
+ * cards, e.g. {@code "AhKd"}, and the board, e.g. {@code "Qs7c2d9h3s"}.
+ */
+@Data
+public class Deal {
+  private final List<String> players;
+  private final String board;
+}
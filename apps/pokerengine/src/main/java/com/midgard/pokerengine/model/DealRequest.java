@@ -0,0 +1,22 @@
+package com.midgard.pokerengine.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request object for dealing hands.
+ * Deals {@code deals} independent hands, each from a fresh shuffle: two hole cards to each of
+ * {@code players} players and {@code boardCards} board cards (0, 3, 4 or 5, default 5). A seed
+ * selects {@link ShuffleMode#SEEDED} and makes the deals reproducible.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DealRequest {
+    private Integer deals;
+    private Integer players;
+    private Integer boardCards;
+    private ShuffleMode mode;
+    private Long seed;
+}
@@ -0,0 +1,16 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Result of dealing hands. {@code seed} is set in seeded mode, including when it was chosen by
+ * the server, so the same deals can be dealt again.
+ */
+@Data
+public class DealResult {
+  private final ShuffleMode mode;
+  private final Long seed;
+  private final List<Deal> deals;
+}
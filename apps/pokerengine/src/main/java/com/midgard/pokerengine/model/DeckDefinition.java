@@ -0,0 +1,146 @@
+package com.midgard.pokerengine.model;
+
+import java.util.Collection;
+
+/**
+ * The cards a deck is made of and the hand ranking rules that depend on them.
+ *
+ * <p>A deck is a set of ranks in a set of suits, as 13-bit and 4-bit masks in the
+ * {@link CardMask} layout. Straights are five consecutive ranks of the deck, and the ace also
+ * plays below the lowest rank: the standard deck has the A-2-3-4-5 wheel and the short deck
+ * A-6-7-8-9. With fewer ranks a flush is harder to make than a full house, so a deck can rank
+ * the flush above the full house.
+ */
+public final class DeckDefinition {
+  public static final int ALL_SUITS = (1 << CardMask.SUIT_COUNT) - 1;
+  public static final int STRAIGHT_CARDS = 5;
+
+  private static final int ACE = CardMask.RANK_COUNT - 1;
+
+  /** The 52-card deck. */
+  public static final DeckDefinition STANDARD =
+      new DeckDefinition(DeckType.STANDARD, CardMask.ALL_RANKS, ALL_SUITS, false);
+  /** The 36-card short deck, six to ace, where a flush beats a full house. */
+  public static final DeckDefinition SHORT =
+      new DeckDefinition(DeckType.SHORT, CardMask.ALL_RANKS & ~0xF, ALL_SUITS, true);
+
+  private final DeckType type;
+  private final int ranks;
+  private final int suits;
+  private final boolean flushBeatsFullHouse;
+  private final long cards;
+
+  private DeckDefinition(DeckType type, int ranks, int suits, boolean flushBeatsFullHouse) {
+    if (Integer.bitCount(ranks) < STRAIGHT_CARDS) {
+      throw new IllegalArgumentException("A deck needs at least " + STRAIGHT_CARDS + " ranks");
+    }
+    if (suits == 0) {
+      throw new IllegalArgumentException("A deck needs at least one suit");
+    }
+    this.type = type;
+    this.ranks = ranks;
+    this.suits = suits;
+    this.flushBeatsFullHouse = flushBeatsFullHouse;
+    long cards = 0L;
+    for (int suit = 0; suit < CardMask.SUIT_COUNT; suit++) {
+      if ((suits & 1 << suit) != 0) {
+        cards |= (long) ranks << (suit * CardMask.RANK_COUNT);
+      }
+    }
+    this.cards = cards;
+  }
+
+  /**
+   * Creates a deck of the given ranks in the given suits.
+   *
+   * @throws IllegalArgumentException if there are fewer than five ranks or no suits
+   */
+  public static DeckDefinition custom(Collection<Rank> ranks, Collection<Suit> suits,
+      boolean flushBeatsFullHouse) {
+    int rankMask = 0;
+    for (Rank rank : ranks) {
+      rankMask |= 1 << rank.ordinal();
+    }
+    int suitMask = 0;
+    for (Suit suit : suits) {
+      suitMask |= 1 << suit.ordinal();
+    }
+    return new DeckDefinition(DeckType.CUSTOM, rankMask, suitMask, flushBeatsFullHouse);
+  }
+
+  public DeckType getType() {
+    return type;
+  }
+
+  /**
+   * Returns the 13-bit mask of the deck's ranks.
+   */
+  public int getRanks() {
+    return ranks;
+  }
+
+  /**
+   * Returns the 4-bit mask of the deck's suits, bit {@code n} for {@code Suit.values()[n]}.
+   */
+  public int getSuits() {
+    return suits;
+  }
+
+  public boolean isFlushBeatsFullHouse() {
+    return flushBeatsFullHouse;
+  }
+
+  /**
+   * Returns the hand mask of every card in the deck.
+   */
+  public long getCards() {
+    return cards;
+  }
+
+  public int size() {
+    return Long.bitCount(cards);
+  }
+
+  /**
+   * Returns whether this deck ranks hands exactly as the 52-card deck does.
+   */
+  public boolean isStandard() {
+    return ranks == CardMask.ALL_RANKS && suits == ALL_SUITS && !flushBeatsFullHouse;
+  }
+
+  /**
+   * Returns the rank mask of every straight, strongest first. The last one is the wheel when the
+   * deck has an ace and more than five ranks: the ace with the four lowest ranks.
+   */
+  public int[] straights() {
+    int[] order = new int[Integer.bitCount(ranks)];
+    for (int rank = 0, n = 0; rank < CardMask.RANK_COUNT; rank++) {
+      if ((ranks & 1 << rank) != 0) {
+        order[n++] = rank;
+      }
+    }
+    boolean wheel = (ranks & 1 << ACE) != 0 && order.length > STRAIGHT_CARDS;
+    int[] straights = new int[order.length - STRAIGHT_CARDS + 1 + (wheel ? 1 : 0)];
+    int s = 0;
+    for (int top = order.length - 1; top >= STRAIGHT_CARDS - 1; top--) {
+      int run = 0;
+      for (int i = top - STRAIGHT_CARDS + 1; i <= top; i++) {
+        run |= 1 << order[i];
+      }
+      straights[s++] = run;
+    }
+    if (wheel) {
+      int run = 1 << ACE;
+      for (int i = 0; i < STRAIGHT_CARDS - 1; i++) {
+        run |= 1 << order[i];
+      }
+      straights[s] = run;
+    }
+    return straights;
+  }
+
+  @Override
+  public String toString() {
+    return type + " deck of " + size() + " cards";
+  }
+}
@@ -0,0 +1,13 @@
+package com.midgard.pokerengine.model;
+
+/**
+ * Decks the engine can be configured to play with, see {@link DeckDefinition}.
+ */
+public enum DeckType {
+  /** All 52 cards. */
+  STANDARD,
+  /** Short deck (six plus): 36 cards from six to ace, flush above full house. */
+  SHORT,
+  /** The ranks and suits listed in the configuration. */
+  CUSTOM
+}
@@ -0,0 +1,16 @@
+package com.midgard.pokerengine.model;
+
+/**
+ * Draws a hand can hold on the flop or turn. Each needs at least one hole card, so a draw that
+ * lies entirely on the board is not counted.
+ */
+public enum DrawType {
+  /** Four cards of a suit. */
+  FLUSH_DRAW,
+  /** Four consecutive ranks that either rank at the ends completes, eight outs. */
+  OPEN_ENDED,
+  /** Two ranks that each complete a different straight, eight outs without four in a row. */
+  DOUBLE_GUTSHOT,
+  /** One rank that completes a straight, four outs. */
+  GUTSHOT
+}
@@ -0,0 +1,11 @@
+package com.midgard.pokerengine.model;
+
+/**
+ * How equity is computed.
+ */
+public enum EquityMode {
+  /** Random runouts; fast, with a confidence interval. */
+  MONTE_CARLO,
+  /** Every runout of the remaining board; exact and deterministic. */
+  EXACT
+}
@@ -0,0 +1,34 @@
+package com.midgard.pokerengine.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request object for equity calculations.
+ * Each player holds the hole cards of the variant, two in hold'em and four or five in Omaha,
+ * which defaults to the configured {@code poker.variants.default-variant}; the board may be
+ * empty or hold 3 to 5 cards and dead cards are removed from the deck. Card lists also accept
+ * compact strings such as "AsKd".
+ * Trials and time budget are optional Monte Carlo limits; the calculation stops at whichever
+ * is reached first. Exact mode ignores them and enumerates every runout.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquityRequest {
+    @JsonDeserialize(contentUsing = CardsDeserializer.class)
+    private List<List<Card>> players;
+    @JsonDeserialize(using = CardsDeserializer.class)
+    private List<Card> board;
+    @JsonDeserialize(using = CardsDeserializer.class)
+    private List<Card> dead;
+    private Long trials;
+    private Long timeBudgetMs;
+    private Long seed;
+    private EquityMode mode;
+    private GameVariant variant;
+}
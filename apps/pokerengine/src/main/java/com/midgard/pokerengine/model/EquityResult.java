@@ -0,0 +1,19 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Result of an equity calculation, one entry per player in request order.
+ * In exact mode {@code trials} is the number of runouts covered and {@code evaluatedRunouts}
+ * the number actually evaluated after collapsing suit-isomorphic runouts.
+ */
+@Data
+public class EquityResult {
+  private final EquityMode mode;
+  private final List<PlayerEquity> players;
+  private final long trials;
+  private final long evaluatedRunouts;
+  private final long elapsedMillis;
+}
@@ -0,0 +1,45 @@
+package com.midgard.pokerengine.model;
+
+/**
+ * Games the equity and showdown endpoints can play. Every variant shares a five card board;
+ * they differ in the number of hole cards, in whether a hand must use exactly two of them, and
+ * in whether half of each pot goes to the best eight-or-better low.
+ */
+public enum GameVariant {
+  /** Texas hold'em: the best five of two hole cards and the board. */
+  HOLDEM(2, false, false),
+  /** Pot-limit Omaha: exactly two of four hole cards and three of the board. */
+  OMAHA(4, true, false),
+  /** Five-card Omaha: exactly two of five hole cards and three of the board. */
+  OMAHA_5(5, true, false),
+  /** Omaha hi/lo: as Omaha, with half of each pot to the best eight-or-better low. */
+  OMAHA_HI_LO(4, true, true);
+
+  private final int holeCards;
+  private final boolean exactlyTwo;
+  private final boolean hiLo;
+
+  GameVariant(int holeCards, boolean exactlyTwo, boolean hiLo) {
+    this.holeCards = holeCards;
+    this.exactlyTwo = exactlyTwo;
+    this.hiLo = hiLo;
+  }
+
+  public int getHoleCards() {
+    return holeCards;
+  }
+
+  /**
+   * Returns whether a hand is exactly two hole cards and three board cards.
+   */
+  public boolean isExactlyTwo() {
+    return exactlyTwo;
+  }
+
+  /**
+   * Returns whether pots are split between the best high and the best qualifying low.
+   */
+  public boolean isHiLo() {
+    return hiLo;
+  }
+}
@@ -0,0 +1,45 @@
+package com.midgard.pokerengine.model;
+
+/**
+ * Poker hand categories, weakest first.
+ * Each category owns a contiguous block of the 7462 hand strengths, starting at
+ * {@link #getLowestStrength()}.
+ */
+public enum HandCategory {
+  HIGH_CARD(1),
+  ONE_PAIR(1278),
+  TWO_PAIR(4138),
+  THREE_OF_A_KIND(4996),
+  STRAIGHT(5854),
+  FLUSH(5864),
+  FULL_HOUSE(7141),
+  FOUR_OF_A_KIND(7297),
+  STRAIGHT_FLUSH(7453);
+
+  private static final HandCategory[] VALUES = values();
+
+  private final int lowestStrength;
+
+  HandCategory(int lowestStrength) {
+    this.lowestStrength = lowestStrength;
+  }
+
+  public int getLowestStrength() {
+    return lowestStrength;
+  }
+
+  /**
+   * Returns the category that contains the given hand strength.
+   *
+   * @param strength hand strength in the range 1-7462
+   * @return the category of the strength
+   */
+  public static HandCategory fromStrength(int strength) {
+    for (int i = VALUES.length - 1; i > 0; i--) {
+      if (strength >= VALUES[i].lowestStrength) {
+        return VALUES[i];
+      }
+    }
+    return HIGH_CARD;
+  }
+}
@@ -0,0 +1,24 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status of a hand history ingestion job. {@code progress} is the share of the file's bytes
+ * parsed so far, from 0 to 1; {@code report} is set once the job has completed and
+ * {@code error} if it failed.
+ */
+@Data
+public class HandHistoryJob {
+  private final String id;
+  private final String path;
+  private final JobState state;
+  private final long totalBytes;
+  private final long processedBytes;
+  private final double progress;
+  private final LocalDateTime submittedAt;
+  private final LocalDateTime finishedAt;
+  private final String error;
+  private final HandHistoryReport report;
+}
@@ -0,0 +1,16 @@
+package com.midgard.pokerengine.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request object for ingesting a hand history file.
+ * {@code path} is relative to the configured hand history directory.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HandHistoryJobRequest {
+    private String path;
+}
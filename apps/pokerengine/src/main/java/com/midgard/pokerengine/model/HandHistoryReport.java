@@ -0,0 +1,24 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics of an ingested hand history. {@code shownHands} counts the category of every hand
+ * shown at showdown and {@code winningHands} the category of the best hand at each showdown.
+ * {@code players} holds the players with the most hands, most first, out of {@code playerCount};
+ * {@code firstMalformedOffset} is the byte offset of the first malformed record, if any.
+ */
+@Data
+public class HandHistoryReport {
+  private final long hands;
+  private final long showdowns;
+  private final long malformed;
+  private final Long firstMalformedOffset;
+  private final Map<HandCategory, Long> shownHands;
+  private final Map<HandCategory, Long> winningHands;
+  private final int playerCount;
+  private final List<PlayerResult> players;
+}
@@ -0,0 +1,300 @@
+package com.midgard.pokerengine.model;
+
+import java.util.Arrays;
+
+/**
+ * A weighted range of hold'em starting hands, compiled from standard range notation into a
+ * 1326-bit combo set and a parallel weight array.
+ *
+ * <p>A combo is an unordered pair of distinct cards; its index is {@code hi * (hi - 1) / 2 + lo}
+ * for card indices {@code lo < hi} (see {@link CardMask}), so every two-card hand has an index
+ * from 0 to 1325 computed without lookups. Notation, comma separated and case insensitive in
+ * ranks:
+ * <ul>
+ *   <li>{@code TT}, {@code TT+} (tens or better), {@code 99-66} for pairs,</li>
+ *   <li>{@code AK} (suited and offsuit), {@code AKs}, {@code AKo}, {@code ATs+} (kicker up to
+ *       the king), {@code A2s-A5s} (same high card, kickers 2 to 5) for unpaired hands,</li>
+ *   <li>{@code AhKh} for one specific combo,</li>
+ *   <li>an optional weight suffix, e.g. {@code AKo:0.5}; later entries override earlier ones.</li>
+ * </ul>
+ */
+public final class HandRange {
+  public static final int COMBOS = CardMask.DECK_SIZE * (CardMask.DECK_SIZE - 1) / 2;
+
+  private static final String RANK_CHARS = "23456789TJQKA";
+  private static final String SUIT_CHARS = "hdcs";
+  private static final long[] COMBO_MASKS = new long[COMBOS];
+  private static final byte[] HIGH_CARDS = new byte[COMBOS];
+  private static final byte[] LOW_CARDS = new byte[COMBOS];
+
+  static {
+    for (int hi = 1; hi < CardMask.DECK_SIZE; hi++) {
+      for (int lo = 0; lo < hi; lo++) {
+        int combo = combo(lo, hi);
+        COMBO_MASKS[combo] = 1L << hi | 1L << lo;
+        HIGH_CARDS[combo] = (byte) hi;
+        LOW_CARDS[combo] = (byte) lo;
+      }
+    }
+  }
+
+  private final String notation;
+  private final long[] bits = new long[(COMBOS + 63) / 64];
+  private final double[] weights = new double[COMBOS];
+
+  private HandRange(String notation) {
+    this.notation = notation;
+  }
+
+  /**
+   * Compiles a range from its notation.
+   *
+   * @param notation comma separated range entries, e.g. {@code "TT+, AKs, A2s-A5s, KQo:0.5"}
+   * @return the compiled range
+   * @throws IllegalArgumentException if an entry cannot be parsed
+   */
+  public static HandRange parse(String notation) {
+    if (notation == null || notation.isBlank()) {
+      throw new IllegalArgumentException("Range is empty");
+    }
+    HandRange range = new HandRange(notation.trim());
+    for (String entry : notation.split(",")) {
+      String token = entry.trim();
+      if (token.isEmpty()) {
+        continue;
+      }
+      double weight = 1.0;
+      int colon = token.indexOf(':');
+      if (colon >= 0) {
+        weight = parseWeight(token, token.substring(colon + 1).trim());
+        token = token.substring(0, colon).trim();
+      }
+      range.add(token, weight);
+    }
+    return range;
+  }
+
+  /**
+   * Returns the index of the combo made of two distinct card indices, in either order.
+   */
+  public static int combo(int card1, int card2) {
+    int hi = Math.max(card1, card2);
+    int lo = Math.min(card1, card2);
+    return hi * (hi - 1) / 2 + lo;
+  }
+
+  public static long comboMask(int combo) {
+    return COMBO_MASKS[combo];
+  }
+
+  public static int highCard(int combo) {
+    return HIGH_CARDS[combo];
+  }
+
+  public static int lowCard(int combo) {
+    return LOW_CARDS[combo];
+  }
+
+  public String getNotation() {
+    return notation;
+  }
+
+  public boolean contains(int combo) {
+    return (bits[combo >>> 6] & 1L << combo) != 0;
+  }
+
+  /**
+   * Returns the weight of a combo, 0 if it is not in the range.
+   */
+  public double weight(int combo) {
+    return weights[combo];
+  }
+
+  /**
+   * Returns the number of combos in the range.
+   */
+  public int size() {
+    int size = 0;
+    for (long word : bits) {
+      size += Long.bitCount(word);
+    }
+    return size;
+  }
+
+  /**
+   * Returns the combos of the range that use none of the blocked cards, in index order.
+   *
+   * @param blocked hand mask of cards already dealt, e.g. board and dead cards
+   */
+  public int[] liveCombos(long blocked) {
+    int[] combos = new int[size()];
+    int n = 0;
+    for (int w = 0; w < bits.length; w++) {
+      for (long word = bits[w]; word != 0; word &= word - 1) {
+        int combo = w << 6 | Long.numberOfTrailingZeros(word);
+        if ((COMBO_MASKS[combo] & blocked) == 0) {
+          combos[n++] = combo;
+        }
+      }
+    }
+    return Arrays.copyOf(combos, n);
+  }
+
+  @Override
+  public String toString() {
+    return notation;
+  }
+
+  private void add(String token, double weight) {
+    if (token.length() == 4 && SUIT_CHARS.indexOf(lower(token.charAt(1))) >= 0) {
+      int first = card(token, 0);
+      int second = card(token, 2);
+      if (first == second) {
+        throw invalid(token);
+      }
+      set(combo(first, second), weight);
+      return;
+    }
+    int dash = token.indexOf('-');
+    if (dash >= 0) {
+      addSpan(token, token.substring(0, dash).trim(), token.substring(dash + 1).trim(), weight);
+      return;
+    }
+    boolean plus = token.endsWith("+");
+    String hand = plus ? token.substring(0, token.length() - 1) : token;
+    int high = rank(token, hand, 0);
+    int low = rank(token, hand, 1);
+    char kind = kind(token, hand);
+    if (high == low) {
+      addPairs(high, plus ? CardMask.RANK_COUNT - 1 : high, weight);
+    } else {
+      int top = Math.max(high, low);
+      int kicker = Math.min(high, low);
+      addUnpaired(top, kicker, plus ? top - 1 : kicker, kind, weight);
+    }
+  }
+
+  /**
+   * Adds a dash range such as {@code 99-66} or {@code A2s-A5s}, in either order.
+   */
+  private void addSpan(String token, String from, String to, double weight) {
+    int fromHigh = rank(token, from, 0);
+    int fromLow = rank(token, from, 1);
+    int toHigh = rank(token, to, 0);
+    int toLow = rank(token, to, 1);
+    char kind = kind(token, from);
+    if (kind != kind(token, to)) {
+      throw invalid(token);
+    }
+    if (fromHigh == fromLow && toHigh == toLow) {
+      addPairs(Math.min(fromHigh, toHigh), Math.max(fromHigh, toHigh), weight);
+      return;
+    }
+    int top = Math.max(fromHigh, fromLow);
+    if (fromHigh == fromLow || toHigh == toLow || top != Math.max(toHigh, toLow)) {
+      throw invalid(token);
+    }
+    int kicker1 = Math.min(fromHigh, fromLow);
+    int kicker2 = Math.min(toHigh, toLow);
+    addUnpaired(top, Math.min(kicker1, kicker2), Math.max(kicker1, kicker2), kind, weight);
+  }
+
+  private void addPairs(int fromRank, int toRank, double weight) {
+    for (int rank = fromRank; rank <= toRank; rank++) {
+      for (int suit1 = 0; suit1 < CardMask.SUIT_COUNT; suit1++) {
+        for (int suit2 = suit1 + 1; suit2 < CardMask.SUIT_COUNT; suit2++) {
+          set(combo(index(suit1, rank), index(suit2, rank)), weight);
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the unpaired hands of a top rank with every kicker in {@code [fromKicker, toKicker]}.
+   *
+   * @param kind 's' for suited, 'o' for offsuit, 0 for both
+   */
+  private void addUnpaired(int top, int fromKicker, int toKicker, char kind, double weight) {
+    for (int kicker = fromKicker; kicker <= toKicker; kicker++) {
+      for (int suit1 = 0; suit1 < CardMask.SUIT_COUNT; suit1++) {
+        for (int suit2 = 0; suit2 < CardMask.SUIT_COUNT; suit2++) {
+          boolean suited = suit1 == suit2;
+          if (kind == 0 || suited == (kind == 's')) {
+            set(combo(index(suit1, top), index(suit2, kicker)), weight);
+          }
+        }
+      }
+    }
+  }
+
+  private void set(int combo, double weight) {
+    if (weight > 0) {
+      bits[combo >>> 6] |= 1L << combo;
+    } else {
+      bits[combo >>> 6] &= ~(1L << combo);
+    }
+    weights[combo] = weight;
+  }
+
+  private static int index(int suit, int rank) {
+    return suit * CardMask.RANK_COUNT + rank;
+  }
+
+  private static int card(String token, int offset) {
+    int rank = RANK_CHARS.indexOf(Character.toUpperCase(token.charAt(offset)));
+    int suit = SUIT_CHARS.indexOf(lower(token.charAt(offset + 1)));
+    if (rank < 0 || suit < 0) {
+      throw invalid(token);
+    }
+    return index(suit, rank);
+  }
+
+  private static int rank(String token, String hand, int position) {
+    if (hand.length() < 2 || hand.length() > 3) {
+      throw invalid(token);
+    }
+    int rank = RANK_CHARS.indexOf(Character.toUpperCase(hand.charAt(position)));
+    if (rank < 0) {
+      throw invalid(token);
+    }
+    return rank;
+  }
+
+  /**
+   * Returns the suitedness marker of a hand: 's', 'o' or 0 when there is none.
+   */
+  private static char kind(String token, String hand) {
+    if (hand.length() == 2) {
+      return 0;
+    }
+    char kind = lower(hand.charAt(2));
+    boolean pair = Character.toUpperCase(hand.charAt(0)) == Character.toUpperCase(hand.charAt(1));
+    if (kind != 's' && kind != 'o' || pair) {
+      throw invalid(token);
+    }
+    return kind;
+  }
+
+  private static double parseWeight(String token, String text) {
+    double weight;
+    try {
+      weight = Double.parseDouble(text);
+    } catch (NumberFormatException e) {
+      throw invalid(token);
+    }
+    if (!(weight >= 0 && weight <= 1)) {
+      throw new IllegalArgumentException("Invalid weight in " + token
+          + ": must be between 0 and 1");
+    }
+    return weight;
+  }
+
+  private static char lower(char c) {
+    return Character.toLowerCase(c);
+  }
+
+  private static IllegalArgumentException invalid(String token) {
+    return new IllegalArgumentException("Invalid range entry: " + token
+        + ". Expected e.g. TT+, AKs, A2s-A5s, KQo or AhKh");
+  }
+}
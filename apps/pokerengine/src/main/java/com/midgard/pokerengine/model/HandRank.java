@@ -0,0 +1,15 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+/**
+ * Result of ranking a poker hand.
+ * Strength is totally ordered across all hands of the deck: in the standard deck 1 is the worst
+ * high card (7-5-4-3-2), 7462 is a royal flush, and equal strengths split the pot. Build ranks
+ * with {@code HandRankTables.rank(int)}, which knows the category blocks of the configured deck.
+ */
+@Data
+public class HandRank {
+  private final HandCategory category;
+  private final int strength;
+}
@@ -1,15 +1,18 @@
 package com.midgard.pokerengine.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 
 import java.util.List;
 
 /**
  * Request object for poker hand operations.
- * Contains a list of cards that make up a poker hand.
+ * Contains a list of cards that make up a poker hand, either as an array of cards
+ * or as one compact string such as "AhKdQcJsTh".
  */
 @Data
 public class HandRequest {
+    @JsonDeserialize(using = CardsDeserializer.class)
     private List<Card> cards;
 
     // No constructor with PokerConfig; validation will happen elsewhere
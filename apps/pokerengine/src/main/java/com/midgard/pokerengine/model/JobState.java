@@ -0,0 +1,11 @@
+package com.midgard.pokerengine.model;
+
+/**
+ * Lifecycle of a background job.
+ */
+public enum JobState {
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
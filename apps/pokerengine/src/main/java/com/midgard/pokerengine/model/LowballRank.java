@@ -0,0 +1,19 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Result of ranking a hand for low. As for {@link HandRank} a higher strength wins: 1 is the
+ * worst low and {@link LowballType#getDistinctHands()} the best (5-4-3-2-A in ace-to-five,
+ * 7-5-4-3-2 unsuited in deuce-to-seven). {@code ranks} are the five ranks of the low, paired
+ * ranks first and then from the worst card down, e.g. 8-6-4-2-A.
+ */
+@Data
+public class LowballRank {
+  private final LowballType type;
+  private final HandCategory category;
+  private final int strength;
+  private final List<Rank> ranks;
+}
@@ -0,0 +1,31 @@
+package com.midgard.pokerengine.model;
+
+/**
+ * Lowball orderings, in which the lowest hand wins. Each ranks the best five of 5 to 7 cards.
+ */
+public enum LowballType {
+  /** Ace-to-five (razz, stud low): aces are low and straights and flushes do not count. */
+  ACE_TO_FIVE(6175),
+  /** Deuce-to-seven: aces are high and straights and flushes count against the hand. */
+  DEUCE_TO_SEVEN(7462);
+
+  private final int distinctHands;
+
+  LowballType(int distinctHands) {
+    this.distinctHands = distinctHands;
+  }
+
+  /**
+   * Returns the number of distinct 5-card lows, which is also the strength of the best one.
+   */
+  public int getDistinctHands() {
+    return distinctHands;
+  }
+
+  /**
+   * Returns whether an ace is the lowest rank rather than the highest.
+   */
+  public boolean isAceLow() {
+    return this == ACE_TO_FIVE;
+  }
+}
@@ -0,0 +1,14 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+/**
+ * A hand ranked under every ordering a mixed game plays: high, ace-to-five low and
+ * deuce-to-seven low.
+ */
+@Data
+public class MixedRank {
+  private final HandRank high;
+  private final LowballRank aceToFive;
+  private final LowballRank deuceToSeven;
+}
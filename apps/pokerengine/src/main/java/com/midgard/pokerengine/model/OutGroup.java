@@ -0,0 +1,14 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * The outs that take a hand to one category, from the highest rank down.
+ */
+@Data
+public class OutGroup {
+  private final HandCategory category;
+  private final List<Card> cards;
+}
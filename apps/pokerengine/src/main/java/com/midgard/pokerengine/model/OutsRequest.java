@@ -0,0 +1,23 @@
+package com.midgard.pokerengine.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request object for counting outs.
+ * Two hole cards and a flop or turn board of 3 or 4 cards, either as card arrays or compact
+ * strings such as "AhKd".
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutsRequest {
+    @JsonDeserialize(using = CardsDeserializer.class)
+    private List<Card> hole;
+    @JsonDeserialize(using = CardsDeserializer.class)
+    private List<Card> board;
+}
@@ -0,0 +1,22 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Outs of a hand on the flop or turn. An out is an unseen card that lifts the hand to a higher
+ * category than {@code current}; {@code outs} groups them by that category, strongest first.
+ * {@code nextCard} is the chance the next card is an out, and {@code byRiver} the chance the hand
+ * ends in a higher category by the river, counting runner-runner improvements on the flop.
+ */
+@Data
+public class OutsResult {
+  private final HandRank current;
+  private final List<DrawType> draws;
+  private final int unseen;
+  private final int totalOuts;
+  private final List<OutGroup> outs;
+  private final double nextCard;
+  private final double byRiver;
+}
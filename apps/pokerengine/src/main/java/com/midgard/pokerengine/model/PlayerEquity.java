@@ -0,0 +1,18 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+/**
+ * Equity of one player. Win, tie and loss are the fractions of runouts the player won outright,
+ * split, or lost; equity counts each split as the player's share of the pot.
+ * The confidence interval is the half-width of the 95% interval around equity
+ * (0 when equity is exact).
+ */
+@Data
+public class PlayerEquity {
+  private final double win;
+  private final double tie;
+  private final double loss;
+  private final double equity;
+  private final double confidenceInterval;
+}
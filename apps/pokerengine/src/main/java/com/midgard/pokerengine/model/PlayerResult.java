@@ -0,0 +1,16 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+/**
+ * A player's results over a hand history: hands dealt in, net chips won, showdowns reached and
+ * showdowns won, split pots included.
+ */
+@Data
+public class PlayerResult {
+  private final String name;
+  private final long hands;
+  private final long net;
+  private final long showdowns;
+  private final long showdownsWon;
+}
@@ -0,0 +1,19 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Outcome for one player: the best five cards and their rank (both null for a folded player)
+ * and the chips won across all pots. In hi/lo games {@code lowHand} is the best eight-or-better
+ * low, null when the player has none.
+ */
+@Data
+public class PlayerShowdown {
+  private final boolean folded;
+  private final List<Card> bestHand;
+  private final HandRank rank;
+  private final long payout;
+  private final List<Card> lowHand;
+}
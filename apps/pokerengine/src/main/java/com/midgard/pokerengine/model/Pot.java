@@ -0,0 +1,25 @@
+package com.midgard.pokerengine.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A main or side pot: its size, the indices of the players who can win it and of those who did.
+ * Winners split the amount evenly; the odd chips go one each to the first winners in seat order.
+ * In hi/lo games the low winners split half of the pot, the odd chip staying with the high
+ * half; with no qualifying low they are empty and the high winners take it all.
+ */
+@Data
+@AllArgsConstructor
+public class Pot {
+  private final long amount;
+  private final List<Integer> eligible;
+  private final List<Integer> winners;
+  private final List<Integer> lowWinners;
+
+  public Pot(long amount, List<Integer> eligible, List<Integer> winners) {
+    this(amount, eligible, winners, List.of());
+  }
+}
@@ -0,0 +1,18 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+/**
+ * Heads-up preflop equity of a starting hand against another starting hand, or against a random
+ * hand when {@code versus} is {@code random}. Win, tie and loss are averaged over every pair of
+ * combos that can be dealt together and every board; equity counts a tie as half a pot.
+ */
+@Data
+public class PreflopEquity {
+  private final String hand;
+  private final String versus;
+  private final double win;
+  private final double tie;
+  private final double loss;
+  private final double equity;
+}
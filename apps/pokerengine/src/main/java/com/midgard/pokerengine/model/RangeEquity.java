@@ -0,0 +1,17 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+/**
+ * Equity of one range against the other. {@code combos} counts the range's combos left after
+ * removing the board and dead cards; win and tie are weighted over every pair of combos that can
+ * be dealt together and every board, and equity counts a tie as half a pot.
+ */
+@Data
+public class RangeEquity {
+  private final String range;
+  private final int combos;
+  private final double win;
+  private final double tie;
+  private final double equity;
+}
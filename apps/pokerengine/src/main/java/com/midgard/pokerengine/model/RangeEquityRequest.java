@@ -0,0 +1,28 @@
+package com.midgard.pokerengine.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request object for range-vs-range equity.
+ * Holds exactly two ranges in {@link HandRange} notation, e.g. "TT+, AKs, A2s-A5s, KQo". The board
+ * may be empty or hold 3 to 5 cards and dead cards are removed from the deck. Trials and seed only
+ * apply to Monte Carlo mode; exact mode needs at least a flop.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RangeEquityRequest {
+    private List<String> ranges;
+    @JsonDeserialize(using = CardsDeserializer.class)
+    private List<Card> board;
+    @JsonDeserialize(using = CardsDeserializer.class)
+    private List<Card> dead;
+    private Long trials;
+    private Long seed;
+    private EquityMode mode;
+}
@@ -0,0 +1,18 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Result of a range-vs-range equity calculation, one entry per range in request order.
+ * {@code boards} is the number of complete boards dealt (sampled or enumerated); each one is
+ * scored against every compatible pair of combos.
+ */
+@Data
+public class RangeEquityResult {
+  private final EquityMode mode;
+  private final List<RangeEquity> ranges;
+  private final long boards;
+  private final long elapsedMillis;
+}
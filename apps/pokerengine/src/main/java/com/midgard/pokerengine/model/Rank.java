@@ -1,11 +1,18 @@
 package com.midgard.pokerengine.model;
 
-import java.util.Arrays;
-
 public enum Rank {
     TWO(2), THREE(3), FOUR(4), FIVE(5), SIX(6), SEVEN(7), EIGHT(8), NINE(9), TEN(10),
     JACK(11), QUEEN(12), KING(13), ACE(14);
 
+    // Indexed by value, so that lookups are one array read
+    private static final Rank[] BY_VALUE = new Rank[15];
+
+    static {
+        for (Rank rank : values()) {
+            BY_VALUE[rank.value] = rank;
+        }
+    }
+
     private final int value;
 
     Rank(int value) {
@@ -17,9 +24,10 @@ public enum Rank {
     }
 
     public static Rank fromValue(int value) {
-        return Arrays.stream(values())
-                .filter(rank -> rank.value == value)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Invalid rank value: " + value));
+        Rank rank = value >= 0 && value < BY_VALUE.length ? BY_VALUE[value] : null;
+        if (rank == null) {
+            throw new IllegalArgumentException("Invalid rank value: " + value);
+        }
+        return rank;
     }
 }
\ No newline at end of file
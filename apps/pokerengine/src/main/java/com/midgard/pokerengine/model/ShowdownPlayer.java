@@ -0,0 +1,23 @@
+package com.midgard.pokerengine.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One seat at showdown: the player's hole cards, the chips they put into the pot over the whole
+ * hand, and whether they folded. Folded players' chips stay in the pot but they cannot win it,
+ * and their cards may be omitted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShowdownPlayer {
+    @JsonDeserialize(using = CardsDeserializer.class)
+    private List<Card> cards;
+    private long contribution;
+    private boolean folded;
+}
@@ -0,0 +1,25 @@
+package com.midgard.pokerengine.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request object for settling a hand at showdown.
+ * The board holds all five community cards and players are listed in seat order; odd chips of a
+ * split pot go to the winners in that order, so list the seat left of the button first.
+ * The variant sets the number of hole cards and how hands are made, and defaults to the
+ * configured {@code poker.variants.default-variant}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShowdownRequest {
+    @JsonDeserialize(using = CardsDeserializer.class)
+    private List<Card> board;
+    private List<ShowdownPlayer> players;
+    private GameVariant variant;
+}
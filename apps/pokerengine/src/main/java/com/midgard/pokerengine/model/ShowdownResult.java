@@ -0,0 +1,16 @@
+package com.midgard.pokerengine.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Result of a showdown. Players are in request order; {@code winners} are the indices of the
+ * players holding the best hand, and pots run from the main pot to the last side pot.
+ */
+@Data
+public class ShowdownResult {
+  private final List<PlayerShowdown> players;
+  private final List<Integer> winners;
+  private final List<Pot> pots;
+}
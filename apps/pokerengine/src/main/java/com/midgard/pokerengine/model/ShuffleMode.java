@@ -0,0 +1,13 @@
+package com.midgard.pokerengine.model;
+
+/**
+ * Source of randomness for shuffling and dealing.
+ */
+public enum ShuffleMode {
+  /** The calling thread's {@code ThreadLocalRandom}; fastest, for simulation. */
+  FAST,
+  /** A {@code SecureRandom} per thread; unpredictable, for real-money dealing. */
+  SECURE,
+  /** A {@code SplittableRandom} from the request's seed; reproducible, for tests and replay. */
+  SEEDED
+}
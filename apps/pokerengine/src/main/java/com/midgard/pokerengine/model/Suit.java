@@ -12,10 +12,33 @@ public enum Suit {
   CLUBS("C"),
   SPADES("S");
 
+  // Indexed by symbol character, upper and lower case
+  private static final Suit[] BY_SYMBOL = new Suit[128];
+
+  static {
+    for (Suit suit : values()) {
+      char symbol = suit.symbol.charAt(0);
+      BY_SYMBOL[symbol] = suit;
+      BY_SYMBOL[Character.toLowerCase(symbol)] = suit;
+    }
+  }
+
   private final String symbol;
 
   Suit(String symbol) {
     this.symbol = symbol;
   }
 
-}
\ No newline at end of file
+  /**
+   * Returns the suit of a one-character symbol, ignoring case.
+   *
+   * @throws IllegalArgumentException if no suit has the symbol
+   */
+  public static Suit fromSymbol(char symbol) {
+    Suit suit = symbol < BY_SYMBOL.length ? BY_SYMBOL[symbol] : null;
+    if (suit == null) {
+      throw new IllegalArgumentException("Invalid suit symbol: " + symbol);
+    }
+    return suit;
+  }
+}
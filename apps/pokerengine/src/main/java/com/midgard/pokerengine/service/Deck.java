@@ -0,0 +1,77 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import java.util.random.RandomGenerator;
+
+/**
+ * A deck of card indices (see {@link CardMask}), all 52 or those of a smaller deck mask,
+ * shuffled by Fisher-Yates one card at a time: each draw swaps a uniformly chosen card from the
+ * undealt part into the next position. A hand that uses {@code k} cards therefore costs {@code k}
+ * random numbers instead of a full shuffle, and nothing is allocated after construction.
+ *
+ * <p>The array is always a permutation of the deck, so {@link #shuffle()} only has to rewind it.
+ * With a seeded generator the same sequence of draws is dealt again from a new deck. A deck is not
+ * thread-safe.
+ */
+public final class Deck {
+  private final int[] cards;
+  private final RandomGenerator random;
+  private int dealt;
+
+  public Deck(RandomGenerator random) {
+    this(random, CardMask.FULL_DECK);
+  }
+
+  /**
+   * Creates a deck of the cards in a hand mask, e.g. the short deck's 36.
+   */
+  public Deck(RandomGenerator random, long deckMask) {
+    this.random = random;
+    this.cards = new int[Long.bitCount(deckMask)];
+    int n = 0;
+    for (long rest = deckMask; rest != 0; rest &= rest - 1) {
+      cards[n++] = Long.numberOfTrailingZeros(rest);
+    }
+  }
+
+  /**
+   * Returns every card to the deck.
+   */
+  public void shuffle() {
+    dealt = 0;
+  }
+
+  /**
+   * Deals the next card.
+   *
+   * @return the card index
+   * @throws IllegalStateException if the deck is empty
+   */
+  public int draw() {
+    if (dealt == cards.length) {
+      throw new IllegalStateException("The deck is empty");
+    }
+    int j = dealt + random.nextInt(cards.length - dealt);
+    int card = cards[j];
+    cards[j] = cards[dealt];
+    cards[dealt++] = card;
+    return card;
+  }
+
+  /**
+   * Deals {@code count} cards.
+   *
+   * @return the hand mask of the cards
+   */
+  public long draw(int count) {
+    long mask = 0L;
+    for (int i = 0; i < count; i++) {
+      mask |= 1L << draw();
+    }
+    return mask;
+  }
+
+  public int remaining() {
+    return cards.length - dealt;
+  }
+}
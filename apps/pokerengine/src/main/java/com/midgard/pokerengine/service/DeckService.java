@@ -0,0 +1,145 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.Deal;
+import com.midgard.pokerengine.model.DealRequest;
+import com.midgard.pokerengine.model.DealResult;
+import com.midgard.pokerengine.model.ShuffleMode;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for shuffling and dealing.
+ *
+ * <p>Cards of the configured deck are dealt from a primitive {@link Deck}. Fast and secure
+ * dealing reuse one deck per thread, each with its own generator, so dealing neither allocates
+ * nor contends; seeded dealing starts a new deck from the seed, so the same seed deals the same
+ * cards. A batch deals every hand into one card index array before anything is formatted.
+ */
+@Service
+public class DeckService {
+  static final int MIN_PLAYERS = 1;
+  static final int MAX_PLAYERS = EquityService.MAX_PLAYERS;
+
+  private static final String RANK_CHARS = "23456789TJQKA";
+  private static final String SUIT_CHARS = "hdcs";
+
+  private final PokerConfig pokerConfig;
+  private final long deckMask;
+  private final ThreadLocal<Deck> fastDecks;
+  private final ThreadLocal<Deck> secureDecks;
+
+  public DeckService(PokerConfig pokerConfig) {
+    this(pokerConfig, HandRankTables.standard());
+  }
+
+  /**
+   * Creates the service dealing from the deck the tables were generated for.
+   */
+  @Autowired
+  public DeckService(PokerConfig pokerConfig, HandRankTables tables) {
+    this.pokerConfig = pokerConfig;
+    this.deckMask = tables.deck().getCards();
+    this.fastDecks = ThreadLocal.withInitial(() -> new Deck(ThreadLocalRandom.current(), deckMask));
+    this.secureDecks = ThreadLocal.withInitial(() -> new Deck(new SecureRandom(), deckMask));
+  }
+
+  /**
+   * Returns a shuffled deck for the calling thread to deal from.
+   *
+   * @param mode the source of randomness
+   * @param seed the seed, used in {@link ShuffleMode#SEEDED} mode only
+   */
+  public Deck deck(ShuffleMode mode, long seed) {
+    Deck deck = switch (mode) {
+      case FAST -> fastDecks.get();
+      case SECURE -> secureDecks.get();
+      case SEEDED -> new Deck(new SplittableRandom(seed), deckMask);
+    };
+    deck.shuffle();
+    return deck;
+  }
+
+  /**
+   * Deals {@code deals} hands of {@code cardsPerDeal} cards, shuffling before each one, and
+   * writes the card indices to {@code out} in the order they were dealt.
+   */
+  public static void deal(Deck deck, int deals, int cardsPerDeal, byte[] out) {
+    int n = 0;
+    for (int d = 0; d < deals; d++) {
+      deck.shuffle();
+      for (int c = 0; c < cardsPerDeal; c++) {
+        out[n++] = (byte) deck.draw();
+      }
+    }
+  }
+
+  /**
+   * Deals a batch of hands.
+   *
+   * @param request number of deals, players, board cards, mode and optional seed
+   * @return each deal's hole cards and board
+   */
+  public DealResult deal(DealRequest request) {
+    int deals = request.getDeals() != null ? request.getDeals() : 1;
+    int maxDeals = pokerConfig.getDeck().getMaxDeals();
+    if (deals < 1 || deals > maxDeals) {
+      throw EquityService.badRequest("Deals must be between 1 and " + maxDeals);
+    }
+    Integer players = request.getPlayers();
+    if (players == null || players < MIN_PLAYERS || players > MAX_PLAYERS) {
+      throw EquityService.badRequest("Players must be between " + MIN_PLAYERS + " and "
+          + MAX_PLAYERS);
+    }
+    int boardCards = request.getBoardCards() != null
+        ? request.getBoardCards() : EquityService.BOARD_CARDS;
+    if (boardCards != 0 && (boardCards < 3 || boardCards > EquityService.BOARD_CARDS)) {
+      throw EquityService.badRequest("Board cards must be 0, 3, 4 or 5");
+    }
+    ShuffleMode mode = request.getSeed() != null ? ShuffleMode.SEEDED
+        : request.getMode() != null ? request.getMode() : ShuffleMode.FAST;
+    if (request.getMode() != null && request.getMode() != mode) {
+      throw EquityService.badRequest("A seed can only be used in " + ShuffleMode.SEEDED + " mode");
+    }
+    Long seed = mode != ShuffleMode.SEEDED ? null
+        : request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+
+    int holeCards = players * EquityService.HOLE_CARDS;
+    int cardsPerDeal = holeCards + boardCards;
+    if (cardsPerDeal > Long.bitCount(deckMask)) {
+      throw EquityService.badRequest("A deal of " + cardsPerDeal + " cards does not fit in a "
+          + Long.bitCount(deckMask) + " card deck");
+    }
+    byte[] cards = new byte[deals * cardsPerDeal];
+    deal(deck(mode, seed != null ? seed : 0L), deals, cardsPerDeal, cards);
+
+    List<Deal> result = new ArrayList<>(deals);
+    for (int d = 0, n = 0; d < deals; d++, n += cardsPerDeal) {
+      List<String> hands = new ArrayList<>(players);
+      for (int p = 0; p < players; p++) {
+        hands.add(compact(cards, n + p * EquityService.HOLE_CARDS, EquityService.HOLE_CARDS));
+      }
+      result.add(new Deal(hands, compact(cards, n + holeCards, boardCards)));
+    }
+    return new DealResult(mode, seed, result);
+  }
+
+  /**
+   * Formats card indices in compact notation, e.g. {@code AhKd}.
+   */
+  static String compact(byte[] cards, int from, int count) {
+    char[] text = new char[count * 2];
+    for (int i = 0; i < count; i++) {
+      int card = cards[from + i];
+      text[2 * i] = RANK_CHARS.charAt(CardMask.rank(card));
+      text[2 * i + 1] = SUIT_CHARS.charAt(CardMask.suit(card));
+    }
+    return new String(text);
+  }
+}
@@ -0,0 +1,451 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.model.EquityMode;
+import com.midgard.pokerengine.model.EquityRequest;
+import com.midgard.pokerengine.model.EquityResult;
+import com.midgard.pokerengine.model.GameVariant;
+import com.midgard.pokerengine.model.PlayerEquity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for equity calculations in hold'em and the Omaha variants.
+ *
+ * <p>Exact mode enumerates every runout of the remaining board, evaluating one runout per
+ * suit-isomorphism class. Monte Carlo trials are split recursively across a dedicated
+ * {@link ForkJoinPool}. Each leaf task owns a {@link SplittableRandom} split from its parent, a
+ * private copy of the live deck and its own tallies, so the trial loop shares nothing and
+ * allocates nothing: a runout is a partial Fisher-Yates shuffle of the deck array and every hand
+ * is ranked straight from its 52-bit mask.
+ *
+ * <p>Hands are ranked by the {@link VariantEvaluator} of the request's {@link GameVariant},
+ * which prepares the players' hole cards once per request; in hi/lo games each pot is split
+ * between the best high and the best qualifying low.
+ */
+@Service
+public class EquityService {
+  static final int HOLE_CARDS = 2;
+  static final int BOARD_CARDS = 5;
+  static final int MAX_PLAYERS = 10;
+
+  private static final int LEAF_TRIALS = 1 << 13;
+  private static final int DEADLINE_CHECK_INTERVAL = 1 << 10;
+  private static final double Z_95 = 1.959964;
+  private static final long NO_DEADLINE = Long.MAX_VALUE;
+  private static final long SHARE_UNITS = 5040;
+
+  private final HandRankTables tables;
+  private final ForkJoinPool equityPool;
+  private final PokerConfig pokerConfig;
+
+  public EquityService(ForkJoinPool equityPool, PokerConfig pokerConfig) {
+    this(equityPool, pokerConfig, HandRankTables.standard());
+  }
+
+  @Autowired
+  public EquityService(ForkJoinPool equityPool, PokerConfig pokerConfig, HandRankTables tables) {
+    this.tables = tables;
+    this.equityPool = equityPool;
+    this.pokerConfig = pokerConfig;
+  }
+
+  /**
+   * Calculates each player's equity, either by sampling random runouts of the remaining board
+   * or, in exact mode, by enumerating all of them.
+   *
+   * @param request players' hole cards, optional board, dead cards, mode and limits
+   * @return win, tie, loss and equity per player
+   */
+  public EquityResult calculate(EquityRequest request) {
+    long startNanos = System.nanoTime();
+    GameVariant variant = variant(request.getVariant(), pokerConfig.getVariants());
+    long[] holes = holeMasks(request.getPlayers(), variant.getHoleCards());
+    VariantEvaluator evaluator = VariantEvaluator.of(variant, tables, holes);
+    long board = cardMask(request.getBoard(), "board");
+    long dead = cardMask(request.getDead(), "dead cards");
+    validateBoard(board, request.getBoard());
+    long used = checkDisjoint(holes, board, dead);
+    // Cards outside the deck are never dealt, as if they were dead
+    long absent = absentCards(used, tables.deck());
+    used |= absent;
+    dead |= absent;
+    int missing = BOARD_CARDS - Long.bitCount(board);
+
+    if (request.getMode() == EquityMode.EXACT) {
+      Tally tally = enumerate(evaluator, holes, board, dead, used, missing);
+      return toResult(EquityMode.EXACT, tally, true, startNanos);
+    }
+
+    PokerConfig.Equity limits = pokerConfig.getEquity();
+    long trials = request.getTrials() != null ? request.getTrials() : limits.getDefaultTrials();
+    if (request.getTrials() == null && request.getTimeBudgetMs() != null) {
+      trials = limits.getMaxTrials();
+    }
+    if (trials <= 0 || trials > limits.getMaxTrials()) {
+      throw badRequest("Trials must be between 1 and " + limits.getMaxTrials());
+    }
+    long deadline = NO_DEADLINE;
+    if (request.getTimeBudgetMs() != null) {
+      long budget = request.getTimeBudgetMs();
+      if (budget <= 0 || budget > limits.getMaxTimeBudgetMs()) {
+        throw badRequest("Time budget must be between 1 and " + limits.getMaxTimeBudgetMs() + " ms");
+      }
+      deadline = startNanos + budget * 1_000_000L;
+    }
+    if (missing == 0) {
+      // Nothing left to deal; one evaluation is exact.
+      trials = 1;
+    }
+
+    SplittableRandom random = request.getSeed() != null
+        ? new SplittableRandom(request.getSeed())
+        : new SplittableRandom();
+    Trials task = new Trials(evaluator, holes.length, board, liveDeck(used), missing, trials,
+        deadline, random, true);
+    Tally tally = equityPool.invoke(task);
+    return toResult(EquityMode.MONTE_CARLO, tally, missing == 0, startNanos);
+  }
+
+  /**
+   * Evaluates every runout of the remaining board. Runouts are partitioned across the pool by
+   * their first card, and only the smallest runout of each suit-isomorphism class is evaluated,
+   * weighted by the size of its class.
+   */
+  private Tally enumerate(VariantEvaluator evaluator, long[] holes, long board, long dead,
+      long used, int missing) {
+    long[] fixed = new long[holes.length + 2];
+    System.arraycopy(holes, 0, fixed, 0, holes.length);
+    fixed[holes.length] = board;
+    fixed[holes.length + 1] = dead;
+    int[][] symmetries = SuitSymmetry.stabilizer(fixed);
+    int[] deck = liveDeck(used);
+    if (missing == 0) {
+      Tally tally = new Tally(holes.length);
+      int[] highs = new int[holes.length];
+      int[] lows = evaluator.hiLo() ? new int[holes.length] : null;
+      evaluator.evaluate(board, highs, lows);
+      tally.record(highs, lows, 1);
+      return tally;
+    }
+    return equityPool.invoke(new Runouts(evaluator, holes.length, board, deck, missing,
+        symmetries, 0, deck.length - missing + 1));
+  }
+
+  private static EquityResult toResult(EquityMode mode, Tally tally, boolean exact,
+      long startNanos) {
+    List<PlayerEquity> players = new ArrayList<>(tally.wins.length);
+    double n = tally.trials;
+    for (int p = 0; p < tally.wins.length; p++) {
+      double win = tally.wins[p] / n;
+      double tie = tally.ties[p] / n;
+      double equity = tally.share[p] / (SHARE_UNITS * n);
+      double variance = Math.max(0.0,
+          tally.shareSquares[p] / ((double) SHARE_UNITS * SHARE_UNITS * n) - equity * equity);
+      double interval = exact ? 0.0 : Z_95 * Math.sqrt(variance / n);
+      double loss = (tally.trials - tally.wins[p] - tally.ties[p]) / n;
+      players.add(new PlayerEquity(win, tie, loss, equity, interval));
+    }
+    return new EquityResult(mode, players, tally.trials, tally.evaluated,
+        (System.nanoTime() - startNanos) / 1_000_000L);
+  }
+
+  long[] holeMasks(List<List<Card>> players, int holeCards) {
+    if (players == null || players.size() < 2 || players.size() > MAX_PLAYERS) {
+      throw badRequest("Equity needs between 2 and " + MAX_PLAYERS + " players");
+    }
+    long[] holes = new long[players.size()];
+    for (int p = 0; p < holes.length; p++) {
+      List<Card> hole = players.get(p);
+      if (hole == null || hole.size() != holeCards) {
+        throw badRequest("Player " + p + " must hold exactly " + holeCards + " cards");
+      }
+      holes[p] = cardMask(hole, "player " + p);
+    }
+    return holes;
+  }
+
+  static long cardMask(List<Card> cards, String what) {
+    if (cards == null) {
+      return 0L;
+    }
+    long mask = CardMask.mask(cards);
+    if (Long.bitCount(mask) != cards.size()) {
+      throw badRequest("Duplicate card in " + what);
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the variant a request plays, the configured default when it names none, rejecting
+   * variants that are not enabled.
+   */
+  static GameVariant variant(GameVariant requested, PokerConfig.Variants variants) {
+    GameVariant variant = requested != null ? requested : variants.getDefaultVariant();
+    if (!variants.getEnabled().contains(variant)) {
+      throw badRequest("Variant " + variant + " is not enabled, enabled variants are "
+          + variants.getEnabled());
+    }
+    return variant;
+  }
+
+  static void validateBoard(long board, List<Card> cards) {
+    int size = Long.bitCount(board);
+    if (size != 0 && (size < 3 || size > BOARD_CARDS)) {
+      throw badRequest("Board must have 0, 3, 4 or 5 cards, got " + cards.size());
+    }
+  }
+
+  /**
+   * Returns the mask of every card in use, rejecting a card that appears in two places.
+   */
+  static long checkDisjoint(long[] holes, long board, long dead) {
+    long used = board;
+    if ((used & dead) != 0) {
+      throw badRequest("Card appears more than once across players, board and dead cards");
+    }
+    used |= dead;
+    for (long hole : holes) {
+      if ((used & hole) != 0) {
+        throw badRequest("Card appears more than once across players, board and dead cards");
+      }
+      used |= hole;
+    }
+    return used;
+  }
+
+  /**
+   * Returns the cards that are not in the deck, rejecting a request that uses any of them.
+   *
+   * @param used every card named by the request
+   */
+  static long absentCards(long used, DeckDefinition deck) {
+    if ((used & ~deck.getCards()) != 0) {
+      throw badRequest("Cards must come from the " + deck);
+    }
+    return CardMask.FULL_DECK & ~deck.getCards();
+  }
+
+  static int[] liveDeck(long used) {
+    int[] deck = new int[CardMask.DECK_SIZE - Long.bitCount(used)];
+    int n = 0;
+    for (int card = 0; card < CardMask.DECK_SIZE; card++) {
+      if ((used & (1L << card)) == 0) {
+        deck[n++] = card;
+      }
+    }
+    return deck;
+  }
+
+  static BusinessException badRequest(String message) {
+    return new BusinessException(message, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Per-player outcome counts of a run of trials. Pot shares are counted in integer units of
+   * 1/5040 of a pot (divisible by every split of 1 to 10 ways of the pot or of half of it), so
+   * tallies merge exactly and results do not depend on the order tasks finish in. A win is the
+   * whole pot alone, a tie any smaller share.
+   */
+  static final class Tally {
+    final long[] wins;
+    final long[] ties;
+    final long[] share;
+    final long[] shareSquares;
+    final int seats;
+    long trials;
+    long evaluated;
+
+    Tally(int players) {
+      seats = (1 << players) - 1;
+      wins = new long[players];
+      ties = new long[players];
+      share = new long[players];
+      shareSquares = new long[players];
+    }
+
+    Tally merge(Tally other) {
+      for (int p = 0; p < wins.length; p++) {
+        wins[p] += other.wins[p];
+        ties[p] += other.ties[p];
+        share[p] += other.share[p];
+        shareSquares[p] += other.shareSquares[p];
+      }
+      trials += other.trials;
+      evaluated += other.evaluated;
+      return this;
+    }
+
+    /**
+     * Records one showdown given each player's high strength and, in hi/lo games, low, counted
+     * {@code weight} times. Without a qualifying low the high hand takes the whole pot.
+     *
+     * @param highs strength per player
+     * @param lows  low per player, 0 for no low, or null when the game has no low half
+     */
+    void record(int[] highs, int[] lows, int weight) {
+      int highWinners = ShowdownService.bestOf(highs, seats);
+      int lowWinners = lows != null ? ShowdownService.bestOf(lows, seats) : 0;
+      if (lowWinners != 0 && lows[Integer.numberOfTrailingZeros(lowWinners)] == 0) {
+        lowWinners = 0;
+      }
+      long highShare = (lowWinners == 0 ? SHARE_UNITS : SHARE_UNITS / 2)
+          / Integer.bitCount(highWinners);
+      long lowShare = lowWinners == 0 ? 0 : SHARE_UNITS / 2 / Integer.bitCount(lowWinners);
+      for (int rest = highWinners | lowWinners; rest != 0; rest &= rest - 1) {
+        int p = Integer.numberOfTrailingZeros(rest);
+        long split = (highWinners >>> p & 1) * highShare + (lowWinners >>> p & 1) * lowShare;
+        if (split == SHARE_UNITS) {
+          wins[p] += weight;
+        } else {
+          ties[p] += weight;
+        }
+        share[p] += split * weight;
+        shareSquares[p] += split * split * weight;
+      }
+      trials += weight;
+      evaluated++;
+    }
+  }
+
+  /**
+   * Runs a range of Monte Carlo trials, halving it until it is small enough for one leaf.
+   */
+  static final class Trials extends RecursiveTask<Tally> {
+    private final VariantEvaluator evaluator;
+    private final int players;
+    private final long board;
+    private final int[] deck;
+    private final int missing;
+    private final long trials;
+    private final long deadline;
+    private final SplittableRandom random;
+    // The leftmost leaf ignores the deadline so every result has at least one leaf of trials.
+    private final boolean leftmost;
+
+    Trials(VariantEvaluator evaluator, int players, long board, int[] deck, int missing,
+        long trials, long deadline, SplittableRandom random, boolean leftmost) {
+      this.evaluator = evaluator;
+      this.players = players;
+      this.board = board;
+      this.deck = deck;
+      this.missing = missing;
+      this.trials = trials;
+      this.deadline = deadline;
+      this.random = random;
+      this.leftmost = leftmost;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (trials > LEAF_TRIALS) {
+        long half = trials / 2;
+        Trials right = new Trials(evaluator, players, board, deck, missing, trials - half,
+            deadline, random.split(), false);
+        right.fork();
+        Tally left = new Trials(evaluator, players, board, deck, missing, half, deadline, random,
+            leftmost).compute();
+        return left.merge(right.join());
+      }
+      return runLeaf();
+    }
+
+    private Tally runLeaf() {
+      Tally tally = new Tally(players);
+      VariantEvaluator ranker = evaluator.copy();
+      int[] cards = deck.clone();
+      int[] highs = new int[players];
+      int[] lows = ranker.hiLo() ? new int[players] : null;
+      int live = cards.length;
+      for (long t = 0; t < trials; t++) {
+        if (!leftmost && deadline != NO_DEADLINE && t % DEADLINE_CHECK_INTERVAL == 0
+            && System.nanoTime() - deadline > 0) {
+          break;
+        }
+        long runout = board;
+        for (int i = 0; i < missing; i++) {
+          int j = i + random.nextInt(live - i);
+          int card = cards[j];
+          cards[j] = cards[i];
+          cards[i] = card;
+          runout |= 1L << card;
+        }
+        ranker.evaluate(runout, highs, lows);
+        tally.record(highs, lows, 1);
+      }
+      return tally;
+    }
+  }
+
+  /**
+   * Enumerates all runouts whose first card sits at a deck position in {@code [from, to)},
+   * halving the range until one position is left.
+   */
+  static final class Runouts extends RecursiveTask<Tally> {
+    private final VariantEvaluator evaluator;
+    private final int players;
+    private final long board;
+    private final int[] deck;
+    private final int missing;
+    private final int[][] symmetries;
+    private final int from;
+    private final int to;
+
+    Runouts(VariantEvaluator evaluator, int players, long board, int[] deck, int missing,
+        int[][] symmetries, int from, int to) {
+      this.evaluator = evaluator;
+      this.players = players;
+      this.board = board;
+      this.deck = deck;
+      this.missing = missing;
+      this.symmetries = symmetries;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (to - from > 1) {
+        int mid = (from + to) >>> 1;
+        Runouts right = new Runouts(evaluator, players, board, deck, missing, symmetries, mid,
+            to);
+        right.fork();
+        Tally left = new Runouts(evaluator, players, board, deck, missing, symmetries, from, mid)
+            .compute();
+        return left.merge(right.join());
+      }
+      Tally tally = new Tally(players);
+      VariantEvaluator ranker = evaluator.copy();
+      deal(tally, ranker, new int[players], ranker.hiLo() ? new int[players] : null,
+          board | 1L << deck[from], from + 1, missing - 1);
+      return tally;
+    }
+
+    private void deal(Tally tally, VariantEvaluator ranker, int[] highs, int[] lows, long runout,
+        int next, int remaining) {
+      if (remaining == 0) {
+        int weight = symmetries.length == 1 ? 1
+            : SuitSymmetry.orbitSizeIfCanonical(runout & ~board, symmetries);
+        if (weight == 0) {
+          return;
+        }
+        ranker.evaluate(runout, highs, lows);
+        tally.record(highs, lows, weight);
+        return;
+      }
+      for (int i = next; i <= deck.length - remaining; i++) {
+        deal(tally, ranker, highs, lows, runout | 1L << deck[i], i + 1, remaining - 1);
+      }
+    }
+  }
+}
@@ -0,0 +1,283 @@
+package com.midgard.pokerengine.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.converter.PokerHandFormat;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.HandRequest;
+import io.github.bucket4j.Bucket;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Streams hands from a JSON array or NDJSON body, ranks each one as soon as it is parsed and
+ * writes one NDJSON result line per hand. Only the hand being evaluated is held in memory.
+ *
+ * <p>The same stream can also be sent in the binary {@link PokerHandFormat}, see
+ * {@link #evaluateBinary(InputStream, OutputStream, Bucket)}.
+ *
+ * <p>Invalid hands produce an inline {@code {"index": n, "error": "..."}} line and do not stop
+ * the batch. The rate limiter is charged one token per hand; tokens are taken from the bucket
+ * in chunks and any left over when the batch ends are returned.
+ */
+@Service
+public class HandBatchService {
+  private static final Logger logger = LoggerFactory.getLogger(HandBatchService.class);
+
+  static final int TOKEN_CHUNK = 64;
+  static final int FLUSH_INTERVAL = 256;
+  static final int BINARY_BUFFER = 8192;
+
+  private final HandEvaluatorService handEvaluatorService;
+  private final PokerConfig pokerConfig;
+  private final ObjectMapper objectMapper;
+  private final PokerMetrics metrics;
+
+  public HandBatchService(HandEvaluatorService handEvaluatorService, PokerConfig pokerConfig,
+      ObjectMapper objectMapper, PokerMetrics metrics) {
+    this.handEvaluatorService = handEvaluatorService;
+    this.pokerConfig = pokerConfig;
+    this.objectMapper = objectMapper;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Evaluates every hand in the input and streams the results to the output.
+   *
+   * @param in     JSON array of hand requests, or newline-delimited hand requests
+   * @param out    destination for NDJSON result lines
+   * @param bucket the client's rate limit bucket, or null when rate limiting is off
+   * @return the number of hands read, including invalid ones
+   * @throws IOException if either stream fails
+   */
+  public long evaluate(InputStream in, OutputStream out, Bucket bucket) throws IOException {
+    long start = System.nanoTime();
+    long index = 0;
+    long errors = 0;
+    Tokens tokens = new Tokens(bucket, metrics);
+    try (JsonParser parser = objectMapper.getFactory().createParser(in);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+      JsonToken token = nextToken(parser, generator, index);
+      boolean array = token == JsonToken.START_ARRAY;
+      if (array) {
+        token = nextToken(parser, generator, index);
+      }
+      while (token != null && token != JsonToken.END_ARRAY) {
+        if (!tokens.take()) {
+          writeError(generator, index, "Rate limit exceeded");
+          break;
+        }
+
+        JsonNode node;
+        try {
+          node = parser.readValueAsTree();
+        } catch (JsonProcessingException e) {
+          // The stream is no longer positioned on a hand boundary, so stop here.
+          writeError(generator, index, "Malformed JSON: " + e.getOriginalMessage());
+          errors++;
+          index++;
+          break;
+        }
+        String error = evaluateHand(generator, index, node);
+        if (error != null) {
+          writeError(generator, index, error);
+          errors++;
+        }
+        index++;
+        if (index % FLUSH_INTERVAL == 0) {
+          generator.flush();
+        }
+        token = nextToken(parser, generator, index);
+      }
+      generator.flush();
+    } finally {
+      tokens.release();
+      metrics.recordEvaluation(PokerMetrics.Operation.BATCH, start, (int) index, errors);
+    }
+    logger.debug("Evaluated batch of {} hands ({} errors)", index, errors);
+    return index;
+  }
+
+  /**
+   * Evaluates every hand of a {@link PokerHandFormat} body and streams one 16-bit strength per
+   * hand, with no JSON processing and no per-hand allocation.
+   *
+   * @param in     back-to-back binary hands
+   * @param out    destination for the packed strengths
+   * @param bucket the client's rate limit bucket, or null when rate limiting is off
+   * @return the number of hands read, including invalid ones
+   * @throws IOException if either stream fails
+   */
+  public long evaluateBinary(InputStream in, OutputStream out, Bucket bucket) throws IOException {
+    long start = System.nanoTime();
+    long index = 0;
+    long errors = 0;
+    Tokens tokens = new Tokens(bucket, metrics);
+    int[] count = new int[1];
+    long deckCards = handEvaluatorService.deck().getCards();
+    InputStream input = new BufferedInputStream(in, BINARY_BUFFER);
+    DataOutputStream output = new DataOutputStream(new BufferedOutputStream(out, BINARY_BUFFER));
+    try {
+      while (true) {
+        long handMask;
+        try {
+          handMask = PokerHandFormat.readHand(input, count);
+        } catch (IllegalArgumentException | EOFException e) {
+          // A bad header or truncated hand leaves the stream off a hand boundary, so stop here.
+          output.writeShort(PokerHandFormat.INVALID_HAND);
+          errors++;
+          index++;
+          break;
+        }
+        if (handMask < 0) {
+          break;
+        }
+        if (!tokens.take()) {
+          output.writeShort(PokerHandFormat.RATE_LIMITED);
+          break;
+        }
+        int cards = count[0];
+        metrics.recordHandSize(cards);
+        if (cards != Long.bitCount(handMask) || !pokerConfig.getValidHandSizes().contains(cards)
+            || (handMask & ~deckCards) != 0) {
+          output.writeShort(PokerHandFormat.INVALID_HAND);
+          errors++;
+        } else {
+          int strength = handEvaluatorService.strength(handMask);
+          metrics.recordCategory(handEvaluatorService.category(strength));
+          output.writeShort(strength);
+        }
+        index++;
+      }
+      output.flush();
+    } finally {
+      tokens.release();
+      metrics.recordEvaluation(PokerMetrics.Operation.BATCH_BINARY, start, (int) index, errors);
+    }
+    logger.debug("Evaluated binary batch of {} hands ({} errors)", index, errors);
+    return index;
+  }
+
+  /**
+   * Ranks one hand and writes its result line.
+   *
+   * @return an error message if the hand was not evaluated, otherwise null
+   */
+  private String evaluateHand(JsonGenerator generator, long index, JsonNode node)
+      throws IOException {
+    List<Card> cards;
+    try {
+      cards = objectMapper.treeToValue(node, HandRequest.class).getCards();
+    } catch (JsonProcessingException | IllegalArgumentException e) {
+      return "Invalid hand: " + rootMessage(e);
+    }
+    if (cards == null) {
+      return "Cards list is null";
+    }
+    metrics.recordHandSize(cards.size());
+    if (!pokerConfig.getValidHandSizes().contains(cards.size())) {
+      return String.format("Invalid hand size: %d. Valid sizes are: %s", cards.size(),
+          pokerConfig.getValidHandSizes());
+    }
+    long handMask = CardMask.mask(cards);
+    if (Long.bitCount(handMask) != cards.size()) {
+      return "Hand contains duplicate cards";
+    }
+    if ((handMask & ~handEvaluatorService.deck().getCards()) != 0) {
+      return "Hand contains cards outside the " + handEvaluatorService.deck();
+    }
+    int strength = handEvaluatorService.strength(handMask);
+    HandCategory category = handEvaluatorService.category(strength);
+    metrics.recordCategory(category);
+    generator.writeStartObject();
+    generator.writeNumberField("index", index);
+    generator.writeStringField("category", category.name());
+    generator.writeNumberField("strength", strength);
+    generator.writeEndObject();
+    return null;
+  }
+
+  private JsonToken nextToken(JsonParser parser, JsonGenerator generator, long index)
+      throws IOException {
+    try {
+      return parser.nextToken();
+    } catch (JsonProcessingException e) {
+      writeError(generator, index, "Malformed JSON: " + e.getOriginalMessage());
+      return null;
+    }
+  }
+
+  private static void writeError(JsonGenerator generator, long index, String message)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("index", index);
+    generator.writeStringField("error", message);
+    generator.writeEndObject();
+  }
+
+  private static String rootMessage(Throwable e) {
+    Throwable cause = e;
+    while (cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause instanceof JsonProcessingException
+        ? ((JsonProcessingException) cause).getOriginalMessage()
+        : cause.getMessage();
+  }
+
+  /**
+   * Rate limit tokens reserved from the bucket in chunks, one per hand. Without a bucket every
+   * hand is allowed.
+   */
+  private static final class Tokens {
+    private final Bucket bucket;
+    private final PokerMetrics metrics;
+    private long available;
+
+    Tokens(Bucket bucket, PokerMetrics metrics) {
+      this.bucket = bucket;
+      this.metrics = metrics;
+    }
+
+    boolean take() {
+      if (bucket == null) {
+        return true;
+      }
+      if (available == 0) {
+        available = bucket.tryConsumeAsMuchAsPossible(TOKEN_CHUNK);
+        if (available == 0) {
+          metrics.recordRateLimited();
+          return false;
+        }
+      }
+      available--;
+      return true;
+    }
+
+    void release() {
+      if (available > 0) {
+        bucket.addTokens(available);
+        available = 0;
+      }
+    }
+  }
+}
@@ -1,9 +1,16 @@
 package com.midgard.pokerengine.service;
 
 import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.HandRank;
+import com.midgard.pokerengine.model.LowballRank;
+import com.midgard.pokerengine.model.LowballType;
+import com.midgard.pokerengine.model.MixedRank;
 import java.util.List;
-import java.util.Set;
-import java.util.HashSet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -11,6 +18,41 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class HandEvaluatorService {
+  private static final int ACE_BIT = 1 << 12;
+
+  private final HandRankTables tables;
+  private final HandRankCache cache;
+  private final int deckRanks;
+  private final int deckAce;
+  private final LowballTables aceToFive = LowballTables.of(LowballType.ACE_TO_FIVE);
+  private final LowballTables deuceToSeven = LowballTables.of(LowballType.DEUCE_TO_SEVEN);
+
+  public HandEvaluatorService() {
+    this(HandRankTables.standard(), null);
+  }
+
+  /**
+   * Creates the service with an optional strength cache in front of the lookup tables.
+   *
+   * @param tables the lookup tables
+   * @param cache  the result cache, or null when caching is disabled
+   */
+  @Autowired
+  public HandEvaluatorService(HandRankTables tables, @Nullable HandRankCache cache) {
+    this.tables = tables;
+    this.cache = cache;
+    this.deckRanks = tables.deck().getRanks();
+    // The ace is the deck's highest rank, once the ranks are packed below
+    this.deckAce = (deckRanks & ACE_BIT) != 0 ? 1 << (Integer.bitCount(deckRanks) - 1) : 0;
+  }
+
+  /**
+   * Returns the deck hands are ranked in.
+   */
+  public DeckDefinition deck() {
+    return tables.deck();
+  }
+
   /**
    * Checks if the given list of cards forms a straight.
    *
@@ -18,36 +60,164 @@ public class HandEvaluatorService {
    * @return true if the cards form a straight, false otherwise
    */
   public boolean isStraight(List<Card> cards) {
-  
-    Set<Integer> values = new HashSet<>();
-    boolean hasAce = false;
-    for (Card card : cards) {
-        int value = card.getRank().getValue();
-        if (value == 14) hasAce = true;
-        values.add(value);
+    return isStraight(CardMask.mask(cards));
+  }
+
+  /**
+   * Checks if the distinct ranks of a hand mask form one consecutive run of the deck's ranks,
+   * e.g. 9-8-7-6-A in the short deck. Allocation free: works on the 13-bit rank mask only.
+   *
+   * @param handMask 52-bit hand mask, see {@link CardMask}
+   * @return true if the cards form a straight, false otherwise
+   */
+  public boolean isStraight(long handMask) {
+    // Pack the deck's ranks next to each other, so that runs skip the ranks it lacks
+    int ranks = Integer.compress(CardMask.rankMask(handMask), deckRanks);
+    if (isRun(ranks)) {
+      return true;
     }
-    if (hasConsecutive(values)) {
-        return true;
+    // Ace plays low: drop the ace bit and shift a wheel bit in below the lowest rank.
+    return (ranks & deckAce) != 0 && isRun(((ranks & ~deckAce) << 1) | 1);
+  }
+
+  private static boolean isRun(int ranks) {
+    int shifted = ranks >>> Integer.numberOfTrailingZeros(ranks);
+    return (shifted & (shifted + 1)) == 0;
+  }
+
+  /**
+   * Ranks a hand of 5 to 7 cards using its best five cards.
+   *
+   * @param cards the list of cards to evaluate
+   * @return the category and strength of the hand
+   * @throws IllegalArgumentException if a card is repeated or not in the configured deck
+   */
+  public HandRank rank(List<Card> cards) {
+    return rank(handMask(cards));
+  }
+
+  /**
+   * Ranks a hand mask of 5 to 7 cards using its best five cards.
+   *
+   * @param handMask 52-bit hand mask, see {@link CardMask}
+   * @return the category and strength of the hand
+   * @throws IllegalArgumentException if a card is not in the configured deck
+   */
+  public HandRank rank(long handMask) {
+    checkDeck(handMask);
+    return tables.rank(strength(handMask));
+  }
+
+  /**
+   * Converts a card list into a hand mask, rejecting repeated cards instead of letting them
+   * collapse into a smaller hand.
+   */
+  private static long handMask(List<Card> cards) {
+    long handMask = CardMask.mask(cards);
+    if (Long.bitCount(handMask) != cards.size()) {
+      throw new IllegalArgumentException("Hand contains duplicate cards");
     }
-    if (hasAce) {
-        values.remove(14);
-        values.add(1);
-        return hasConsecutive(values);
+    return handMask;
+  }
+
+  private void checkDeck(long handMask) {
+    if ((handMask & ~tables.deck().getCards()) != 0) {
+      throw new IllegalArgumentException("Cards must come from the " + tables.deck());
     }
-    return false;
   }
 
-  private boolean hasConsecutive(Set<Integer> values) {
-    int cur = Integer.MAX_VALUE;
-    for (int value : values) {
-        cur = Math.min(cur, value);
+  /**
+   * Ranks the best low of a hand of 5 to 7 cards, e.g. a razz hand in ace-to-five.
+   *
+   * @param cards the list of cards to evaluate
+   * @param type  the lowball ordering
+   * @return the category, strength and five ranks of the low
+   * @throws IllegalArgumentException if a card is repeated or not in the configured deck
+   */
+  public LowballRank lowball(List<Card> cards, LowballType type) {
+    return lowball(handMask(cards), type);
+  }
+
+  /**
+   * Ranks the best low of a hand mask of 5 to 7 cards.
+   *
+   * @param handMask 52-bit hand mask, see {@link CardMask}
+   * @param type     the lowball ordering
+   * @return the category, strength and five ranks of the low
+   * @throws IllegalArgumentException if a card is not in the configured deck
+   */
+  public LowballRank lowball(long handMask, LowballType type) {
+    checkDeck(handMask);
+    LowballTables low = lowballTables(type);
+    int strength = lowStrength(handMask, type);
+    return new LowballRank(type, low.category(strength), strength, low.ranks(strength));
+  }
+
+  /**
+   * Ranks a hand under each ordering a mixed game plays: high, ace-to-five and deuce-to-seven.
+   *
+   * @param cards the list of cards to evaluate
+   * @return the high rank and both lows
+   * @throws IllegalArgumentException if a card is repeated or not in the configured deck
+   */
+  public MixedRank mixed(List<Card> cards) {
+    long handMask = handMask(cards);
+    return new MixedRank(rank(handMask), lowball(handMask, LowballType.ACE_TO_FIVE),
+        lowball(handMask, LowballType.DEUCE_TO_SEVEN));
+  }
+
+  /**
+   * Returns the low strength of a hand mask of 5 to 7 cards, 1 (worst) to
+   * {@link LowballType#getDistinctHands()} (best). Allocation free: one or two table lookups, a
+   * few more for deuce-to-seven hands with five or more cards of a suit.
+   *
+   * @param handMask 52-bit hand mask, see {@link CardMask}
+   * @param type     the lowball ordering
+   * @return the low strength
+   */
+  public int lowStrength(long handMask, LowballType type) {
+    int cards = Long.bitCount(handMask);
+    if (cards < LowballTables.MIN_CARDS || cards > LowballTables.MAX_CARDS) {
+      throw new IllegalArgumentException("Cannot rank a hand of " + cards + " distinct cards");
+    }
+    return lowballTables(type).evaluate(handMask);
+  }
+
+  private LowballTables lowballTables(LowballType type) {
+    return type == LowballType.ACE_TO_FIVE ? aceToFive : deuceToSeven;
+  }
+
+  /**
+   * Returns the category of a strength in the configured deck.
+   */
+  public HandCategory category(int strength) {
+    return tables.category(strength);
+  }
+
+  /**
+   * Returns the strength of a hand mask of 5 to 7 cards, 1 (worst) to 7462 (royal flush) in the
+   * standard deck.
+   * Allocation free: table lookups only, served from the {@link HandRankCache} when enabled,
+   * where hands that differ only by suit labels share one entry.
+   *
+   * @param handMask 52-bit hand mask, see {@link CardMask}
+   * @return the hand strength
+   */
+  public int strength(long handMask) {
+    int cards = Long.bitCount(handMask);
+    if (cards < HandRankTables.MIN_CARDS || cards > HandRankTables.MAX_CARDS) {
+      throw new IllegalArgumentException("Cannot rank a hand of " + cards + " distinct cards");
+    }
+    if (cache == null) {
+      return tables.evaluate(handMask);
     }
-    for(int i = 0; i < values.size() - 1; i++) {
-      if(!values.contains(cur + 1)) {
-        return false;
-      }
-      cur += 1;
+    // Suit permutations keep the strength, so all of them share one entry
+    long key = SuitSymmetry.canonical(handMask);
+    int strength = cache.get(key);
+    if (strength == 0) {
+      strength = tables.evaluate(handMask);
+      cache.put(key, strength);
     }
-    return true;
+    return strength;
   }
-}
\ No newline at end of file
+}
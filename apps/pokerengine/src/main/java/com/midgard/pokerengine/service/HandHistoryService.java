@@ -0,0 +1,199 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.history.HandHistoryIngester;
+import com.midgard.pokerengine.history.HandHistoryStats;
+import com.midgard.pokerengine.model.HandHistoryJob;
+import com.midgard.pokerengine.model.HandHistoryJobRequest;
+import com.midgard.pokerengine.model.HandHistoryReport;
+import com.midgard.pokerengine.model.JobState;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs hand history ingestion jobs in the background and keeps their progress and reports.
+ *
+ * <p>Jobs run one at a time on a single thread, each spreading its file over a fork/join pool
+ * of its own, so ingestion never competes with equity work for the equity pool. Only files under
+ * the configured directory can be read. The most recent jobs are kept for status requests; the
+ * oldest finished ones are dropped first.
+ */
+@Service
+public class HandHistoryService implements AutoCloseable {
+  private static final Logger logger = LoggerFactory.getLogger(HandHistoryService.class);
+
+  private final PokerConfig pokerConfig;
+  private final HandHistoryIngester ingester;
+  private final ForkJoinPool pool;
+  private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "hand-history");
+    thread.setDaemon(true);
+    return thread;
+  });
+  // Guarded by this, in submission order
+  private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+  public HandHistoryService(PokerConfig pokerConfig, HandRankTables tables) {
+    this.pokerConfig = pokerConfig;
+    PokerConfig.History history = pokerConfig.getHistory();
+    int parallelism = history.getParallelism();
+    this.pool = new ForkJoinPool(
+        parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    this.ingester = new HandHistoryIngester(tables, pool, history.getSegmentBytes());
+  }
+
+  /**
+   * Queues a file for ingestion.
+   *
+   * @param request the file, relative to the hand history directory
+   * @return the queued job
+   */
+  public HandHistoryJob submit(HandHistoryJobRequest request) {
+    Path file = resolve(request.getPath());
+    long size;
+    try {
+      size = Files.size(file);
+    } catch (IOException e) {
+      throw notFound(request.getPath());
+    }
+    Job job = new Job(UUID.randomUUID().toString(), request.getPath(), file, size);
+    synchronized (this) {
+      evictFinished(pokerConfig.getHistory().getMaxJobs() - 1);
+      if (jobs.size() >= pokerConfig.getHistory().getMaxJobs()) {
+        throw new BusinessException("Too many hand history jobs in progress",
+            HttpStatus.TOO_MANY_REQUESTS);
+      }
+      jobs.put(job.id, job);
+    }
+    runner.execute(() -> run(job));
+    return job.toModel();
+  }
+
+  /**
+   * Returns the progress of a job, and its report once it has completed.
+   */
+  public HandHistoryJob status(String id) {
+    Job job;
+    synchronized (this) {
+      job = jobs.get(id);
+    }
+    if (job == null) {
+      throw new BusinessException("No hand history job " + id, HttpStatus.NOT_FOUND);
+    }
+    return job.toModel();
+  }
+
+  private void run(Job job) {
+    job.state = JobState.RUNNING;
+    long start = System.nanoTime();
+    try {
+      HandHistoryStats stats = ingester.ingest(job.file, job.processed::addAndGet);
+      job.report = stats.toReport(pokerConfig.getHistory().getMaxPlayers());
+      job.finishedAt = LocalDateTime.now();
+      job.state = JobState.COMPLETED;
+      logger.info("Ingested hand history {}: {} hands, {} malformed records in {} ms", job.path,
+          stats.getHands(), stats.getMalformed(), (System.nanoTime() - start) / 1_000_000);
+    } catch (IOException | RuntimeException e) {
+      job.error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+      job.finishedAt = LocalDateTime.now();
+      job.state = JobState.FAILED;
+      logger.warn("Hand history job {} for {} failed", job.id, job.path, e);
+    }
+  }
+
+  /**
+   * Resolves a path against the hand history directory, refusing paths that lead outside it.
+   */
+  private Path resolve(String path) {
+    if (path == null || path.isBlank()) {
+      throw EquityService.badRequest("Path is required");
+    }
+    Path base = Path.of(pokerConfig.getHistory().getDirectory()).toAbsolutePath().normalize();
+    Path file;
+    try {
+      file = base.resolve(path).normalize();
+    } catch (InvalidPathException e) {
+      throw EquityService.badRequest("Invalid path: " + path);
+    }
+    if (!file.startsWith(base)) {
+      throw EquityService.badRequest("Path must be inside the hand history directory");
+    }
+    try {
+      // Follow links too, so one inside the directory cannot point out of it
+      if (!file.toRealPath().startsWith(base.toRealPath()) || !Files.isRegularFile(file)) {
+        throw notFound(path);
+      }
+    } catch (IOException e) {
+      throw notFound(path);
+    }
+    return file;
+  }
+
+  private void evictFinished(int keep) {
+    Iterator<Job> it = jobs.values().iterator();
+    while (jobs.size() > keep && it.hasNext()) {
+      JobState state = it.next().state;
+      if (state == JobState.COMPLETED || state == JobState.FAILED) {
+        it.remove();
+      }
+    }
+  }
+
+  private static BusinessException notFound(String path) {
+    return new BusinessException("Hand history file not found: " + path, HttpStatus.NOT_FOUND);
+  }
+
+  @Override
+  public void close() {
+    runner.shutdownNow();
+    pool.shutdownNow();
+  }
+
+  /**
+   * A job's state, written by the runner thread and read by status requests.
+   */
+  private static final class Job {
+    final String id;
+    final String path;
+    final Path file;
+    final long totalBytes;
+    final AtomicLong processed = new AtomicLong();
+    final LocalDateTime submittedAt = LocalDateTime.now();
+    volatile JobState state = JobState.QUEUED;
+    volatile LocalDateTime finishedAt;
+    volatile String error;
+    volatile HandHistoryReport report;
+
+    Job(String id, String path, Path file, long totalBytes) {
+      this.id = id;
+      this.path = path;
+      this.file = file;
+      this.totalBytes = totalBytes;
+    }
+
+    HandHistoryJob toModel() {
+      // Read the state first: the report and end time are written before the job is finished
+      JobState current = state;
+      long bytes = processed.get();
+      return new HandHistoryJob(id, path, current, totalBytes, bytes,
+          totalBytes > 0 ? (double) bytes / totalBytes : current == JobState.COMPLETED ? 1 : 0,
+          submittedAt, finishedAt, error, report);
+    }
+  }
+}
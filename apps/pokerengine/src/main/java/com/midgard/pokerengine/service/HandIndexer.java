@@ -0,0 +1,418 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Dense index of suit-isomorphic hands dealt in rounds, e.g. two hole cards and a three card
+ * flop. Two hands share an index exactly when a suit permutation maps every round of one onto
+ * the same round of the other, and the indices run from 0 to {@link #size()} - 1 with no gaps:
+ * 169 for two hole cards, 1,286,792 for hole cards and a flop.
+ *
+ * <p>Each suit's cards form a per-suit hand: the ranks it gets in each round. Its shape is the
+ * number of cards per round, and its position among all per-suit hands of that shape is a
+ * mixed-radix number of rank-set indices, each round indexed among the ranks earlier rounds
+ * left. A hand's configuration is the sorted shapes of its four suits. Its index is the
+ * configuration's offset plus, for each group of suits sharing a shape, the index of their
+ * per-suit positions as a multiset, since swapping those suits gives the same class.
+ *
+ * <p>Index and unindex are table lookups and a handful of arithmetic per suit: the rank-set
+ * tables are shared, and each indexer maps the per-suit card counts of a hand straight to its
+ * configuration and the suit order that sorts it. Unindex returns the class's canonical member;
+ * {@link #members} lists the others.
+ */
+final class HandIndexer {
+  private static final int SUITS = CardMask.SUIT_COUNT;
+  private static final int RANKS = CardMask.RANK_COUNT;
+  private static final int SHAPE_SHIFT = 4;
+
+  /** Index of a rank set among the rank sets of its size, in increasing order. */
+  private static final int[] RANK_SET_INDEX = new int[1 << RANKS];
+  /** Rank sets by size and index. */
+  private static final int[][] RANK_SETS = new int[RANKS + 1][];
+  private static final int[][] CHOOSE = new int[RANKS + 1][RANKS + 1];
+
+  static {
+    for (int n = 0; n <= RANKS; n++) {
+      CHOOSE[n][0] = 1;
+      for (int k = 1; k <= n; k++) {
+        CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + (k < n ? CHOOSE[n - 1][k] : 0);
+      }
+    }
+    int[] counts = new int[RANKS + 1];
+    for (int size = 0; size <= RANKS; size++) {
+      RANK_SETS[size] = new int[CHOOSE[RANKS][size]];
+    }
+    for (int set = 0; set < 1 << RANKS; set++) {
+      int size = Integer.bitCount(set);
+      RANK_SET_INDEX[set] = counts[size];
+      RANK_SETS[size][counts[size]++] = set;
+    }
+  }
+
+  private final int[] cards;
+  /** Configuration of each per-suit count code, or -1 if the counts do not add up. */
+  private final int[] configurations;
+  /** Suit permutation, as an index into {@link SuitSymmetry#ALL}, that sorts each count code. */
+  private final byte[] orders;
+  private final long[] offsets;
+  /** Shapes of each configuration in sorted suit order. */
+  private final int[][] shapes;
+  /** Lengths of each configuration's runs of suits sharing a shape, in sorted suit order. */
+  private final int[][] groups;
+  /** Number of multisets of per-suit hands of each group. */
+  private final long[][] groupCounts;
+  private final long size;
+
+  /**
+   * Creates an indexer for hands dealt in rounds of the given numbers of cards.
+   *
+   * @param cards cards per round, e.g. {@code 2, 3} for hole cards and a flop
+   */
+  HandIndexer(int... cards) {
+    int total = 0;
+    int codes = 1;
+    for (int count : cards) {
+      if (count < 1 || count >= 1 << SHAPE_SHIFT) {
+        throw new IllegalArgumentException("Cannot index a round of " + count + " cards");
+      }
+      total += count;
+      codes *= (int) Math.pow(count + 1, SUITS);
+    }
+    if (cards.length == 0 || total > CardMask.DECK_SIZE || cards.length > 32 / SHAPE_SHIFT) {
+      throw new IllegalArgumentException("Cannot index rounds " + Arrays.toString(cards));
+    }
+    this.cards = cards.clone();
+    this.configurations = new int[codes];
+    this.orders = new byte[codes];
+
+    // Number the configurations by their sorted shapes, then point every code at its own
+    TreeMap<List<Integer>, Integer> numbers = new TreeMap<>((a, b) -> {
+      for (int i = 0; i < SUITS; i++) {
+        int c = Integer.compare(b.get(i), a.get(i));
+        if (c != 0) {
+          return c;
+        }
+      }
+      return 0;
+    });
+    int[][] suitShapes = new int[codes][];
+    for (int code = 0; code < codes; code++) {
+      int[] shape = shapes(code);
+      if (shape != null) {
+        suitShapes[code] = shape;
+        numbers.put(sortedShapes(shape), 0);
+      }
+    }
+    int number = 0;
+    for (var entry : numbers.entrySet()) {
+      entry.setValue(number++);
+    }
+    this.offsets = new long[number];
+    this.shapes = new int[number][];
+    this.groups = new int[number][];
+    this.groupCounts = new long[number][];
+    for (int code = 0; code < codes; code++) {
+      int[] shape = suitShapes[code];
+      if (shape == null) {
+        configurations[code] = -1;
+        continue;
+      }
+      List<Integer> sorted = sortedShapes(shape);
+      configurations[code] = numbers.get(sorted);
+      orders[code] = (byte) sortingPermutation(shape);
+    }
+    long offset = 0;
+    for (var entry : numbers.entrySet()) {
+      int configuration = entry.getValue();
+      int[] sorted = entry.getKey().stream().mapToInt(Integer::intValue).toArray();
+      List<Integer> lengths = new ArrayList<>();
+      List<Long> counts = new ArrayList<>();
+      long count = 1;
+      for (int i = 0; i < SUITS; ) {
+        int j = i + 1;
+        while (j < SUITS && sorted[j] == sorted[i]) {
+          j++;
+        }
+        lengths.add(j - i);
+        counts.add(multisetCount(shapeSize(sorted[i]), j - i));
+        count *= counts.get(counts.size() - 1);
+        i = j;
+      }
+      shapes[configuration] = sorted;
+      groups[configuration] = lengths.stream().mapToInt(Integer::intValue).toArray();
+      groupCounts[configuration] = counts.stream().mapToLong(Long::longValue).toArray();
+      offsets[configuration] = offset;
+      offset += count;
+    }
+    this.size = offset;
+  }
+
+  /**
+   * Returns the number of classes, one more than the highest index.
+   */
+  long size() {
+    return size;
+  }
+
+  /**
+   * Returns the index of a hand's class.
+   *
+   * @param rounds one 52-bit card mask per round, see {@link CardMask}
+   * @throws IllegalArgumentException if a round has the wrong number of cards or two rounds
+   *                                  share a card
+   */
+  long index(long... rounds) {
+    if (rounds.length != cards.length) {
+      throw new IllegalArgumentException("Expected " + cards.length + " rounds, got "
+          + rounds.length);
+    }
+    long dealt = 0;
+    int code = 0;
+    long[] positions = new long[SUITS];
+    long[] radix = {1, 1, 1, 1};
+    int[] used = new int[SUITS];
+    for (int round = 0; round < cards.length; round++) {
+      long mask = rounds[round];
+      if (Long.bitCount(mask) != cards[round] || (mask & dealt) != 0
+          || (mask & ~CardMask.FULL_DECK) != 0) {
+        throw new IllegalArgumentException("Round " + (round + 1) + " must be "
+            + cards[round] + " cards not dealt in an earlier round");
+      }
+      dealt |= mask;
+      for (int suit = 0; suit < SUITS; suit++) {
+        int ranks = CardMask.suitRanks(mask, suit);
+        int count = Integer.bitCount(ranks);
+        code = code * (cards[round] + 1) + count;
+        int left = ~used[suit] & CardMask.ALL_RANKS;
+        positions[suit] += radix[suit] * RANK_SET_INDEX[Integer.compress(ranks, left)];
+        radix[suit] *= CHOOSE[Integer.bitCount(left)][count];
+        used[suit] |= ranks;
+      }
+    }
+
+    int configuration = configurations[code];
+    int[] order = SuitSymmetry.ALL[orders[code]];
+    int[] lengths = groups[configuration];
+    long[] counts = groupCounts[configuration];
+    long index = offsets[configuration];
+    long multiplier = 1;
+    for (int g = 0, i = 0; g < lengths.length; i += lengths[g], g++) {
+      if (lengths[g] == 1) {
+        index += multiplier * positions[order[i]];
+      } else {
+        // Suits sharing a shape are interchangeable: index their positions as a multiset
+        long[] group = new long[lengths[g]];
+        for (int k = 0; k < group.length; k++) {
+          group[k] = positions[order[i + k]];
+        }
+        index += multiplier * multisetIndex(group);
+      }
+      multiplier *= counts[g];
+    }
+    return index;
+  }
+
+  /**
+   * Returns the canonical member of a class: the hand whose index it is, with its suits in
+   * configuration order.
+   *
+   * @param index the class index, 0 to {@link #size()} - 1
+   * @return one 52-bit card mask per round
+   */
+  long[] unindex(long index) {
+    if (index < 0 || index >= size) {
+      throw new IllegalArgumentException("Index must be between 0 and " + (size - 1)
+          + ", got " + index);
+    }
+    int configuration = Arrays.binarySearch(offsets, index);
+    if (configuration < 0) {
+      configuration = -configuration - 2;
+    }
+    int[] shape = shapes[configuration];
+    int[] lengths = groups[configuration];
+    long[] counts = groupCounts[configuration];
+    long rest = index - offsets[configuration];
+    long[] positions = new long[SUITS];
+    for (int g = 0, i = 0; g < lengths.length; i += lengths[g], g++) {
+      if (lengths[g] == 1) {
+        positions[i] = rest % counts[g];
+      } else {
+        multisetUnindex(rest % counts[g], positions, i, lengths[g]);
+      }
+      rest /= counts[g];
+    }
+
+    long[] rounds = new long[cards.length];
+    for (int suit = 0; suit < SUITS; suit++) {
+      long position = positions[suit];
+      int used = 0;
+      for (int round = 0; round < cards.length; round++) {
+        int count = shape[suit] >>> (SHAPE_SHIFT * (cards.length - 1 - round)) & 0xF;
+        int left = ~used & CardMask.ALL_RANKS;
+        int sets = CHOOSE[Integer.bitCount(left)][count];
+        int ranks = Integer.expand(RANK_SETS[count][(int) (position % sets)], left);
+        position /= sets;
+        rounds[round] |= (long) ranks << (suit * RANKS);
+        used |= ranks;
+      }
+    }
+    return rounds;
+  }
+
+  /**
+   * Returns every hand of a class, the canonical member first: the images of the canonical
+   * member under all 24 suit permutations, without repeats.
+   */
+  List<long[]> members(long index) {
+    long[] canonical = unindex(index);
+    List<long[]> members = new ArrayList<>();
+    for (int[] perm : SuitSymmetry.ALL) {
+      long[] member = new long[canonical.length];
+      for (int round = 0; round < canonical.length; round++) {
+        member[round] = SuitSymmetry.permute(canonical[round], perm);
+      }
+      if (members.stream().noneMatch(m -> Arrays.equals(m, member))) {
+        members.add(member);
+      }
+    }
+    return members;
+  }
+
+  /**
+   * Decodes a per-suit count code into each suit's shape, or null if the counts of a round do
+   * not add up to its cards or a suit gets more cards than it has.
+   */
+  private int[] shapes(int code) {
+    int[] shape = new int[SUITS];
+    int[] suitCards = new int[SUITS];
+    for (int round = cards.length - 1; round >= 0; round--) {
+      int total = 0;
+      for (int suit = SUITS - 1; suit >= 0; suit--) {
+        int count = code % (cards[round] + 1);
+        code /= cards[round] + 1;
+        total += count;
+        suitCards[suit] += count;
+        shape[suit] |= count << (SHAPE_SHIFT * (cards.length - 1 - round));
+      }
+      if (total != cards[round]) {
+        return null;
+      }
+    }
+    for (int count : suitCards) {
+      if (count > RANKS) {
+        return null;
+      }
+    }
+    return shape;
+  }
+
+  private static List<Integer> sortedShapes(int[] shape) {
+    Integer[] sorted = Arrays.stream(shape).boxed().toArray(Integer[]::new);
+    Arrays.sort(sorted, (a, b) -> Integer.compare(b, a));
+    return List.of(sorted);
+  }
+
+  /**
+   * Returns the index into {@link SuitSymmetry#ALL} of the permutation listing the suits by
+   * descending shape, ties in suit order.
+   */
+  private static int sortingPermutation(int[] shape) {
+    Integer[] suits = {0, 1, 2, 3};
+    Arrays.sort(suits, (a, b) -> Integer.compare(shape[b], shape[a]));
+    for (int p = 0; p < SuitSymmetry.ALL.length; p++) {
+      int[] perm = SuitSymmetry.ALL[p];
+      if (perm[0] == suits[0] && perm[1] == suits[1] && perm[2] == suits[2]) {
+        return p;
+      }
+    }
+    throw new IllegalStateException("No permutation for " + Arrays.toString(suits));
+  }
+
+  /**
+   * Returns the number of per-suit hands of a shape.
+   */
+  private long shapeSize(int shape) {
+    long count = 1;
+    int left = RANKS;
+    for (int round = 0; round < cards.length; round++) {
+      int n = shape >>> (SHAPE_SHIFT * (cards.length - 1 - round)) & 0xF;
+      if (n > left) {
+        return 0;
+      }
+      count *= CHOOSE[left][n];
+      left -= n;
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of multisets of {@code k} values below {@code n}.
+   */
+  private static long multisetCount(long n, int k) {
+    return binomial(n + k - 1, k);
+  }
+
+  /**
+   * Ranks a multiset in the combinatorial number system: sorted descending, value {@code t}
+   * becomes {@code a[t] + k - 1 - t}, which makes them distinct, and adds C(that, k - t).
+   */
+  private static long multisetIndex(long[] values) {
+    int k = values.length;
+    if (k > 1) {
+      Arrays.sort(values);
+    }
+    long index = 0;
+    for (int t = 0; t < k; t++) {
+      long value = values[k - 1 - t];
+      index += binomial(value + k - 1 - t, k - t);
+    }
+    return index;
+  }
+
+  /**
+   * Inverts {@link #multisetIndex}, writing the values to {@code out[from..from + k)}
+   * in descending order.
+   */
+  private static void multisetUnindex(long index, long[] out, int from, int k) {
+    for (int t = 0; t < k; t++) {
+      int r = k - t;
+      // Largest b with C(b, r) <= index, found by doubling and then bisecting
+      long low = r - 1;
+      long high = r;
+      while (binomial(high, r) <= index) {
+        low = high;
+        high *= 2;
+      }
+      while (high - low > 1) {
+        long mid = (low + high) >>> 1;
+        if (binomial(mid, r) <= index) {
+          low = mid;
+        } else {
+          high = mid;
+        }
+      }
+      index -= binomial(low, r);
+      out[from + t] = low - (k - 1 - t);
+    }
+  }
+
+  /**
+   * Returns C(n, k) for the {@code k} of at most four suits, 0 when {@code n < k}.
+   */
+  private static long binomial(long n, int k) {
+    if (n < k) {
+      return 0;
+    }
+    return switch (k) {
+      case 0 -> 1;
+      case 1 -> n;
+      case 2 -> n * (n - 1) / 2;
+      case 3 -> n * (n - 1) * (n - 2) / 6;
+      default -> n * (n - 1) * (n - 2) * (n - 3) / 24;
+    };
+  }
+}
@@ -0,0 +1,136 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free cache of hand strengths keyed by the 52-bit hand mask.
+ *
+ * <p>The cache is a direct-mapped array of {@code long} entries. The mask is scrambled by a
+ * bijection on 52 bits; the low bits of the result pick the slot and the remaining high bits
+ * are stored as a tag next to the 13-bit strength, so one entry identifies its hand exactly and
+ * is read and written with a single atomic {@code long} access. A colliding hand simply
+ * overwrites the slot, which bounds memory at {@code 8 * capacity} bytes and needs no locks,
+ * CAS loops or eviction bookkeeping.
+ *
+ * <p>Hits, misses and evictions are published as {@code cache.gets} and {@code cache.evictions}
+ * with the tag {@code cache=handRank}.
+ */
+public final class HandRankCache implements MeterBinder {
+  public static final String NAME = "handRank";
+
+  private static final int STRENGTH_BITS = 13;
+  private static final int STRENGTH_MASK = (1 << STRENGTH_BITS) - 1;
+  private static final long MIX = 0x9E3779B97F4A7C15L;
+  private static final int HALF_DECK = CardMask.DECK_SIZE / 2;
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final VarHandle ENTRIES = MethodHandles.arrayElementVarHandle(long[].class);
+
+  private final long[] entries;
+  private final int slotBits;
+  private final int slotMask;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a cache with at least {@code capacity} entries, rounded up to a power of two.
+   *
+   * @param capacity the number of entries, 2 to 2^30
+   */
+  public HandRankCache(int capacity) {
+    if (capacity < 2 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Cache capacity must be between 2 and " + MAX_CAPACITY
+          + ", got " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity - 1) << 1;
+    this.entries = new long[size];
+    this.slotBits = Integer.numberOfTrailingZeros(size);
+    this.slotMask = size - 1;
+  }
+
+  public int capacity() {
+    return entries.length;
+  }
+
+  /**
+   * Returns the cached strength of the hand, or 0 if it is not cached.
+   */
+  public int get(long handMask) {
+    long hash = scramble(handMask);
+    long entry = (long) ENTRIES.getOpaque(entries, (int) hash & slotMask);
+    if (entry != 0 && entry >>> STRENGTH_BITS == hash >>> slotBits) {
+      hits.increment();
+      return (int) entry & STRENGTH_MASK;
+    }
+    misses.increment();
+    return 0;
+  }
+
+  /**
+   * Stores the strength of a hand, replacing whichever hand held its slot.
+   *
+   * @param strength hand strength, 1-7462
+   */
+  public void put(long handMask, int strength) {
+    long hash = scramble(handMask);
+    int slot = (int) hash & slotMask;
+    long entry = (hash >>> slotBits) << STRENGTH_BITS | strength;
+    long previous = (long) ENTRIES.getOpaque(entries, slot);
+    if (previous != entry) {
+      if (previous != 0) {
+        evictions.increment();
+      }
+      ENTRIES.setOpaque(entries, slot, entry);
+    }
+  }
+
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  public long missCount() {
+    return misses.sum();
+  }
+
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+        .tag("cache", NAME).tag("result", "hit")
+        .description("Hand rank cache lookups that found the hand")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+        .tag("cache", NAME).tag("result", "miss")
+        .description("Hand rank cache lookups that had to evaluate the hand")
+        .register(registry);
+    FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+        .tag("cache", NAME)
+        .description("Hands overwritten by a colliding hand")
+        .register(registry);
+    Gauge.builder("cache.capacity", entries, e -> e.length)
+        .tag("cache", NAME)
+        .register(registry);
+  }
+
+  /**
+   * Bijection on 52-bit values: xor-shifts and an odd multiplier, all taken modulo 2^52.
+   */
+  static long scramble(long handMask) {
+    long h = handMask;
+    h ^= h >>> HALF_DECK;
+    h = (h * MIX) & CardMask.FULL_DECK;
+    h ^= h >>> HALF_DECK;
+    h = (h * MIX) & CardMask.FULL_DECK;
+    return h ^ h >>> HALF_DECK;
+  }
+}
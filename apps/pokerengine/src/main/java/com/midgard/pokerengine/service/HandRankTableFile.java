@@ -0,0 +1,127 @@
+package com.midgard.pokerengine.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Versioned, checksummed file holding the {@link HandRankTables} payload.
+ *
+ * <p>The file is a 32-byte little-endian header (magic, format version, payload length and the
+ * CRC32 of the payload) followed by the payload itself. It is memory-mapped read-only, so the
+ * tables are paged in on demand and several JVMs on one host share a single copy in the page
+ * cache instead of each building ~20 MB on its heap.
+ *
+ * <p>Run {@link #main(String[])} to generate the file at build or deploy time.
+ */
+public final class HandRankTableFile {
+  private static final Logger logger = LoggerFactory.getLogger(HandRankTableFile.class);
+
+  public static final int MAGIC = 0x544B5250; // "PRKT" read little-endian
+  public static final int FORMAT_VERSION = 1;
+  static final int HEADER_BYTES = 32;
+
+  private HandRankTableFile() {
+  }
+
+  /**
+   * Writes the tables to {@code path}, replacing any existing file atomically.
+   */
+  public static void write(HandRankTables tables, Path path) throws IOException {
+    Path parent = path.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      header.putInt(MAGIC)
+          .putInt(FORMAT_VERSION)
+          .putLong(HandRankTables.PAYLOAD_BYTES)
+          .putLong(tables.expectedChecksum())
+          .clear();
+      writeFully(channel, header);
+      writeFully(channel, tables.payload());
+      channel.force(true);
+    } catch (IOException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Memory-maps a table file read-only and checks its header and checksum.
+   *
+   * @throws IOException if the file cannot be read or is not a valid table file
+   */
+  public static HandRankTables map(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size != HEADER_BYTES + (long) HandRankTables.PAYLOAD_BYTES) {
+        throw new IOException("Unexpected table file size " + size + ": " + path);
+      }
+      MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      file.order(ByteOrder.LITTLE_ENDIAN);
+      int magic = file.getInt(0);
+      int version = file.getInt(4);
+      long length = file.getLong(8);
+      long checksum = file.getLong(16);
+      if (magic != MAGIC || version != FORMAT_VERSION || length != HandRankTables.PAYLOAD_BYTES) {
+        throw new IOException("Unsupported table file format version " + version + ": " + path);
+      }
+      HandRankTables tables = new HandRankTables(
+          file.slice(HEADER_BYTES, HandRankTables.PAYLOAD_BYTES), checksum, path.toString());
+      if (tables.checksum() != checksum) {
+        throw new IOException("Table file checksum mismatch: " + path);
+      }
+      return tables;
+    }
+  }
+
+  /**
+   * Maps the table file, first generating it if it is missing, outdated or corrupt.
+   */
+  public static HandRankTables mapOrGenerate(Path path) throws IOException {
+    if (Files.exists(path)) {
+      try {
+        return map(path);
+      } catch (IOException e) {
+        logger.warn("Regenerating hand rank tables: {}", e.getMessage());
+      }
+    }
+    long start = System.nanoTime();
+    write(HandRankTables.generate(), path);
+    logger.info("Generated hand rank tables at {} in {} ms", path,
+        (System.nanoTime() - start) / 1_000_000);
+    return map(path);
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * Generates the table file.
+   *
+   * @param args the output path
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("Usage: HandRankTableFile <output-file>");
+      System.exit(2);
+    }
+    Path path = Paths.get(args[0]);
+    write(HandRankTables.generate(), path);
+    System.out.println("Wrote " + Files.size(path) + " bytes to " + path);
+  }
+}
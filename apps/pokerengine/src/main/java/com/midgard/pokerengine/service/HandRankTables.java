@@ -0,0 +1,588 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.HandRank;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Precomputed lookup tables for ranking 5, 6 and 7 card hands.
+ *
+ * <p>A hand is ranked with at most six array reads and no sorting or counting:
+ * <ul>
+ *   <li>flush table: 13-bit suit rank mask with 5+ bits to the best flush or straight flush,</li>
+ *   <li>unique table: 13-bit rank mask of a hand without paired ranks to the best straight
+ *       or high card,</li>
+ *   <li>no-flush tables: a perfect hash of the rank multiset for paired hands. Every rank has
+ *       a key chosen so that the key sums of all multisets of one hand size are distinct, so
+ *       the sum indexes the table directly. The per-suit key sums are tabulated as well, so
+ *       the hash of a hand mask is four reads and three adds.</li>
+ * </ul>
+ *
+ * <p>All tables live in one little-endian payload buffer, either on the heap after
+ * {@link #generate()} or memory-mapped from a file by {@link HandRankTableFile}, and lookups read
+ * the buffer directly.
+ *
+ * <p>The tables are generated for one {@link DeckDefinition}. Its straights and category order
+ * are baked into the entries, so a short deck hand ranks as fast as a standard one. Strengths
+ * run from 1 to {@link #distinctHands()} and every category owns a contiguous block of them;
+ * use {@link #category(int)} rather than {@link HandCategory#fromStrength(int)}, which only
+ * knows the standard blocks.
+ */
+public final class HandRankTables {
+  public static final int MIN_CARDS = 5;
+  public static final int MAX_CARDS = 7;
+  public static final int DISTINCT_HANDS = 7462;
+
+  private static final int RANK_MASKS = 1 << CardMask.RANK_COUNT;
+  private static final int ACE_BIT = 1 << 12;
+  private static final int CATEGORY_SHIFT = 20;
+
+  // Known hands checked by verify(): AhKhQhJhTh, four aces with Kh, Ah5h4h3h2d and 7h5h4h3d2d
+  private static final long ROYAL_FLUSH = 0x1F00L;
+  private static final long ACES_WITH_KING =
+      0x1800L | 0x1000L << 13 | 0x1000L << 26 | 0x1000L << 39;
+  private static final long WHEEL = 0x100EL | 0x1L << 13;
+  private static final long SEVEN_HIGH = 0x2CL | 0x3L << 13;
+
+  /**
+   * Rank keys per hand size, found by a greedy search for the smallest keys whose multiset
+   * sums do not collide. Collisions are re-checked while the tables are filled.
+   */
+  private static final int[][] RANK_KEYS = {
+      {0, 1, 5, 22, 94, 312, 992, 2422, 5624, 12522, 19998, 43258, 79415},
+      {0, 1, 5, 22, 98, 422, 1734, 5760, 14270, 37951, 90838, 206930, 436437},
+      {0, 1, 5, 22, 98, 453, 2031, 8698, 22854, 83661, 262349, 636345, 1479181},
+  };
+
+  private static final int SIZES = MAX_CARDS - MIN_CARDS + 1;
+  private static final int[] NO_FLUSH_OFFSETS = new int[SIZES];
+  private static final int NO_FLUSH_LENGTH;
+  private static final int UNIQUE_OFFSET = RANK_MASKS * Short.BYTES;
+  private static final int SUIT_KEY_SUMS_OFFSET = 2 * RANK_MASKS * Short.BYTES;
+  private static final int NO_FLUSH_OFFSET =
+      SUIT_KEY_SUMS_OFFSET + SIZES * RANK_MASKS * Integer.BYTES;
+
+  static {
+    int length = 0;
+    for (int size = 0; size < SIZES; size++) {
+      NO_FLUSH_OFFSETS[size] = length;
+      length += maxKeySum(size) + 1;
+    }
+    NO_FLUSH_LENGTH = length;
+  }
+
+  /**
+   * Size in bytes of the table payload.
+   */
+  public static final int PAYLOAD_BYTES = NO_FLUSH_OFFSET + NO_FLUSH_LENGTH * Short.BYTES;
+
+  private final ByteBuffer payload;
+  private final ShortBuffer flush;
+  private final ShortBuffer unique;
+  private final IntBuffer suitKeySums;
+  private final ShortBuffer noFlush;
+  private final long checksum;
+  private final String source;
+  private final DeckDefinition deck;
+  private final int[] lowestStrengths;
+  private final HandCategory[] categories;
+  private final int distinctHands;
+
+  /**
+   * Wraps a standard deck table payload.
+   *
+   * @param payload  {@link #PAYLOAD_BYTES} of tables, position 0
+   * @param checksum the CRC32 the payload is expected to have
+   * @param source   where the tables came from, for diagnostics
+   */
+  HandRankTables(ByteBuffer payload, long checksum, String source) {
+    this(payload, checksum, source, DeckDefinition.STANDARD, standardLowestStrengths(),
+        DISTINCT_HANDS);
+  }
+
+  /**
+   * Wraps a table payload generated for a deck.
+   *
+   * @param lowestStrengths the lowest strength of each category, by ordinal
+   * @param distinctHands   the highest strength
+   */
+  private HandRankTables(ByteBuffer payload, long checksum, String source, DeckDefinition deck,
+      int[] lowestStrengths, int distinctHands) {
+    if (payload.capacity() != PAYLOAD_BYTES) {
+      throw new IllegalArgumentException("Expected " + PAYLOAD_BYTES + " bytes of tables, got "
+          + payload.capacity());
+    }
+    this.payload = payload.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    this.flush = slice(0, RANK_MASKS * Short.BYTES).asShortBuffer();
+    this.unique = slice(UNIQUE_OFFSET, RANK_MASKS * Short.BYTES).asShortBuffer();
+    this.suitKeySums = slice(SUIT_KEY_SUMS_OFFSET, NO_FLUSH_OFFSET - SUIT_KEY_SUMS_OFFSET)
+        .asIntBuffer();
+    this.noFlush = slice(NO_FLUSH_OFFSET, PAYLOAD_BYTES - NO_FLUSH_OFFSET).asShortBuffer();
+    this.checksum = checksum;
+    this.source = source;
+    this.deck = deck;
+    this.lowestStrengths = lowestStrengths;
+    this.distinctHands = distinctHands;
+    this.categories = HandCategory.values();
+    Arrays.sort(categories, Comparator.comparingInt(c -> lowestStrengths[c.ordinal()]));
+  }
+
+  private static int[] standardLowestStrengths() {
+    HandCategory[] values = HandCategory.values();
+    int[] lowest = new int[values.length];
+    for (HandCategory category : values) {
+      lowest[category.ordinal()] = category.getLowestStrength();
+    }
+    return lowest;
+  }
+
+  private ByteBuffer slice(int offset, int length) {
+    return payload.slice(offset, length).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Returns the shared tables for the standard 52-card deck, generating them on first use.
+   */
+  public static HandRankTables standard() {
+    return Holder.STANDARD;
+  }
+
+  /**
+   * Ranks a hand of 5 to 7 cards.
+   *
+   * @param handMask 52-bit hand mask, see {@link CardMask}
+   * @return hand strength in the range 1-7462 for the standard deck, higher is better
+   */
+  public int evaluate(long handMask) {
+    int s0 = (int) handMask & CardMask.ALL_RANKS;
+    int s1 = (int) (handMask >>> 13) & CardMask.ALL_RANKS;
+    int s2 = (int) (handMask >>> 26) & CardMask.ALL_RANKS;
+    int s3 = (int) (handMask >>> 39) & CardMask.ALL_RANKS;
+    if (Integer.bitCount(s0) >= MIN_CARDS) {
+      return flush.get(s0);
+    }
+    if (Integer.bitCount(s1) >= MIN_CARDS) {
+      return flush.get(s1);
+    }
+    if (Integer.bitCount(s2) >= MIN_CARDS) {
+      return flush.get(s2);
+    }
+    if (Integer.bitCount(s3) >= MIN_CARDS) {
+      return flush.get(s3);
+    }
+    int cards = Long.bitCount(handMask);
+    int ranks = s0 | s1 | s2 | s3;
+    if (Integer.bitCount(ranks) == cards) {
+      return unique.get(ranks);
+    }
+    int size = cards - MIN_CARDS;
+    int sums = size * RANK_MASKS;
+    return noFlush.get(NO_FLUSH_OFFSETS[size] + suitKeySums.get(sums + s0)
+        + suitKeySums.get(sums + s1) + suitKeySums.get(sums + s2) + suitKeySums.get(sums + s3));
+  }
+
+  /**
+   * Ranks five cards that do not form a flush from their ranks alone, for evaluators that
+   * build hands out of precomputed parts.
+   *
+   * @param ranks  rank mask of the five cards
+   * @param keySum sum of the {@link #rankKey} of every card
+   */
+  int evaluateRanks(int ranks, int keySum) {
+    if (Integer.bitCount(ranks) == MIN_CARDS) {
+      return unique.get(ranks);
+    }
+    return noFlush.get(NO_FLUSH_OFFSETS[0] + keySum);
+  }
+
+  /**
+   * Ranks five cards of one suit from their rank mask.
+   */
+  int evaluateFlush(int suitRanks) {
+    return flush.get(suitRanks);
+  }
+
+  /**
+   * Returns the key of a rank (0-12) in the five card rank hash used by {@link #evaluateRanks}.
+   */
+  static int rankKey(int rank) {
+    return RANK_KEYS[0][rank];
+  }
+
+  /**
+   * Returns the deck the tables rank hands for.
+   */
+  public DeckDefinition deck() {
+    return deck;
+  }
+
+  /**
+   * Returns the number of distinct 5-card hands in the deck, which is also the highest strength.
+   */
+  public int distinctHands() {
+    return distinctHands;
+  }
+
+  /**
+   * Returns the categories in the deck's order, weakest first.
+   */
+  public List<HandCategory> categories() {
+    return List.of(categories);
+  }
+
+  /**
+   * Returns the category that contains a hand strength.
+   *
+   * @param strength hand strength in the range 1 to {@link #distinctHands()}
+   */
+  public HandCategory category(int strength) {
+    for (int i = categories.length - 1; i > 0; i--) {
+      if (strength >= lowestStrengths[categories[i].ordinal()]) {
+        return categories[i];
+      }
+    }
+    return categories[0];
+  }
+
+  /**
+   * Returns the category and strength of a hand strength.
+   */
+  public HandRank rank(int strength) {
+    return new HandRank(category(strength), strength);
+  }
+
+  /**
+   * Returns the CRC32 the payload had when it was generated or written.
+   */
+  public long expectedChecksum() {
+    return checksum;
+  }
+
+  /**
+   * Computes the CRC32 of the payload as it is now. Reads every page of the tables.
+   */
+  public long checksum() {
+    return crc(payload);
+  }
+
+  /**
+   * Returns where the tables came from: {@code generated} or the path of the mapped file.
+   */
+  public String source() {
+    return source;
+  }
+
+  /**
+   * Checks the payload against its checksum and, for the standard deck, ranks a few known hands.
+   *
+   * @return true if the tables are intact
+   */
+  public boolean verify() {
+    if (!deck.isStandard()) {
+      return checksum() == checksum;
+    }
+    return checksum() == checksum
+        && evaluate(ROYAL_FLUSH) == DISTINCT_HANDS
+        && evaluate(ACES_WITH_KING) == HandCategory.STRAIGHT_FLUSH.getLowestStrength() - 1
+        && evaluate(WHEEL) == HandCategory.STRAIGHT.getLowestStrength()
+        && evaluate(SEVEN_HIGH) == 1;
+  }
+
+  /**
+   * Returns a read-only view of the payload, positioned at 0.
+   */
+  ByteBuffer payload() {
+    return payload.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  static long crc(ByteBuffer buffer) {
+    CRC32 crc = new CRC32();
+    crc.update(buffer.duplicate().clear());
+    return crc.getValue();
+  }
+
+  /**
+   * Builds all tables for the standard deck from scratch. Takes a few tens of milliseconds and
+   * about 20 MB of heap.
+   */
+  public static HandRankTables generate() {
+    return generate(DeckDefinition.STANDARD);
+  }
+
+  /**
+   * Builds all tables for a deck: its straights and category order are resolved here, once, so
+   * that ranking a hand stays the same handful of reads whatever the deck. Entries for rank
+   * masks with ranks outside the deck are left 0.
+   */
+  public static HandRankTables generate(DeckDefinition deck) {
+    Rules rules = new Rules(deck);
+    int[] keys = rules.distinctHandKeys();
+    ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+    for (int mask = 0; mask < RANK_MASKS; mask++) {
+      if (Integer.bitCount(mask) >= MIN_CARDS && (mask & ~deck.getRanks()) == 0) {
+        payload.putShort(mask * Short.BYTES, strength(keys, rules.flushKey(mask)));
+        payload.putShort(UNIQUE_OFFSET + mask * Short.BYTES,
+            strength(keys, rules.uniqueKey(mask)));
+      }
+    }
+
+    for (int size = 0; size < SIZES; size++) {
+      int[] rankKeys = RANK_KEYS[size];
+      for (int mask = 0; mask < RANK_MASKS; mask++) {
+        int sum = 0;
+        for (int rank = 0; rank < CardMask.RANK_COUNT; rank++) {
+          if ((mask & (1 << rank)) != 0) {
+            sum += rankKeys[rank];
+          }
+        }
+        payload.putInt(SUIT_KEY_SUMS_OFFSET + (size * RANK_MASKS + mask) * Integer.BYTES, sum);
+      }
+      short[] noFlush = new short[maxKeySum(size) + 1];
+      rules.fillNoFlush(keys, rankKeys, noFlush, new int[CardMask.RANK_COUNT], 0,
+          size + MIN_CARDS, 0);
+      payload.position(NO_FLUSH_OFFSET + NO_FLUSH_OFFSETS[size] * Short.BYTES);
+      payload.asShortBuffer().put(noFlush);
+    }
+    payload.clear();
+    return new HandRankTables(payload, crc(payload), "generated", deck,
+        rules.lowestStrengths(keys), keys.length);
+  }
+
+  private static int maxKeySum(int size) {
+    int[] rankKeys = RANK_KEYS[size];
+    return 4 * rankKeys[12] + (size + MIN_CARDS - 4) * rankKeys[11];
+  }
+
+  private static short strength(int[] keys, int key) {
+    return (short) (Arrays.binarySearch(keys, key) + 1);
+  }
+
+  /**
+   * Returns the highest rank (0-12) of a standard deck straight in the rank mask, 3 for the
+   * wheel, or -1.
+   */
+  static int straightTop(int mask) {
+    return Holder.STANDARD_RULES.straightTop(mask);
+  }
+
+  /**
+   * Packs the top {@code n} ranks of the mask, highest first, into 4-bit groups.
+   */
+  private static int highRanks(int mask, int n) {
+    int packed = 0;
+    for (int rank = CardMask.RANK_COUNT - 1; rank >= 0 && n > 0; rank--) {
+      if ((mask & (1 << rank)) != 0) {
+        packed = (packed << 4) | rank;
+        n--;
+      }
+    }
+    return packed;
+  }
+
+  private static int highest(int[] counts, int minCount, int skip1, int skip2) {
+    for (int rank = CardMask.RANK_COUNT - 1; rank >= 0; rank--) {
+      if (counts[rank] >= minCount && rank != skip1 && rank != skip2) {
+        return rank;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * The ranking rules of one deck, used while the tables are generated. A hand's ordering key is
+   * its category's position in the deck's order above its packed ranks, so sorting the keys of
+   * every distinct hand numbers the strengths.
+   */
+  private static final class Rules {
+    private final int ranks;
+    private final int maxCount;
+    private final int[] straights;
+    private final int[] tops;
+    private final HandCategory[] order;
+    private final int[] positions = new int[HandCategory.values().length];
+
+    Rules(DeckDefinition deck) {
+      ranks = deck.getRanks();
+      maxCount = Integer.bitCount(deck.getSuits());
+      straights = deck.straights();
+      tops = new int[straights.length];
+      int runs = Integer.bitCount(ranks) - DeckDefinition.STRAIGHT_CARDS + 1;
+      for (int i = 0; i < straights.length; i++) {
+        // Past the runs comes the wheel, topped by its highest card below the ace
+        int run = i < runs ? straights[i] : straights[i] & ~ACE_BIT;
+        tops[i] = 31 - Integer.numberOfLeadingZeros(run);
+      }
+      order = HandCategory.values();
+      if (deck.isFlushBeatsFullHouse()) {
+        order[HandCategory.FLUSH.ordinal()] = HandCategory.FULL_HOUSE;
+        order[HandCategory.FULL_HOUSE.ordinal()] = HandCategory.FLUSH;
+      }
+      for (int i = 0; i < order.length; i++) {
+        positions[order[i].ordinal()] = i;
+      }
+    }
+
+    /**
+     * Collects the ordering key of every distinct 5-card hand, sorted weakest first, so that a
+     * key's position plus one is its strength.
+     */
+    int[] distinctHandKeys() {
+      TreeSet<Integer> keys = new TreeSet<>();
+      for (int mask = 0; mask < RANK_MASKS; mask++) {
+        if (Integer.bitCount(mask) == MIN_CARDS && (mask & ~ranks) == 0) {
+          keys.add(flushKey(mask));
+        }
+      }
+      collectPairedKeys(keys, new int[CardMask.RANK_COUNT], 0, MIN_CARDS);
+      if (ranks == CardMask.ALL_RANKS && maxCount == CardMask.SUIT_COUNT
+          && keys.size() != DISTINCT_HANDS) {
+        throw new IllegalStateException("Expected " + DISTINCT_HANDS + " hands, got "
+            + keys.size());
+      }
+      return keys.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void collectPairedKeys(TreeSet<Integer> keys, int[] counts, int rank,
+        int remaining) {
+      if (rank == CardMask.RANK_COUNT) {
+        if (remaining == 0) {
+          keys.add(pairedKey(counts));
+        }
+        return;
+      }
+      for (int count = 0; count <= maxCount(rank, remaining); count++) {
+        counts[rank] = count;
+        collectPairedKeys(keys, counts, rank + 1, remaining - count);
+      }
+      counts[rank] = 0;
+    }
+
+    void fillNoFlush(int[] keys, int[] rankKeys, short[] table, int[] counts, int rank,
+        int remaining, int sum) {
+      if (rank == CardMask.RANK_COUNT) {
+        if (remaining == 0) {
+          short value = strength(keys, pairedKey(counts));
+          if (table[sum] != 0 && table[sum] != value) {
+            throw new IllegalStateException("Rank key collision at " + sum);
+          }
+          table[sum] = value;
+        }
+        return;
+      }
+      for (int count = 0; count <= maxCount(rank, remaining); count++) {
+        counts[rank] = count;
+        fillNoFlush(keys, rankKeys, table, counts, rank + 1, remaining - count,
+            sum + count * rankKeys[rank]);
+      }
+      counts[rank] = 0;
+    }
+
+    private int maxCount(int rank, int remaining) {
+      return (ranks & 1 << rank) == 0 ? 0 : Math.min(maxCount, remaining);
+    }
+
+    /**
+     * Returns the lowest strength of each category by ordinal, from the sorted keys.
+     */
+    int[] lowestStrengths(int[] keys) {
+      int[] lowest = new int[order.length];
+      for (int i = keys.length - 1; i >= 0; i--) {
+        lowest[order[keys[i] >>> CATEGORY_SHIFT].ordinal()] = i + 1;
+      }
+      return lowest;
+    }
+
+    /**
+     * Ordering key of the best flush or straight flush in a suit with 5+ cards.
+     */
+    int flushKey(int mask) {
+      int top = straightTop(mask);
+      if (top >= 0) {
+        return key(HandCategory.STRAIGHT_FLUSH, top);
+      }
+      return key(HandCategory.FLUSH, highRanks(mask, MIN_CARDS));
+    }
+
+    /**
+     * Ordering key of the best straight or high card among 5+ distinct ranks.
+     */
+    int uniqueKey(int mask) {
+      int top = straightTop(mask);
+      if (top >= 0) {
+        return key(HandCategory.STRAIGHT, top);
+      }
+      return key(HandCategory.HIGH_CARD, highRanks(mask, MIN_CARDS));
+    }
+
+    /**
+     * Ordering key of the best non-flush hand made from the given rank counts.
+     */
+    int pairedKey(int[] counts) {
+      int quads = highest(counts, 4, -1, -1);
+      if (quads >= 0) {
+        return key(HandCategory.FOUR_OF_A_KIND, quads << 4 | highest(counts, 1, quads, -1));
+      }
+      int trips = highest(counts, 3, -1, -1);
+      int pair = highest(counts, 2, trips, -1);
+      if (trips >= 0 && pair >= 0) {
+        return key(HandCategory.FULL_HOUSE, trips << 4 | pair);
+      }
+      int ranks = 0;
+      for (int rank = 0; rank < CardMask.RANK_COUNT; rank++) {
+        if (counts[rank] > 0) {
+          ranks |= 1 << rank;
+        }
+      }
+      int top = straightTop(ranks);
+      if (top >= 0) {
+        return key(HandCategory.STRAIGHT, top);
+      }
+      if (trips >= 0) {
+        return key(HandCategory.THREE_OF_A_KIND,
+            trips << 8 | highRanks(ranks & ~(1 << trips), 2));
+      }
+      if (pair >= 0) {
+        int second = highest(counts, 2, pair, -1);
+        if (second >= 0) {
+          int kicker = highest(counts, 1, pair, second);
+          return key(HandCategory.TWO_PAIR, pair << 8 | second << 4 | kicker);
+        }
+        return key(HandCategory.ONE_PAIR, pair << 12 | highRanks(ranks & ~(1 << pair), 3));
+      }
+      return key(HandCategory.HIGH_CARD, highRanks(ranks, MIN_CARDS));
+    }
+
+    /**
+     * Returns the highest rank (0-12) of the best straight in the rank mask, the highest rank
+     * below the ace for the wheel, or -1.
+     */
+    int straightTop(int mask) {
+      for (int i = 0; i < straights.length; i++) {
+        if ((mask & straights[i]) == straights[i]) {
+          return tops[i];
+        }
+      }
+      return -1;
+    }
+
+    private int key(HandCategory category, int packedRanks) {
+      return positions[category.ordinal()] << CATEGORY_SHIFT | packedRanks;
+    }
+  }
+
+  private static final class Holder {
+    private static final Rules STANDARD_RULES = new Rules(DeckDefinition.STANDARD);
+    private static final HandRankTables STANDARD = generate();
+  }
+}
@@ -0,0 +1,393 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.LowballType;
+import com.midgard.pokerengine.model.Rank;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Precomputed lookup tables for ranking the best low of 5, 6 or 7 cards, generated for one
+ * {@link LowballType} rather than derived from the high hand ranking.
+ *
+ * <p>A low depends on the rank masks of a hand: the ranks it holds, the ranks held at least
+ * twice and the ranks held at least three times. A hand is ranked with one or two array reads:
+ * <ul>
+ *   <li>distinct table: 13-bit rank mask with 5 to 7 ranks to the best low without a pair,
+ *       which beats every paired low,</li>
+ *   <li>paired table: for hands with fewer than five ranks, and in deuce-to-seven for five ranks
+ *       that only make a straight, the pair and trip masks packed down to the hand's ranks with
+ *       {@link Integer#compress} index a block of the rank mask's entries,</li>
+ *   <li>flush table, deuce-to-seven only: 13-bit rank mask of a five card flush. Six or seven
+ *       cards with five of a suit, about 3% of seven card hands, try each five of them.</li>
+ * </ul>
+ *
+ * <p>Strengths run from 1, the worst low, to {@link LowballType#getDistinctHands()}, the best,
+ * so that a higher strength wins as it does for high hands. The tables take about 0.5 MB per
+ * type and both are generated together on first use, in about 0.1 s.
+ */
+public final class LowballTables {
+  public static final int MIN_CARDS = 5;
+  public static final int MAX_CARDS = 7;
+
+  private static final int RANK_MASKS = 1 << CardMask.RANK_COUNT;
+  private static final int CATEGORY_SHIFT = 20;
+  private static final HandCategory[] CATEGORIES = HandCategory.values();
+  private static final Rank[] RANKS = Rank.values();
+
+  private final LowballType type;
+  private final short[] distinct = new short[RANK_MASKS];
+  private final short[] flush;
+  private final int[] pairedOffsets = new int[RANK_MASKS];
+  private final short[] paired;
+  private final int[] fives;
+  private final byte[] categories;
+
+  private LowballTables(LowballType type) {
+    this.type = type;
+    Rules rules = new Rules(type);
+    int[] keys = rules.distinctHandKeys();
+    if (keys.length != type.getDistinctHands()) {
+      throw new IllegalStateException("Expected " + type.getDistinctHands() + " distinct "
+          + type + " lows, found " + keys.length);
+    }
+    fives = new int[keys.length + 1];
+    categories = new byte[keys.length + 1];
+    for (int i = 0; i < keys.length; i++) {
+      int strength = keys.length - i;
+      fives[strength] = rules.fives.get(keys[i]);
+      categories[strength] = (byte) (keys[i] >>> CATEGORY_SHIFT);
+    }
+
+    for (int mask = 0; mask < RANK_MASKS; mask++) {
+      int count = Integer.bitCount(mask);
+      if (count >= MIN_CARDS && count <= MAX_CARDS) {
+        distinct[mask] = strength(keys, rules.bestDistinct(mask));
+      }
+    }
+
+    if (type.isAceLow()) {
+      flush = null;
+    } else {
+      flush = new short[RANK_MASKS];
+      for (int mask = 0; mask < RANK_MASKS; mask++) {
+        if (Integer.bitCount(mask) == MIN_CARDS) {
+          flush[mask] = strength(keys, rules.key(counts(mask), true));
+        }
+      }
+    }
+
+    // Fewer than five ranks always pair; five ranks only pair when they are a straight
+    Arrays.fill(pairedOffsets, -1);
+    int length = 0;
+    for (int mask = 0; mask < RANK_MASKS; mask++) {
+      int count = Integer.bitCount(mask);
+      if (count < MIN_CARDS || (count == MIN_CARDS && rules.isStraight(mask))) {
+        pairedOffsets[mask] = length;
+        length += 1 << (2 * count);
+      }
+    }
+    paired = new short[length];
+    for (int mask = 0; mask < RANK_MASKS; mask++) {
+      int count = Integer.bitCount(mask);
+      if (pairedOffsets[mask] < 0) {
+        continue;
+      }
+      for (int pairs = 0; pairs < 1 << count; pairs++) {
+        // From four ranks up the low plays one paired card at most, so trips do not matter
+        int pairOnly = count >= MIN_CARDS - 1 ? rules.bestPaired(available(mask, pairs, 0)) : 0;
+        // Trips are a subset of the pairs
+        for (int trips = pairs; ; trips = (trips - 1) & pairs) {
+          int key = count >= MIN_CARDS - 1
+              ? pairOnly : rules.bestPaired(available(mask, pairs, trips));
+          if (key >= 0) {
+            paired[pairedOffsets[mask] + (pairs << count | trips)] = strength(keys, key);
+          }
+          if (trips == 0) {
+            break;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the shared tables of a lowball type, generating them on first use.
+   */
+  public static LowballTables of(LowballType type) {
+    return type.isAceLow() ? Holder.ACE_TO_FIVE : Holder.DEUCE_TO_SEVEN;
+  }
+
+  /**
+   * Returns the lowball type the tables rank.
+   */
+  public LowballType type() {
+    return type;
+  }
+
+  /**
+   * Ranks the best low of 5 to 7 cards.
+   *
+   * @param handMask 52-bit hand mask, see {@link CardMask}
+   * @return low strength from 1 to {@link LowballType#getDistinctHands()}, higher is better
+   */
+  public int evaluate(long handMask) {
+    int s0 = (int) handMask & CardMask.ALL_RANKS;
+    int s1 = (int) (handMask >>> 13) & CardMask.ALL_RANKS;
+    int s2 = (int) (handMask >>> 26) & CardMask.ALL_RANKS;
+    int s3 = (int) (handMask >>> 39) & CardMask.ALL_RANKS;
+    if (flush != null && (Integer.bitCount(s0) >= MIN_CARDS || Integer.bitCount(s1) >= MIN_CARDS
+        || Integer.bitCount(s2) >= MIN_CARDS || Integer.bitCount(s3) >= MIN_CARDS)) {
+      return suited(handMask, s0 | s1 | s2 | s3);
+    }
+    int ranks = s0 | s1 | s2 | s3;
+    int count = Integer.bitCount(ranks);
+    int offset = pairedOffsets[ranks];
+    if (count >= MIN_CARDS && (offset < 0 || count == Long.bitCount(handMask))) {
+      return distinct[ranks];
+    }
+    int pairs = (s0 & s1) | (s2 & s3) | ((s0 | s1) & (s2 | s3));
+    int trips = (s0 & s1 & (s2 | s3)) | (s2 & s3 & (s0 | s1));
+    return paired[offset + (Integer.compress(pairs, ranks) << count
+        | Integer.compress(trips, ranks))];
+  }
+
+  /**
+   * Ranks a hand with five or more cards of one suit: five cards are a flush, more try every
+   * five of them.
+   */
+  private int suited(long handMask, int ranks) {
+    int cards = Long.bitCount(handMask);
+    if (cards == MIN_CARDS) {
+      return flush[ranks];
+    }
+    int best = 0;
+    for (long a = handMask; a != 0; a &= a - 1) {
+      long without = handMask & ~(a & -a);
+      if (cards == MIN_CARDS + 1) {
+        best = Math.max(best, evaluate(without));
+        continue;
+      }
+      for (long b = a & (a - 1); b != 0; b &= b - 1) {
+        best = Math.max(best, evaluate(without & ~(b & -b)));
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Returns the category of a low strength: the pattern of its five cards, e.g. ONE_PAIR.
+   */
+  public HandCategory category(int strength) {
+    return CATEGORIES[categories[strength]];
+  }
+
+  /**
+   * Returns the five ranks of a low strength, paired ranks first and then from the worst card
+   * down, e.g. 8-6-4-2-A in ace-to-five.
+   */
+  public List<Rank> ranks(int strength) {
+    int packed = fives[strength];
+    List<Rank> ranks = new ArrayList<>(MIN_CARDS);
+    for (int shift = 4 * (MIN_CARDS - 1); shift >= 0; shift -= 4) {
+      ranks.add(RANKS[(packed >>> shift) & 0xF]);
+    }
+    return ranks;
+  }
+
+  private static short strength(int[] keys, int key) {
+    return (short) (keys.length - Arrays.binarySearch(keys, key));
+  }
+
+  private static int[] counts(int mask) {
+    int[] counts = new int[CardMask.RANK_COUNT];
+    for (int rank = 0; rank < CardMask.RANK_COUNT; rank++) {
+      counts[rank] = (mask >>> rank) & 1;
+    }
+    return counts;
+  }
+
+  /**
+   * Returns the most cards of each rank a hand can play given its rank, pair and trip masks,
+   * with pair and trip bits packed down to the ranks held. Four of a rank is allowed wherever
+   * there are three: the fourth card only ever makes quads, which a hand plays when it has no
+   * better five, and then it has them.
+   */
+  private static int[] available(int ranks, int pairs, int trips) {
+    int[] counts = new int[CardMask.RANK_COUNT];
+    int bit = 0;
+    for (int rank = 0; rank < CardMask.RANK_COUNT; rank++) {
+      if ((ranks & (1 << rank)) != 0) {
+        counts[rank] = (trips & (1 << bit)) != 0 ? 4 : (pairs & (1 << bit)) != 0 ? 2 : 1;
+        bit++;
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * The ordering of one lowball type, used while the tables are generated. A low's ordering key
+   * is its category's ordinal above the values of its five cards, paired cards first and then
+   * from the worst down, so the lower key is the better low.
+   */
+  private static final class Rules {
+    private final boolean aceLow;
+    private final int distinctHands;
+    /** Key of every distinct low to its five ranks, packed 4 bits each in the key's order. */
+    private final TreeMap<Integer, Integer> fives = new TreeMap<>();
+
+    Rules(LowballType type) {
+      this.aceLow = type.isAceLow();
+      this.distinctHands = type.getDistinctHands();
+    }
+
+    /**
+     * Returns the keys of all distinct five card lows, best first.
+     */
+    int[] distinctHandKeys() {
+      addMultisets(new int[CardMask.RANK_COUNT], 0, MIN_CARDS);
+      if (!aceLow) {
+        for (int mask = 0; mask < RANK_MASKS; mask++) {
+          if (Integer.bitCount(mask) == MIN_CARDS) {
+            key(counts(mask), true);
+          }
+        }
+      }
+      return fives.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void addMultisets(int[] counts, int rank, int left) {
+      if (left == 0) {
+        key(counts, false);
+        return;
+      }
+      if (rank == CardMask.RANK_COUNT) {
+        return;
+      }
+      for (int n = Math.min(left, CardMask.SUIT_COUNT); n >= 0; n--) {
+        counts[rank] = n;
+        addMultisets(counts, rank + 1, left - n);
+      }
+      counts[rank] = 0;
+    }
+
+    /**
+     * Returns the key of the best five of distinct ranks, which are never a flush.
+     */
+    int bestDistinct(int mask) {
+      int best = Integer.MAX_VALUE;
+      for (int five = mask; five != 0; five = (five - 1) & mask) {
+        if (Integer.bitCount(five) == MIN_CARDS) {
+          best = Math.min(best, key(counts(five), false));
+        }
+      }
+      return best;
+    }
+
+    /**
+     * Returns the key of the best five cards of the given counts per rank, or -1 if there are
+     * fewer than five.
+     */
+    int bestPaired(int[] available) {
+      int total = 0;
+      int ranks = 0;
+      for (int count : available) {
+        total += count;
+        ranks += Math.min(count, 1);
+      }
+      if (total < MIN_CARDS) {
+        return -1;
+      }
+      // With fewer than five ranks the best low plays all of them: leaving one out only adds
+      // another paired card
+      int least = ranks < MIN_CARDS ? 1 : 0;
+      return bestPaired(available, least, new int[CardMask.RANK_COUNT], 0, MIN_CARDS);
+    }
+
+    private int bestPaired(int[] available, int least, int[] counts, int rank, int left) {
+      if (left == 0) {
+        return key(counts, false);
+      }
+      if (rank == CardMask.RANK_COUNT) {
+        return Integer.MAX_VALUE;
+      }
+      int best = Integer.MAX_VALUE;
+      int fewest = Math.min(least, available[rank]);
+      for (int n = Math.min(left, available[rank]); n >= fewest; n--) {
+        counts[rank] = n;
+        best = Math.min(best, bestPaired(available, least, counts, rank + 1, left - n));
+      }
+      counts[rank] = 0;
+      return best;
+    }
+
+    /**
+     * Returns whether five distinct ranks are a straight: never in ace-to-five, and in
+     * deuce-to-seven with the ace high only, so A-2-3-4-5 is ace high.
+     */
+    boolean isStraight(int mask) {
+      if (aceLow || Integer.bitCount(mask) != MIN_CARDS) {
+        return false;
+      }
+      return mask >>> Integer.numberOfTrailingZeros(mask) == 0x1F;
+    }
+
+    /**
+     * Returns the ordering key of five cards, recording their ranks until every distinct low
+     * has been seen.
+     *
+     * @param counts cards per rank, five in all
+     * @param flush  whether the five share a suit
+     */
+    int key(int[] counts, boolean flush) {
+      int values = 0;
+      int ranks = 0;
+      int mask = 0;
+      int[] groups = new int[CardMask.SUIT_COUNT + 1];
+      for (int count = CardMask.SUIT_COUNT; count > 0; count--) {
+        for (int value = CardMask.RANK_COUNT - 1; value >= 0; value--) {
+          int rank = aceLow ? (value + CardMask.RANK_COUNT - 1) % CardMask.RANK_COUNT : value;
+          if (counts[rank] == count) {
+            groups[count]++;
+            mask |= 1 << rank;
+            for (int i = 0; i < count; i++) {
+              values = values << 4 | value;
+              ranks = ranks << 4 | rank;
+            }
+          }
+        }
+      }
+      int key = category(groups, mask, flush).ordinal() << CATEGORY_SHIFT | values;
+      if (fives.size() < distinctHands) {
+        fives.putIfAbsent(key, ranks);
+      }
+      return key;
+    }
+
+    private HandCategory category(int[] groups, int mask, boolean flush) {
+      if (groups[4] > 0) {
+        return HandCategory.FOUR_OF_A_KIND;
+      }
+      if (groups[3] > 0) {
+        return groups[2] > 0 ? HandCategory.FULL_HOUSE : HandCategory.THREE_OF_A_KIND;
+      }
+      if (groups[2] > 0) {
+        return groups[2] > 1 ? HandCategory.TWO_PAIR : HandCategory.ONE_PAIR;
+      }
+      boolean straight = isStraight(mask);
+      if (flush) {
+        return straight ? HandCategory.STRAIGHT_FLUSH : HandCategory.FLUSH;
+      }
+      return straight ? HandCategory.STRAIGHT : HandCategory.HIGH_CARD;
+    }
+  }
+
+  private static final class Holder {
+    private static final LowballTables ACE_TO_FIVE = new LowballTables(LowballType.ACE_TO_FIVE);
+    private static final LowballTables DEUCE_TO_SEVEN =
+        new LowballTables(LowballType.DEUCE_TO_SEVEN);
+  }
+}
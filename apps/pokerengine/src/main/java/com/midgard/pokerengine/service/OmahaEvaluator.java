@@ -0,0 +1,349 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import java.util.Arrays;
+
+/**
+ * Ranks Omaha hands, which must use exactly two hole cards and three board cards: 60 of the
+ * combinations of four hole cards and a board, 100 of five.
+ *
+ * <p>Combinations are never assembled card by card. The hole card pairs of every player are
+ * reduced once, when the evaluator is created, to a rank mask and a rank hash key, keeping one
+ * pair per distinct pair of ranks; the board triples are reduced the same way once per board.
+ * Ranking a combination is then an OR, an add and one table read
+ * ({@link HandRankTables#evaluateRanks}). Flushes are only looked for when three board cards
+ * share a suit, between the pairs and triples of that suit alone, and lows only when the board
+ * holds three distinct ranks of eight or below.
+ *
+ * <p>A low is kept as an 8-bit mask with the ace in bit 0 and the eight in bit 7. Among five
+ * distinct ranks the smaller mask is the better low, so a low is reported as
+ * {@code LOW_CEILING - mask}, higher being better like a strength.
+ */
+final class OmahaEvaluator implements VariantEvaluator {
+  static final int MAX_HOLE_CARDS = 5;
+  static final int LOW_CEILING = 1 << 8;
+
+  private static final int BOARD_CARDS = 5;
+  private static final int[][] BOARD_TRIPLES = combinations(BOARD_CARDS, 3);
+  private static final int[][][] HOLE_PAIRS = new int[MAX_HOLE_CARDS + 1][][];
+  private static final int ACE = CardMask.RANK_COUNT - 1;
+  private static final int EIGHT = 6;
+  private static final int LOW_CARDS = 5;
+  private static final int NO_SUIT = -1;
+
+  static {
+    for (int cards = 0; cards <= MAX_HOLE_CARDS; cards++) {
+      HOLE_PAIRS[cards] = combinations(cards, 2);
+    }
+  }
+
+  private final HandRankTables tables;
+  private final boolean hiLo;
+  // Per player: the distinct rank pairs as rank masks and key sums, the suited pairs as
+  // suit << 13 | suit ranks, and the distinct low pairs as low masks
+  private final int[][] pairRanks;
+  private final int[][] pairKeys;
+  private final int[][] suitedPairs;
+  private final int[][] lowPairs;
+
+  // The current board, reduced the same way
+  private final int[] boardCards = new int[BOARD_CARDS];
+  private final int[] tripleRanks = new int[BOARD_TRIPLES.length];
+  private final int[] tripleKeys = new int[BOARD_TRIPLES.length];
+  private final int[] flushTriples = new int[BOARD_TRIPLES.length];
+  private final int[] lowTriples = new int[BOARD_TRIPLES.length];
+  private int triples;
+  private int flushSuit;
+  private int flushTripleCount;
+  private int lowTripleCount;
+
+  OmahaEvaluator(HandRankTables tables, long[] holes, boolean hiLo) {
+    this.tables = tables;
+    this.hiLo = hiLo;
+    int players = holes.length;
+    pairRanks = new int[players][];
+    pairKeys = new int[players][];
+    suitedPairs = new int[players][];
+    lowPairs = new int[players][];
+    for (int p = 0; p < players; p++) {
+      preparePlayer(p, holes[p]);
+    }
+  }
+
+  private OmahaEvaluator(OmahaEvaluator other) {
+    tables = other.tables;
+    hiLo = other.hiLo;
+    pairRanks = other.pairRanks;
+    pairKeys = other.pairKeys;
+    suitedPairs = other.suitedPairs;
+    lowPairs = other.lowPairs;
+  }
+
+  @Override
+  public VariantEvaluator copy() {
+    return new OmahaEvaluator(this);
+  }
+
+  @Override
+  public boolean hiLo() {
+    return hiLo;
+  }
+
+  private void preparePlayer(int p, long hole) {
+    int[] cards = cards(hole);
+    if (cards.length > MAX_HOLE_CARDS) {
+      throw new IllegalArgumentException("At most " + MAX_HOLE_CARDS + " hole cards");
+    }
+    int[][] pairs = HOLE_PAIRS[cards.length];
+    int[] ranks = new int[pairs.length];
+    int[] keys = new int[pairs.length];
+    int[] suited = new int[pairs.length];
+    int[] lows = new int[pairs.length];
+    int distinct = 0;
+    int suitedCount = 0;
+    int lowCount = 0;
+    for (int[] pair : pairs) {
+      int a = cards[pair[0]];
+      int b = cards[pair[1]];
+      int rankMask = 1 << CardMask.rank(a) | 1 << CardMask.rank(b);
+      // Two cards are told apart by their rank mask alone: one bit is a pocket pair
+      if (indexOf(ranks, distinct, rankMask) < 0) {
+        ranks[distinct] = rankMask;
+        keys[distinct] = HandRankTables.rankKey(CardMask.rank(a))
+            + HandRankTables.rankKey(CardMask.rank(b));
+        distinct++;
+      }
+      if (CardMask.suit(a) == CardMask.suit(b)) {
+        suited[suitedCount++] = CardMask.suit(a) << CardMask.RANK_COUNT | rankMask;
+      }
+      int low = lowBit(CardMask.rank(a)) | lowBit(CardMask.rank(b));
+      if (Integer.bitCount(low) == 2 && indexOf(lows, lowCount, low) < 0) {
+        lows[lowCount++] = low;
+      }
+    }
+    pairRanks[p] = Arrays.copyOf(ranks, distinct);
+    pairKeys[p] = Arrays.copyOf(keys, distinct);
+    suitedPairs[p] = Arrays.copyOf(suited, suitedCount);
+    lowPairs[p] = Arrays.copyOf(lows, lowCount);
+  }
+
+  @Override
+  public void evaluate(long board, int[] highs, int[] lows) {
+    prepareBoard(board);
+    for (int p = 0; p < highs.length; p++) {
+      highs[p] = high(p);
+      if (hiLo) {
+        lows[p] = low(p);
+      }
+    }
+  }
+
+  private void prepareBoard(long board) {
+    int n = 0;
+    for (long rest = board; rest != 0; rest &= rest - 1) {
+      boardCards[n++] = Long.numberOfTrailingZeros(rest);
+    }
+    if (n != BOARD_CARDS) {
+      throw new IllegalArgumentException("Omaha is ranked on a board of " + BOARD_CARDS
+          + " cards");
+    }
+    flushSuit = NO_SUIT;
+    for (int suit = 0; suit < CardMask.SUIT_COUNT; suit++) {
+      if (Integer.bitCount(CardMask.suitRanks(board, suit)) >= 3) {
+        flushSuit = suit;
+      }
+    }
+    triples = 0;
+    flushTripleCount = 0;
+    lowTripleCount = 0;
+    for (int[] triple : BOARD_TRIPLES) {
+      int a = boardCards[triple[0]];
+      int b = boardCards[triple[1]];
+      int c = boardCards[triple[2]];
+      int ra = CardMask.rank(a);
+      int rb = CardMask.rank(b);
+      int rc = CardMask.rank(c);
+      int rankMask = 1 << ra | 1 << rb | 1 << rc;
+      int key = HandRankTables.rankKey(ra) + HandRankTables.rankKey(rb)
+          + HandRankTables.rankKey(rc);
+      // Rank keys sum uniquely for every multiset of up to five ranks, so equal keys are
+      // equal ranks
+      if (indexOf(tripleKeys, triples, key) < 0) {
+        tripleRanks[triples] = rankMask;
+        tripleKeys[triples] = key;
+        triples++;
+      }
+      if (flushSuit != NO_SUIT && CardMask.suit(a) == flushSuit && CardMask.suit(b) == flushSuit
+          && CardMask.suit(c) == flushSuit) {
+        flushTriples[flushTripleCount++] = rankMask;
+      }
+      if (hiLo) {
+        int low = lowBit(ra) | lowBit(rb) | lowBit(rc);
+        if (Integer.bitCount(low) == 3 && indexOf(lowTriples, lowTripleCount, low) < 0) {
+          lowTriples[lowTripleCount++] = low;
+        }
+      }
+    }
+  }
+
+  private int high(int p) {
+    int[] ranks = pairRanks[p];
+    int[] keys = pairKeys[p];
+    int best = 0;
+    for (int i = 0; i < ranks.length; i++) {
+      int pairMask = ranks[i];
+      int pairKey = keys[i];
+      for (int j = 0; j < triples; j++) {
+        int strength = tables.evaluateRanks(pairMask | tripleRanks[j], pairKey + tripleKeys[j]);
+        if (strength > best) {
+          best = strength;
+        }
+      }
+    }
+    if (flushTripleCount > 0) {
+      for (int suited : suitedPairs[p]) {
+        if (suited >>> CardMask.RANK_COUNT != flushSuit) {
+          continue;
+        }
+        int pairMask = suited & CardMask.ALL_RANKS;
+        for (int j = 0; j < flushTripleCount; j++) {
+          int strength = tables.evaluateFlush(pairMask | flushTriples[j]);
+          if (strength > best) {
+            best = strength;
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  private int low(int p) {
+    int best = LOW_CEILING;
+    for (int pair : lowPairs[p]) {
+      for (int j = 0; j < lowTripleCount; j++) {
+        int triple = lowTriples[j];
+        if ((pair & triple) == 0 && (pair | triple) < best) {
+          best = pair | triple;
+        }
+      }
+    }
+    return LOW_CEILING - best;
+  }
+
+  /**
+   * Returns the two hole cards and three board cards that make a high hand of the given
+   * strength.
+   */
+  static long bestHigh(HandRankTables tables, long hole, long board, int strength) {
+    for (long five : hands(hole, board)) {
+      if (tables.evaluate(five) == strength) {
+        return five;
+      }
+    }
+    throw new IllegalStateException("No two hole and three board cards match the strength");
+  }
+
+  /**
+   * Returns the two hole cards and three board cards that make the given low.
+   */
+  static long bestLow(long hole, long board, int low) {
+    for (long five : hands(hole, board)) {
+      if (lowMask(five) == LOW_CEILING - low) {
+        return five;
+      }
+    }
+    throw new IllegalStateException("No two hole and three board cards match the low");
+  }
+
+  /**
+   * Lists every hand of exactly two hole cards and three board cards.
+   */
+  private static long[] hands(long hole, long board) {
+    int[] holeCards = cards(hole);
+    int[] boardCards = cards(board);
+    int[][] pairs = HOLE_PAIRS[holeCards.length];
+    int[][] triples = combinations(boardCards.length, 3);
+    long[] hands = new long[pairs.length * triples.length];
+    int n = 0;
+    for (int[] pair : pairs) {
+      for (int[] triple : triples) {
+        hands[n++] = 1L << holeCards[pair[0]] | 1L << holeCards[pair[1]]
+            | 1L << boardCards[triple[0]] | 1L << boardCards[triple[1]]
+            | 1L << boardCards[triple[2]];
+      }
+    }
+    return hands;
+  }
+
+  /**
+   * Returns the low mask of five cards, or 0 unless they are five distinct ranks of eight or
+   * below.
+   */
+  static int lowMask(long five) {
+    int low = 0;
+    for (long rest = five; rest != 0; rest &= rest - 1) {
+      low |= lowBit(CardMask.rank(Long.numberOfTrailingZeros(rest)));
+    }
+    return Integer.bitCount(low) == LOW_CARDS && Long.bitCount(five) == LOW_CARDS ? low : 0;
+  }
+
+  /**
+   * Returns the low mask bit of a rank (0-12): bit 0 for the ace, bits 1-7 for two to eight and
+   * none above.
+   */
+  private static int lowBit(int rank) {
+    if (rank == ACE) {
+      return 1;
+    }
+    return rank <= EIGHT ? 1 << (rank + 1) : 0;
+  }
+
+  private static int[] cards(long mask) {
+    int[] cards = new int[Long.bitCount(mask)];
+    int n = 0;
+    for (long rest = mask; rest != 0; rest &= rest - 1) {
+      cards[n++] = Long.numberOfTrailingZeros(rest);
+    }
+    return cards;
+  }
+
+  private static int indexOf(int[] values, int count, int value) {
+    for (int i = 0; i < count; i++) {
+      if (values[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Lists the index tuples of every {@code k}-element subset of {@code 0..n-1}, in
+   * lexicographic order.
+   */
+  static int[][] combinations(int n, int k) {
+    int count = 1;
+    for (int i = 0; i < k; i++) {
+      count = count * (n - i) / (i + 1);
+    }
+    int[][] combinations = new int[count][];
+    int[] current = new int[k];
+    for (int i = 0; i < k; i++) {
+      current[i] = i;
+    }
+    for (int c = 0; c < combinations.length; c++) {
+      combinations[c] = current.clone();
+      int i = k - 1;
+      while (i >= 0 && current[i] == n - k + i) {
+        i--;
+      }
+      if (i < 0) {
+        break;
+      }
+      current[i]++;
+      for (int j = i + 1; j < k; j++) {
+        current[j] = current[j - 1] + 1;
+      }
+    }
+    return combinations;
+  }
+}
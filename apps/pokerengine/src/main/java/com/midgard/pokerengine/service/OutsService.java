@@ -0,0 +1,199 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.model.DrawType;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.OutGroup;
+import com.midgard.pokerengine.model.OutsRequest;
+import com.midgard.pokerengine.model.OutsResult;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Finds the outs and draws of a hand on the flop or turn.
+ *
+ * <p>Everything runs on masks: each unseen card is added to the hand mask and ranked by the
+ * lookup tables, outs are collected as one card mask per category, and draws are read from the
+ * per-suit and rank masks of the hand, with the ace also playing below the lowest rank. Only
+ * cards of the configured deck are counted, and categories follow its order.
+ */
+@Service
+public class OutsService {
+  static final int HOLE_CARDS = 2;
+
+  private static final DrawType[] DRAW_TYPES = DrawType.values();
+  private static final int STRAIGHT_CARDS = 5;
+  private static final int FLUSH_DRAW_CARDS = 4;
+  private static final int ACE_BIT = 1 << 12;
+
+  private final HandRankTables tables;
+  private final List<HandCategory> categories;
+
+  public OutsService() {
+    this(HandRankTables.standard());
+  }
+
+  @Autowired
+  public OutsService(HandRankTables tables) {
+    this.tables = tables;
+    this.categories = tables.categories();
+  }
+
+  /**
+   * Counts the outs of a hand.
+   *
+   * @param request two hole cards and a board of 3 or 4 cards
+   * @return the current rank, draws, outs by category and the odds of improving
+   */
+  public OutsResult outs(OutsRequest request) {
+    long hole = EquityService.cardMask(request.getHole(), "hole cards");
+    if (Long.bitCount(hole) != HOLE_CARDS) {
+      throw EquityService.badRequest("Hole cards must be exactly " + HOLE_CARDS + " cards");
+    }
+    long board = EquityService.cardMask(request.getBoard(), "board");
+    int boardCards = Long.bitCount(board);
+    if (boardCards != 3 && boardCards != 4) {
+      throw EquityService.badRequest("Board must have 3 or 4 cards");
+    }
+    if ((hole & board) != 0) {
+      throw EquityService.badRequest("Card appears in both the hole cards and the board");
+    }
+
+    long hand = hole | board;
+    EquityService.absentCards(hand, tables.deck());
+    int strength = tables.evaluate(hand);
+    int category = category(strength);
+    long unseen = tables.deck().getCards() & ~hand;
+    long[] outs = new long[categories.size()];
+    long allOuts = 0L;
+    for (long rest = unseen; rest != 0; rest &= rest - 1) {
+      long card = rest & -rest;
+      int reached = category(tables.evaluate(hand | card));
+      if (reached > category) {
+        outs[reached] |= card;
+        allOuts |= card;
+      }
+    }
+
+    int unseenCount = Long.bitCount(unseen);
+    double nextCard = (double) Long.bitCount(allOuts) / unseenCount;
+    double byRiver = boardCards == 4 ? nextCard : byRiver(hand, unseen, allOuts, category);
+    List<OutGroup> groups = new ArrayList<>();
+    for (int c = categories.size() - 1; c > category; c--) {
+      if (outs[c] != 0) {
+        groups.add(new OutGroup(categories.get(c), ShowdownService.cards(outs[c])));
+      }
+    }
+    return new OutsResult(tables.rank(strength), drawList(draws(hole, board, tables.deck())),
+        unseenCount,
+        Long.bitCount(allOuts), groups, nextCard, byRiver);
+  }
+
+  /**
+   * Returns the share of turn and river cards that end above {@code category}: any pair with an
+   * out, and the runner-runner pairs found by ranking the hand with both cards.
+   */
+  private double byRiver(long hand, long unseen, long outs, int category) {
+    long improved = 0;
+    long runouts = 0;
+    for (long first = unseen; first != 0; first &= first - 1) {
+      long turn = first & -first;
+      for (long second = first & (first - 1); second != 0; second &= second - 1) {
+        long river = second & -second;
+        runouts++;
+        if (((turn | river) & outs) != 0
+            || category(tables.evaluate(hand | turn | river)) > category) {
+          improved++;
+        }
+      }
+    }
+    return (double) improved / runouts;
+  }
+
+  /**
+   * Finds the draws of a hand as a bitmask of {@link DrawType} ordinals. Draws must use a hole
+   * card: a flush draw needs one of its four suited cards in the hole, and a straight draw a
+   * rank that completes a straight the board ranks alone would not.
+   */
+  static int draws(long hole, long board) {
+    return draws(hole, board, DeckDefinition.STANDARD);
+  }
+
+  /**
+   * Finds the draws of a hand in a deck whose straights skip the ranks it lacks.
+   */
+  static int draws(long hole, long board, DeckDefinition deck) {
+    long hand = hole | board;
+    int draws = 0;
+    for (int suit = 0; suit < CardMask.SUIT_COUNT; suit++) {
+      if (Integer.bitCount(CardMask.suitRanks(hand, suit)) == FLUSH_DRAW_CARDS
+          && CardMask.suitRanks(hole, suit) != 0) {
+        draws |= 1 << DrawType.FLUSH_DRAW.ordinal();
+      }
+    }
+    // Runs are found on the deck's ranks packed next to each other, the ace on top
+    int deckRanks = deck.getRanks();
+    int ace = (deckRanks & ACE_BIT) != 0 ? Integer.bitCount(deckRanks) - 1 : -1;
+    int ranks = Integer.compress(CardMask.rankMask(hand), deckRanks);
+    int boardRanks = Integer.compress(CardMask.rankMask(board), deckRanks);
+    if (straight(ranks, ace)) {
+      return draws;
+    }
+    int outRanks = 0;
+    for (int rank = 0; rank < Integer.bitCount(deckRanks); rank++) {
+      int bit = 1 << rank;
+      if ((ranks & bit) == 0 && straight(ranks | bit, ace) && !straight(boardRanks | bit, ace)) {
+        outRanks |= bit;
+      }
+    }
+    if (Integer.bitCount(outRanks) == 1) {
+      draws |= 1 << DrawType.GUTSHOT.ordinal();
+    } else if (outRanks != 0) {
+      // Open-ended: four ranks in a row with an out rank on either side
+      int held = withLowAce(ranks, ace);
+      int out = withLowAce(outRanks, ace);
+      int runs = held & held >>> 1 & held >>> 2 & held >>> 3;
+      boolean openEnded = (runs & out << 1 & out >>> 4) != 0;
+      draws |= 1 << (openEnded ? DrawType.OPEN_ENDED : DrawType.DOUBLE_GUTSHOT).ordinal();
+    }
+    return draws;
+  }
+
+  private static List<DrawType> drawList(int draws) {
+    List<DrawType> list = new ArrayList<>(Integer.bitCount(draws));
+    for (int rest = draws; rest != 0; rest &= rest - 1) {
+      list.add(DRAW_TYPES[Integer.numberOfTrailingZeros(rest)]);
+    }
+    return list;
+  }
+
+  /**
+   * Checks whether a packed rank mask holds five ranks in a row.
+   *
+   * @param ace the bit of the ace, or -1 when the deck has none
+   */
+  static boolean straight(int ranks, int ace) {
+    int run = withLowAce(ranks, ace);
+    for (int i = 1; i < STRAIGHT_CARDS; i++) {
+      run &= run >>> 1;
+    }
+    return run != 0;
+  }
+
+  /**
+   * Shifts a packed rank mask up by one and copies the ace into bit 0, below the lowest rank.
+   */
+  private static int withLowAce(int ranks, int ace) {
+    return ace < 0 ? ranks << 1 : ranks << 1 | ranks >>> ace & 1;
+  }
+
+  /**
+   * Returns the position of a strength's category in the deck's order, weakest first.
+   */
+  private int category(int strength) {
+    return categories.indexOf(tables.category(strength));
+  }
+}
@@ -0,0 +1,63 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.model.PreflopEquity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for heads-up preflop equity between starting hands, answered from the precomputed
+ * {@link PreflopEquityTable} instead of enumerating ~1.7M boards per matchup.
+ */
+@Service
+public class PreflopEquityService {
+  static final String RANDOM = "random";
+
+  private final PreflopEquityTable table;
+  private final DeckDefinition deck;
+
+  public PreflopEquityService(PreflopEquityTable table) {
+    this(table, HandRankTables.standard());
+  }
+
+  @Autowired
+  public PreflopEquityService(PreflopEquityTable table, HandRankTables tables) {
+    this.table = table;
+    this.deck = tables.deck();
+  }
+
+  /**
+   * Looks up the equity of one starting hand against another.
+   *
+   * @param hand    starting hand, e.g. {@code AKs}
+   * @param versus  opposing starting hand, or null, blank or {@code random} for a random hand
+   * @return win, tie, loss and equity of {@code hand}
+   */
+  public PreflopEquity lookup(String hand, String versus) {
+    if (!deck.isStandard()) {
+      throw EquityService.badRequest("The preflop table covers the standard deck only, not the "
+          + deck);
+    }
+    int hero = parse(hand);
+    if (versus == null || versus.isBlank() || versus.trim().equalsIgnoreCase(RANDOM)) {
+      return toResult(hero, RANDOM, table.winVsRandom(hero), table.tieVsRandom(hero));
+    }
+    int villain = parse(versus);
+    return toResult(hero, PreflopEquityTable.handName(villain), table.win(hero, villain),
+        table.tie(hero, villain));
+  }
+
+  private static PreflopEquity toResult(int hero, String versus, double win, double tie) {
+    double loss = Math.max(0.0, 1.0 - win - tie);
+    return new PreflopEquity(PreflopEquityTable.handName(hero), versus, win, tie, loss,
+        win + tie / 2);
+  }
+
+  private static int parse(String hand) {
+    try {
+      return PreflopEquityTable.parseHand(hand);
+    } catch (IllegalArgumentException e) {
+      throw EquityService.badRequest(e.getMessage());
+    }
+  }
+}
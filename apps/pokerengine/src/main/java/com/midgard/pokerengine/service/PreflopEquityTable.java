@@ -0,0 +1,442 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.HandRange;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.CRC32;
+
+/**
+ * Heads-up preflop equity of every pair of the 169 canonical starting hands, and of each one
+ * against a random hand, precomputed by exhaustive enumeration and looked up in O(1).
+ *
+ * <p>A starting hand is indexed {@code high * 13 + low} when suited and {@code low * 13 + high}
+ * when offsuit, by rank ordinal, so pairs sit on the diagonal. Win and tie are averaged over every
+ * pair of combos of the two hands that can be dealt together and every board, and stored as
+ * unsigned 16-bit fractions.
+ *
+ * <p>The table ships as the classpath resource {@value #RESOURCE}: a 32-byte little-endian header
+ * (magic, format version, payload length and the CRC32 of the payload) like
+ * {@link HandRankTableFile}, followed by the win and tie fractions of each matchup and then of
+ * each hand against a random hand. Run {@link #main(String[])} to regenerate it.
+ */
+public final class PreflopEquityTable {
+  public static final String RESOURCE = "/preflop-equity.bin";
+  public static final int MAGIC = 0x51454650; // "PFEQ" read little-endian
+  public static final int FORMAT_VERSION = 1;
+  public static final int HANDS = CardMask.RANK_COUNT * CardMask.RANK_COUNT;
+  static final int HEADER_BYTES = 32;
+  static final int MATCHUPS = HANDS * HANDS;
+  static final int ENTRIES = MATCHUPS + HANDS;
+  static final int PAYLOAD_BYTES = ENTRIES * 2 * Character.BYTES;
+  static final double SCALE = Character.MAX_VALUE;
+
+  private static final String RANK_CHARS = "23456789TJQKA";
+  // Boards left once two disjoint hole card pairs are dealt: C(48, 5)
+  private static final long BOARDS_PER_PAIR = 1_712_304L;
+  private static final int LEAF_PREFIXES = 16;
+  private static final short[] HAND_OF_COMBO = new short[HandRange.COMBOS];
+
+  static {
+    for (int combo = 0; combo < HandRange.COMBOS; combo++) {
+      int high = HandRange.highCard(combo);
+      int low = HandRange.lowCard(combo);
+      HAND_OF_COMBO[combo] = (short) hand(high % CardMask.RANK_COUNT,
+          low % CardMask.RANK_COUNT, high / CardMask.RANK_COUNT == low / CardMask.RANK_COUNT);
+    }
+  }
+
+  private final char[] win;
+  private final char[] tie;
+  private final long checksum;
+
+  private PreflopEquityTable(char[] win, char[] tie) {
+    this.win = win;
+    this.tie = tie;
+    CRC32 crc = new CRC32();
+    crc.update(payload());
+    this.checksum = crc.getValue();
+  }
+
+  /**
+   * Returns the starting hand index of a combo (see {@link HandRange#combo(int, int)}).
+   */
+  public static int handOf(int combo) {
+    return HAND_OF_COMBO[combo];
+  }
+
+  /**
+   * Parses a starting hand such as {@code AA}, {@code AKs} or {@code T9o}; unpaired hands need
+   * the suitedness suffix.
+   *
+   * @throws IllegalArgumentException if the text is not a starting hand
+   */
+  public static int parseHand(String text) {
+    String hand = text == null ? "" : text.trim();
+    int first = hand.isEmpty() ? -1 : RANK_CHARS.indexOf(Character.toUpperCase(hand.charAt(0)));
+    int second = hand.length() < 2 ? -1
+        : RANK_CHARS.indexOf(Character.toUpperCase(hand.charAt(1)));
+    if (first >= 0 && second >= 0) {
+      if (first == second && hand.length() == 2) {
+        return hand(first, second, false);
+      }
+      if (first != second && hand.length() == 3) {
+        char kind = Character.toLowerCase(hand.charAt(2));
+        if (kind == 's' || kind == 'o') {
+          return hand(first, second, kind == 's');
+        }
+      }
+    }
+    throw new IllegalArgumentException("Invalid starting hand: " + text
+        + ". Expected e.g. AA, AKs or T9o");
+  }
+
+  /**
+   * Returns the notation of a starting hand, high rank first, e.g. {@code AKs}.
+   */
+  public static String handName(int hand) {
+    int row = hand / CardMask.RANK_COUNT;
+    int column = hand % CardMask.RANK_COUNT;
+    if (row == column) {
+      return "" + RANK_CHARS.charAt(row) + RANK_CHARS.charAt(row);
+    }
+    return "" + RANK_CHARS.charAt(Math.max(row, column)) + RANK_CHARS.charAt(Math.min(row, column))
+        + (row > column ? 's' : 'o');
+  }
+
+  public double win(int hero, int villain) {
+    return win[hero * HANDS + villain] / SCALE;
+  }
+
+  public double tie(int hero, int villain) {
+    return tie[hero * HANDS + villain] / SCALE;
+  }
+
+  public double winVsRandom(int hero) {
+    return win[MATCHUPS + hero] / SCALE;
+  }
+
+  public double tieVsRandom(int hero) {
+    return tie[MATCHUPS + hero] / SCALE;
+  }
+
+  /**
+   * Returns the CRC32 of the payload.
+   */
+  public long checksum() {
+    return checksum;
+  }
+
+  /**
+   * Loads the table shipped as the {@value #RESOURCE} classpath resource.
+   *
+   * @throws IOException if the resource is missing or is not a valid table
+   */
+  public static PreflopEquityTable load() throws IOException {
+    try (InputStream in = PreflopEquityTable.class.getResourceAsStream(RESOURCE)) {
+      if (in == null) {
+        throw new IOException("Missing classpath resource " + RESOURCE);
+      }
+      return read(in.readAllBytes(), RESOURCE);
+    }
+  }
+
+  /**
+   * Reads a table file and checks its header and checksum.
+   *
+   * @throws IOException if the file cannot be read or is not a valid table file
+   */
+  public static PreflopEquityTable read(Path path) throws IOException {
+    return read(Files.readAllBytes(path), path.toString());
+  }
+
+  private static PreflopEquityTable read(byte[] bytes, String source) throws IOException {
+    if (bytes.length != HEADER_BYTES + PAYLOAD_BYTES) {
+      throw new IOException("Unexpected preflop equity table size " + bytes.length + ": "
+          + source);
+    }
+    ByteBuffer file = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    int magic = file.getInt(0);
+    int version = file.getInt(4);
+    long length = file.getLong(8);
+    long checksum = file.getLong(16);
+    if (magic != MAGIC || version != FORMAT_VERSION || length != PAYLOAD_BYTES) {
+      throw new IOException("Unsupported preflop equity table format version " + version + ": "
+          + source);
+    }
+    char[] win = new char[ENTRIES];
+    char[] tie = new char[ENTRIES];
+    file.position(HEADER_BYTES);
+    for (int i = 0; i < ENTRIES; i++) {
+      win[i] = file.getChar();
+      tie[i] = file.getChar();
+    }
+    PreflopEquityTable table = new PreflopEquityTable(win, tie);
+    if (table.checksum != checksum) {
+      throw new IOException("Preflop equity table checksum mismatch: " + source);
+    }
+    return table;
+  }
+
+  /**
+   * Writes the table to {@code path}, replacing any existing file atomically.
+   */
+  public void write(Path path) throws IOException {
+    Path parent = path.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+      ByteBuffer file = ByteBuffer.allocate(HEADER_BYTES + PAYLOAD_BYTES)
+          .order(ByteOrder.LITTLE_ENDIAN);
+      file.putInt(MAGIC)
+          .putInt(FORMAT_VERSION)
+          .putLong(PAYLOAD_BYTES)
+          .putLong(checksum)
+          .position(HEADER_BYTES);
+      file.put(payload()).flip();
+      while (file.hasRemaining()) {
+        channel.write(file);
+      }
+      channel.force(true);
+    } catch (IOException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private ByteBuffer payload() {
+    ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = 0; i < ENTRIES; i++) {
+      payload.putChar(win[i]).putChar(tie[i]);
+    }
+    return payload.flip();
+  }
+
+  /**
+   * Computes the table exhaustively: every board is dealt once and scored against all pairs of
+   * live combos, with boards that are suit permutations of each other scored once.
+   *
+   * @param tables the evaluator tables
+   * @param pool   the pool to run the enumeration on
+   */
+  public static PreflopEquityTable compute(HandRankTables tables, ForkJoinPool pool) {
+    Counts counts = pool.invoke(new Boards(tables, 0, HandRange.COMBOS));
+    long[] pairs = new long[MATCHUPS];
+    for (int a = 0; a < HandRange.COMBOS; a++) {
+      for (int b = 0; b < HandRange.COMBOS; b++) {
+        if ((HandRange.comboMask(a) & HandRange.comboMask(b)) == 0) {
+          pairs[HAND_OF_COMBO[a] * HANDS + HAND_OF_COMBO[b]]++;
+        }
+      }
+    }
+    char[] win = new char[ENTRIES];
+    char[] tie = new char[ENTRIES];
+    for (int hero = 0; hero < HANDS; hero++) {
+      long heroWin = 0;
+      long heroTie = 0;
+      long heroPairs = 0;
+      for (int villain = 0; villain < HANDS; villain++) {
+        int i = hero * HANDS + villain;
+        win[i] = fraction(counts.win[i], pairs[i] * BOARDS_PER_PAIR);
+        tie[i] = fraction(counts.tie[i], pairs[i] * BOARDS_PER_PAIR);
+        heroWin += counts.win[i];
+        heroTie += counts.tie[i];
+        heroPairs += pairs[i];
+      }
+      win[MATCHUPS + hero] = fraction(heroWin, heroPairs * BOARDS_PER_PAIR);
+      tie[MATCHUPS + hero] = fraction(heroTie, heroPairs * BOARDS_PER_PAIR);
+    }
+    return new PreflopEquityTable(win, tie);
+  }
+
+  private static int hand(int first, int second, boolean suited) {
+    int high = Math.max(first, second);
+    int low = Math.min(first, second);
+    return suited ? high * CardMask.RANK_COUNT + low : low * CardMask.RANK_COUNT + high;
+  }
+
+  private static char fraction(long count, long total) {
+    return (char) Math.round(count * SCALE / total);
+  }
+
+  /**
+   * Outcome counts indexed {@code hero * HANDS + villain}, summed over combo pairs and boards.
+   */
+  static final class Counts {
+    final long[] win = new long[MATCHUPS];
+    final long[] tie = new long[MATCHUPS];
+
+    Counts merge(Counts other) {
+      for (int i = 0; i < MATCHUPS; i++) {
+        win[i] += other.win[i];
+        tie[i] += other.tie[i];
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Enumerates every board whose two lowest cards form a combo in {@code [from, to)}, halving
+   * the range until it is small enough for one leaf.
+   */
+  static final class Boards extends RecursiveTask<Counts> {
+    private final HandRankTables tables;
+    private final int from;
+    private final int to;
+
+    Boards(HandRankTables tables, int from, int to) {
+      this.tables = tables;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Counts compute() {
+      if (to - from > LEAF_PREFIXES) {
+        int mid = (from + to) >>> 1;
+        Boards right = new Boards(tables, mid, to);
+        right.fork();
+        Counts left = new Boards(tables, from, mid).compute();
+        return left.merge(right.join());
+      }
+      Scorer scorer = new Scorer(tables);
+      for (int prefix = from; prefix < to; prefix++) {
+        long lowest = HandRange.comboMask(prefix);
+        for (int c3 = HandRange.highCard(prefix) + 1; c3 < CardMask.DECK_SIZE; c3++) {
+          for (int c4 = c3 + 1; c4 < CardMask.DECK_SIZE; c4++) {
+            for (int c5 = c4 + 1; c5 < CardMask.DECK_SIZE; c5++) {
+              long board = lowest | 1L << c3 | 1L << c4 | 1L << c5;
+              // Suit permutations keep every starting hand, so each orbit is scored once
+              int orbit = SuitSymmetry.orbitSizeIfCanonical(board, SuitSymmetry.ALL);
+              if (orbit > 0) {
+                scorer.score(board, orbit);
+              }
+            }
+          }
+        }
+      }
+      return scorer.counts;
+    }
+  }
+
+  /**
+   * Scores complete boards against every pair of live combos, by sweeping the combos in strength
+   * order and keeping per starting hand counts of the combos below and at the current strength,
+   * in total and per card. Combos sharing a card with the hero combo are removed by
+   * inclusion-exclusion, as in {@link RangeEquityService}.
+   */
+  static final class Scorer {
+    final Counts counts = new Counts();
+    private final HandRankTables tables;
+    private final int[] strengths = new int[HandRange.COMBOS];
+    private final int[] starts = new int[HandRankTables.DISTINCT_HANDS + 1];
+    private final int[] sorted = new int[HandRange.COMBOS];
+    private final int[] below = new int[HANDS];
+    private final int[] equal = new int[HANDS];
+    private final int[] belowByCard = new int[CardMask.DECK_SIZE * HANDS];
+    private final int[] equalByCard = new int[CardMask.DECK_SIZE * HANDS];
+
+    Scorer(HandRankTables tables) {
+      this.tables = tables;
+    }
+
+    void score(long board, long weight) {
+      Arrays.fill(starts, 0);
+      int live = 0;
+      for (int combo = 0; combo < HandRange.COMBOS; combo++) {
+        long hole = HandRange.comboMask(combo);
+        if ((hole & board) != 0) {
+          strengths[combo] = 0;
+          continue;
+        }
+        int strength = tables.evaluate(board | hole);
+        strengths[combo] = strength;
+        starts[strength]++;
+        live++;
+      }
+      for (int strength = 1, next = 0; strength < starts.length; strength++) {
+        int count = starts[strength];
+        starts[strength] = next;
+        next += count;
+      }
+      for (int combo = 0; combo < HandRange.COMBOS; combo++) {
+        int strength = strengths[combo];
+        if (strength != 0) {
+          sorted[starts[strength]++] = combo;
+        }
+      }
+
+      Arrays.fill(below, 0);
+      Arrays.fill(belowByCard, 0);
+      long[] win = counts.win;
+      long[] tie = counts.tie;
+      for (int from = 0; from < live; ) {
+        int strength = strengths[sorted[from]];
+        int to = from;
+        for (; to < live && strengths[sorted[to]] == strength; to++) {
+          int combo = sorted[to];
+          int hand = HAND_OF_COMBO[combo];
+          equal[hand]++;
+          equalByCard[HandRange.highCard(combo) * HANDS + hand]++;
+          equalByCard[HandRange.lowCard(combo) * HANDS + hand]++;
+        }
+        for (int i = from; i < to; i++) {
+          int combo = sorted[i];
+          int row = HAND_OF_COMBO[combo] * HANDS;
+          int high = HandRange.highCard(combo) * HANDS;
+          int low = HandRange.lowCard(combo) * HANDS;
+          for (int villain = 0; villain < HANDS; villain++) {
+            win[row + villain] += weight
+                * (below[villain] - belowByCard[high + villain] - belowByCard[low + villain]);
+            tie[row + villain] += weight
+                * (equal[villain] - equalByCard[high + villain] - equalByCard[low + villain]);
+          }
+          // The combo itself holds both cards, so it was subtracted from its own tie count twice
+          tie[row + HAND_OF_COMBO[combo]] += weight;
+        }
+        for (int i = from; i < to; i++) {
+          int combo = sorted[i];
+          int hand = HAND_OF_COMBO[combo];
+          int high = HandRange.highCard(combo) * HANDS + hand;
+          int low = HandRange.lowCard(combo) * HANDS + hand;
+          below[hand]++;
+          belowByCard[high]++;
+          belowByCard[low]++;
+          equal[hand] = 0;
+          equalByCard[high] = 0;
+          equalByCard[low] = 0;
+        }
+        from = to;
+      }
+    }
+  }
+
+  /**
+   * Computes the table and writes it.
+   *
+   * @param args the output path, e.g. {@code src/main/resources/preflop-equity.bin}
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("Usage: PreflopEquityTable <output-file>");
+      System.exit(2);
+    }
+    Path path = Paths.get(args[0]);
+    long start = System.nanoTime();
+    compute(HandRankTables.standard(), ForkJoinPool.commonPool()).write(path);
+    System.out.println("Wrote " + Files.size(path) + " bytes to " + path + " in "
+        + (System.nanoTime() - start) / 1_000_000_000L + " s");
+  }
+}
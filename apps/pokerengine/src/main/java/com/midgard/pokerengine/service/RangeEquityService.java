@@ -0,0 +1,416 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.EquityMode;
+import com.midgard.pokerengine.model.HandRange;
+import com.midgard.pokerengine.model.RangeEquity;
+import com.midgard.pokerengine.model.RangeEquityRequest;
+import com.midgard.pokerengine.model.RangeEquityResult;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for range-vs-range hold'em equity.
+ *
+ * <p>Pairing every combo of one range with every combo of the other on every board costs
+ * {@code O(1326^2)} per board. Instead each board is scored in linear time: every combo of
+ * either range is evaluated once into a per-board strength array, the combos are sorted by
+ * strength (a counting sort for large ranges), and one sweep upwards accumulates the weight of
+ * the second range below and at each strength, in total and per card. Combos sharing a card
+ * with the hero combo are then removed by inclusion-exclusion over the two per-card sums, so
+ * card removal costs two lookups per combo rather than a pass over the other range.
+ *
+ * <p>Boards are either enumerated (exact mode, from the flop on) or sampled, split across the
+ * equity {@link ForkJoinPool} like hand-vs-hand equity; each task owns its strength and sort
+ * buffers, so the board loop shares nothing and allocates nothing.
+ */
+@Service
+public class RangeEquityService {
+  static final int RANGES = 2;
+  static final int MAX_EXACT_MISSING = 2;
+
+  private static final int LEAF_BOARDS = 1 << 6;
+  // Below this many combos a comparison sort beats clearing and scanning 7462 counters
+  private static final int COUNTING_SORT_COMBOS = 512;
+  private static final int COMBO_BITS = 11;
+  private static final int COMBO_MASK = (1 << COMBO_BITS) - 1;
+
+  private final HandRankTables tables;
+  private final ForkJoinPool equityPool;
+  private final PokerConfig pokerConfig;
+
+  public RangeEquityService(ForkJoinPool equityPool, PokerConfig pokerConfig) {
+    this(equityPool, pokerConfig, HandRankTables.standard());
+  }
+
+  @Autowired
+  public RangeEquityService(ForkJoinPool equityPool, PokerConfig pokerConfig,
+      HandRankTables tables) {
+    this.tables = tables;
+    this.equityPool = equityPool;
+    this.pokerConfig = pokerConfig;
+  }
+
+  /**
+   * Calculates the equity of each range against the other, weighted by combo weights.
+   *
+   * @param request two ranges, optional board, dead cards, mode and Monte Carlo limits
+   * @return win, tie and equity per range
+   */
+  public RangeEquityResult calculate(RangeEquityRequest request) {
+    long startNanos = System.nanoTime();
+    List<String> notations = request.getRanges();
+    if (notations == null || notations.size() != RANGES) {
+      throw EquityService.badRequest("Range equity needs exactly " + RANGES + " ranges");
+    }
+    long board = EquityService.cardMask(request.getBoard(), "board");
+    long dead = EquityService.cardMask(request.getDead(), "dead cards");
+    EquityService.validateBoard(board, request.getBoard());
+    if ((board & dead) != 0) {
+      throw EquityService.badRequest("Card appears on both the board and the dead cards");
+    }
+    // Combos with a card outside the deck are removed like those blocked by the board
+    long used = board | dead | EquityService.absentCards(board | dead, tables.deck());
+    HandRange[] ranges = new HandRange[RANGES];
+    for (int r = 0; r < RANGES; r++) {
+      try {
+        ranges[r] = HandRange.parse(notations.get(r));
+      } catch (IllegalArgumentException e) {
+        throw EquityService.badRequest("Range " + r + ": " + e.getMessage());
+      }
+    }
+    Matchup matchup = new Matchup(ranges[0], ranges[1], used);
+    for (int r = 0; r < RANGES; r++) {
+      if (matchup.size(r) == 0) {
+        throw EquityService.badRequest("Range " + r + " has no combos left after removing the "
+            + "board and dead cards");
+      }
+    }
+
+    int missing = EquityService.BOARD_CARDS - Long.bitCount(board);
+    int[] deck = EquityService.liveDeck(used);
+    EquityMode mode = request.getMode() == EquityMode.EXACT ? EquityMode.EXACT
+        : EquityMode.MONTE_CARLO;
+    Tally tally;
+    if (missing == 0) {
+      tally = new Tally();
+      new Scorer(tables, matchup).score(board, 1, tally);
+    } else if (mode == EquityMode.EXACT) {
+      if (missing > MAX_EXACT_MISSING) {
+        throw EquityService.badRequest("Exact range equity needs at least a flop; use "
+            + EquityMode.MONTE_CARLO + " preflop");
+      }
+      tally = equityPool.invoke(new Boards(tables, matchup, board, deck, missing,
+          0, deck.length - missing + 1));
+    } else {
+      PokerConfig.Equity limits = pokerConfig.getEquity();
+      long trials = request.getTrials() != null
+          ? request.getTrials() : limits.getDefaultRangeTrials();
+      if (trials <= 0 || trials > limits.getMaxRangeTrials()) {
+        throw EquityService.badRequest("Trials must be between 1 and "
+            + limits.getMaxRangeTrials());
+      }
+      SplittableRandom random = request.getSeed() != null
+          ? new SplittableRandom(request.getSeed())
+          : new SplittableRandom();
+      tally = equityPool.invoke(new Trials(tables, matchup, board, deck, missing, trials,
+          random));
+    }
+    if (tally.pairs <= 0) {
+      throw EquityService.badRequest("The ranges have no combos that can be dealt together");
+    }
+    return toResult(mode, ranges, matchup, tally, startNanos);
+  }
+
+  private static RangeEquityResult toResult(EquityMode mode, HandRange[] ranges,
+      Matchup matchup, Tally tally, long startNanos) {
+    double win = tally.win / tally.pairs;
+    double tie = tally.tie / tally.pairs;
+    double loss = Math.max(0.0, 1.0 - win - tie);
+    List<RangeEquity> equities = List.of(
+        new RangeEquity(ranges[0].getNotation(), matchup.size(0), win, tie, win + tie / 2),
+        new RangeEquity(ranges[1].getNotation(), matchup.size(1), loss, tie, loss + tie / 2));
+    return new RangeEquityResult(mode, equities, tally.boards,
+        (System.nanoTime() - startNanos) / 1_000_000L);
+  }
+
+  /**
+   * The live combos of both ranges and their weights indexed by combo, shared read-only by all
+   * tasks.
+   */
+  static final class Matchup {
+    final int[] heroCombos;
+    final int[] villainCombos;
+    final double[] heroWeights = new double[HandRange.COMBOS];
+    final double[] villainWeights = new double[HandRange.COMBOS];
+    // Every combo held by either range, each evaluated once per board
+    final int[] union;
+
+    Matchup(HandRange hero, HandRange villain, long used) {
+      heroCombos = hero.liveCombos(used);
+      villainCombos = villain.liveCombos(used);
+      for (int combo : heroCombos) {
+        heroWeights[combo] = hero.weight(combo);
+      }
+      for (int combo : villainCombos) {
+        villainWeights[combo] = villain.weight(combo);
+      }
+      int[] all = Arrays.copyOf(heroCombos, heroCombos.length + villainCombos.length);
+      System.arraycopy(villainCombos, 0, all, heroCombos.length, villainCombos.length);
+      union = Arrays.stream(all).sorted().distinct().toArray();
+    }
+
+    int size(int range) {
+      return range == 0 ? heroCombos.length : villainCombos.length;
+    }
+  }
+
+  /**
+   * Weighted outcome sums of the hero range over all compatible combo pairs and boards. Sums are
+   * merged in a fixed task order, so results do not depend on scheduling.
+   */
+  static final class Tally {
+    double win;
+    double tie;
+    double pairs;
+    long boards;
+
+    Tally merge(Tally other) {
+      win += other.win;
+      tie += other.tie;
+      pairs += other.pairs;
+      boards += other.boards;
+      return this;
+    }
+  }
+
+  /**
+   * Scores complete boards for one task, reusing its strength and sort buffers across boards.
+   */
+  static final class Scorer {
+    private final HandRankTables tables;
+    private final Matchup matchup;
+    private final int[] strengths = new int[HandRange.COMBOS];
+    private final int[] starts = new int[HandRankTables.DISTINCT_HANDS + 1];
+    private final int[] sorted;
+    private final double[] villainByCard = new double[CardMask.DECK_SIZE];
+    private final double[] belowByCard = new double[CardMask.DECK_SIZE];
+    private final double[] equalByCard = new double[CardMask.DECK_SIZE];
+
+    Scorer(HandRankTables tables, Matchup matchup) {
+      this.tables = tables;
+      this.matchup = matchup;
+      sorted = new int[matchup.union.length];
+    }
+
+    /**
+     * Adds the outcomes of every compatible combo pair on a five card board, {@code weight}
+     * times.
+     */
+    void score(long board, long weight, Tally tally) {
+      int[] union = matchup.union;
+      double[] heroWeights = matchup.heroWeights;
+      double[] villainWeights = matchup.villainWeights;
+
+      // Evaluate each combo once, then sort the live ones by strength: large unions by
+      // counting sort over all strengths, small ones by sorting strength-prefixed combo keys
+      boolean counting = union.length >= COUNTING_SORT_COMBOS;
+      if (counting) {
+        Arrays.fill(starts, 0);
+      }
+      Arrays.fill(villainByCard, 0.0);
+      double villainTotal = 0;
+      int live = 0;
+      for (int combo : union) {
+        long hole = HandRange.comboMask(combo);
+        if ((hole & board) != 0) {
+          strengths[combo] = 0;
+          continue;
+        }
+        int strength = tables.evaluate(board | hole);
+        strengths[combo] = strength;
+        if (counting) {
+          starts[strength]++;
+        } else {
+          sorted[live] = strength << COMBO_BITS | combo;
+        }
+        live++;
+        double w = villainWeights[combo];
+        villainByCard[HandRange.highCard(combo)] += w;
+        villainByCard[HandRange.lowCard(combo)] += w;
+        villainTotal += w;
+      }
+      if (counting) {
+        for (int strength = 1, next = 0; strength < starts.length; strength++) {
+          int count = starts[strength];
+          starts[strength] = next;
+          next += count;
+        }
+        for (int combo : union) {
+          int strength = strengths[combo];
+          if (strength != 0) {
+            sorted[starts[strength]++] = combo;
+          }
+        }
+      } else {
+        Arrays.sort(sorted, 0, live);
+        for (int i = 0; i < live; i++) {
+          sorted[i] &= COMBO_MASK;
+        }
+      }
+
+      // Sweep strengths upwards, keeping villain's weight below and at the current strength
+      Arrays.fill(belowByCard, 0.0);
+      double below = 0;
+      double win = 0;
+      double tie = 0;
+      double pairs = 0;
+      for (int from = 0; from < live; ) {
+        int strength = strengths[sorted[from]];
+        int to = from;
+        double equal = 0;
+        for (; to < live && strengths[sorted[to]] == strength; to++) {
+          int combo = sorted[to];
+          double w = villainWeights[combo];
+          equal += w;
+          equalByCard[HandRange.highCard(combo)] += w;
+          equalByCard[HandRange.lowCard(combo)] += w;
+        }
+        for (int i = from; i < to; i++) {
+          int combo = sorted[i];
+          double w = heroWeights[combo];
+          if (w == 0) {
+            continue;
+          }
+          int high = HandRange.highCard(combo);
+          int low = HandRange.lowCard(combo);
+          // The same combo in villain's range holds both cards, so it is subtracted twice
+          double same = villainWeights[combo];
+          win += w * (below - belowByCard[high] - belowByCard[low]);
+          tie += w * (equal - equalByCard[high] - equalByCard[low] + same);
+          pairs += w * (villainTotal - villainByCard[high] - villainByCard[low] + same);
+        }
+        for (int i = from; i < to; i++) {
+          int combo = sorted[i];
+          double w = villainWeights[combo];
+          int high = HandRange.highCard(combo);
+          int low = HandRange.lowCard(combo);
+          below += w;
+          belowByCard[high] += w;
+          belowByCard[low] += w;
+          equalByCard[high] = 0.0;
+          equalByCard[low] = 0.0;
+        }
+        from = to;
+      }
+      tally.win += win * weight;
+      tally.tie += tie * weight;
+      tally.pairs += pairs * weight;
+      tally.boards += weight;
+    }
+  }
+
+  /**
+   * Deals random boards, halving the trial count until it is small enough for one leaf.
+   */
+  static final class Trials extends RecursiveTask<Tally> {
+    private final HandRankTables tables;
+    private final Matchup matchup;
+    private final long board;
+    private final int[] deck;
+    private final int missing;
+    private final long trials;
+    private final SplittableRandom random;
+
+    Trials(HandRankTables tables, Matchup matchup, long board, int[] deck, int missing,
+        long trials, SplittableRandom random) {
+      this.tables = tables;
+      this.matchup = matchup;
+      this.board = board;
+      this.deck = deck;
+      this.missing = missing;
+      this.trials = trials;
+      this.random = random;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (trials > LEAF_BOARDS) {
+        long half = trials / 2;
+        Trials right = new Trials(tables, matchup, board, deck, missing, trials - half,
+            random.split());
+        right.fork();
+        Tally left = new Trials(tables, matchup, board, deck, missing, half, random).compute();
+        return left.merge(right.join());
+      }
+      Tally tally = new Tally();
+      Scorer scorer = new Scorer(tables, matchup);
+      int[] cards = deck.clone();
+      for (long t = 0; t < trials; t++) {
+        long runout = board;
+        for (int i = 0; i < missing; i++) {
+          int j = i + random.nextInt(cards.length - i);
+          int card = cards[j];
+          cards[j] = cards[i];
+          cards[i] = card;
+          runout |= 1L << card;
+        }
+        scorer.score(runout, 1, tally);
+      }
+      return tally;
+    }
+  }
+
+  /**
+   * Enumerates every board whose first missing card sits at a deck position in
+   * {@code [from, to)}, halving the range until one position is left.
+   */
+  static final class Boards extends RecursiveTask<Tally> {
+    private final HandRankTables tables;
+    private final Matchup matchup;
+    private final long board;
+    private final int[] deck;
+    private final int missing;
+    private final int from;
+    private final int to;
+
+    Boards(HandRankTables tables, Matchup matchup, long board, int[] deck, int missing,
+        int from, int to) {
+      this.tables = tables;
+      this.matchup = matchup;
+      this.board = board;
+      this.deck = deck;
+      this.missing = missing;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (to - from > 1) {
+        int mid = (from + to) >>> 1;
+        Boards right = new Boards(tables, matchup, board, deck, missing, mid, to);
+        right.fork();
+        Tally left = new Boards(tables, matchup, board, deck, missing, from, mid).compute();
+        return left.merge(right.join());
+      }
+      Tally tally = new Tally();
+      Scorer scorer = new Scorer(tables, matchup);
+      long runout = board | 1L << deck[from];
+      if (missing == 1) {
+        scorer.score(runout, 1, tally);
+      } else {
+        for (int i = from + 1; i < deck.length; i++) {
+          scorer.score(runout | 1L << deck[i], 1, tally);
+        }
+      }
+      return tally;
+    }
+  }
+}
@@ -0,0 +1,339 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.GameVariant;
+import com.midgard.pokerengine.model.PlayerShowdown;
+import com.midgard.pokerengine.model.Pot;
+import com.midgard.pokerengine.model.ShowdownPlayer;
+import com.midgard.pokerengine.model.ShowdownRequest;
+import com.midgard.pokerengine.model.ShowdownResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Settles hands at showdown: ranks every live player against the shared board, finds each
+ * player's best five cards and splits the main and side pots by stack contribution. Hands are
+ * made as the request's {@link GameVariant} makes them; in hi/lo games every pot is split again
+ * between its best high and its best eight-or-better low.
+ *
+ * <p>Settlement runs on primitives only. Hands are 52-bit masks, strengths and contributions
+ * are arrays indexed by seat, and pot eligibility and pot winners are seat bitmasks; model
+ * objects are built once, for the response.
+ */
+@Service
+public class ShowdownService {
+  static final int MIN_PLAYERS = 2;
+  static final int MAX_PLAYERS = 10;
+
+  private final HandRankTables tables;
+  private final PokerConfig pokerConfig;
+
+  public ShowdownService() {
+    this(HandRankTables.standard());
+  }
+
+  public ShowdownService(HandRankTables tables) {
+    this(tables, new PokerConfig());
+  }
+
+  @Autowired
+  public ShowdownService(HandRankTables tables, PokerConfig pokerConfig) {
+    this.tables = tables;
+    this.pokerConfig = pokerConfig;
+  }
+
+  /**
+   * Ranks the live players and pays out every pot.
+   *
+   * @param request the five board cards, each player's cards, contribution and fold state, and
+   *                the variant
+   * @return best hand, rank and payout per player, the best hand's holders and every pot
+   */
+  public ShowdownResult settle(ShowdownRequest request) {
+    GameVariant variant = EquityService.variant(request.getVariant(), pokerConfig.getVariants());
+    List<ShowdownPlayer> players = request.getPlayers();
+    if (players == null || players.size() < MIN_PLAYERS || players.size() > MAX_PLAYERS) {
+      throw EquityService.badRequest(
+          "Showdown needs between " + MIN_PLAYERS + " and " + MAX_PLAYERS + " players");
+    }
+    long board = EquityService.cardMask(request.getBoard(), "board");
+    if (Long.bitCount(board) != EquityService.BOARD_CARDS) {
+      throw EquityService.badRequest("Board must have " + EquityService.BOARD_CARDS + " cards");
+    }
+
+    int seats = players.size();
+    int holeCards = variant.getHoleCards();
+    long[] contributions = new long[seats];
+    long[] holes = new long[seats];
+    long used = board;
+    int live = 0;
+    for (int p = 0; p < seats; p++) {
+      ShowdownPlayer player = players.get(p);
+      if (player == null) {
+        throw EquityService.badRequest("Player " + p + " is missing");
+      }
+      if (player.getContribution() < 0) {
+        throw EquityService.badRequest("Player " + p + " has a negative contribution");
+      }
+      contributions[p] = player.getContribution();
+      if (player.isFolded()) {
+        continue;
+      }
+      List<Card> cards = player.getCards();
+      if (cards == null || cards.size() != holeCards) {
+        throw EquityService.badRequest("Player " + p + " must show exactly " + holeCards
+            + " cards");
+      }
+      long hole = EquityService.cardMask(cards, "player " + p);
+      if ((used & hole) != 0) {
+        throw EquityService.badRequest("Card appears more than once across players and board");
+      }
+      used |= hole;
+      holes[p] = hole;
+      live |= 1 << p;
+    }
+    if (live == 0) {
+      throw EquityService.badRequest("At least one player must reach showdown");
+    }
+    EquityService.absentCards(used, tables.deck());
+
+    // Folded seats have no cards and rank 0
+    int[] strengths = new int[seats];
+    int[] lows = variant.isHiLo() ? new int[seats] : null;
+    VariantEvaluator.of(variant, tables, holes).evaluate(board, strengths, lows);
+    long[] bestHands = new long[seats];
+    long[] lowHands = new long[seats];
+    for (int rest = live; rest != 0; rest &= rest - 1) {
+      int p = Integer.numberOfTrailingZeros(rest);
+      if (variant.isExactlyTwo()) {
+        bestHands[p] = OmahaEvaluator.bestHigh(tables, holes[p], board, strengths[p]);
+      } else {
+        bestHands[p] = bestFive(board | holes[p], strengths[p]);
+      }
+      if (lows != null && lows[p] != 0) {
+        lowHands[p] = OmahaEvaluator.bestLow(holes[p], board, lows[p]);
+      }
+    }
+
+    Pots pots = Pots.split(contributions, live);
+    long[] payouts = new long[seats];
+    int[] potWinners = new int[pots.count];
+    int[] potLowWinners = new int[pots.count];
+    for (int i = 0; i < pots.count; i++) {
+      potWinners[i] = bestOf(strengths, pots.eligible[i]);
+      potLowWinners[i] = lows != null ? bestLow(lows, pots.eligible[i]) : 0;
+      if (potLowWinners[i] == 0) {
+        pay(pots.amounts[i], potWinners[i], payouts);
+      } else {
+        long lowHalf = pots.amounts[i] / 2;
+        pay(pots.amounts[i] - lowHalf, potWinners[i], payouts);
+        pay(lowHalf, potLowWinners[i], payouts);
+      }
+    }
+    return toResult(strengths, bestHands, lowHands, payouts, bestOf(strengths, live), pots,
+        potWinners, potLowWinners);
+  }
+
+  /**
+   * Pays out the main and side pots of a hand already ranked, for callers that keep hands as
+   * masks, e.g. a table's own showdown.
+   *
+   * @param strengths     strength per seat, ignored for folded seats
+   * @param contributions chips each seat put in over the hand
+   * @param live          bitmask of the seats that did not fold, not empty
+   * @return chips won per seat
+   */
+  public long[] payouts(int[] strengths, long[] contributions, int live) {
+    Pots pots = Pots.split(contributions, live);
+    long[] payouts = new long[contributions.length];
+    for (int i = 0; i < pots.count; i++) {
+      pay(pots.amounts[i], bestOf(strengths, pots.eligible[i]), payouts);
+    }
+    return payouts;
+  }
+
+  /**
+   * Returns the five-card subset of a hand that has the hand's strength, trying the hand itself
+   * when it has five cards and otherwise dropping cards in index order.
+   */
+  long bestFive(long hand, int strength) {
+    int extra = Long.bitCount(hand) - 5;
+    if (extra == 0) {
+      return hand;
+    }
+    for (long first = hand; first != 0; first &= first - 1) {
+      long dropFirst = hand & ~(first & -first);
+      if (extra == 1) {
+        if (tables.evaluate(dropFirst) == strength) {
+          return dropFirst;
+        }
+        continue;
+      }
+      for (long second = first & (first - 1); second != 0; second &= second - 1) {
+        long five = dropFirst & ~(second & -second);
+        if (tables.evaluate(five) == strength) {
+          return five;
+        }
+      }
+    }
+    throw new IllegalStateException("No five cards of the hand match its strength");
+  }
+
+  /**
+   * Returns the seats among {@code seats} holding the highest strength.
+   */
+  static int bestOf(int[] strengths, int seats) {
+    int best = 0;
+    int winners = 0;
+    for (int rest = seats; rest != 0; rest &= rest - 1) {
+      int p = Integer.numberOfTrailingZeros(rest);
+      if (strengths[p] > best) {
+        best = strengths[p];
+        winners = 1 << p;
+      } else if (strengths[p] == best) {
+        winners |= 1 << p;
+      }
+    }
+    return winners;
+  }
+
+  /**
+   * Returns the seats among {@code seats} holding the best low, or none when no low qualifies.
+   */
+  private static int bestLow(int[] lows, int seats) {
+    int winners = bestOf(lows, seats);
+    return lows[Integer.numberOfTrailingZeros(winners)] == 0 ? 0 : winners;
+  }
+
+  /**
+   * Splits a pot evenly between the winners; the odd chips go one each to the first winners in
+   * seat order.
+   */
+  static void pay(long amount, int winners, long[] payouts) {
+    int count = Integer.bitCount(winners);
+    long share = amount / count;
+    long oddChips = amount % count;
+    for (int rest = winners; rest != 0; rest &= rest - 1) {
+      int p = Integer.numberOfTrailingZeros(rest);
+      payouts[p] += share;
+      if (oddChips > 0) {
+        payouts[p]++;
+        oddChips--;
+      }
+    }
+  }
+
+  private ShowdownResult toResult(int[] strengths, long[] bestHands, long[] lowHands,
+      long[] payouts, int winners, Pots pots, int[] potWinners, int[] potLowWinners) {
+    List<PlayerShowdown> players = new ArrayList<>(strengths.length);
+    for (int p = 0; p < strengths.length; p++) {
+      boolean folded = strengths[p] == 0;
+      players.add(new PlayerShowdown(folded,
+          folded ? null : cards(bestHands[p]),
+          folded ? null : tables.rank(strengths[p]),
+          payouts[p],
+          lowHands[p] == 0 ? null : cards(lowHands[p])));
+    }
+    List<Pot> potList = new ArrayList<>(pots.count);
+    for (int i = 0; i < pots.count; i++) {
+      potList.add(new Pot(pots.amounts[i], seats(pots.eligible[i]), seats(potWinners[i]),
+          seats(potLowWinners[i])));
+    }
+    return new ShowdownResult(players, seats(winners), potList);
+  }
+
+  /**
+   * Lists the cards of a mask from the highest rank down.
+   */
+  static List<Card> cards(long mask) {
+    List<Card> cards = new ArrayList<>(Long.bitCount(mask));
+    for (int rank = CardMask.RANK_COUNT - 1; rank >= 0; rank--) {
+      for (int suit = 0; suit < CardMask.SUIT_COUNT; suit++) {
+        int index = suit * CardMask.RANK_COUNT + rank;
+        if ((mask & 1L << index) != 0) {
+          cards.add(CardMask.card(index));
+        }
+      }
+    }
+    return cards;
+  }
+
+  private static List<Integer> seats(int mask) {
+    List<Integer> seats = new ArrayList<>(Integer.bitCount(mask));
+    for (int rest = mask; rest != 0; rest &= rest - 1) {
+      seats.add(Integer.numberOfTrailingZeros(rest));
+    }
+    return seats;
+  }
+
+  /**
+   * Main and side pots as parallel arrays: the chips in each pot and the live seats that can
+   * win it, from the main pot up.
+   */
+  static final class Pots {
+    final long[] amounts;
+    final int[] eligible;
+    int count;
+
+    private Pots(int capacity) {
+      amounts = new long[capacity];
+      eligible = new int[capacity];
+    }
+
+    /**
+     * Cuts the contributions into pots at every distinct contribution level. Each pot holds what
+     * every player put in between the previous level and its own, and can be won by the live
+     * players who reached its level. Adjacent levels with the same live players form one pot;
+     * chips above the last live player's level, e.g. an uncalled bet of a player who then folded,
+     * join the pot below them.
+     *
+     * @param contributions chips each seat put in over the hand
+     * @param live          bitmask of the seats that did not fold, not empty
+     */
+    static Pots split(long[] contributions, int live) {
+      long[] levels = contributions.clone();
+      Arrays.sort(levels);
+      Pots pots = new Pots(Math.max(1, contributions.length));
+      long previous = 0;
+      long carried = 0;
+      for (long level : levels) {
+        if (level == previous) {
+          continue;
+        }
+        long amount = carried;
+        int eligible = 0;
+        for (int p = 0; p < contributions.length; p++) {
+          amount += Math.min(contributions[p], level) - Math.min(contributions[p], previous);
+          if (contributions[p] >= level) {
+            eligible |= 1 << p;
+          }
+        }
+        eligible &= live;
+        previous = level;
+        carried = 0;
+        if (eligible == 0 && pots.count == 0) {
+          // Only folded players reached this level; their chips go to the first live pot.
+          carried = amount;
+        } else if (eligible == 0 || pots.count > 0 && pots.eligible[pots.count - 1] == eligible) {
+          pots.amounts[pots.count - 1] += amount;
+        } else {
+          pots.amounts[pots.count] = amount;
+          pots.eligible[pots.count] = eligible;
+          pots.count++;
+        }
+      }
+      if (pots.count == 0) {
+        // No live player put chips in; whatever the folded players left is shared by all.
+        pots.amounts[0] = carried;
+        pots.eligible[0] = live;
+        pots.count = 1;
+      }
+      return pots;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Suit permutations of hand masks.
+ *
+ * <p>Relabelling suits never changes a hand's strength, so two deals that differ only by a suit
+ * permutation which also maps every known card set onto itself have identical outcomes.
+ * A permutation is an {@code int[4]} mapping suit ordinal {@code s} to {@code perm[s]}.
+ */
+final class SuitSymmetry {
+  static final int[][] ALL = allPermutations();
+
+  private SuitSymmetry() {
+  }
+
+  /**
+   * Applies a suit permutation to a hand mask.
+   */
+  static long permute(long mask, int[] perm) {
+    return (mask & CardMask.ALL_RANKS) << (perm[0] * CardMask.RANK_COUNT)
+        | (mask >>> 13 & CardMask.ALL_RANKS) << (perm[1] * CardMask.RANK_COUNT)
+        | (mask >>> 26 & CardMask.ALL_RANKS) << (perm[2] * CardMask.RANK_COUNT)
+        | (mask >>> 39 & CardMask.ALL_RANKS) << (perm[3] * CardMask.RANK_COUNT);
+  }
+
+  /**
+   * Returns the member of a mask's orbit under all suit permutations whose suit lanes, read as
+   * 13-bit numbers, are in descending order. Two masks have the same canonical mask exactly when
+   * a suit permutation maps one onto the other, so it can key anything that only depends on
+   * ranks and suitedness, e.g. a hand's strength. Five compare-exchanges, no tables.
+   */
+  static long canonical(long mask) {
+    long a = mask & CardMask.ALL_RANKS;
+    long b = mask >>> 13 & CardMask.ALL_RANKS;
+    long c = mask >>> 26 & CardMask.ALL_RANKS;
+    long d = mask >>> 39 & CardMask.ALL_RANKS;
+    long t;
+    if (a < b) {
+      t = a;
+      a = b;
+      b = t;
+    }
+    if (c < d) {
+      t = c;
+      c = d;
+      d = t;
+    }
+    if (a < c) {
+      t = a;
+      a = c;
+      c = t;
+    }
+    if (b < d) {
+      t = b;
+      b = d;
+      d = t;
+    }
+    if (b < c) {
+      t = b;
+      b = c;
+      c = t;
+    }
+    return a | b << 13 | c << 26 | d << 39;
+  }
+
+  /**
+   * Returns the permutations that map each of the given masks onto itself.
+   * The identity is always first.
+   */
+  static int[][] stabilizer(long... masks) {
+    List<int[]> result = new ArrayList<>();
+    for (int[] perm : ALL) {
+      boolean fixes = true;
+      for (long mask : masks) {
+        if (permute(mask, perm) != mask) {
+          fixes = false;
+          break;
+        }
+      }
+      if (fixes) {
+        result.add(perm);
+      }
+    }
+    return result.toArray(new int[0][]);
+  }
+
+  /**
+   * Returns how many masks the orbit of {@code mask} under {@code group} has, or 0 if
+   * {@code mask} is not the smallest member of its orbit.
+   */
+  static int orbitSizeIfCanonical(long mask, int[][] group) {
+    int stabilizer = 0;
+    for (int[] perm : group) {
+      long image = permute(mask, perm);
+      if (image < mask) {
+        return 0;
+      }
+      if (image == mask) {
+        stabilizer++;
+      }
+    }
+    return group.length / stabilizer;
+  }
+
+  private static int[][] allPermutations() {
+    List<int[]> perms = new ArrayList<>();
+    for (int a = 0; a < 4; a++) {
+      for (int b = 0; b < 4; b++) {
+        for (int c = 0; c < 4; c++) {
+          int d = 6 - a - b - c;
+          if (a != b && a != c && b != c && d != a && d != b && d != c) {
+            perms.add(new int[] {a, b, c, d});
+          }
+        }
+      }
+    }
+    return perms.toArray(new int[0][]);
+  }
+}
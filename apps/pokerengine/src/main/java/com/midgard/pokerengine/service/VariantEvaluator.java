@@ -0,0 +1,71 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.GameVariant;
+
+/**
+ * Ranks every player's hand on complete boards for one game variant. The players' hole cards
+ * are fixed when the evaluator is created, so it can prepare them once for all the boards of a
+ * request; per-board scratch space lives in the instance, so every thread ranks on its own
+ * {@link #copy()}.
+ */
+interface VariantEvaluator {
+
+  /**
+   * Creates an evaluator for a variant and the players' hole card masks. A player with no cards,
+   * e.g. one who folded, ranks 0.
+   */
+  static VariantEvaluator of(GameVariant variant, HandRankTables tables, long[] holes) {
+    if (variant.isExactlyTwo()) {
+      return new OmahaEvaluator(tables, holes, variant.isHiLo());
+    }
+    return new Holdem(tables, holes);
+  }
+
+  /**
+   * Ranks each player's high hand on a five card board, and for hi/lo variants their best
+   * eight-or-better low.
+   *
+   * @param board five card board mask
+   * @param highs receives each player's strength, 1-7462
+   * @param lows  receives each player's low, higher is better and 0 is no qualifying low;
+   *              ignored by variants without a low
+   */
+  void evaluate(long board, int[] highs, int[] lows);
+
+  /**
+   * Returns an evaluator for the same players with scratch space of its own.
+   */
+  VariantEvaluator copy();
+
+  /**
+   * Returns whether {@link #evaluate} ranks lows as well.
+   */
+  default boolean hiLo() {
+    return false;
+  }
+
+  /**
+   * Hold'em: the best five of the hole cards and the board, one table lookup per player.
+   */
+  final class Holdem implements VariantEvaluator {
+    private final HandRankTables tables;
+    private final long[] holes;
+
+    Holdem(HandRankTables tables, long[] holes) {
+      this.tables = tables;
+      this.holes = holes;
+    }
+
+    @Override
+    public void evaluate(long board, int[] highs, int[] lows) {
+      for (int p = 0; p < holes.length; p++) {
+        highs[p] = holes[p] == 0 ? 0 : tables.evaluate(board | holes[p]);
+      }
+    }
+
+    @Override
+    public VariantEvaluator copy() {
+      return this;
+    }
+  }
+}
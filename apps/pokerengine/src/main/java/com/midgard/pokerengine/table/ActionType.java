@@ -0,0 +1,13 @@
+package com.midgard.pokerengine.table;
+
+/**
+ * A player's action at a {@link HoldemTable}. A raise names the total the player's bet is raised
+ * to on the current street, and also covers an opening bet; raising by less than the minimum is
+ * only allowed all-in.
+ */
+public enum ActionType {
+  FOLD,
+  CHECK,
+  CALL,
+  RAISE
+}
@@ -0,0 +1,422 @@
+package com.midgard.pokerengine.table;
+
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.service.Deck;
+import com.midgard.pokerengine.service.HandEvaluatorService;
+import com.midgard.pokerengine.service.ShowdownService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A no-limit hold'em table: seats and stacks, the button and blinds, and the state machine of a
+ * hand from the deal through the betting rounds to the showdown.
+ *
+ * <p>State is kept in primitives: hole cards and the board are card masks, stacks and bets are
+ * arrays indexed by seat, and the seats in the hand, all-in or still to act are seat bitmasks, so
+ * an action allocates nothing. Hands are ranked by the {@link HandEvaluatorService} and pots split
+ * by the {@link ShowdownService}.
+ *
+ * <p>A table is not thread-safe. It is owned by a {@link TableActor}, which applies commands to
+ * it one at a time.
+ */
+public final class HoldemTable {
+  public static final int MIN_SEATS = 2;
+  public static final int MAX_SEATS = 10;
+
+  private final int seatCount;
+  private final long smallBlind;
+  private final long bigBlind;
+  private final HandEvaluatorService evaluator;
+  private final ShowdownService showdownService;
+  private final Deck deck;
+  private final long[] stacks;
+  private final long[] holes;
+  private final long[] committed;
+  private final long[] contributed;
+  private final int[] strengths;
+
+  private int seated;
+  private int inHand;
+  private int allIn;
+  // Seats that still have to act on this betting round, and those who acted since the last
+  // full raise and so may not raise again if only a short all-in raise follows
+  private int pending;
+  private int acted;
+  private int button = -1;
+  private int toAct = -1;
+  private Phase phase = Phase.WAITING;
+  private long board;
+  private long currentBet;
+  private long minRaise;
+  private long handsPlayed;
+
+  /**
+   * Creates an empty table.
+   *
+   * @param seats      number of seats, 2 to 10
+   * @param smallBlind small blind, at least 1
+   * @param bigBlind   big blind, at least the small blind; also the minimum bet
+   * @param evaluator  ranks hands at showdown
+   * @param showdown   splits the pots at showdown
+   * @param deck       the table's own deck, shuffled for every hand
+   */
+  public HoldemTable(int seats, long smallBlind, long bigBlind, HandEvaluatorService evaluator,
+      ShowdownService showdown, Deck deck) {
+    if (seats < MIN_SEATS || seats > MAX_SEATS) {
+      throw new IllegalArgumentException("A table has between " + MIN_SEATS + " and " + MAX_SEATS
+          + " seats");
+    }
+    if (smallBlind < 1 || bigBlind < smallBlind) {
+      throw new IllegalArgumentException("Blinds must be positive and the big blind at least the "
+          + "small blind");
+    }
+    this.seatCount = seats;
+    this.smallBlind = smallBlind;
+    this.bigBlind = bigBlind;
+    this.evaluator = evaluator;
+    this.showdownService = showdown;
+    this.deck = deck;
+    stacks = new long[seats];
+    holes = new long[seats];
+    committed = new long[seats];
+    contributed = new long[seats];
+    strengths = new int[seats];
+  }
+
+  /**
+   * Seats a player with a stack. A player sitting down during a hand is dealt in from the next
+   * one.
+   */
+  public void sit(int seat, long stack) {
+    checkSeat(seat);
+    if ((seated & 1 << seat) != 0) {
+      throw new IllegalStateException("Seat " + seat + " is taken");
+    }
+    if (stack <= 0) {
+      throw new IllegalArgumentException("Stack must be positive");
+    }
+    seated |= 1 << seat;
+    stacks[seat] = stack;
+  }
+
+  /**
+   * Removes a player who is not in the current hand.
+   *
+   * @return the player's stack
+   */
+  public long leave(int seat) {
+    checkSeat(seat);
+    if ((seated & 1 << seat) == 0) {
+      throw new IllegalStateException("Seat " + seat + " is empty");
+    }
+    if (phase != Phase.WAITING && (inHand & 1 << seat) != 0) {
+      throw new IllegalStateException("Seat " + seat + " is in a hand");
+    }
+    seated &= ~(1 << seat);
+    long stack = stacks[seat];
+    stacks[seat] = 0;
+    return stack;
+  }
+
+  /**
+   * Moves the button, shuffles, deals two cards to every seated player and posts the blinds.
+   *
+   * @throws IllegalStateException if a hand is running or fewer than two players are seated
+   */
+  public void startHand() {
+    if (phase != Phase.WAITING) {
+      throw new IllegalStateException("Hand " + handsPlayed + " is still running");
+    }
+    if (Integer.bitCount(seated) < MIN_SEATS) {
+      throw new IllegalStateException("A hand needs at least " + MIN_SEATS + " players");
+    }
+    Arrays.fill(holes, 0L);
+    Arrays.fill(committed, 0L);
+    Arrays.fill(contributed, 0L);
+    inHand = seated;
+    allIn = 0;
+    board = 0L;
+    deck.shuffle();
+    button = next(button, seated);
+    for (int card = 0; card < 2; card++) {
+      for (int seat = next(button, inHand), n = 0; n < Integer.bitCount(inHand); n++) {
+        holes[seat] |= 1L << deck.draw();
+        seat = next(seat, inHand);
+      }
+    }
+    // Heads-up the button posts the small blind and acts first before the flop
+    int small = Integer.bitCount(inHand) == MIN_SEATS ? button : next(button, inHand);
+    int big = next(small, inHand);
+    bet(small, Math.min(smallBlind, stacks[small]));
+    bet(big, Math.min(bigBlind, stacks[big]));
+    currentBet = Math.max(committed[small], committed[big]);
+    minRaise = bigBlind;
+    acted = 0;
+    phase = Phase.PREFLOP;
+    int active = inHand & ~allIn;
+    pending = Integer.bitCount(active) > 1 ? active : behind(active);
+    proceed(big);
+  }
+
+  /**
+   * Applies the action of the player to act and moves the hand on: to the next player, the next
+   * betting round, or the showdown.
+   *
+   * @param amount for {@link ActionType#RAISE}, the total bet on this street to raise to;
+   *               ignored otherwise
+   * @throws IllegalStateException    if no hand is running or it is not the seat's turn
+   * @throws IllegalArgumentException if the action is not allowed
+   */
+  public void act(int seat, ActionType type, long amount) {
+    if (phase == Phase.WAITING) {
+      throw new IllegalStateException("No hand is running");
+    }
+    if (seat != toAct) {
+      throw new IllegalStateException("Seat " + toAct + " is to act, not seat " + seat);
+    }
+    int bit = 1 << seat;
+    long toCall = currentBet - committed[seat];
+    switch (type) {
+      case FOLD -> inHand &= ~bit;
+      case CHECK -> {
+        if (toCall > 0) {
+          throw new IllegalArgumentException("Cannot check facing a bet of " + currentBet);
+        }
+      }
+      case CALL -> {
+        if (toCall == 0) {
+          throw new IllegalArgumentException("Nothing to call; check instead");
+        }
+        bet(seat, Math.min(toCall, stacks[seat]));
+      }
+      case RAISE -> raise(seat, amount);
+      default -> throw new IllegalArgumentException("Unknown action " + type);
+    }
+    pending &= ~bit;
+    acted |= bit;
+    proceed(seat);
+  }
+
+  /**
+   * Returns whether the seat to act may raise: it has chips beyond the call, someone else could
+   * still call, and no full raise was skipped by a short all-in since it last acted.
+   */
+  public boolean canRaise(int seat) {
+    int bit = 1 << seat;
+    return seat == toAct && (acted & bit) == 0 && (inHand & ~allIn & ~bit) != 0
+        && stacks[seat] > currentBet - committed[seat];
+  }
+
+  /**
+   * Returns the smallest total the seat may raise to, or its all-in total if that is less.
+   */
+  public long minRaiseTo(int seat) {
+    return Math.min(currentBet + minRaise, committed[seat] + stacks[seat]);
+  }
+
+  public Phase getPhase() {
+    return phase;
+  }
+
+  public int getSeatCount() {
+    return seatCount;
+  }
+
+  /**
+   * Returns the seat to act, or -1 between hands.
+   */
+  public int getToAct() {
+    return toAct;
+  }
+
+  public int getButton() {
+    return button;
+  }
+
+  public long getStack(int seat) {
+    return stacks[seat];
+  }
+
+  public boolean isSeated(int seat) {
+    return (seated & 1 << seat) != 0;
+  }
+
+  public boolean isInHand(int seat) {
+    return phase != Phase.WAITING && (inHand & 1 << seat) != 0;
+  }
+
+  /**
+   * Returns the seat's bet on the current betting round.
+   */
+  public long getCommitted(int seat) {
+    return committed[seat];
+  }
+
+  public long getCurrentBet() {
+    return currentBet;
+  }
+
+  /**
+   * Returns the chips put in over the current or last hand by every seat.
+   */
+  public long getPot() {
+    long pot = 0;
+    for (long chips : contributed) {
+      pot += chips;
+    }
+    return pot;
+  }
+
+  public long getHandsPlayed() {
+    return handsPlayed;
+  }
+
+  /**
+   * Returns the board of the current or last hand.
+   */
+  public List<Card> getBoard() {
+    return cards(board);
+  }
+
+  /**
+   * Returns the hole cards a seat was dealt in the current or last hand.
+   */
+  public List<Card> getHoleCards(int seat) {
+    return cards(holes[seat]);
+  }
+
+  /**
+   * Finds the next seat to act, or closes betting rounds and deals the next street until one
+   * needs an action or the hand is over.
+   */
+  private void proceed(int from) {
+    while (true) {
+      if (Integer.bitCount(inHand) == 1) {
+        stacks[Integer.numberOfTrailingZeros(inHand)] += getPot();
+        endHand();
+        return;
+      }
+      if (pending != 0) {
+        toAct = next(from, pending);
+        return;
+      }
+      if (phase == Phase.RIVER) {
+        showdown();
+        return;
+      }
+      phase = Phase.values()[phase.ordinal() + 1];
+      for (int i = 0; i < phase.getBoardCards(); i++) {
+        board |= 1L << deck.draw();
+      }
+      Arrays.fill(committed, 0L);
+      currentBet = 0;
+      minRaise = bigBlind;
+      acted = 0;
+      int active = inHand & ~allIn;
+      // Nobody bets when at most one player has chips behind
+      pending = Integer.bitCount(active) > 1 ? active : 0;
+      from = button;
+    }
+  }
+
+  private void raise(int seat, long amount) {
+    if (!canRaise(seat)) {
+      throw new IllegalArgumentException("Seat " + seat + " cannot raise");
+    }
+    long allInTotal = committed[seat] + stacks[seat];
+    if (amount > allInTotal) {
+      throw new IllegalArgumentException("Cannot raise to " + amount + " with " + allInTotal);
+    }
+    if (amount < currentBet + minRaise && amount != allInTotal) {
+      throw new IllegalArgumentException("Minimum raise is to " + (currentBet + minRaise));
+    }
+    bet(seat, amount - committed[seat]);
+    int others = inHand & ~allIn & ~(1 << seat);
+    if (amount - currentBet >= minRaise) {
+      minRaise = amount - currentBet;
+      acted = 0;
+      pending = others;
+    } else {
+      // A short all-in raise only makes the others call the difference
+      pending |= others & behind(others);
+    }
+    currentBet = amount;
+  }
+
+  private void bet(int seat, long chips) {
+    stacks[seat] -= chips;
+    committed[seat] += chips;
+    contributed[seat] += chips;
+    if (stacks[seat] == 0) {
+      allIn |= 1 << seat;
+    }
+  }
+
+  private void showdown() {
+    for (int seat = 0; seat < seatCount; seat++) {
+      strengths[seat] = (inHand & 1 << seat) != 0 ? evaluator.strength(board | holes[seat]) : 0;
+    }
+    long[] payouts = showdownService.payouts(strengths, contributed, inHand);
+    for (int seat = 0; seat < seatCount; seat++) {
+      stacks[seat] += payouts[seat];
+    }
+    endHand();
+  }
+
+  private void endHand() {
+    phase = Phase.WAITING;
+    toAct = -1;
+    pending = 0;
+    handsPlayed++;
+    for (int seat = 0; seat < seatCount; seat++) {
+      if (stacks[seat] == 0) {
+        seated &= ~(1 << seat);
+      }
+    }
+  }
+
+  /**
+   * Returns the seats of {@code seats} whose bet is below the highest bet of anyone in the hand.
+   */
+  private int behind(int seats) {
+    long highest = 0;
+    for (int seat = 0; seat < seatCount; seat++) {
+      if ((inHand & 1 << seat) != 0) {
+        highest = Math.max(highest, committed[seat]);
+      }
+    }
+    int behind = 0;
+    for (int rest = seats; rest != 0; rest &= rest - 1) {
+      int seat = Integer.numberOfTrailingZeros(rest);
+      if (committed[seat] < highest) {
+        behind |= 1 << seat;
+      }
+    }
+    return behind;
+  }
+
+  /**
+   * Returns the first seat of {@code seats} after {@code seat}, clockwise.
+   */
+  private int next(int seat, int seats) {
+    int after = seats & -(1 << (seat + 1)) & (1 << seatCount) - 1;
+    return Integer.numberOfTrailingZeros(after != 0 ? after : seats);
+  }
+
+  private void checkSeat(int seat) {
+    if (seat < 0 || seat >= seatCount) {
+      throw new IllegalArgumentException("No seat " + seat + " at a " + seatCount
+          + "-seat table");
+    }
+  }
+
+  private static List<Card> cards(long mask) {
+    List<Card> cards = new ArrayList<>(Long.bitCount(mask));
+    for (long rest = mask; rest != 0; rest &= rest - 1) {
+      cards.add(CardMask.card(Long.numberOfTrailingZeros(rest)));
+    }
+    return cards;
+  }
+}
@@ -0,0 +1,74 @@
+package com.midgard.pokerengine.table;
+
+/**
+ * Log-linear histogram of nanosecond latencies: values are bucketed by power of two, and each
+ * power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so percentiles are within
+ * about 12% of the true value at any scale. Recording is a few bit operations and an increment;
+ * it is not thread-safe, so each recorder keeps its own histogram and they are merged at the end.
+ */
+final class LatencyHistogram {
+  private static final int SUB_BITS = 3;
+  static final int SUB_BUCKETS = 1 << SUB_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+  private final long[] counts = new long[BUCKETS];
+  private long count;
+  private long max;
+
+  void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    counts[bucket(value)]++;
+    count++;
+    max = Math.max(max, value);
+  }
+
+  void merge(LatencyHistogram other) {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] += other.counts[i];
+    }
+    count += other.count;
+    max = Math.max(max, other.max);
+  }
+
+  long count() {
+    return count;
+  }
+
+  long max() {
+    return max;
+  }
+
+  /**
+   * Returns the value at a quantile from 0 to 1, as the midpoint of its bucket, or 0 if nothing
+   * was recorded.
+   */
+  long percentile(double quantile) {
+    long rank = (long) Math.ceil(quantile * count);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank && counts[i] > 0) {
+        return Math.min(max, (lowest(i) + lowest(i + 1)) / 2);
+      }
+    }
+    return 0;
+  }
+
+  private static int bucket(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  private static long lowest(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+    long sub = bucket % SUB_BUCKETS;
+    return (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+  }
+}
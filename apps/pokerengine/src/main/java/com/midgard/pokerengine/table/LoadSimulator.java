@@ -0,0 +1,182 @@
+package com.midgard.pokerengine.table;
+
+import com.midgard.pokerengine.service.Deck;
+import com.midgard.pokerengine.service.HandEvaluatorService;
+import com.midgard.pokerengine.service.ShowdownService;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Load test for the {@link TableEngine}: plays a number of hands at each of many tables of bots
+ * and reports hands per second and percentiles of the command latency, from a command being sent
+ * to a table until it has run.
+ *
+ * <p>Each table has one bot, which is also the only command in flight for it: when it runs it
+ * starts a hand or plays the seat to act, then sends itself again, like the next player's action
+ * arriving. As that send comes from inside the table, the engine runs with a throughput of one
+ * command per turn, so every action goes back through the worker queue like one sent by a
+ * client instead of running at once in the same turn. Bots keep their latency histogram to
+ * themselves, since a table's commands never run concurrently; the histograms are merged when
+ * every table has finished.
+ */
+public final class LoadSimulator {
+  static final long SMALL_BLIND = 1;
+  static final long BIG_BLIND = 2;
+  static final long BUY_IN = 200;
+
+  private LoadSimulator() {
+  }
+
+  /**
+   * Result of a simulation run.
+   *
+   * @param actions player actions, not counting hand starts
+   */
+  public record Report(int tables, long hands, long actions, double seconds, long p50Nanos,
+      long p99Nanos, long p999Nanos, long maxNanos) {
+
+    public double handsPerSecond() {
+      return hands / seconds;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d tables, %d hands, %d actions in %.2f s: %.0f hands/s; "
+              + "command latency p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us",
+          tables, hands, actions, seconds, handsPerSecond(), p50Nanos / 1e3, p99Nanos / 1e3,
+          p999Nanos / 1e3, maxNanos / 1e3);
+    }
+  }
+
+  /**
+   * Plays {@code hands} hands at each of {@code tables} tables and waits for all of them.
+   *
+   * @param tables  number of tables
+   * @param seats   players per table
+   * @param hands   hands per table
+   * @param workers engine worker threads
+   * @param seed    seed for the deals and the bots' decisions
+   */
+  public static Report run(int tables, int seats, int hands, int workers, long seed)
+      throws InterruptedException {
+    HandEvaluatorService evaluator = new HandEvaluatorService();
+    ShowdownService showdown = new ShowdownService();
+    SplittableRandom random = new SplittableRandom(seed);
+    CountDownLatch finished = new CountDownLatch(tables);
+    Bot[] bots = new Bot[tables];
+    long start;
+    try (TableEngine engine = new TableEngine(workers, 1)) {
+      for (int t = 0; t < tables; t++) {
+        HoldemTable table = new HoldemTable(seats, SMALL_BLIND, BIG_BLIND, evaluator, showdown,
+            new Deck(random.split()));
+        bots[t] = new Bot(random.split(), hands, finished);
+        bots[t].actor = engine.open(table);
+      }
+      start = System.nanoTime();
+      // Start every table from one worker, so they take turns on its deque from the first action
+      engine.execute(() -> {
+        for (Bot bot : bots) {
+          bot.sendNext();
+        }
+      });
+      finished.await();
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+    LatencyHistogram latency = new LatencyHistogram();
+    long actions = 0;
+    for (Bot bot : bots) {
+      latency.merge(bot.latency);
+      actions += bot.actions;
+    }
+    return new Report(tables, (long) tables * hands, actions, seconds, latency.percentile(0.5),
+        latency.percentile(0.99), latency.percentile(0.999), latency.max());
+  }
+
+  /**
+   * Plays one table: refills empty seats between hands and picks a random action for the seat
+   * to act, folding, calling or raising the minimum.
+   */
+  static final class Bot implements TableCommand {
+    private final SplittableRandom random;
+    private final int hands;
+    private final CountDownLatch finished;
+    final LatencyHistogram latency = new LatencyHistogram();
+    TableActor actor;
+    long actions;
+    private long sentNanos;
+
+    Bot(SplittableRandom random, int hands, CountDownLatch finished) {
+      this.random = random;
+      this.hands = hands;
+      this.finished = finished;
+    }
+
+    void sendNext() {
+      sentNanos = System.nanoTime();
+      actor.send(this);
+    }
+
+    @Override
+    public void execute(HoldemTable table) {
+      latency.record(System.nanoTime() - sentNanos);
+      try {
+        if (table.getPhase() == Phase.WAITING) {
+          if (table.getHandsPlayed() == hands) {
+            finished.countDown();
+            return;
+          }
+          for (int seat = 0; seat < table.getSeatCount(); seat++) {
+            if (!table.isSeated(seat)) {
+              table.sit(seat, BUY_IN);
+            }
+          }
+          table.startHand();
+        } else {
+          act(table);
+          actions++;
+        }
+      } catch (RuntimeException e) {
+        // Do not leave the run waiting for a table that stopped
+        finished.countDown();
+        throw e;
+      }
+      sendNext();
+    }
+
+    private void act(HoldemTable table) {
+      int seat = table.getToAct();
+      boolean facingBet = table.getCurrentBet() > table.getCommitted(seat);
+      int roll = random.nextInt(100);
+      if (roll < 15 && table.canRaise(seat)) {
+        table.act(seat, ActionType.RAISE, table.minRaiseTo(seat));
+      } else if (!facingBet) {
+        table.act(seat, ActionType.CHECK, 0);
+      } else if (roll < 35) {
+        table.act(seat, ActionType.FOLD, 0);
+      } else {
+        table.act(seat, ActionType.CALL, 0);
+      }
+    }
+  }
+
+  /**
+   * Runs a simulation and prints its report.
+   *
+   * @param args tables, hands per table, worker threads (default: available processors) and
+   *             seats per table (default 6)
+   */
+  public static void main(String[] args) throws InterruptedException {
+    if (args.length < 2 || args.length > 4) {
+      System.err.println("Usage: LoadSimulator <tables> <hands-per-table> [workers] [seats]");
+      System.exit(2);
+    }
+    int tables = Integer.parseInt(args[0]);
+    int hands = Integer.parseInt(args[1]);
+    int workers = args.length > 2 ? Integer.parseInt(args[2])
+        : Runtime.getRuntime().availableProcessors();
+    int seats = args.length > 3 ? Integer.parseInt(args[3]) : 6;
+    // Warm up the evaluator and the table code before measuring
+    run(Math.min(tables, 100), seats, 100, workers, 1);
+    System.out.println(run(tables, seats, hands, workers, System.nanoTime()));
+  }
+}
@@ -0,0 +1,25 @@
+package com.midgard.pokerengine.table;
+
+/**
+ * Where a {@link HoldemTable} is in a hand: waiting between hands or on a betting round.
+ */
+public enum Phase {
+  WAITING(0),
+  PREFLOP(0),
+  FLOP(3),
+  TURN(1),
+  RIVER(1);
+
+  private final int boardCards;
+
+  Phase(int boardCards) {
+    this.boardCards = boardCards;
+  }
+
+  /**
+   * Returns the board cards dealt when this betting round begins.
+   */
+  public int getBoardCards() {
+    return boardCards;
+  }
+}
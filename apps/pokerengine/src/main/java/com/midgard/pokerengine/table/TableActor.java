@@ -0,0 +1,92 @@
+package com.midgard.pokerengine.table;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Owns one {@link HoldemTable} and applies the commands sent to it one at a time, in the order
+ * they arrived, so the table needs no locks.
+ *
+ * <p>Commands go into a lock-free mailbox. The first send to an idle table schedules it on the
+ * engine's worker pool; the worker then runs up to {@code throughput} commands and, if more are
+ * waiting, schedules the table again behind the other busy tables, so one chatty table cannot
+ * hold a worker. The scheduled flag hands the table from one worker to the next with a volatile
+ * write and read, which also publishes the table's state between them.
+ */
+public final class TableActor {
+  private static final Logger logger = LoggerFactory.getLogger(TableActor.class);
+
+  private final long id;
+  private final HoldemTable table;
+  private final Executor workers;
+  private final int throughput;
+  private final ConcurrentLinkedQueue<TableCommand> mailbox = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final Runnable drain = this::drain;
+
+  TableActor(long id, HoldemTable table, Executor workers, int throughput) {
+    this.id = id;
+    this.table = table;
+    this.workers = workers;
+    this.throughput = throughput;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Queues a command for the table without waiting for it to run.
+   */
+  public void send(TableCommand command) {
+    mailbox.offer(command);
+    schedule();
+  }
+
+  /**
+   * Queues a query or action for the table and returns its result once it has run, e.g.
+   * {@code actor.ask(table -> table.getStack(3))}.
+   */
+  public <T> CompletableFuture<T> ask(Function<HoldemTable, T> query) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    send(table -> {
+      try {
+        result.complete(query.apply(table));
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
+      }
+    });
+    return result;
+  }
+
+  private void schedule() {
+    if (!scheduled.get() && scheduled.compareAndSet(false, true)) {
+      workers.execute(drain);
+    }
+  }
+
+  private void drain() {
+    for (int i = 0; i < throughput; i++) {
+      TableCommand command = mailbox.poll();
+      if (command == null) {
+        break;
+      }
+      try {
+        command.execute(table);
+      } catch (RuntimeException e) {
+        logger.warn("Command failed on table {}: {}", id, e.getMessage());
+      }
+    }
+    scheduled.set(false);
+    // A command sent after the last poll but before the flag was cleared saw the table as
+    // scheduled, so check again rather than leave it unprocessed
+    if (!mailbox.isEmpty()) {
+      schedule();
+    }
+  }
+}
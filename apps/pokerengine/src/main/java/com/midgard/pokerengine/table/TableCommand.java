@@ -0,0 +1,10 @@
+package com.midgard.pokerengine.table;
+
+/**
+ * A message to a table, run by its {@link TableActor} on a worker thread with exclusive access
+ * to the table. Commands must not block.
+ */
+@FunctionalInterface
+public interface TableCommand {
+  void execute(HoldemTable table);
+}
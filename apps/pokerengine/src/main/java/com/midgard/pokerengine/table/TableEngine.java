@@ -0,0 +1,93 @@
+package com.midgard.pokerengine.table;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs many {@link HoldemTable}s on a small pool of worker threads. Each table is a
+ * {@link TableActor} that processes its own commands serially, so tens of thousands of tables
+ * share a handful of threads and no table holds a thread or a lock while it waits for players.
+ *
+ * <p>The workers are a fork/join pool in FIFO mode: a table scheduled from a worker goes onto
+ * that worker's own deque and idle workers steal from the others, so scheduling does not contend
+ * on one shared queue. A worker serves its own deque before outside submissions, so a table
+ * that keeps sending itself commands is scheduled round-robin with the tables on the same deque.
+ */
+public final class TableEngine implements AutoCloseable {
+  public static final int DEFAULT_THROUGHPUT = 16;
+
+  private final ForkJoinPool workers;
+  private final int throughput;
+  private final ConcurrentHashMap<Long, TableActor> tables = new ConcurrentHashMap<>();
+  private final AtomicLong nextId = new AtomicLong();
+
+  public TableEngine(int workers) {
+    this(workers, DEFAULT_THROUGHPUT);
+  }
+
+  /**
+   * Creates an engine.
+   *
+   * @param workers    worker threads
+   * @param throughput commands a table runs before it yields its worker to the next table
+   */
+  public TableEngine(int workers, int throughput) {
+    if (workers < 1 || throughput < 1) {
+      throw new IllegalArgumentException("Workers and throughput must be positive");
+    }
+    this.workers = new ForkJoinPool(workers, ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+        null, true);
+    this.throughput = throughput;
+  }
+
+  /**
+   * Registers a table and returns the actor to send its commands to.
+   */
+  public TableActor open(HoldemTable table) {
+    long id = nextId.incrementAndGet();
+    TableActor actor = new TableActor(id, table, workers, throughput);
+    tables.put(id, actor);
+    return actor;
+  }
+
+  /**
+   * Returns the actor of a table, or null if there is none with that id.
+   */
+  public TableActor get(long id) {
+    return tables.get(id);
+  }
+
+  /**
+   * Unregisters a table. Commands already queued still run.
+   *
+   * @return whether the table was registered
+   */
+  public boolean remove(long id) {
+    return tables.remove(id) != null;
+  }
+
+  public int size() {
+    return tables.size();
+  }
+
+  /**
+   * Runs a task on a worker. Tables it sends commands to are scheduled on that worker's deque,
+   * in order, rather than on the shared submission queue that workers only poll once their own
+   * deques are empty.
+   */
+  void execute(Runnable task) {
+    workers.execute(task);
+  }
+
+  /**
+   * Stops the workers after the tables already scheduled have run; tables are not scheduled
+   * again after that.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    workers.shutdown();
+    workers.awaitTermination(1, TimeUnit.MINUTES);
+  }
+}
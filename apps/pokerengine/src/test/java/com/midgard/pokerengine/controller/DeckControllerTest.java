@@ -0,0 +1,69 @@
+package com.midgard.pokerengine.controller;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.logging.RequestLogSampler;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.service.DeckService;
+import com.midgard.pokerengine.service.HandRankTables;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(DeckController.class)
+@Import(DeckService.class)
+class DeckControllerTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PokerConfig pokerConfig() {
+            return new PokerConfig();
+        }
+
+        @Bean
+        HandRankTables handRankTables() {
+            return HandRankTables.standard();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PokerMetrics pokerMetrics;
+
+    @MockBean
+    private RequestLogSampler requestLogSampler;
+
+    @Test
+    void deal_Seeded_ReturnsSeedAndDeals() throws Exception {
+        mockMvc.perform(post("/api/v1/deck/deal")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"deals\":3,\"players\":6,\"boardCards\":3,\"seed\":42}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Successfully dealt 3 hands"))
+                .andExpect(jsonPath("$.data.mode").value("SEEDED"))
+                .andExpect(jsonPath("$.data.seed").value(42))
+                .andExpect(jsonPath("$.data.deals.length()").value(3))
+                .andExpect(jsonPath("$.data.deals[0].players.length()").value(6))
+                .andExpect(jsonPath("$.data.deals[0].board").isString());
+    }
+
+    @Test
+    void deal_SeedInSecureMode_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/deck/deal")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"players\":2,\"mode\":\"SECURE\",\"seed\":42}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("A seed can only be used in SEEDED mode"));
+    }
+}
@@ -0,0 +1,144 @@
+package com.midgard.pokerengine.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.logging.RequestLogSampler;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.EquityMode;
+import com.midgard.pokerengine.model.EquityRequest;
+import com.midgard.pokerengine.model.EquityResult;
+import com.midgard.pokerengine.model.PlayerEquity;
+import com.midgard.pokerengine.model.PreflopEquity;
+import com.midgard.pokerengine.model.RangeEquity;
+import com.midgard.pokerengine.model.RangeEquityResult;
+import com.midgard.pokerengine.model.Rank;
+import com.midgard.pokerengine.model.Suit;
+import com.midgard.pokerengine.service.EquityService;
+import com.midgard.pokerengine.service.PreflopEquityService;
+import com.midgard.pokerengine.service.RangeEquityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(EquityController.class)
+class EquityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private EquityService equityService;
+
+    @MockBean
+    private RangeEquityService rangeEquityService;
+
+    @MockBean
+    private PreflopEquityService preflopEquityService;
+
+    @MockBean
+    private PokerMetrics pokerMetrics;
+
+    @MockBean
+    private RequestLogSampler requestLogSampler;
+
+    private final EquityRequest request = new EquityRequest(List.of(
+        List.of(new Card(Suit.SPADES, Rank.ACE), new Card(Suit.HEARTS, Rank.ACE)),
+        List.of(new Card(Suit.SPADES, Rank.KING), new Card(Suit.HEARTS, Rank.KING))
+    ), null, null, 1000L, null, null, null, null);
+
+    @Test
+    void calculate_ValidRequest_ReturnsEquityPerPlayer() throws Exception {
+        when(equityService.calculate(any())).thenReturn(new EquityResult(EquityMode.MONTE_CARLO, List.of(
+            new PlayerEquity(0.82, 0.01, 0.17, 0.825, 0.002),
+            new PlayerEquity(0.17, 0.01, 0.82, 0.175, 0.002)
+        ), 1000, 1000, 3));
+
+        mockMvc.perform(post("/api/v1/equity")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Successfully calculated equity"))
+                .andExpect(jsonPath("$.data.mode").value("MONTE_CARLO"))
+                .andExpect(jsonPath("$.data.trials").value(1000))
+                .andExpect(jsonPath("$.data.players[0].equity").value(0.825))
+                .andExpect(jsonPath("$.data.players[1].loss").value(0.82));
+    }
+
+    @Test
+    void calculate_InvalidRequest_ReturnsBadRequest() throws Exception {
+        when(equityService.calculate(any()))
+            .thenThrow(new BusinessException("Equity needs between 2 and 10 players", HttpStatus.BAD_REQUEST));
+
+        mockMvc.perform(post("/api/v1/equity")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Equity needs between 2 and 10 players"));
+    }
+
+    @Test
+    void calculate_IllegalArgument_ReturnsStandardBadRequest() throws Exception {
+        when(equityService.calculate(any()))
+            .thenThrow(new IllegalArgumentException("Cards must come from the standard deck"));
+
+        mockMvc.perform(post("/api/v1/equity")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("Cards must come from the standard deck"));
+    }
+
+    @Test
+    void calculateRange_ValidRequest_ReturnsEquityPerRange() throws Exception {
+        when(rangeEquityService.calculate(any())).thenReturn(new RangeEquityResult(EquityMode.EXACT, List.of(
+            new RangeEquity("TT+", 30, 0.6, 0.01, 0.605),
+            new RangeEquity("AK", 16, 0.39, 0.01, 0.395)
+        ), 1176, 12));
+
+        mockMvc.perform(post("/api/v1/equity/range")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ranges\":[\"TT+\",\"AK\"],\"board\":\"2c7d9h\",\"mode\":\"EXACT\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Successfully calculated range equity"))
+                .andExpect(jsonPath("$.data.boards").value(1176))
+                .andExpect(jsonPath("$.data.ranges[0].combos").value(30))
+                .andExpect(jsonPath("$.data.ranges[1].equity").value(0.395));
+    }
+
+    @Test
+    void preflop_TwoHands_ReturnsLookedUpEquity() throws Exception {
+        when(preflopEquityService.lookup("AKs", "QQ"))
+            .thenReturn(new PreflopEquity("AKs", "QQ", 0.4583, 0.0043, 0.5374, 0.46045));
+
+        mockMvc.perform(get("/api/v1/equity/preflop")
+                .param("hand", "AKs")
+                .param("versus", "QQ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Successfully looked up preflop equity"))
+                .andExpect(jsonPath("$.data.versus").value("QQ"))
+                .andExpect(jsonPath("$.data.equity").value(0.46045));
+    }
+
+    @Test
+    void preflop_MissingHand_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/equity/preflop"))
+                .andExpect(status().isBadRequest());
+    }
+}
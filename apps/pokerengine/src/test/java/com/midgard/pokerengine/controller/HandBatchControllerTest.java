@@ -0,0 +1,115 @@
+package com.midgard.pokerengine.controller;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.converter.PokerHandFormat;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.service.HandBatchService;
+import com.midgard.pokerengine.service.HandEvaluatorService;
+import com.midgard.pokerengine.service.HandRankTables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(HandBatchController.class)
+@Import({HandBatchService.class, HandEvaluatorService.class})
+class HandBatchControllerTest {
+
+    private static final String STRAIGHT =
+        "{\"cards\":[{\"suit\":\"HEARTS\",\"rank\":\"TWO\"},{\"suit\":\"CLUBS\",\"rank\":\"THREE\"}," +
+        "{\"suit\":\"DIAMONDS\",\"rank\":\"FOUR\"},{\"suit\":\"SPADES\",\"rank\":\"FIVE\"}," +
+        "{\"suit\":\"HEARTS\",\"rank\":\"SIX\"}]}";
+
+    private static final String FOUR_CARDS =
+        "{\"cards\":[{\"suit\":\"HEARTS\",\"rank\":\"TWO\"},{\"suit\":\"CLUBS\",\"rank\":\"THREE\"}," +
+        "{\"suit\":\"DIAMONDS\",\"rank\":\"FOUR\"},{\"suit\":\"SPADES\",\"rank\":\"FIVE\"}]}";
+
+    private static final String BAD_SUIT =
+        "{\"cards\":[{\"suit\":\"STARS\",\"rank\":\"TWO\"}]}";
+
+    @TestConfiguration
+    static class TablesConfig {
+        @Bean
+        HandRankTables handRankTables() {
+            return HandRankTables.standard();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PokerConfig pokerConfig;
+
+    @MockBean
+    private PokerMetrics pokerMetrics;
+
+    @BeforeEach
+    void setUp() {
+        when(pokerConfig.getValidHandSizes()).thenReturn(List.of(5, 7));
+    }
+
+    @Test
+    void batch_NdjsonBody_StreamsOneLinePerHand() throws Exception {
+        mockMvc.perform(post("/api/v1/hand/batch")
+                .contentType(HandBatchController.APPLICATION_NDJSON_VALUE)
+                .content(STRAIGHT + "\n" + STRAIGHT + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(HandBatchController.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string(
+                    "{\"index\":0,\"category\":\"STRAIGHT\",\"strength\":5855}\n" +
+                    "{\"index\":1,\"category\":\"STRAIGHT\",\"strength\":5855}"));
+    }
+
+    @Test
+    void batch_JsonArrayWithInvalidHands_ReportsErrorsInline() throws Exception {
+        mockMvc.perform(post("/api/v1/hand/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + FOUR_CARDS + "," + BAD_SUIT + "," + STRAIGHT + "]"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                    "{\"index\":0,\"error\":\"Invalid hand size: 4. Valid sizes are: [5, 7]\"}")))
+                .andExpect(content().string(containsString("{\"index\":1,\"error\":\"Invalid hand: Invalid suit: STARS")))
+                .andExpect(content().string(containsString(
+                    "{\"index\":2,\"category\":\"STRAIGHT\",\"strength\":5855}")));
+    }
+
+    @Test
+    void batch_MalformedJson_StopsWithErrorLine() throws Exception {
+        mockMvc.perform(post("/api/v1/hand/batch")
+                .contentType(HandBatchController.APPLICATION_NDJSON_VALUE)
+                .content(STRAIGHT + "\n{\"cards\": [oops"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("{\"index\":0,\"category\":\"STRAIGHT\"")))
+                .andExpect(content().string(containsString("{\"index\":1,\"error\":\"Malformed JSON")));
+    }
+
+    @Test
+    void batch_BinaryBody_StreamsOneStrengthPerHand() throws Exception {
+        // 2h 3c 4d 5s 6h as card indices, the same straight as a mask, then a duplicate card
+        byte[] body = {
+            5, 0, 27, 15, 42, 4,
+            (byte) 0xFF, 0, 0, 0x04, 0, 0x08, 0, (byte) 0x80, 0x11,
+            5, 0, 0, 15, 42, 4
+        };
+        mockMvc.perform(post("/api/v1/hand/batch")
+                .contentType(PokerHandFormat.MEDIA_TYPE)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(PokerHandFormat.MEDIA_TYPE))
+                .andExpect(content().bytes(new byte[] {0x16, (byte) 0xDF, 0x16, (byte) 0xDF, 0, 0}));
+    }
+}
@@ -2,12 +2,24 @@ package com.midgard.pokerengine.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.converter.PokerHandFormat;
 import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.logging.RequestLogSampler;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.HandRank;
 import com.midgard.pokerengine.model.HandRequest;
+import com.midgard.pokerengine.model.LowballRank;
+import com.midgard.pokerengine.model.LowballType;
+import com.midgard.pokerengine.model.MixedRank;
 import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.DrawType;
+import com.midgard.pokerengine.model.OutGroup;
+import com.midgard.pokerengine.model.OutsResult;
 import com.midgard.pokerengine.model.Rank;
 import com.midgard.pokerengine.model.Suit;
 import com.midgard.pokerengine.service.HandEvaluatorService;
+import com.midgard.pokerengine.service.OutsService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -15,9 +27,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -35,9 +50,18 @@ class HandEvaluatorControllerTest {
     @MockBean
     private HandEvaluatorService handEvaluatorService;
 
+    @MockBean
+    private OutsService outsService;
+
     @MockBean
     private PokerConfig pokerConfig;
 
+    @MockBean
+    private PokerMetrics pokerMetrics;
+
+    @MockBean
+    private RequestLogSampler requestLogSampler;
+
     @Test
     void isStraight_ValidHand_ReturnsTrueForStraight() throws Exception {
         // Arrange
@@ -115,4 +139,162 @@ class HandEvaluatorControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void rank_ValidHand_ReturnsCategoryAndStrength() throws Exception {
+        HandRequest request = new HandRequest(List.of(
+            new Card(Suit.HEARTS, Rank.TWO),
+            new Card(Suit.CLUBS, Rank.THREE),
+            new Card(Suit.DIAMONDS, Rank.FOUR),
+            new Card(Suit.SPADES, Rank.FIVE),
+            new Card(Suit.HEARTS, Rank.SIX)
+        ));
+
+        when(handEvaluatorService.rank(anyList())).thenReturn(new HandRank(HandCategory.STRAIGHT, 5855));
+        when(pokerConfig.getValidHandSizes()).thenReturn(List.of(5, 7));
+
+        mockMvc.perform(post("/api/v1/hand/rank")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.message").value("Successfully ranked the hand"))
+                .andExpect(jsonPath("$.data.category").value("STRAIGHT"))
+                .andExpect(jsonPath("$.data.strength").value(5855));
+    }
+
+    @Test
+    void rank_InvalidHandSize_ReturnsBadRequest() throws Exception {
+        HandRequest request = new HandRequest(List.of(
+            new Card(Suit.HEARTS, Rank.TWO),
+            new Card(Suit.CLUBS, Rank.THREE),
+            new Card(Suit.DIAMONDS, Rank.FOUR),
+            new Card(Suit.SPADES, Rank.FIVE),
+            new Card(Suit.HEARTS, Rank.SIX),
+            new Card(Suit.HEARTS, Rank.SEVEN)
+        ));
+
+        when(pokerConfig.getValidHandSizes()).thenReturn(List.of(5, 7));
+
+        mockMvc.perform(post("/api/v1/hand/rank")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid hand size: 6. Valid sizes are: [5, 7]"));
+    }
+
+    @Test
+    void rank_DuplicateCardInSevenCardHand_ReturnsBadRequest() throws Exception {
+        when(pokerConfig.getValidHandSizes()).thenReturn(List.of(5, 7));
+
+        mockMvc.perform(post("/api/v1/hand/rank")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"cards\":\"AhKhQhJhTh2c2c\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Hand contains duplicate cards"));
+    }
+
+    @Test
+    void rank_BinaryHand_ReturnsBinaryRank() throws Exception {
+        when(handEvaluatorService.rank(anyList())).thenReturn(new HandRank(HandCategory.STRAIGHT, 5855));
+        when(pokerConfig.getValidHandSizes()).thenReturn(List.of(5, 7));
+
+        // 2h 3c 4d 5s 6h as count-prefixed card indices
+        mockMvc.perform(post("/api/v1/hand/rank")
+                .contentType(PokerHandFormat.MEDIA_TYPE)
+                .accept(PokerHandFormat.MEDIA_TYPE)
+                .content(new byte[] {5, 0, 27, 15, 42, 4}))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(PokerHandFormat.MEDIA_TYPE))
+                .andExpect(content().bytes(new byte[] {0, (byte) 0xC8, 4, 0x16, (byte) 0xDF}));
+    }
+
+    @Test
+    void lowball_BinaryAccept_ReturnsNotAcceptable() throws Exception {
+        List<Rank> wheel = List.of(Rank.FIVE, Rank.FOUR, Rank.THREE, Rank.TWO, Rank.ACE);
+        when(handEvaluatorService.mixed(anyList())).thenReturn(new MixedRank(
+            new HandRank(HandCategory.STRAIGHT, 5854),
+            new LowballRank(LowballType.ACE_TO_FIVE, HandCategory.HIGH_CARD, 6175, wheel),
+            new LowballRank(LowballType.DEUCE_TO_SEVEN, HandCategory.HIGH_CARD, 6678, wheel)));
+        when(pokerConfig.getValidHandSizes()).thenReturn(List.of(5, 7));
+
+        // Mixed ranks have no binary encoding, so the converter must not be picked
+        mockMvc.perform(post("/api/v1/hand/lowball")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(PokerHandFormat.MEDIA_TYPE)
+                .content("{\"cards\":\"Ah2c3d4s5h\"}"))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void isStraight_BinaryMaskWithBadSize_ReturnsBinaryError() throws Exception {
+        when(pokerConfig.getValidHandSizes()).thenReturn(List.of(5, 7));
+
+        // Marker byte and a mask holding 2h 3h 4h 5h
+        mockMvc.perform(post("/api/v1/hand/isstraight")
+                .contentType(PokerHandFormat.MEDIA_TYPE)
+                .accept(PokerHandFormat.MEDIA_TYPE)
+                .content(new byte[] {(byte) 0xFF, 0, 0, 0, 0, 0, 0, 0, 0x0F}))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().bytes(concat(new byte[] {0x01, (byte) 0x90, 0, 45},
+                    "Invalid hand size: 4. Valid sizes are: [5, 7]".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void outs_CompactCards_ReturnsDrawsAndOuts() throws Exception {
+        when(outsService.outs(any())).thenReturn(new OutsResult(new HandRank(HandCategory.HIGH_CARD, 1000),
+            List.of(DrawType.GUTSHOT), 46, 4,
+            List.of(new OutGroup(HandCategory.STRAIGHT, List.of(
+                new Card(Suit.HEARTS, Rank.JACK), new Card(Suit.DIAMONDS, Rank.JACK),
+                new Card(Suit.CLUBS, Rank.JACK), new Card(Suit.SPADES, Rank.JACK)))),
+            4.0 / 46, 4.0 / 46));
+
+        mockMvc.perform(post("/api/v1/hand/outs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"hole\":\"AsKd\",\"board\":\"QcTh3s2d\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Successfully counted the outs"))
+                .andExpect(jsonPath("$.data.draws[0]").value("GUTSHOT"))
+                .andExpect(jsonPath("$.data.totalOuts").value(4))
+                .andExpect(jsonPath("$.data.outs[0].category").value("STRAIGHT"))
+                .andExpect(jsonPath("$.data.outs[0].cards.length()").value(4));
+    }
+
+    @Test
+    void lowball_CompactCards_ReturnsHighAndBothLows() throws Exception {
+        List<Rank> wheel = List.of(Rank.FIVE, Rank.FOUR, Rank.THREE, Rank.TWO, Rank.ACE);
+        when(handEvaluatorService.mixed(anyList())).thenReturn(new MixedRank(
+            new HandRank(HandCategory.STRAIGHT, 5854),
+            new LowballRank(LowballType.ACE_TO_FIVE, HandCategory.HIGH_CARD, 6175, wheel),
+            new LowballRank(LowballType.DEUCE_TO_SEVEN, HandCategory.HIGH_CARD, 6678,
+                List.of(Rank.ACE, Rank.FIVE, Rank.FOUR, Rank.THREE, Rank.TWO))));
+        when(pokerConfig.getValidHandSizes()).thenReturn(List.of(5, 7));
+
+        mockMvc.perform(post("/api/v1/hand/lowball")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"cards\":\"Ah2c3d4s5h\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Successfully ranked the hand"))
+                .andExpect(jsonPath("$.data.high.category").value("STRAIGHT"))
+                .andExpect(jsonPath("$.data.aceToFive.strength").value(6175))
+                .andExpect(jsonPath("$.data.aceToFive.ranks[4]").value("ACE"))
+                .andExpect(jsonPath("$.data.deuceToSeven.type").value("DEUCE_TO_SEVEN"));
+    }
+
+    @Test
+    void lowball_DuplicateCard_ReturnsBadRequest() throws Exception {
+        when(pokerConfig.getValidHandSizes()).thenReturn(List.of(5, 7));
+
+        mockMvc.perform(post("/api/v1/hand/lowball")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"cards\":\"Ah2c3d4s5h8c8c\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Hand contains duplicate cards"));
+    }
+
+    private static byte[] concat(byte[] head, byte[] tail) {
+        byte[] bytes = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, bytes, head.length, tail.length);
+        return bytes;
+    }
+}
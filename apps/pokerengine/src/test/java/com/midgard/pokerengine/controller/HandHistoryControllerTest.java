@@ -0,0 +1,60 @@
+package com.midgard.pokerengine.controller;
+
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.model.HandHistoryJob;
+import com.midgard.pokerengine.model.JobState;
+import com.midgard.pokerengine.service.HandHistoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(HandHistoryController.class)
+class HandHistoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private HandHistoryService handHistoryService;
+
+    @MockBean
+    private PokerMetrics pokerMetrics;
+
+    @Test
+    void submit_File_ReturnsAcceptedJob() throws Exception {
+        when(handHistoryService.submit(any())).thenReturn(new HandHistoryJob("42", "day1.txt",
+            JobState.QUEUED, 1_000, 0, 0, LocalDateTime.now(), null, null, null));
+
+        mockMvc.perform(post("/api/v1/history/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"path\":\"day1.txt\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message").value("Hand history job queued"))
+                .andExpect(jsonPath("$.data.id").value("42"))
+                .andExpect(jsonPath("$.data.state").value("QUEUED"))
+                .andExpect(jsonPath("$.data.totalBytes").value(1_000));
+    }
+
+    @Test
+    void status_UnknownJob_ReturnsNotFound() throws Exception {
+        when(handHistoryService.status("nope"))
+            .thenThrow(new BusinessException("No hand history job nope", HttpStatus.NOT_FOUND));
+
+        mockMvc.perform(get("/api/v1/history/jobs/nope"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("No hand history job nope"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.midgard.pokerengine.controller;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.logging.RequestLogSampler;
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import com.midgard.pokerengine.service.HandRankTables;
+import com.midgard.pokerengine.service.ShowdownService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ShowdownController.class)
+@Import(ShowdownService.class)
+class ShowdownControllerTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PokerConfig pokerConfig() {
+            return new PokerConfig();
+        }
+
+        @Bean
+        HandRankTables handRankTables() {
+            return HandRankTables.standard();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PokerMetrics pokerMetrics;
+
+    @MockBean
+    private RequestLogSampler requestLogSampler;
+
+    @Test
+    void settle_CompactCards_ReturnsWinnersAndPots() throws Exception {
+        mockMvc.perform(post("/api/v1/showdown")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"board\":\"AhKhQd7c2s\",\"players\":[" +
+                    "{\"cards\":\"AsAd\",\"contribution\":100}," +
+                    "{\"cards\":\"JhTh\",\"contribution\":50}," +
+                    "{\"contribution\":100,\"folded\":true}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Successfully settled the hand"))
+                .andExpect(jsonPath("$.data.winners[0]").value(1))
+                .andExpect(jsonPath("$.data.players[1].rank.category").value("STRAIGHT"))
+                .andExpect(jsonPath("$.data.players[1].payout").value(150))
+                .andExpect(jsonPath("$.data.players[0].payout").value(100))
+                .andExpect(jsonPath("$.data.players[2].folded").value(true))
+                .andExpect(jsonPath("$.data.pots.length()").value(2));
+    }
+
+    @Test
+    void settle_ShortBoard_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/showdown")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"board\":\"AhKhQd\",\"players\":[" +
+                    "{\"cards\":\"AsAd\",\"contribution\":10},{\"cards\":\"JhTh\",\"contribution\":10}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Board must have 5 cards"));
+    }
+}
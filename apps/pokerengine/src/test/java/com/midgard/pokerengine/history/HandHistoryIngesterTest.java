@@ -0,0 +1,119 @@
+package com.midgard.pokerengine.history;
+
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.HandHistoryReport;
+import com.midgard.pokerengine.model.PlayerResult;
+import com.midgard.pokerengine.service.HandRankTables;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandHistoryIngesterTest {
+
+    private static final String HISTORY = String.join("\n",
+        "# id board name:cards:net",
+        "",
+        "1 AhKhQd7c2s alice:AsAd:-100 bob:JhTh:150 carol:-:-50",
+        "2 - alice:-:-1 bob:-:1\r",
+        "3 AhKh alice:AsAs:0",
+        "4 AhKhQd7c2s alice:AsAd:10 bob:AsKd:-10",
+        "5 AhKhQd7c2s alice:2c2d:x",
+        "6  AhKhQd7c2s\talice:3c3d:20 bob:-:-20",
+        "7 2c3c4c5c6c dave:AhAd:5 erin:KhKd:-5");
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private HandHistoryStats ingest(Path file, int segmentBytes) throws IOException {
+        return new HandHistoryIngester(HandRankTables.standard(), pool, segmentBytes)
+            .ingest(file, bytes -> { });
+    }
+
+    @Test
+    void ingest_MixedRecords_CountsShowdownsAndSkipsMalformedRecords() throws IOException {
+        Path file = Files.writeString(dir.resolve("history.txt"), HISTORY, StandardCharsets.US_ASCII);
+
+        // Whole file in one segment, then segments cut through most records
+        for (int segmentBytes : new int[] {1 << 20, 7}) {
+            HandHistoryReport report = ingest(file, segmentBytes).toReport(2);
+
+            assertEquals(4, report.getHands());
+            assertEquals(2, report.getShowdowns());
+            assertEquals(3, report.getMalformed());
+            assertEquals((long) HISTORY.indexOf("3 AhKh"), report.getFirstMalformedOffset());
+            assertEquals(1L, report.getShownHands().get(HandCategory.THREE_OF_A_KIND));
+            assertEquals(1L, report.getShownHands().get(HandCategory.STRAIGHT));
+            assertEquals(2L, report.getShownHands().get(HandCategory.STRAIGHT_FLUSH));
+            assertEquals(1L, report.getWinningHands().get(HandCategory.STRAIGHT));
+            assertEquals(1L, report.getWinningHands().get(HandCategory.STRAIGHT_FLUSH));
+            assertEquals(0L, report.getWinningHands().get(HandCategory.THREE_OF_A_KIND));
+            assertEquals(5, report.getPlayerCount());
+            assertEquals(2, report.getPlayers().size());
+            PlayerResult alice = report.getPlayers().get(0);
+            PlayerResult bob = report.getPlayers().get(1);
+            assertEquals(new PlayerResult("alice", 3, -81, 1, 0), alice);
+            assertEquals(new PlayerResult("bob", 3, 131, 1, 1), bob);
+        }
+    }
+
+    @Test
+    void ingest_GeneratedHistory_SameStatisticsForAnySegmentSize() throws IOException {
+        Path file = dir.resolve("generated.txt");
+        HandHistoryGenerator.generate(file, 3_000, 42);
+        AtomicLong progress = new AtomicLong();
+
+        HandHistoryStats whole = ingest(file, 1 << 20);
+        HandHistoryStats split = new HandHistoryIngester(HandRankTables.standard(), pool, 997)
+            .ingest(file, progress::addAndGet);
+
+        assertEquals(Files.size(file), progress.get());
+        assertEquals(3_000, whole.getHands());
+        assertEquals(0, whole.getMalformed());
+        assertTrue(whole.getShowdowns() > 0);
+        assertEquals(whole.getHands(), split.getHands());
+        assertEquals(whole.getShowdowns(), split.getShowdowns());
+        assertArrayEquals(whole.shown, split.shown);
+        assertArrayEquals(whole.winning, split.winning);
+        assertEquals(whole.players.size, split.players.size);
+        long net = 0;
+        for (int p = 0; p < split.players.size; p++) {
+            net += split.players.net[p];
+        }
+        assertEquals(0, net, "every hand's nets add up to zero");
+    }
+
+    @Test
+    void ingest_RecordLongerThanOverlap_CountsItMalformed() throws IOException {
+        String longRecord = "1 - " + "x".repeat(2 * HandHistoryIngester.MAX_RECORD_BYTES) + ":-:0";
+        Path file = Files.writeString(dir.resolve("long.txt"),
+            longRecord + "\n2 - alice:-:0\n", StandardCharsets.US_ASCII);
+
+        HandHistoryStats stats = ingest(file, 1_024);
+
+        assertEquals(1, stats.getHands());
+        assertEquals(1, stats.getMalformed());
+    }
+
+    @Test
+    void ingest_EmptyFile_ReturnsNoHands() throws IOException {
+        Path file = Files.createFile(dir.resolve("empty.txt"));
+
+        assertEquals(0, ingest(file, 16).getHands());
+    }
+}
@@ -0,0 +1,127 @@
+package com.midgard.pokerengine.interceptor;
+
+import com.midgard.pokerengine.metrics.PokerMetrics;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private ClientRateLimiter limiter(long capacity, int maxClients) {
+        return new ClientRateLimiter(true, capacity, Duration.ofSeconds(60), "X-API-Key", Set.of("abc"),
+                maxClients, Duration.ofSeconds(300), Map.of("/api/v1/equity", 10), clock::get);
+    }
+
+    private static MockHttpServletRequest request(String uri, String address, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(address);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+
+    @Test
+    void bucketFor_DifferentClients_GetSeparateBuckets() {
+        ClientRateLimiter limiter = limiter(5, 100);
+        Bucket first = limiter.bucketFor(request("/api/v1/hand/rank", "10.0.0.1", null));
+        Bucket second = limiter.bucketFor(request("/api/v1/hand/rank", "10.0.0.2", null));
+
+        assertTrue(first.tryConsume(5));
+        assertFalse(first.tryConsume(1));
+        assertTrue(second.tryConsume(1));
+        assertSame(first, limiter.bucketFor(request("/api/v1/hand/rank", "10.0.0.1", null)));
+    }
+
+    @Test
+    void clientKey_ApiKeyHeader_TakesPrecedenceOverAddress() {
+        ClientRateLimiter limiter = limiter(5, 100);
+
+        assertEquals("key:abc", limiter.clientKey(request("/", "10.0.0.1", "abc")));
+        assertEquals("ip:10.0.0.1", limiter.clientKey(request("/", "10.0.0.1", " ")));
+    }
+
+    @Test
+    void preHandle_RandomApiKeys_ShareTheAddressBucket() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(limiter(3, 100),
+                new PokerMetrics(new SimpleMeterRegistry()));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(interceptor.preHandle(request("/api/v1/hand/rank", "10.0.0.1", "random-" + i),
+                    new MockHttpServletResponse(), null));
+        }
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request("/api/v1/hand/rank", "10.0.0.1", "random-3"), rejected, null));
+        assertEquals(429, rejected.getStatus());
+    }
+
+    @Test
+    void cost_ConfiguredPath_UsesWeightOtherwiseOne() {
+        ClientRateLimiter limiter = limiter(5, 100);
+
+        assertEquals(10, limiter.cost(request("/api/v1/equity", "10.0.0.1", null)));
+        assertEquals(1, limiter.cost(request("/api/v1/hand/rank", "10.0.0.1", null)));
+    }
+
+    @Test
+    void bucketFor_IdleClients_AreEvicted() {
+        ClientRateLimiter limiter = limiter(5, 100);
+        limiter.bucketFor("ip:10.0.0.1");
+        limiter.bucketFor("ip:10.0.0.2");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(301));
+        limiter.bucketFor("ip:10.0.0.3");
+
+        assertEquals(1, limiter.clientCount());
+    }
+
+    @Test
+    void bucketFor_TooManyClients_StaysBounded() {
+        ClientRateLimiter limiter = limiter(5, 10);
+        for (int i = 0; i < 1000; i++) {
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            limiter.bucketFor("ip:10.0." + i / 256 + "." + i % 256);
+        }
+
+        assertTrue(limiter.clientCount() <= 11);
+    }
+
+    @Test
+    void bucketFor_Disabled_ReturnsNull() {
+        ClientRateLimiter limiter = new ClientRateLimiter(false, 5, Duration.ofSeconds(60), "X-API-Key",
+                Set.of(), 100, Duration.ofSeconds(300), Map.of());
+
+        assertNull(limiter.bucketFor(request("/", "10.0.0.1", null)));
+    }
+
+    @Test
+    void preHandle_ExhaustedBucket_RejectsWithRetryAfter() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(limiter(12, 100), new PokerMetrics(registry));
+        MockHttpServletResponse allowed = new MockHttpServletResponse();
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request("/api/v1/equity", "10.0.0.1", null), allowed, null));
+        assertFalse(interceptor.preHandle(request("/api/v1/equity", "10.0.0.1", null), rejected, null));
+
+        assertEquals("12", allowed.getHeader(RateLimitInterceptor.LIMIT_HEADER));
+        assertEquals("2", allowed.getHeader(RateLimitInterceptor.REMAINING_HEADER));
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER)) > 0);
+        assertEquals(1.0, registry.get("poker.ratelimit.rejected").counter().count());
+    }
+}
@@ -0,0 +1,44 @@
+package com.midgard.pokerengine.logging;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.Rank;
+import com.midgard.pokerengine.model.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLogSamplerTest {
+
+    private final RequestLogSampler sampler = new RequestLogSampler(new PokerConfig());
+
+    @Test
+    void constructor_UsesConfiguredRate() {
+        assertEquals(1000, sampler.getSampleRate());
+    }
+
+    @Test
+    void sample_RateOneOrZero_SamplesAllOrNothing() {
+        sampler.setSampleRate(1);
+        assertTrue(sampler.sample());
+        sampler.setSampleRate(0);
+        assertFalse(sampler.sample());
+    }
+
+    @Test
+    void setSampleRate_Negative_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> sampler.setSampleRate(-1));
+    }
+
+    @Test
+    void compact_Cards_UsesRankAndSuitLetters() {
+        List<Card> cards = Arrays.asList(
+            new Card(Suit.HEARTS, Rank.ACE), new Card(Suit.SPADES, Rank.TEN), null);
+
+        assertEquals("AhTs??", RequestLogSampler.compact(cards));
+        assertNull(RequestLogSampler.compact(null));
+    }
+}
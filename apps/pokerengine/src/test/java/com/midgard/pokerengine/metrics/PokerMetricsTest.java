@@ -0,0 +1,43 @@
+package com.midgard.pokerengine.metrics;
+
+import com.midgard.pokerengine.model.HandCategory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokerMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PokerMetrics metrics = new PokerMetrics(registry);
+
+    @Test
+    void constructor_RegistersEveryMeterUpFront() {
+        assertEquals(PokerMetrics.Operation.values().length, registry.find("poker.evaluation").timers().size());
+        assertEquals(HandCategory.values().length, registry.find("poker.hand.category").counters().size());
+        assertNotNull(registry.find("poker.hand.size").summary());
+        assertNotNull(registry.find("poker.ratelimit.rejected").counter());
+    }
+
+    @Test
+    void recordEvaluation_Operation_UpdatesItsTimerOnly() {
+        metrics.recordEvaluation(PokerMetrics.Operation.RANK, System.nanoTime(), 1, 5855);
+
+        Timer rank = registry.get("poker.evaluation").tag("operation", "rank").timer();
+        Timer equity = registry.get("poker.evaluation").tag("operation", "equity").timer();
+        assertEquals(1, rank.count());
+        assertEquals(0, equity.count());
+    }
+
+    @Test
+    void recordCategoryAndHandSize_CountPerCategoryAndSize() {
+        metrics.recordCategory(HandCategory.STRAIGHT);
+        metrics.recordCategory(HandCategory.STRAIGHT);
+        metrics.recordHandSize(7);
+
+        assertEquals(2.0, registry.get("poker.hand.category").tag("category", "STRAIGHT").counter().count());
+        assertEquals(0.0, registry.get("poker.hand.category").tag("category", "FLUSH").counter().count());
+        assertEquals(7.0, registry.get("poker.hand.size").summary().totalAmount());
+    }
+}
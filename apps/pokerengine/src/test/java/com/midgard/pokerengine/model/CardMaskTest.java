@@ -0,0 +1,59 @@
+package com.midgard.pokerengine.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardMaskTest {
+
+    @Test
+    void index_AllCards_AreDistinctAndRoundTrip() {
+        long seen = 0L;
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                int index = CardMask.index(suit, rank);
+                assertTrue(index >= 0 && index < CardMask.DECK_SIZE);
+                assertEquals(0L, seen & (1L << index));
+                seen |= 1L << index;
+                assertEquals(new Card(suit, rank), CardMask.card(index));
+                assertEquals(rank.ordinal(), CardMask.rank(index));
+                assertEquals(suit.ordinal(), CardMask.suit(index));
+            }
+        }
+        assertEquals(CardMask.FULL_DECK, seen);
+    }
+
+    @Test
+    void mask_DuplicateCards_CollapseToOneBit() {
+        long mask = CardMask.mask(List.of(
+            new Card(Suit.HEARTS, Rank.TWO),
+            new Card(Suit.HEARTS, Rank.TWO),
+            new Card(Suit.SPADES, Rank.ACE)
+        ));
+        assertEquals(2, Long.bitCount(mask));
+    }
+
+    @Test
+    void rankMask_SameRankDifferentSuits_SetsOneRankBit() {
+        long mask = CardMask.mask(List.of(
+            new Card(Suit.HEARTS, Rank.KING),
+            new Card(Suit.SPADES, Rank.KING),
+            new Card(Suit.CLUBS, Rank.TWO)
+        ));
+        assertEquals((1 << Rank.KING.ordinal()) | (1 << Rank.TWO.ordinal()), CardMask.rankMask(mask));
+    }
+
+    @Test
+    void suitRanks_ReturnsOnlyThatSuit() {
+        long mask = CardMask.mask(List.of(
+            new Card(Suit.CLUBS, Rank.ACE),
+            new Card(Suit.CLUBS, Rank.FIVE),
+            new Card(Suit.DIAMONDS, Rank.FIVE)
+        ));
+        assertEquals((1 << Rank.ACE.ordinal()) | (1 << Rank.FIVE.ordinal()),
+            CardMask.suitRanks(mask, Suit.CLUBS.ordinal()));
+        assertEquals(0, CardMask.suitRanks(mask, Suit.SPADES.ordinal()));
+    }
+}
@@ -58,4 +58,55 @@ class CardTest {
         Card card = new Card(Suit.HEARTS, Rank.TEN);
         assertNotEquals(card, "not a card");
     }
-}
\ No newline at end of file
+
+    @Test
+    void deserialize_LowerCaseNames_CreatesCard() throws Exception {
+        Card card = objectMapper.readValue("{\"rank\":\"ace\",\"suit\":\"spades\"}", Card.class);
+        assertEquals(new Card(Suit.SPADES, Rank.ACE), card);
+    }
+
+    @Test
+    void deserialize_CompactNotation_CreatesCard() throws Exception {
+        assertEquals(new Card(Suit.HEARTS, Rank.ACE), objectMapper.readValue("\"AH\"", Card.class));
+        assertEquals(new Card(Suit.CLUBS, Rank.TEN), objectMapper.readValue("\"tc\"", Card.class));
+        assertEquals(new Card(Suit.DIAMONDS, Rank.TWO), objectMapper.readValue("\"2d\"", Card.class));
+    }
+
+    @Test
+    void deserialize_UnknownField_IsIgnored() throws Exception {
+        Card card = objectMapper.readValue("{\"suit\":\"CLUBS\",\"note\":{\"a\":[1]},\"rank\":\"NINE\"}", Card.class);
+        assertEquals(new Card(Suit.CLUBS, Rank.NINE), card);
+    }
+
+    @Test
+    void deserialize_InvalidRank_ReportsValidValues() {
+        Exception e = assertThrows(Exception.class,
+            () -> objectMapper.readValue("{\"suit\":\"HEARTS\",\"rank\":\"ELEVEN\"}", Card.class));
+        assertTrue(rootCause(e).getMessage().startsWith("Invalid rank: ELEVEN. Valid values are: [TWO, THREE"));
+    }
+
+    @Test
+    void deserialize_InvalidCompactCard_Throws() {
+        assertThrows(Exception.class, () -> objectMapper.readValue("\"1H\"", Card.class));
+        assertThrows(Exception.class, () -> objectMapper.readValue("\"AHX\"", Card.class));
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        while (e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+
+    @Test
+    void fromValueAndSymbol_ValidAndInvalid_LookUpOrThrow() {
+        assertEquals(Rank.TWO, Rank.fromValue(2));
+        assertEquals(Rank.ACE, Rank.fromValue(14));
+        assertThrows(IllegalArgumentException.class, () -> Rank.fromValue(1));
+        assertThrows(IllegalArgumentException.class, () -> Rank.fromValue(15));
+        assertEquals(Suit.SPADES, Suit.fromSymbol('s'));
+        assertEquals(Suit.DIAMONDS, Suit.fromSymbol('D'));
+        assertThrows(IllegalArgumentException.class, () -> Suit.fromSymbol('x'));
+        assertThrows(IllegalArgumentException.class, () -> Suit.fromSymbol('\u2660'));
+    }
+}
@@ -0,0 +1,56 @@
+package com.midgard.pokerengine.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeckDefinitionTest {
+
+    @Test
+    void presets_StandardAndShortDeck_HaveTheirCards() {
+        assertEquals(52, DeckDefinition.STANDARD.size());
+        assertEquals(CardMask.FULL_DECK, DeckDefinition.STANDARD.getCards());
+        assertTrue(DeckDefinition.STANDARD.isStandard());
+
+        assertEquals(36, DeckDefinition.SHORT.size());
+        assertEquals(0, DeckDefinition.SHORT.getCards() & CardMask.mask(List.of(new Card(Suit.SPADES, Rank.FIVE))));
+        assertTrue(DeckDefinition.SHORT.isFlushBeatsFullHouse());
+        assertFalse(DeckDefinition.SHORT.isStandard());
+    }
+
+    @Test
+    void straights_StrongestFirst_EndWithTheWheel() {
+        int[] standard = DeckDefinition.STANDARD.straights();
+        assertEquals(10, standard.length);
+        assertEquals(0x1F00, standard[0]);
+        assertEquals(0x100F, standard[9]);
+
+        int[] shortDeck = DeckDefinition.SHORT.straights();
+        assertEquals(6, shortDeck.length);
+        assertEquals(0x1F00, shortDeck[0]);
+        assertEquals(0x10F0, shortDeck[5], "A-6-7-8-9");
+    }
+
+    @Test
+    void custom_RanksAndSuits_SkipMissingRanksInStraights() {
+        DeckDefinition deck = DeckDefinition.custom(
+            List.of(Rank.TWO, Rank.THREE, Rank.FIVE, Rank.SEVEN, Rank.NINE, Rank.JACK),
+            List.of(Suit.HEARTS, Suit.SPADES), false);
+
+        assertEquals(12, deck.size());
+        assertEquals(DeckType.CUSTOM, deck.getType());
+        // 3-5-7-9-J and 2-3-5-7-9, and no wheel without an ace
+        assertArrayEquals(new int[] {0b1010101010, 0b0010101011}, deck.straights());
+        assertEquals(0b1010101011 | 0b1010101011L << 39, deck.getCards());
+    }
+
+    @Test
+    void custom_TooFewRanksOrNoSuits_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> DeckDefinition.custom(
+            List.of(Rank.TEN, Rank.JACK, Rank.QUEEN, Rank.KING), List.of(Suit.values()), false));
+        assertThrows(IllegalArgumentException.class, () -> DeckDefinition.custom(
+            List.of(Rank.values()), List.of(), false));
+    }
+}
@@ -0,0 +1,66 @@
+package com.midgard.pokerengine.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandRangeTest {
+
+    private static final String ANY_TWO = "22+, A2+, K2+, Q2+, J2+, T2+, 92+, 82+, 72+, 62+, 52+, 42+, 32";
+
+    @Test
+    void parse_StandardNotation_CompilesExpectedComboCounts() {
+        assertEquals(30, HandRange.parse("TT+").size());
+        assertEquals(24, HandRange.parse("99-66").size());
+        assertEquals(4, HandRange.parse("AKs").size());
+        assertEquals(12, HandRange.parse("KQo").size());
+        assertEquals(16, HandRange.parse("AK").size());
+        assertEquals(16, HandRange.parse("A2s-A5s").size());
+        assertEquals(16, HandRange.parse("ATs+").size());
+        assertEquals(1, HandRange.parse("AhKh").size());
+        assertEquals(HandRange.COMBOS, HandRange.parse(ANY_TWO).size());
+    }
+
+    @Test
+    void parse_Weights_LaterEntriesOverride() {
+        HandRange range = HandRange.parse("AK:0.5, AKs, QQ:0");
+        int suited = HandRange.combo(CardMask.index(Suit.SPADES, Rank.ACE), CardMask.index(Suit.SPADES, Rank.KING));
+        int offsuit = HandRange.combo(CardMask.index(Suit.SPADES, Rank.ACE), CardMask.index(Suit.HEARTS, Rank.KING));
+
+        assertEquals(1.0, range.weight(suited));
+        assertEquals(0.5, range.weight(offsuit));
+        assertEquals(16, range.size());
+    }
+
+    @Test
+    void combo_EveryPair_HasUniqueIndexAndMask() {
+        boolean[] seen = new boolean[HandRange.COMBOS];
+        for (int hi = 1; hi < CardMask.DECK_SIZE; hi++) {
+            for (int lo = 0; lo < hi; lo++) {
+                int combo = HandRange.combo(hi, lo);
+                assertFalse(seen[combo]);
+                seen[combo] = true;
+                assertEquals(1L << hi | 1L << lo, HandRange.comboMask(combo));
+                assertEquals(hi, HandRange.highCard(combo));
+                assertEquals(lo, HandRange.lowCard(combo));
+            }
+        }
+    }
+
+    @Test
+    void liveCombos_BlockedCards_AreRemoved() {
+        long board = 1L << CardMask.index(Suit.SPADES, Rank.ACE);
+
+        assertEquals(3, HandRange.parse("AA").liveCombos(board).length);
+    }
+
+    @Test
+    void parse_InvalidEntries_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("AXs"));
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("TTs"));
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("A2s-K5s"));
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("AhAh"));
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("AK:2"));
+    }
+}
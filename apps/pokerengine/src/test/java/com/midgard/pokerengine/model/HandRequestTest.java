@@ -1,5 +1,6 @@
 package com.midgard.pokerengine.model;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.midgard.pokerengine.config.PokerConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -100,4 +101,29 @@ class HandRequestTest {
 
         assertNotEquals(request, "not a hand request");
     }
-}
\ No newline at end of file
+
+    @Test
+    void deserialize_CompactHandString_CreatesCards() throws Exception {
+        HandRequest request = new ObjectMapper().readValue("{\"cards\":\"AhKdQcJsTh\"}", HandRequest.class);
+        assertEquals(List.of(
+            new Card(Suit.HEARTS, Rank.ACE),
+            new Card(Suit.DIAMONDS, Rank.KING),
+            new Card(Suit.CLUBS, Rank.QUEEN),
+            new Card(Suit.SPADES, Rank.JACK),
+            new Card(Suit.HEARTS, Rank.TEN)
+        ), request.getCards());
+    }
+
+    @Test
+    void deserialize_MixedCardForms_CreatesCards() throws Exception {
+        HandRequest request = new ObjectMapper().readValue(
+            "{\"cards\":[\"2c\",{\"suit\":\"HEARTS\",\"rank\":\"THREE\"}]}", HandRequest.class);
+        assertEquals(List.of(new Card(Suit.CLUBS, Rank.TWO), new Card(Suit.HEARTS, Rank.THREE)), request.getCards());
+    }
+
+    @Test
+    void deserialize_OddLengthHandString_Throws() {
+        assertThrows(Exception.class,
+            () -> new ObjectMapper().readValue("{\"cards\":\"AhK\"}", HandRequest.class));
+    }
+}
@@ -0,0 +1,148 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.model.Deal;
+import com.midgard.pokerengine.model.DealRequest;
+import com.midgard.pokerengine.model.DealResult;
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.model.ShuffleMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeckServiceTest {
+
+    private final DeckService deckService = new DeckService(new PokerConfig());
+
+    @Test
+    void draw_WholeDeck_DealsEveryCardOnce() {
+        Deck deck = new Deck(new SplittableRandom(1));
+
+        long dealt = deck.draw(52);
+
+        assertEquals(-1L >>> 12, dealt);
+        assertEquals(0, deck.remaining());
+        assertThrows(IllegalStateException.class, deck::draw);
+        deck.shuffle();
+        assertEquals(52, deck.remaining());
+    }
+
+    @Test
+    void draw_ManyShuffles_DealsEveryCardEvenlyToEachPosition() {
+        Deck deck = new Deck(new SplittableRandom(2));
+        int shuffles = 52_000;
+        int[][] counts = new int[3][52];
+
+        for (int i = 0; i < shuffles; i++) {
+            deck.shuffle();
+            for (int position = 0; position < counts.length; position++) {
+                counts[position][deck.draw()]++;
+            }
+        }
+
+        // 1000 expected per cell; six standard deviations either way
+        for (int[] position : counts) {
+            for (int count : position) {
+                assertTrue(count > 810 && count < 1190, "count " + count);
+            }
+        }
+    }
+
+    @Test
+    void deal_SameSeed_DealsSameCards() {
+        DealResult first = deckService.deal(new DealRequest(20, 6, null, null, 42L));
+        DealResult second = deckService.deal(new DealRequest(20, 6, null, ShuffleMode.SEEDED, 42L));
+
+        assertEquals(ShuffleMode.SEEDED, first.getMode());
+        assertEquals(42L, first.getSeed());
+        assertEquals(first.getDeals(), second.getDeals());
+        assertNotEquals(first.getDeals(),
+            deckService.deal(new DealRequest(20, 6, null, null, 43L)).getDeals());
+    }
+
+    @Test
+    void deal_SeededWithoutSeed_ReturnsSeedThatReplaysDeals() {
+        DealResult result = deckService.deal(new DealRequest(5, 2, 3, ShuffleMode.SEEDED, null));
+
+        assertNotNull(result.getSeed());
+        assertEquals(result.getDeals(),
+            deckService.deal(new DealRequest(5, 2, 3, null, result.getSeed())).getDeals());
+    }
+
+    @Test
+    void deal_EveryMode_DealsDistinctCards() {
+        for (ShuffleMode mode : new ShuffleMode[] {ShuffleMode.FAST, ShuffleMode.SECURE}) {
+            DealResult result = deckService.deal(new DealRequest(100, 10, null, mode, null));
+
+            assertEquals(mode, result.getMode());
+            assertNull(result.getSeed());
+            assertEquals(100, result.getDeals().size());
+            for (Deal deal : result.getDeals()) {
+                assertEquals(10, deal.getPlayers().size());
+                assertEquals(10, deal.getBoard().length());
+                Set<String> cards = new HashSet<>();
+                for (String hand : deal.getPlayers()) {
+                    assertEquals(4, hand.length());
+                    cards.add(hand.substring(0, 2));
+                    cards.add(hand.substring(2));
+                }
+                for (int i = 0; i < deal.getBoard().length(); i += 2) {
+                    cards.add(deal.getBoard().substring(i, i + 2));
+                }
+                assertEquals(25, cards.size());
+            }
+        }
+    }
+
+    @Test
+    void deal_ShortDeck_DealsOnlySixToAce() {
+        DeckService shortDeck = new DeckService(new PokerConfig(), HandRankTables.generate(DeckDefinition.SHORT));
+
+        DealResult result = shortDeck.deal(new DealRequest(200, 10, null, null, 9L));
+
+        for (Deal deal : result.getDeals()) {
+            String cards = String.join("", deal.getPlayers()) + deal.getBoard();
+            for (int i = 0; i < cards.length(); i += 2) {
+                assertTrue("6789TJQKA".indexOf(cards.charAt(i)) >= 0, cards);
+            }
+        }
+        Deck deck = new Deck(new SplittableRandom(3), DeckDefinition.SHORT.getCards());
+        assertEquals(DeckDefinition.SHORT.getCards(), deck.draw(36));
+    }
+
+    @Test
+    void deal_Defaults_DealsOneHandWithFullBoardFast() {
+        DealResult result = deckService.deal(new DealRequest(null, 2, null, null, null));
+
+        assertEquals(ShuffleMode.FAST, result.getMode());
+        assertEquals(1, result.getDeals().size());
+        assertEquals(10, result.getDeals().get(0).getBoard().length());
+        assertEquals("", deckService.deal(new DealRequest(1, 2, 0, null, null))
+            .getDeals().get(0).getBoard());
+    }
+
+    @Test
+    void deal_InvalidRequest_ThrowsBadRequest() {
+        DealRequest[] requests = {
+            new DealRequest(0, 2, null, null, null),
+            new DealRequest(10_001, 2, null, null, null),
+            new DealRequest(1, null, null, null, null),
+            new DealRequest(1, 11, null, null, null),
+            new DealRequest(1, 2, 2, null, null),
+            new DealRequest(1, 2, 6, null, null),
+            new DealRequest(1, 2, null, ShuffleMode.SECURE, 7L)
+        };
+        for (DealRequest request : requests) {
+            BusinessException e = assertThrows(BusinessException.class,
+                () -> deckService.deal(request));
+
+            assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+        }
+    }
+}
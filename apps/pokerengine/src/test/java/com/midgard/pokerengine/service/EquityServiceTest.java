@@ -0,0 +1,193 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.model.EquityMode;
+import com.midgard.pokerengine.model.EquityRequest;
+import com.midgard.pokerengine.model.EquityResult;
+import com.midgard.pokerengine.model.GameVariant;
+import com.midgard.pokerengine.model.PlayerEquity;
+import com.midgard.pokerengine.model.Rank;
+import com.midgard.pokerengine.model.Suit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.midgard.pokerengine.service.TestCards.cards;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquityServiceTest {
+
+    private static final List<Card> ACES = List.of(new Card(Suit.SPADES, Rank.ACE), new Card(Suit.HEARTS, Rank.ACE));
+    private static final List<Card> KINGS = List.of(new Card(Suit.SPADES, Rank.KING), new Card(Suit.HEARTS, Rank.KING));
+
+    private ForkJoinPool pool;
+    private EquityService equityService;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        equityService = new EquityService(pool, new PokerConfig());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void calculate_AcesVersusKings_AcesAreAboutEightyTwoPercent() {
+        EquityResult result = equityService.calculate(
+            new EquityRequest(List.of(ACES, KINGS), null, null, 200_000L, null, 7L, null, null));
+
+        PlayerEquity aces = result.getPlayers().get(0);
+        PlayerEquity kings = result.getPlayers().get(1);
+        assertEquals(200_000, result.getTrials());
+        assertEquals(0.826, aces.getEquity(), 0.005);
+        assertEquals(1.0, aces.getEquity() + kings.getEquity(), 1e-9);
+        assertEquals(aces.getWin(), kings.getLoss(), 1e-9);
+        assertTrue(aces.getConfidenceInterval() > 0 && aces.getConfidenceInterval() < 0.005);
+    }
+
+    @Test
+    void calculate_SameSeed_IsReproducible() {
+        EquityRequest request = new EquityRequest(List.of(ACES, KINGS), null, null, 50_000L, null, 42L, null, null);
+        assertEquals(equityService.calculate(request).getPlayers(), equityService.calculate(request).getPlayers());
+    }
+
+    @Test
+    void calculate_CompleteBoard_IsExact() {
+        List<Card> board = List.of(
+            new Card(Suit.CLUBS, Rank.KING),
+            new Card(Suit.DIAMONDS, Rank.SEVEN),
+            new Card(Suit.CLUBS, Rank.TWO),
+            new Card(Suit.HEARTS, Rank.NINE),
+            new Card(Suit.SPADES, Rank.FOUR));
+
+        EquityResult result = equityService.calculate(new EquityRequest(List.of(ACES, KINGS), board, null, null, null, null, null, null));
+
+        assertEquals(1, result.getTrials());
+        assertEquals(0.0, result.getPlayers().get(0).getEquity());
+        assertEquals(1.0, result.getPlayers().get(1).getWin());
+        assertEquals(0.0, result.getPlayers().get(1).getConfidenceInterval());
+    }
+
+    @Test
+    void calculate_TimeBudget_StopsAndReportsTrials() {
+        EquityResult result = equityService.calculate(
+            new EquityRequest(List.of(ACES, KINGS), null, null, null, 50L, null, null, null));
+
+        assertTrue(result.getTrials() > 0);
+        assertEquals(1.0, result.getPlayers().get(0).getEquity() + result.getPlayers().get(1).getEquity(), 1e-9);
+    }
+
+    @Test
+    void calculate_SharedCard_ThrowsBadRequest() {
+        List<Card> acesAgain = List.of(new Card(Suit.SPADES, Rank.ACE), new Card(Suit.CLUBS, Rank.ACE));
+        assertThrows(BusinessException.class, () -> equityService.calculate(
+            new EquityRequest(List.of(ACES, acesAgain), null, null, 1000L, null, null, null, null)));
+    }
+
+    @Test
+    void calculate_OnePlayer_ThrowsBadRequest() {
+        assertThrows(BusinessException.class, () -> equityService.calculate(
+            new EquityRequest(List.of(ACES), null, null, 1000L, null, null, null, null)));
+    }
+
+    @Test
+    void calculate_TwoCardBoard_ThrowsBadRequest() {
+        List<Card> board = List.of(new Card(Suit.CLUBS, Rank.TWO), new Card(Suit.CLUBS, Rank.THREE));
+        assertThrows(BusinessException.class, () -> equityService.calculate(
+            new EquityRequest(List.of(ACES, KINGS), board, null, 1000L, null, null, null, null)));
+    }
+
+    @Test
+    void calculate_ExactPreflop_MatchesKnownEquityAndCoversEveryRunout() {
+        EquityResult result = equityService.calculate(
+            new EquityRequest(List.of(ACES, KINGS), null, null, null, null, null, EquityMode.EXACT, null));
+
+        assertEquals(EquityMode.EXACT, result.getMode());
+        assertEquals(1_712_304, result.getTrials());
+        assertTrue(result.getEvaluatedRunouts() < result.getTrials());
+        assertEquals(0.82637, result.getPlayers().get(0).getEquity(), 1e-5);
+        assertEquals(0.0, result.getPlayers().get(0).getConfidenceInterval());
+    }
+
+    @Test
+    void calculate_ExactFlop_IsDeterministic() {
+        List<Card> flop = List.of(
+            new Card(Suit.CLUBS, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.SEVEN),
+            new Card(Suit.SPADES, Rank.QUEEN));
+        EquityRequest request = new EquityRequest(List.of(ACES, KINGS), flop, null, null, null, null, EquityMode.EXACT, null);
+
+        EquityResult first = equityService.calculate(request);
+        EquityResult second = equityService.calculate(request);
+
+        assertEquals(990, first.getTrials());
+        assertEquals(first.getPlayers(), second.getPlayers());
+    }
+
+    @Test
+    void calculate_OmahaHiLoExactTurn_SplitsHighAndLowHalves() {
+        EquityRequest request = new EquityRequest(List.of(cards("Ah3d4cKc"), cards("QsJsTd9h")), cards("7s8d2cKh"),
+            null, null, null, null, EquityMode.EXACT, GameVariant.OMAHA_HI_LO);
+
+        EquityResult result = equityService.calculate(request);
+
+        // Checked against ranking all 60 two-plus-three hands of both players on each river
+        assertEquals(40, result.getTrials());
+        PlayerEquity first = result.getPlayers().get(0);
+        assertEquals(0.8375, first.getEquity(), 1e-9);
+        assertEquals(0.675, first.getWin(), 1e-9);
+        assertEquals(0.325, first.getTie(), 1e-9);
+        assertEquals(0.0, first.getLoss(), 1e-9);
+        assertEquals(0.1625, result.getPlayers().get(1).getEquity(), 1e-9);
+    }
+
+    @Test
+    void calculate_OmahaMonteCarlo_EquitiesAddUp() {
+        EquityResult result = equityService.calculate(new EquityRequest(
+            List.of(cards("AsAhKdQd"), cards("KsKhJcTc"), cards("9s8s7d6d")), null, null, 20_000L, null, 3L, null,
+            GameVariant.OMAHA));
+
+        double total = result.getPlayers().stream().mapToDouble(PlayerEquity::getEquity).sum();
+        assertEquals(1.0, total, 1e-9);
+    }
+
+    @Test
+    void calculate_VariantHoleCardsOrDisabledVariant_ThrowsBadRequest() {
+        assertThrows(BusinessException.class, () -> equityService.calculate(
+            new EquityRequest(List.of(ACES, KINGS), null, null, 1000L, null, null, null, GameVariant.OMAHA)));
+
+        PokerConfig holdemOnly = new PokerConfig();
+        holdemOnly.getVariants().setEnabled(List.of(GameVariant.HOLDEM));
+        EquityService service = new EquityService(pool, holdemOnly);
+        assertThrows(BusinessException.class, () -> service.calculate(new EquityRequest(
+            List.of(cards("AsAhKdQd"), cards("KsKhJcTc")), null, null, 1000L, null, null, null, GameVariant.OMAHA)));
+    }
+
+    @Test
+    void calculate_ShortDeck_FlushBeatsFullHouseAndLowCardsAreRejected() {
+        EquityService shortDeck = new EquityService(pool, new PokerConfig(),
+            HandRankTables.generate(DeckDefinition.SHORT));
+
+        EquityResult river = shortDeck.calculate(new EquityRequest(List.of(cards("AhKh"), cards("QsQd")),
+            cards("QhJh6h6c7d"), null, null, null, null, EquityMode.EXACT, null));
+        assertEquals(1.0, river.getPlayers().get(0).getEquity());
+
+        EquityResult preflop = shortDeck.calculate(
+            new EquityRequest(List.of(ACES, KINGS), null, null, 20_000L, null, 3L, null, null));
+        assertEquals(1.0, preflop.getPlayers().get(0).getEquity() + preflop.getPlayers().get(1).getEquity(), 1e-9);
+
+        BusinessException e = assertThrows(BusinessException.class, () -> shortDeck.calculate(
+            new EquityRequest(List.of(ACES, KINGS), cards("2c7d8d"), null, null, null, null, EquityMode.EXACT, null)));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+    }
+}
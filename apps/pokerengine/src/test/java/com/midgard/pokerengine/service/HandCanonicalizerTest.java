@@ -0,0 +1,51 @@
+package com.midgard.pokerengine.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.midgard.pokerengine.service.TestCards.cards;
+import static com.midgard.pokerengine.service.TestCards.mask;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandCanonicalizerTest {
+
+    private final HandCanonicalizer canonicalizer = new HandCanonicalizer();
+
+    @Test
+    void classes_EachStreet_MatchesKnownCounts() {
+        assertEquals(169, canonicalizer.classes(0));
+        assertEquals(1_286_792, canonicalizer.classes(3));
+        assertEquals(13_960_050, canonicalizer.classes(4));
+        assertEquals(123_156_254, canonicalizer.classes(5));
+    }
+
+    @Test
+    void members_SuitedFlop_ListsEveryRelabellingOfTheDeal() {
+        long index = canonicalizer.index(cards("AhKh"), cards("Qh7c2d"));
+
+        List<long[]> members = canonicalizer.members(3, index);
+
+        assertEquals(24, members.size());
+        assertTrue(members.stream().anyMatch(m -> m[0] == mask("AsKs") && m[1] == mask("Qs7d2c")));
+        for (long[] member : members) {
+            assertEquals(index, canonicalizer.index(member[0], member[1]));
+        }
+        assertArrayEquals(members.get(0), canonicalizer.canonical(3, index));
+    }
+
+    @Test
+    void index_Preflop_TakesAnEmptyBoard() {
+        long pocketAces = canonicalizer.index(cards("AhAd"), List.of());
+
+        assertEquals(pocketAces, canonicalizer.index(mask("AcAs"), 0L));
+        assertEquals(6, canonicalizer.members(0, pocketAces).size());
+        assertEquals(0L, canonicalizer.canonical(0, pocketAces)[1]);
+    }
+
+    @Test
+    void index_TwoCardBoard_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> canonicalizer.index(mask("AhKh"), mask("Qh7c")));
+        assertThrows(IllegalArgumentException.class, () -> canonicalizer.classes(6));
+    }
+}
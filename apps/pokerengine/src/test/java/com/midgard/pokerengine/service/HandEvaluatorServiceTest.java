@@ -1,6 +1,12 @@
 package com.midgard.pokerengine.service;
 
 import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.HandRank;
+import com.midgard.pokerengine.model.LowballRank;
+import com.midgard.pokerengine.model.LowballType;
+import com.midgard.pokerengine.model.MixedRank;
 import com.midgard.pokerengine.model.Rank;
 import com.midgard.pokerengine.model.Suit;
 import org.junit.jupiter.api.BeforeEach;
@@ -108,4 +114,220 @@ class HandEvaluatorServiceTest {
         );
         assertFalse(handEvaluatorService.isStraight(hand));
     }
-}
\ No newline at end of file
+
+    @Test
+    void isStraight_MaskOverload_MatchesListOverload() {
+        List<Card> wheel = List.of(
+            new Card(Suit.HEARTS, Rank.ACE),
+            new Card(Suit.CLUBS, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.THREE),
+            new Card(Suit.SPADES, Rank.FOUR),
+            new Card(Suit.HEARTS, Rank.FIVE)
+        );
+        List<Card> gap = List.of(
+            new Card(Suit.HEARTS, Rank.ACE),
+            new Card(Suit.CLUBS, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.THREE),
+            new Card(Suit.SPADES, Rank.FOUR),
+            new Card(Suit.HEARTS, Rank.SIX)
+        );
+        assertTrue(handEvaluatorService.isStraight(CardMask.mask(wheel)));
+        assertFalse(handEvaluatorService.isStraight(CardMask.mask(gap)));
+    }
+
+    @Test
+    void isStraight_MaskWithPairedRanks_UsesDistinctRanks() {
+        long mask = CardMask.mask(List.of(
+            new Card(Suit.HEARTS, Rank.NINE),
+            new Card(Suit.CLUBS, Rank.NINE),
+            new Card(Suit.DIAMONDS, Rank.TEN),
+            new Card(Suit.SPADES, Rank.JACK),
+            new Card(Suit.HEARTS, Rank.QUEEN)
+        ));
+        assertTrue(handEvaluatorService.isStraight(mask));
+    }
+
+    @Test
+    void isStraight_MaskAceOnlyWrapsLow_ReturnsFalseForKingAceTwo() {
+        long mask = CardMask.mask(List.of(
+            new Card(Suit.HEARTS, Rank.QUEEN),
+            new Card(Suit.CLUBS, Rank.KING),
+            new Card(Suit.DIAMONDS, Rank.ACE),
+            new Card(Suit.SPADES, Rank.TWO),
+            new Card(Suit.HEARTS, Rank.THREE)
+        ));
+        assertFalse(handEvaluatorService.isStraight(mask));
+    }
+
+    @Test
+    void rank_RoyalFlush_IsStrongestHand() {
+        HandRank rank = handEvaluatorService.rank(List.of(
+            new Card(Suit.SPADES, Rank.TEN),
+            new Card(Suit.SPADES, Rank.JACK),
+            new Card(Suit.SPADES, Rank.QUEEN),
+            new Card(Suit.SPADES, Rank.KING),
+            new Card(Suit.SPADES, Rank.ACE)
+        ));
+        assertEquals(HandCategory.STRAIGHT_FLUSH, rank.getCategory());
+        assertEquals(7462, rank.getStrength());
+    }
+
+    @Test
+    void rank_SevenHigh_IsWeakestHand() {
+        HandRank rank = handEvaluatorService.rank(List.of(
+            new Card(Suit.SPADES, Rank.TWO),
+            new Card(Suit.HEARTS, Rank.THREE),
+            new Card(Suit.SPADES, Rank.FOUR),
+            new Card(Suit.SPADES, Rank.FIVE),
+            new Card(Suit.SPADES, Rank.SEVEN)
+        ));
+        assertEquals(HandCategory.HIGH_CARD, rank.getCategory());
+        assertEquals(1, rank.getStrength());
+    }
+
+    @Test
+    void rank_SevenCards_UsesBestFive() {
+        HandRank rank = handEvaluatorService.rank(List.of(
+            new Card(Suit.HEARTS, Rank.KING),
+            new Card(Suit.CLUBS, Rank.KING),
+            new Card(Suit.DIAMONDS, Rank.KING),
+            new Card(Suit.SPADES, Rank.NINE),
+            new Card(Suit.HEARTS, Rank.NINE),
+            new Card(Suit.HEARTS, Rank.TWO),
+            new Card(Suit.HEARTS, Rank.THREE)
+        ));
+        assertEquals(HandCategory.FULL_HOUSE, rank.getCategory());
+    }
+
+    @Test
+    void rank_WheelLosesToSixHighStraight() {
+        int wheel = handEvaluatorService.strength(CardMask.mask(List.of(
+            new Card(Suit.HEARTS, Rank.ACE),
+            new Card(Suit.CLUBS, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.THREE),
+            new Card(Suit.SPADES, Rank.FOUR),
+            new Card(Suit.HEARTS, Rank.FIVE)
+        )));
+        int sixHigh = handEvaluatorService.strength(CardMask.mask(List.of(
+            new Card(Suit.HEARTS, Rank.SIX),
+            new Card(Suit.CLUBS, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.THREE),
+            new Card(Suit.SPADES, Rank.FOUR),
+            new Card(Suit.HEARTS, Rank.FIVE)
+        )));
+        assertEquals(HandCategory.STRAIGHT.getLowestStrength(), wheel);
+        assertTrue(sixHigh > wheel);
+    }
+
+    @Test
+    void rank_KickerBreaksTie() {
+        int aceKicker = handEvaluatorService.strength(CardMask.mask(List.of(
+            new Card(Suit.HEARTS, Rank.QUEEN),
+            new Card(Suit.CLUBS, Rank.QUEEN),
+            new Card(Suit.DIAMONDS, Rank.ACE),
+            new Card(Suit.SPADES, Rank.FOUR),
+            new Card(Suit.HEARTS, Rank.TWO)
+        )));
+        int kingKicker = handEvaluatorService.strength(CardMask.mask(List.of(
+            new Card(Suit.SPADES, Rank.QUEEN),
+            new Card(Suit.DIAMONDS, Rank.QUEEN),
+            new Card(Suit.CLUBS, Rank.KING),
+            new Card(Suit.SPADES, Rank.JACK),
+            new Card(Suit.HEARTS, Rank.TEN)
+        )));
+        assertTrue(aceKicker > kingKicker);
+    }
+
+    @Test
+    void strength_DuplicateCards_ThrowsIllegalArgument() {
+        List<Card> hand = List.of(
+            new Card(Suit.HEARTS, Rank.TWO),
+            new Card(Suit.HEARTS, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.FOUR),
+            new Card(Suit.SPADES, Rank.FIVE),
+            new Card(Suit.HEARTS, Rank.SIX)
+        );
+        assertThrows(IllegalArgumentException.class, () -> handEvaluatorService.rank(hand));
+    }
+
+    @Test
+    void rank_SevenCardsWithADuplicate_ThrowsIllegalArgument() {
+        // Without the check the repeated 2h collapses into a valid six card hand
+        List<Card> hand = List.of(
+            new Card(Suit.HEARTS, Rank.TWO),
+            new Card(Suit.HEARTS, Rank.TWO),
+            new Card(Suit.CLUBS, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.FOUR),
+            new Card(Suit.SPADES, Rank.FIVE),
+            new Card(Suit.HEARTS, Rank.SIX),
+            new Card(Suit.CLUBS, Rank.NINE)
+        );
+        assertThrows(IllegalArgumentException.class, () -> handEvaluatorService.rank(hand));
+    }
+
+    @Test
+    void strength_WithCache_ServesRepeatedHandFromCache() {
+        HandRankCache cache = new HandRankCache(64);
+        HandEvaluatorService cached = new HandEvaluatorService(HandRankTables.standard(), cache);
+        long royalFlush = 0x1F00L;
+
+        assertEquals(7462, cached.strength(royalFlush));
+        assertEquals(7462, cached.strength(royalFlush));
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        // The spade royal flush is the same hand with other suit labels
+        assertEquals(7462, cached.strength(royalFlush << 39));
+        assertEquals(2, cache.hitCount());
+    }
+
+    @Test
+    void mixed_Wheel_IsAStraightHighBestAceToFiveAndAceHighDeuceToSeven() {
+        MixedRank mixed = handEvaluatorService.mixed(List.of(
+            new Card(Suit.HEARTS, Rank.ACE),
+            new Card(Suit.CLUBS, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.THREE),
+            new Card(Suit.SPADES, Rank.FOUR),
+            new Card(Suit.HEARTS, Rank.FIVE)
+        ));
+
+        assertEquals(HandCategory.STRAIGHT, mixed.getHigh().getCategory());
+        assertEquals(LowballType.ACE_TO_FIVE.getDistinctHands(), mixed.getAceToFive().getStrength());
+        assertEquals(List.of(Rank.FIVE, Rank.FOUR, Rank.THREE, Rank.TWO, Rank.ACE), mixed.getAceToFive().getRanks());
+        assertEquals(HandCategory.HIGH_CARD, mixed.getDeuceToSeven().getCategory());
+        assertEquals(Rank.ACE, mixed.getDeuceToSeven().getRanks().get(0));
+    }
+
+    @Test
+    void lowball_RazzHand_PlaysTheLowestFiveRanks() {
+        LowballRank low = handEvaluatorService.lowball(List.of(
+            new Card(Suit.HEARTS, Rank.KING),
+            new Card(Suit.CLUBS, Rank.EIGHT),
+            new Card(Suit.DIAMONDS, Rank.SIX),
+            new Card(Suit.SPADES, Rank.EIGHT),
+            new Card(Suit.HEARTS, Rank.FOUR),
+            new Card(Suit.CLUBS, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.ACE)
+        ), LowballType.ACE_TO_FIVE);
+
+        assertEquals(HandCategory.HIGH_CARD, low.getCategory());
+        assertEquals(List.of(Rank.EIGHT, Rank.SIX, Rank.FOUR, Rank.TWO, Rank.ACE), low.getRanks());
+        assertThrows(IllegalArgumentException.class,
+            () -> handEvaluatorService.lowStrength(0xFL, LowballType.ACE_TO_FIVE));
+    }
+
+    @Test
+    void lowball_RepeatedCard_ThrowsIllegalArgument() {
+        List<Card> hand = List.of(
+            new Card(Suit.HEARTS, Rank.ACE),
+            new Card(Suit.CLUBS, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.THREE),
+            new Card(Suit.SPADES, Rank.FOUR),
+            new Card(Suit.HEARTS, Rank.FIVE),
+            new Card(Suit.CLUBS, Rank.EIGHT),
+            new Card(Suit.CLUBS, Rank.EIGHT)
+        );
+        assertThrows(IllegalArgumentException.class,
+            () -> handEvaluatorService.lowball(hand, LowballType.DEUCE_TO_SEVEN));
+        assertThrows(IllegalArgumentException.class, () -> handEvaluatorService.mixed(hand));
+    }
+}
@@ -0,0 +1,110 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.history.HandHistoryGenerator;
+import com.midgard.pokerengine.model.HandHistoryJob;
+import com.midgard.pokerengine.model.HandHistoryJobRequest;
+import com.midgard.pokerengine.model.JobState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandHistoryServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private HandHistoryService handHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        PokerConfig pokerConfig = new PokerConfig();
+        pokerConfig.getHistory().setDirectory(dir.resolve("histories").toString());
+        pokerConfig.getHistory().setParallelism(2);
+        pokerConfig.getHistory().setSegmentBytes(4_096);
+        pokerConfig.getHistory().setMaxJobs(2);
+        handHistoryService = new HandHistoryService(pokerConfig, HandRankTables.standard());
+    }
+
+    @AfterEach
+    void tearDown() {
+        handHistoryService.close();
+    }
+
+    private HandHistoryJob await(String id) throws InterruptedException {
+        for (int i = 0; i < 1_000; i++) {
+            HandHistoryJob job = handHistoryService.status(id);
+            if (job.getState() == JobState.COMPLETED || job.getState() == JobState.FAILED) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job " + id + " did not finish");
+    }
+
+    @Test
+    void submit_HistoryFile_CompletesWithReport() throws IOException, InterruptedException {
+        Files.createDirectories(dir.resolve("histories/day1"));
+        HandHistoryGenerator.generate(dir.resolve("histories/day1/tables.txt"), 1_000, 7);
+
+        HandHistoryJob queued = handHistoryService.submit(new HandHistoryJobRequest("day1/tables.txt"));
+        HandHistoryJob job = await(queued.getId());
+
+        assertEquals("day1/tables.txt", queued.getPath());
+        assertEquals(JobState.COMPLETED, job.getState());
+        assertEquals(job.getTotalBytes(), job.getProcessedBytes());
+        assertEquals(1.0, job.getProgress(), 1e-9);
+        assertNotNull(job.getFinishedAt());
+        assertEquals(1_000, job.getReport().getHands());
+        assertEquals(0, job.getReport().getMalformed());
+        assertEquals(100, job.getReport().getPlayers().size());
+    }
+
+    @Test
+    void submit_FinishedJobs_OldestAreDropped() throws IOException, InterruptedException {
+        Files.createDirectories(dir.resolve("histories"));
+        Files.writeString(dir.resolve("histories/one.txt"), "1 - alice:-:0\n");
+        String first = await(handHistoryService.submit(new HandHistoryJobRequest("one.txt")).getId()).getId();
+        await(handHistoryService.submit(new HandHistoryJobRequest("one.txt")).getId());
+        await(handHistoryService.submit(new HandHistoryJobRequest("one.txt")).getId());
+
+        BusinessException e = assertThrows(BusinessException.class, () -> handHistoryService.status(first));
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+    }
+
+    @Test
+    void submit_PathOutsideDirectory_ThrowsBadRequest() throws IOException {
+        Files.createDirectories(dir.resolve("histories"));
+        Files.writeString(dir.resolve("secret.txt"), "1 - alice:-:0\n");
+
+        BusinessException e = assertThrows(BusinessException.class,
+            () -> handHistoryService.submit(new HandHistoryJobRequest("../secret.txt")));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+    }
+
+    @Test
+    void submit_MissingFile_ThrowsNotFound() {
+        BusinessException e = assertThrows(BusinessException.class,
+            () -> handHistoryService.submit(new HandHistoryJobRequest("missing.txt")));
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+    }
+
+    @Test
+    void status_UnknownJob_ThrowsNotFound() {
+        BusinessException e = assertThrows(BusinessException.class, () -> handHistoryService.status("nope"));
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+    }
+}
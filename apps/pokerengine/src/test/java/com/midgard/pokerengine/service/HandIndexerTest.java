@@ -0,0 +1,115 @@
+package com.midgard.pokerengine.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static com.midgard.pokerengine.service.TestCards.mask;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandIndexerTest {
+
+    @Test
+    void size_HoldemRounds_MatchesKnownClassCounts() {
+        assertEquals(169, new HandIndexer(2).size());
+        assertEquals(1_286_792, new HandIndexer(2, 3).size());
+        assertEquals(55_190_538, new HandIndexer(2, 3, 1).size());
+    }
+
+    @Test
+    void index_AllHoleCards_CoverEveryPreflopClassOnce() {
+        HandIndexer indexer = new HandIndexer(2);
+        Set<Long> indices = new HashSet<>();
+        for (int a = 0; a < 52; a++) {
+            for (int b = a + 1; b < 52; b++) {
+                long index = indexer.index(1L << a | 1L << b);
+                assertTrue(index >= 0 && index < 169);
+                indices.add(index);
+            }
+        }
+        assertEquals(169, indices.size());
+    }
+
+    @Test
+    void index_SuitRelabelledDeal_SharesTheIndex() {
+        HandIndexer indexer = new HandIndexer(2, 3);
+
+        long index = indexer.index(mask("AhKh"), mask("Qh7c2d"));
+
+        assertEquals(index, indexer.index(mask("AsKs"), mask("Qs7d2c")));
+        assertNotEquals(index, indexer.index(mask("AhKh"), mask("Qc7h2d")));
+        // The same cards in other rounds are another class
+        assertNotEquals(index, indexer.index(mask("AhQh"), mask("Kh7c2d")));
+    }
+
+    @Test
+    void index_RandomDeals_UnindexToAnIsomorphicDealWithTheSameIndex() {
+        SplittableRandom random = new SplittableRandom(25);
+        for (int[] rounds : new int[][] {{2}, {2, 3}, {2, 4}, {2, 5}, {2, 3, 1}}) {
+            HandIndexer indexer = new HandIndexer(rounds);
+            for (int i = 0; i < 5_000; i++) {
+                Deck deck = new Deck(random.split());
+                deck.shuffle();
+                long[] hand = new long[rounds.length];
+                for (int r = 0; r < rounds.length; r++) {
+                    hand[r] = deck.draw(rounds[r]);
+                }
+
+                long index = indexer.index(hand);
+                long[] canonical = indexer.unindex(index);
+
+                assertTrue(index >= 0 && index < indexer.size());
+                assertEquals(index, indexer.index(canonical));
+                assertTrue(isomorphic(hand, canonical));
+            }
+        }
+    }
+
+    @Test
+    void unindex_RandomIndices_RoundTrip() {
+        SplittableRandom random = new SplittableRandom(3);
+        HandIndexer indexer = new HandIndexer(2, 5);
+        for (int i = 0; i < 10_000; i++) {
+            long index = random.nextLong(indexer.size());
+            assertEquals(index, indexer.index(indexer.unindex(index)));
+        }
+        assertEquals(0, indexer.index(indexer.unindex(0)));
+        assertEquals(indexer.size() - 1, indexer.index(indexer.unindex(indexer.size() - 1)));
+    }
+
+    @Test
+    void members_PreflopClasses_HaveOneMemberPerSuitRelabelling() {
+        HandIndexer indexer = new HandIndexer(2);
+
+        assertEquals(6, indexer.members(indexer.index(mask("AhAd"))).size());
+        assertEquals(4, indexer.members(indexer.index(mask("AhKh"))).size());
+        List<long[]> offsuit = indexer.members(indexer.index(mask("AhKd")));
+        assertEquals(12, offsuit.size());
+        assertTrue(offsuit.stream().anyMatch(m -> m[0] == mask("AcKs")));
+    }
+
+    @Test
+    void index_OverlappingRounds_ThrowsIllegalArgument() {
+        HandIndexer indexer = new HandIndexer(2, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> indexer.index(mask("AhKh"), mask("AhQc2d")));
+        assertThrows(IllegalArgumentException.class, () -> indexer.index(mask("AhKh"), mask("Qc2d")));
+        assertThrows(IllegalArgumentException.class, () -> indexer.unindex(indexer.size()));
+    }
+
+    private static boolean isomorphic(long[] a, long[] b) {
+        for (int[] perm : SuitSymmetry.ALL) {
+            boolean all = true;
+            for (int r = 0; r < a.length; r++) {
+                all &= SuitSymmetry.permute(a[r], perm) == b[r];
+            }
+            if (all) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
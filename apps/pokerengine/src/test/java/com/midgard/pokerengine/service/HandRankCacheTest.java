@@ -0,0 +1,91 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandRankCacheTest {
+
+    private static final long ROYAL_FLUSH = 0x1F00L;
+    private static final long WHEEL_STRAIGHT = 0x100FL | 1L << 14;
+
+    @Test
+    void constructor_Capacity_RoundsUpToPowerOfTwo() {
+        assertEquals(1024, new HandRankCache(1000).capacity());
+        assertEquals(1024, new HandRankCache(1024).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new HandRankCache(1));
+    }
+
+    @Test
+    void get_AfterPut_ReturnsStrength() {
+        HandRankCache cache = new HandRankCache(64);
+        assertEquals(0, cache.get(ROYAL_FLUSH));
+
+        cache.put(ROYAL_FLUSH, 7462);
+
+        assertEquals(7462, cache.get(ROYAL_FLUSH));
+        assertEquals(0, cache.get(WHEEL_STRAIGHT));
+        assertEquals(1, cache.hitCount());
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void put_CollidingHands_EvictsWithoutReturningWrongStrength() {
+        HandRankCache cache = new HandRankCache(2);
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            long hand = randomHand(random);
+            int strength = (int) (Long.remainderUnsigned(hand, 7462) + 1);
+            int cached = cache.get(hand);
+            assertTrue(cached == 0 || cached == strength);
+            cache.put(hand, strength);
+        }
+        assertTrue(cache.evictionCount() > 0);
+    }
+
+    @Test
+    void scramble_DistinctMasks_StayDistinctWithinDeck() {
+        Random random = new Random(11);
+        Set<Long> hands = new HashSet<>();
+        Set<Long> hashes = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            long hand = randomHand(random);
+            long hash = HandRankCache.scramble(hand);
+            assertEquals(0, hash & ~CardMask.FULL_DECK);
+            hands.add(hand);
+            hashes.add(hash);
+        }
+        assertEquals(hands.size(), hashes.size());
+    }
+
+    @Test
+    void bindTo_Registry_ExportsHitsMissesAndEvictions() {
+        HandRankCache cache = new HandRankCache(64);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(ROYAL_FLUSH);
+        cache.put(ROYAL_FLUSH, 7462);
+        cache.get(ROYAL_FLUSH);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", HandRankCache.NAME)
+            .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", HandRankCache.NAME)
+            .tag("result", "miss").functionCounter().count());
+        assertEquals(0.0, registry.get("cache.evictions").functionCounter().count());
+    }
+
+    private static long randomHand(Random random) {
+        long hand = 0L;
+        while (Long.bitCount(hand) < 7) {
+            hand |= 1L << random.nextInt(CardMask.DECK_SIZE);
+        }
+        return hand;
+    }
+}
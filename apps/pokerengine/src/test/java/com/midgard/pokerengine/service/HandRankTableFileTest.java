@@ -0,0 +1,72 @@
+package com.midgard.pokerengine.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandRankTableFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void map_WrittenFile_RanksLikeGeneratedTables() throws IOException {
+        Path file = dir.resolve("tables.bin");
+        HandRankTables generated = HandRankTables.standard();
+        HandRankTableFile.write(generated, file);
+
+        HandRankTables mapped = HandRankTableFile.map(file);
+
+        assertEquals(HandRankTableFile.HEADER_BYTES + HandRankTables.PAYLOAD_BYTES, Files.size(file));
+        assertEquals(file.toString(), mapped.source());
+        assertEquals(generated.expectedChecksum(), mapped.expectedChecksum());
+        assertTrue(mapped.verify());
+        Random random = new Random(5);
+        for (int i = 0; i < 100_000; i++) {
+            long hand = 0L;
+            while (Long.bitCount(hand) < 5 + i % 3) {
+                hand |= 1L << random.nextInt(52);
+            }
+            assertEquals(generated.evaluate(hand), mapped.evaluate(hand));
+        }
+    }
+
+    @Test
+    void map_CorruptFile_ThrowsIOException() throws IOException {
+        Path file = dir.resolve("tables.bin");
+        HandRankTableFile.write(HandRankTables.standard(), file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), 4096);
+        }
+
+        IOException e = assertThrows(IOException.class, () -> HandRankTableFile.map(file));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void map_TruncatedFile_ThrowsIOException() throws IOException {
+        Path file = dir.resolve("tables.bin");
+        Files.write(file, new byte[HandRankTableFile.HEADER_BYTES]);
+
+        assertThrows(IOException.class, () -> HandRankTableFile.map(file));
+    }
+
+    @Test
+    void mapOrGenerate_MissingOrCorruptFile_GeneratesIt() throws IOException {
+        Path file = dir.resolve("nested").resolve("tables.bin");
+
+        assertTrue(HandRankTableFile.mapOrGenerate(file).verify());
+
+        Files.write(file, new byte[] {0});
+        assertTrue(HandRankTableFile.mapOrGenerate(file).verify());
+    }
+}
@@ -0,0 +1,144 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.model.HandCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.midgard.pokerengine.service.TestCards.mask;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandRankTablesTest {
+
+    private final HandRankTables tables = HandRankTables.standard();
+
+    @Test
+    void evaluate_AllFiveCardHands_MatchKnownCategoryFrequencies() {
+        long[] counts = new long[HandCategory.values().length];
+        for (int a = 0; a < 52; a++) {
+            for (int b = a + 1; b < 52; b++) {
+                for (int c = b + 1; c < 52; c++) {
+                    for (int d = c + 1; d < 52; d++) {
+                        for (int e = d + 1; e < 52; e++) {
+                            long mask = 1L << a | 1L << b | 1L << c | 1L << d | 1L << e;
+                            counts[HandCategory.fromStrength(tables.evaluate(mask)).ordinal()]++;
+                        }
+                    }
+                }
+            }
+        }
+        assertArrayEquals(new long[] {1302540, 1098240, 123552, 54912, 10200, 5108, 3744, 624, 40}, counts);
+    }
+
+    @Test
+    void evaluate_SevenCards_MatchesBestFiveCardSubset() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 20_000; i++) {
+            int size = 6 + random.nextInt(2);
+            int[] cards = new int[size];
+            long mask = 0L;
+            for (int n = 0; n < size; ) {
+                int card = random.nextInt(52);
+                if ((mask & (1L << card)) == 0) {
+                    mask |= 1L << card;
+                    cards[n++] = card;
+                }
+            }
+            int best = 0;
+            for (int subset = 0; subset < (1 << size); subset++) {
+                if (Integer.bitCount(subset) == 5) {
+                    long five = 0L;
+                    for (int n = 0; n < size; n++) {
+                        if ((subset & (1 << n)) != 0) {
+                            five |= 1L << cards[n];
+                        }
+                    }
+                    best = Math.max(best, tables.evaluate(five));
+                }
+            }
+            assertEquals(best, tables.evaluate(mask));
+        }
+    }
+
+    @Test
+    void generate_ShortDeck_AllFiveCardHandsMatchShortDeckCategoryFrequencies() {
+        HandRankTables shortDeck = HandRankTables.generate(DeckDefinition.SHORT);
+        int[] cards = new int[36];
+        int n = 0;
+        for (long rest = DeckDefinition.SHORT.getCards(); rest != 0; rest &= rest - 1) {
+            cards[n++] = Long.numberOfTrailingZeros(rest);
+        }
+        long[] counts = new long[HandCategory.values().length];
+        for (int a = 0; a < 36; a++) {
+            for (int b = a + 1; b < 36; b++) {
+                for (int c = b + 1; c < 36; c++) {
+                    for (int d = c + 1; d < 36; d++) {
+                        for (int e = d + 1; e < 36; e++) {
+                            long mask = 1L << cards[a] | 1L << cards[b] | 1L << cards[c] | 1L << cards[d] | 1L << cards[e];
+                            counts[shortDeck.category(shortDeck.evaluate(mask)).ordinal()]++;
+                        }
+                    }
+                }
+            }
+        }
+        assertArrayEquals(new long[] {122400, 193536, 36288, 16128, 6120, 480, 1728, 288, 24}, counts);
+        assertEquals(HandCategory.FULL_HOUSE, shortDeck.categories().get(HandCategory.FLUSH.ordinal()));
+        assertTrue(shortDeck.verify());
+    }
+
+    @Test
+    void generate_ShortDeck_AceSixToNineIsTheLowestStraightAndFlushBeatsFullHouse() {
+        HandRankTables shortDeck = HandRankTables.generate(DeckDefinition.SHORT);
+
+        int wheel = shortDeck.evaluate(mask("Ah6d7c8s9h"));
+        assertEquals(HandCategory.STRAIGHT, shortDeck.category(wheel));
+        assertEquals(wheel + 1, shortDeck.evaluate(mask("6d7c8s9hTh")));
+        assertEquals(HandCategory.THREE_OF_A_KIND, shortDeck.category(wheel - 1));
+        assertEquals(0, shortDeck.evaluate(mask("Ah2d3c4s5h")), "not short deck cards");
+
+        int lowestFlush = shortDeck.evaluate(mask("6h7h8h9hJh"));
+        assertEquals(HandCategory.FLUSH, shortDeck.category(lowestFlush));
+        assertEquals(lowestFlush - 1, shortDeck.evaluate(mask("AhAdAcKhKd")));
+        assertEquals(shortDeck.distinctHands(), shortDeck.evaluate(mask("AhKhQhJhTh")));
+    }
+
+    @Test
+    void generate_ShortDeckSevenCards_MatchesBestFiveCardSubset() {
+        HandRankTables shortDeck = HandRankTables.generate(DeckDefinition.SHORT);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 5_000; i++) {
+            Deck deck = new Deck(random.split(), DeckDefinition.SHORT.getCards());
+            int[] cards = new int[7];
+            long mask = 0L;
+            for (int n = 0; n < cards.length; n++) {
+                cards[n] = deck.draw();
+                mask |= 1L << cards[n];
+            }
+            int best = 0;
+            for (int skip1 = 0; skip1 < 7; skip1++) {
+                for (int skip2 = skip1 + 1; skip2 < 7; skip2++) {
+                    best = Math.max(best, shortDeck.evaluate(mask & ~(1L << cards[skip1]) & ~(1L << cards[skip2])));
+                }
+            }
+            assertEquals(best, shortDeck.evaluate(mask));
+        }
+    }
+
+    @Test
+    void generate_StandardDeck_CategoriesMatchTheFixedBlocks() {
+        for (int strength = 1; strength <= HandRankTables.DISTINCT_HANDS; strength++) {
+            assertEquals(HandCategory.fromStrength(strength), tables.category(strength));
+        }
+        assertEquals(List.of(HandCategory.values()), tables.categories());
+        assertEquals(HandRankTables.DISTINCT_HANDS, HandRankTables.generate(DeckDefinition.STANDARD).distinctHands());
+    }
+
+    @Test
+    void straightTop_Wheel_IsFiveHigh() {
+        assertEquals(3, HandRankTables.straightTop(0x100F));
+        assertEquals(12, HandRankTables.straightTop(0x1F00));
+        assertEquals(-1, HandRankTables.straightTop(0x1E07));
+    }
+}
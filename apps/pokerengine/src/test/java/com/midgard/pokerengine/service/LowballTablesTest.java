@@ -0,0 +1,108 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.LowballType;
+import com.midgard.pokerengine.model.Rank;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.midgard.pokerengine.service.TestCards.mask;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LowballTablesTest {
+
+    private final LowballTables aceToFive = LowballTables.of(LowballType.ACE_TO_FIVE);
+    private final LowballTables deuceToSeven = LowballTables.of(LowballType.DEUCE_TO_SEVEN);
+
+    @Test
+    void evaluate_AceToFive_WheelIsBestEvenSuitedAndQuadKingsWorst() {
+        assertEquals(6175, aceToFive.evaluate(mask("5h4d3c2sAh")));
+        assertEquals(6175, aceToFive.evaluate(mask("5h4h3h2hAh")));
+        assertEquals(List.of(Rank.FIVE, Rank.FOUR, Rank.THREE, Rank.TWO, Rank.ACE), aceToFive.ranks(6175));
+        assertEquals(HandCategory.HIGH_CARD, aceToFive.category(6175));
+        assertEquals(1, aceToFive.evaluate(mask("KhKdKcKsQh")));
+        assertEquals(HandCategory.FOUR_OF_A_KIND, aceToFive.category(1));
+        // Any unpaired low beats a pair of aces
+        assertTrue(aceToFive.evaluate(mask("KhQdJcTs9h")) > aceToFive.evaluate(mask("AhAd2c3s4h")));
+    }
+
+    @Test
+    void evaluate_DeuceToSeven_SevenFiveIsBestAndWheelIsAceHigh() {
+        assertEquals(7462, deuceToSeven.evaluate(mask("7h5d4c3s2h")));
+        assertEquals(List.of(Rank.SEVEN, Rank.FIVE, Rank.FOUR, Rank.THREE, Rank.TWO), deuceToSeven.ranks(7462));
+        assertEquals(1, deuceToSeven.evaluate(mask("AhKhQhJhTh")));
+        assertEquals(HandCategory.STRAIGHT_FLUSH, deuceToSeven.category(1));
+
+        int wheel = deuceToSeven.evaluate(mask("5h4d3c2sAh"));
+        assertEquals(HandCategory.HIGH_CARD, deuceToSeven.category(wheel));
+        assertEquals(HandCategory.STRAIGHT, deuceToSeven.category(deuceToSeven.evaluate(mask("6h5d4c3s2h"))));
+        assertEquals(HandCategory.FLUSH, deuceToSeven.category(deuceToSeven.evaluate(mask("7h5h4h3h2h"))));
+    }
+
+    @Test
+    void evaluate_DeuceToSevenFiveCards_ReversesTheHighOrderApartFromTheWheel() {
+        HandRankTables high = HandRankTables.standard();
+        SplittableRandom random = new SplittableRandom(24);
+        for (int i = 0; i < 20_000; i++) {
+            Deck deck = new Deck(random.split());
+            deck.shuffle();
+            long a = deck.draw(5);
+            long b = deck.draw(5);
+            // A-2-3-4-5 is a straight high but only ace high in deuce-to-seven
+            if (CardMask.rankMask(a) == 0x100F || CardMask.rankMask(b) == 0x100F) {
+                continue;
+            }
+            assertEquals(Integer.signum(high.evaluate(a) - high.evaluate(b)),
+                Integer.signum(deuceToSeven.evaluate(b) - deuceToSeven.evaluate(a)));
+        }
+    }
+
+    @Test
+    void evaluate_SixAndSevenCards_MatchTheBestFiveCardSubset() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (LowballTables tables : List.of(aceToFive, deuceToSeven)) {
+            for (int i = 0; i < 20_000; i++) {
+                Deck deck = new Deck(random.split());
+                deck.shuffle();
+                long hand = deck.draw(6 + (i & 1));
+                assertEquals(bruteForce(tables, hand), tables.evaluate(hand), tables.type() + " " + hand);
+            }
+        }
+    }
+
+    @Test
+    void evaluate_RazzHandWithThreePairs_PlaysTheLowestPair() {
+        int strength = aceToFive.evaluate(mask("KhKdQhQdJhJd9c"));
+
+        assertEquals(HandCategory.ONE_PAIR, aceToFive.category(strength));
+        assertEquals(List.of(Rank.JACK, Rank.JACK, Rank.KING, Rank.QUEEN, Rank.NINE), aceToFive.ranks(strength));
+    }
+
+    @Test
+    void evaluate_DeuceToSevenStraightWithAPair_PlaysThePairInstead() {
+        int strength = deuceToSeven.evaluate(mask("2h3d4c5s6h6d6c"));
+
+        assertEquals(HandCategory.ONE_PAIR, deuceToSeven.category(strength));
+        assertEquals(List.of(Rank.SIX, Rank.SIX, Rank.FOUR, Rank.THREE, Rank.TWO), deuceToSeven.ranks(strength));
+    }
+
+    @Test
+    void evaluate_DeuceToSevenSevenSuitedCards_AvoidsTheFlushWhenItCan() {
+        // 7d breaks up the heart flush, leaving the best low
+        assertEquals(7462, deuceToSeven.evaluate(mask("7h5h4h3h2hKh7d")));
+        assertEquals(HandCategory.FLUSH, deuceToSeven.category(deuceToSeven.evaluate(mask("7h5h4h3h2hKhQh"))));
+    }
+
+    private static int bruteForce(LowballTables tables, long hand) {
+        int best = 0;
+        for (long five = hand; five != 0; five = (five - 1) & hand) {
+            if (Long.bitCount(five) == 5) {
+                best = Math.max(best, tables.evaluate(five));
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,121 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.GameVariant;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static com.midgard.pokerengine.service.TestCards.mask;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmahaEvaluatorTest {
+
+    private final HandRankTables tables = HandRankTables.standard();
+
+    @Test
+    void evaluate_RandomDeals_MatchEveryTwoPlusThreeCombination() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (GameVariant variant : new GameVariant[] {GameVariant.OMAHA, GameVariant.OMAHA_5, GameVariant.OMAHA_HI_LO}) {
+            for (int deal = 0; deal < 2_000; deal++) {
+                Deck deck = new Deck(random.split());
+                deck.shuffle();
+                long[] holes = new long[4];
+                for (int p = 0; p < holes.length; p++) {
+                    holes[p] = deck.draw(variant.getHoleCards());
+                }
+                long board = deck.draw(5);
+                int[] highs = new int[holes.length];
+                int[] lows = new int[holes.length];
+                VariantEvaluator.of(variant, tables, holes).evaluate(board, highs, lows);
+
+                for (int p = 0; p < holes.length; p++) {
+                    assertEquals(bruteHigh(holes[p], board), highs[p], variant + " high");
+                    if (variant.isHiLo()) {
+                        assertEquals(bruteLow(holes[p], board), lows[p], variant + " low");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void evaluate_FourFlushOnBoardWithOneSuitedHoleCard_IsNoFlush() {
+        long board = mask("AhKhQh2h3c");
+        long[] holes = {mask("JhTs9c8d")};
+        int[] highs = new int[1];
+
+        VariantEvaluator.of(GameVariant.OMAHA, tables, holes).evaluate(board, highs, null);
+
+        // Jh alone cannot make the flush; J-T with A-K-Q is the straight
+        assertEquals(bruteHigh(holes[0], board), highs[0]);
+        assertEquals(tables.evaluate(mask("AhKhQhJhTs")), highs[0]);
+    }
+
+    @Test
+    void evaluate_HiLo_LowNeedsTwoDistinctLowHoleCardsAndThreeLowBoardRanks() {
+        long lowBoard = mask("Ah2d7cKsQs");
+        long highBoard = mask("9hTdJcKsQs");
+        long[] holes = {
+            mask("3h4h9d9c"),
+            mask("AdAcKhKc"),
+        };
+        int[] highs = new int[2];
+        int[] lows = new int[2];
+        VariantEvaluator evaluator = VariantEvaluator.of(GameVariant.OMAHA_HI_LO, tables, holes);
+
+        evaluator.evaluate(lowBoard, highs, lows);
+        assertEquals(OmahaEvaluator.LOW_CEILING - 0b1001111, lows[0]);
+        assertEquals(0, lows[1]);
+
+        evaluator.evaluate(highBoard, highs, lows);
+        assertArrayEquals(new int[] {0, 0}, lows);
+    }
+
+    @Test
+    void combinations_ChooseTwoOfFive_ListsTenPairsInOrder() {
+        int[][] pairs = OmahaEvaluator.combinations(5, 2);
+
+        assertEquals(10, pairs.length);
+        assertArrayEquals(new int[] {0, 1}, pairs[0]);
+        assertArrayEquals(new int[] {3, 4}, pairs[9]);
+        assertEquals(10, OmahaEvaluator.combinations(5, 3).length);
+        assertEquals(0, OmahaEvaluator.combinations(1, 2).length);
+    }
+
+    private int bruteHigh(long hole, long board) {
+        int best = 0;
+        for (long five : hands(hole, board)) {
+            best = Math.max(best, tables.evaluate(five));
+        }
+        return best;
+    }
+
+    private static int bruteLow(long hole, long board) {
+        int best = OmahaEvaluator.LOW_CEILING;
+        for (long five : hands(hole, board)) {
+            int low = OmahaEvaluator.lowMask(five);
+            if (low != 0 && low < best) {
+                best = low;
+            }
+        }
+        return OmahaEvaluator.LOW_CEILING - best;
+    }
+
+    private static long[] hands(long hole, long board) {
+        long[] hands = new long[100];
+        int n = 0;
+        for (long a = hole; a != 0; a &= a - 1) {
+            for (long b = a & (a - 1); b != 0; b &= b - 1) {
+                for (long c = board; c != 0; c &= c - 1) {
+                    for (long d = c & (c - 1); d != 0; d &= d - 1) {
+                        for (long e = d & (d - 1); e != 0; e &= e - 1) {
+                            hands[n++] = (a & -a) | (b & -b) | (c & -c) | (d & -d) | (e & -e);
+                        }
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(hands, n);
+    }
+}
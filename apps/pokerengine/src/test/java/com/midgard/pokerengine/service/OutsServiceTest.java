@@ -0,0 +1,100 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.model.DeckDefinition;
+import com.midgard.pokerengine.model.DrawType;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.OutGroup;
+import com.midgard.pokerengine.model.OutsRequest;
+import com.midgard.pokerengine.model.OutsResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static com.midgard.pokerengine.service.TestCards.cards;
+import static com.midgard.pokerengine.service.TestCards.mask;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutsServiceTest {
+
+    private final OutsService outsService = new OutsService();
+
+    @Test
+    void outs_FlushAndOpenEndedDraw_GroupsOutsByCategoryReached() {
+        OutsResult result = outsService.outs(new OutsRequest(cards("9h8h"), cards("Th7h2c")));
+
+        assertEquals(HandCategory.HIGH_CARD, result.getCurrent().getCategory());
+        assertEquals(List.of(DrawType.FLUSH_DRAW, DrawType.OPEN_ENDED), result.getDraws());
+        assertEquals(47, result.getUnseen());
+        assertEquals(29, result.getTotalOuts());
+        List<OutGroup> outs = result.getOuts();
+        assertEquals(List.of(HandCategory.STRAIGHT_FLUSH, HandCategory.FLUSH, HandCategory.STRAIGHT,
+            HandCategory.ONE_PAIR), outs.stream().map(OutGroup::getCategory).toList());
+        assertEquals(cards("Jh6h"), outs.get(0).getCards());
+        assertEquals(7, outs.get(1).getCards().size());
+        assertEquals(cards("JdJcJs6d6c6s"), outs.get(2).getCards());
+        assertEquals(14, outs.get(3).getCards().size());
+        assertEquals(29.0 / 47, result.getNextCard(), 1e-12);
+        assertTrue(result.getByRiver() > result.getNextCard());
+    }
+
+    @Test
+    void outs_Turn_ByRiverIsNextCard() {
+        OutsResult result = outsService.outs(new OutsRequest(cards("AsKd"), cards("QcTh3s2d")));
+
+        assertEquals(List.of(DrawType.GUTSHOT), result.getDraws());
+        assertEquals(46, result.getUnseen());
+        // Four jacks for the straight and the 18 cards that pair a hole or board card
+        assertEquals(22, result.getTotalOuts());
+        assertEquals(result.getNextCard(), result.getByRiver());
+    }
+
+    @Test
+    void draws_StraightDraws_TellOpenEndedFromGutshots() {
+        assertEquals(1 << DrawType.DOUBLE_GUTSHOT.ordinal(),
+            OutsService.draws(mask("9c7d"), mask("Jh8s5c")));
+        assertEquals(1 << DrawType.OPEN_ENDED.ordinal(),
+            OutsService.draws(mask("9c8d"), mask("Th7s2c")));
+        // A-2-3-4 only completes with a five
+        assertEquals(1 << DrawType.GUTSHOT.ordinal(),
+            OutsService.draws(mask("Ac2d"), mask("3h4sKc")));
+        assertEquals(0, OutsService.draws(mask("9c8d"), mask("Th7s6c")), "already a straight");
+    }
+
+    @Test
+    void draws_DrawOnTheBoard_IsNotTheHands() {
+        assertEquals(0, OutsService.draws(mask("2c2d"), mask("9hThJhQh")));
+    }
+
+    @Test
+    void outs_ShortDeck_CountsOnlyDeckCardsAndWrapsTheAceBelowTheSix() {
+        OutsService shortDeck = new OutsService(HandRankTables.generate(DeckDefinition.SHORT));
+
+        OutsResult result = shortDeck.outs(new OutsRequest(cards("Ah6c"), cards("7d8sKh")));
+
+        assertEquals(31, result.getUnseen());
+        assertEquals(List.of(DrawType.GUTSHOT), result.getDraws());
+        // Four nines for the A-6-7-8-9 straight and three of each held rank for a pair
+        assertEquals(4 + 5 * 3, result.getTotalOuts());
+        // 6-7-8-9 completes with a ten or an ace
+        assertEquals(1 << DrawType.OPEN_ENDED.ordinal(),
+            OutsService.draws(mask("6c7d"), mask("8s9hKd"), DeckDefinition.SHORT));
+        assertThrows(BusinessException.class,
+            () -> shortDeck.outs(new OutsRequest(cards("Ah5c"), cards("7d8sKh"))));
+    }
+
+    @Test
+    void outs_InvalidCards_ThrowBadRequest() {
+        List<OutsRequest> requests = List.of(
+            new OutsRequest(cards("AsKsQs"), cards("2c3c4c")),
+            new OutsRequest(cards("AsKs"), cards("2c3c4c5c6c")),
+            new OutsRequest(cards("AsKs"), cards("As3c4c")),
+            new OutsRequest(null, cards("2c3c4c")));
+        for (OutsRequest request : requests) {
+            BusinessException e = assertThrows(BusinessException.class, () -> outsService.outs(request));
+
+            assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.model.PreflopEquity;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreflopEquityServiceTest {
+
+    private final PreflopEquityService preflopEquityService;
+
+    PreflopEquityServiceTest() throws IOException {
+        preflopEquityService = new PreflopEquityService(PreflopEquityTable.load());
+    }
+
+    @Test
+    void lookup_TwoHands_ReturnsEquityOfFirst() {
+        PreflopEquity result = preflopEquityService.lookup("aa", "KK");
+
+        assertEquals("AA", result.getHand());
+        assertEquals("KK", result.getVersus());
+        assertEquals(0.8195, result.getEquity(), 1e-4);
+        assertEquals(1.0, result.getWin() + result.getTie() + result.getLoss(), 1e-9);
+    }
+
+    @Test
+    void lookup_NoOpponent_ReturnsEquityVersusRandomHand() {
+        PreflopEquity result = preflopEquityService.lookup("72o", null);
+
+        assertEquals("random", result.getVersus());
+        assertEquals(0.3458, result.getEquity(), 1e-4);
+        assertEquals(result.getEquity(), preflopEquityService.lookup("72o", "Random").getEquity());
+    }
+
+    @Test
+    void lookup_InvalidHand_ThrowsBadRequest() {
+        BusinessException e = assertThrows(BusinessException.class,
+            () -> preflopEquityService.lookup("AK", "QQ"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+        assertTrue(e.getMessage().contains("AK"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.HandRange;
+import com.midgard.pokerengine.model.Rank;
+import com.midgard.pokerengine.model.Suit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreflopEquityTableTest {
+
+    private static final double FRACTION = 1 / PreflopEquityTable.SCALE;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parseHand_CanonicalHands_RoundTripThroughName() {
+        assertEquals("AA", PreflopEquityTable.handName(PreflopEquityTable.parseHand("aa")));
+        assertEquals("AKs", PreflopEquityTable.handName(PreflopEquityTable.parseHand("KAs")));
+        assertEquals("T9o", PreflopEquityTable.handName(PreflopEquityTable.parseHand(" t9O ")));
+        for (int hand = 0; hand < PreflopEquityTable.HANDS; hand++) {
+            assertEquals(hand, PreflopEquityTable.parseHand(PreflopEquityTable.handName(hand)));
+        }
+    }
+
+    @Test
+    void parseHand_InvalidHand_ThrowsIllegalArgumentException() {
+        for (String hand : new String[] {null, "", "A", "AK", "AAs", "AKx", "AK0", "1K"}) {
+            assertThrows(IllegalArgumentException.class, () -> PreflopEquityTable.parseHand(hand));
+        }
+    }
+
+    @Test
+    void handOf_EveryCombo_CountsSixPairFourSuitedTwelveOffsuitCombos() {
+        int[] combos = new int[PreflopEquityTable.HANDS];
+        for (int combo = 0; combo < HandRange.COMBOS; combo++) {
+            combos[PreflopEquityTable.handOf(combo)]++;
+        }
+        assertEquals(6, combos[PreflopEquityTable.parseHand("AA")]);
+        assertEquals(4, combos[PreflopEquityTable.parseHand("AKs")]);
+        assertEquals(12, combos[PreflopEquityTable.parseHand("AKo")]);
+        // Both hole cards of Ah Kh
+        assertEquals(PreflopEquityTable.parseHand("AKs"), PreflopEquityTable.handOf(HandRange.combo(12, 11)));
+    }
+
+    @Test
+    void scorer_OneBoard_CountsLikeEveryComboPair() {
+        long board = CardMask.mask(List.of(
+            new Card(Suit.HEARTS, Rank.ACE), new Card(Suit.HEARTS, Rank.SEVEN),
+            new Card(Suit.CLUBS, Rank.SEVEN), new Card(Suit.SPADES, Rank.TWO),
+            new Card(Suit.DIAMONDS, Rank.TEN)));
+        PreflopEquityTable.Scorer scorer = new PreflopEquityTable.Scorer(HandRankTables.standard());
+        scorer.score(board, 3);
+
+        int[] strengths = new int[HandRange.COMBOS];
+        for (int combo = 0; combo < HandRange.COMBOS; combo++) {
+            if ((HandRange.comboMask(combo) & board) == 0) {
+                strengths[combo] = HandRankTables.standard().evaluate(board | HandRange.comboMask(combo));
+            }
+        }
+        long[] win = new long[PreflopEquityTable.MATCHUPS];
+        long[] tie = new long[PreflopEquityTable.MATCHUPS];
+        for (int hero = 0; hero < HandRange.COMBOS; hero++) {
+            for (int villain = 0; villain < HandRange.COMBOS; villain++) {
+                if (strengths[hero] == 0 || strengths[villain] == 0
+                        || (HandRange.comboMask(hero) & HandRange.comboMask(villain)) != 0) {
+                    continue;
+                }
+                int matchup = PreflopEquityTable.handOf(hero) * PreflopEquityTable.HANDS
+                    + PreflopEquityTable.handOf(villain);
+                if (strengths[hero] > strengths[villain]) {
+                    win[matchup] += 3;
+                } else if (strengths[hero] == strengths[villain]) {
+                    tie[matchup] += 3;
+                }
+            }
+        }
+        assertArrayEquals(win, scorer.counts.win);
+        assertArrayEquals(tie, scorer.counts.tie);
+    }
+
+    @Test
+    void load_ShippedTable_MatchesKnownEquities() throws IOException {
+        PreflopEquityTable table = PreflopEquityTable.load();
+        int aces = PreflopEquityTable.parseHand("AA");
+        int kings = PreflopEquityTable.parseHand("KK");
+        int sevenDeuce = PreflopEquityTable.parseHand("72o");
+
+        assertEquals(0.8171, table.win(aces, kings), 1e-4);
+        assertEquals(0.0046, table.tie(aces, kings), 1e-4);
+        assertEquals(0.8520, table.winVsRandom(aces) + table.tieVsRandom(aces) / 2, 1e-4);
+        assertEquals(0.3458, table.winVsRandom(sevenDeuce) + table.tieVsRandom(sevenDeuce) / 2, 1e-4);
+        assertEquals(0.4605, equity(table, "AKs", "QQ"), 1e-4);
+    }
+
+    @Test
+    void load_ShippedTable_IsSymmetric() throws IOException {
+        PreflopEquityTable table = PreflopEquityTable.load();
+        for (int hero = 0; hero < PreflopEquityTable.HANDS; hero++) {
+            for (int villain = 0; villain < PreflopEquityTable.HANDS; villain++) {
+                assertEquals(table.tie(hero, villain), table.tie(villain, hero), FRACTION);
+                assertEquals(1.0, table.win(hero, villain) + table.tie(hero, villain)
+                    + table.win(villain, hero), 2 * FRACTION);
+            }
+        }
+    }
+
+    @Test
+    void read_WrittenTable_HasSameChecksum() throws IOException {
+        PreflopEquityTable table = PreflopEquityTable.load();
+        Path file = dir.resolve("nested").resolve("preflop-equity.bin");
+        table.write(file);
+
+        assertEquals(PreflopEquityTable.HEADER_BYTES + PreflopEquityTable.PAYLOAD_BYTES, Files.size(file));
+        assertEquals(table.checksum(), PreflopEquityTable.read(file).checksum());
+    }
+
+    @Test
+    void read_CorruptFile_ThrowsIOException() throws IOException {
+        Path file = dir.resolve("preflop-equity.bin");
+        PreflopEquityTable.load().write(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), 4096);
+        }
+
+        IOException e = assertThrows(IOException.class, () -> PreflopEquityTable.read(file));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    private static double equity(PreflopEquityTable table, String hand, String versus) {
+        int hero = PreflopEquityTable.parseHand(hand);
+        int villain = PreflopEquityTable.parseHand(versus);
+        return table.win(hero, villain) + table.tie(hero, villain) / 2;
+    }
+}
@@ -0,0 +1,112 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.config.PokerConfig;
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.EquityMode;
+import com.midgard.pokerengine.model.HandRange;
+import com.midgard.pokerengine.model.RangeEquity;
+import com.midgard.pokerengine.model.RangeEquityRequest;
+import com.midgard.pokerengine.model.RangeEquityResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.midgard.pokerengine.service.TestCards.cards;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeEquityServiceTest {
+
+    private static final String HERO = "TT+, AKs, A2s-A5s, KQo:0.5";
+    private static final String VILLAIN = "22+, AK, KQs, 76s, AhQh:0.3";
+
+    private final HandRankTables tables = HandRankTables.standard();
+    private ForkJoinPool pool;
+    private RangeEquityService rangeEquityService;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        rangeEquityService = new RangeEquityService(pool, new PokerConfig(), tables);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void calculate_ExactOnTurn_MatchesPairwiseEnumeration() {
+        List<Card> board = cards("Kh9c4d2s");
+        RangeEquityResult result = rangeEquityService.calculate(
+            new RangeEquityRequest(List.of(HERO, VILLAIN), board, null, null, null, EquityMode.EXACT));
+
+        double[] expected = pairwise(HandRange.parse(HERO), HandRange.parse(VILLAIN), CardMask.mask(board));
+        RangeEquity hero = result.getRanges().get(0);
+        assertEquals(48, result.getBoards());
+        assertEquals(expected[0], hero.getWin(), 1e-9);
+        assertEquals(expected[1], hero.getTie(), 1e-9);
+        assertEquals(1.0, hero.getEquity() + result.getRanges().get(1).getEquity(), 1e-9);
+    }
+
+    @Test
+    void calculate_ExactOnFlop_EnumeratesEveryTurnAndRiver() {
+        RangeEquityResult result = rangeEquityService.calculate(new RangeEquityRequest(
+            List.of("AA", "KK"), cards("2c7d9h"), null, null, null, EquityMode.EXACT));
+
+        assertEquals(1176, result.getBoards());
+        assertEquals(6, result.getRanges().get(0).getCombos());
+        assertEquals(0.91, result.getRanges().get(0).getEquity(), 0.01);
+    }
+
+    @Test
+    void calculate_MonteCarloPreflop_IsReproducibleAndClose() {
+        RangeEquityRequest request = new RangeEquityRequest(List.of("AA", "KK"), null, null, 20_000L, 7L, null);
+        RangeEquityResult result = rangeEquityService.calculate(request);
+
+        assertEquals(0.82, result.getRanges().get(0).getEquity(), 0.01);
+        assertEquals(result.getRanges(), rangeEquityService.calculate(request).getRanges());
+    }
+
+    @Test
+    void calculate_InvalidRequests_Throw() {
+        assertThrows(BusinessException.class, () -> rangeEquityService.calculate(
+            new RangeEquityRequest(List.of("AA"), null, null, null, null, null)));
+        assertThrows(BusinessException.class, () -> rangeEquityService.calculate(
+            new RangeEquityRequest(List.of("AA", "QX"), null, null, null, null, null)));
+        assertThrows(BusinessException.class, () -> rangeEquityService.calculate(
+            new RangeEquityRequest(List.of("AA", "KK"), null, null, null, null, EquityMode.EXACT)));
+        assertThrows(BusinessException.class, () -> rangeEquityService.calculate(
+            new RangeEquityRequest(List.of("AhAs", "KK"), cards("AdAc2h"), cards("Ah"), null, null, null)));
+    }
+
+    /**
+     * Reference result: every runout against every compatible pair of combos.
+     */
+    private double[] pairwise(HandRange hero, HandRange villain, long board) {
+        double win = 0;
+        double tie = 0;
+        double pairs = 0;
+        for (int card = 0; card < CardMask.DECK_SIZE; card++) {
+            long runout = board | 1L << card;
+            if (runout == board) {
+                continue;
+            }
+            for (int h : hero.liveCombos(runout)) {
+                for (int v : villain.liveCombos(runout | HandRange.comboMask(h))) {
+                    double weight = hero.weight(h) * villain.weight(v);
+                    int heroStrength = tables.evaluate(runout | HandRange.comboMask(h));
+                    int villainStrength = tables.evaluate(runout | HandRange.comboMask(v));
+                    pairs += weight;
+                    win += heroStrength > villainStrength ? weight : 0;
+                    tie += heroStrength == villainStrength ? weight : 0;
+                }
+            }
+        }
+        return new double[] {win / pairs, tie / pairs};
+    }
+}
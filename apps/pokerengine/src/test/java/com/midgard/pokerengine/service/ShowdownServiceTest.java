@@ -0,0 +1,126 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.exception.BusinessException;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.model.GameVariant;
+import com.midgard.pokerengine.model.HandCategory;
+import com.midgard.pokerengine.model.PlayerShowdown;
+import com.midgard.pokerengine.model.Pot;
+import com.midgard.pokerengine.model.ShowdownPlayer;
+import com.midgard.pokerengine.model.ShowdownRequest;
+import com.midgard.pokerengine.model.ShowdownResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.midgard.pokerengine.service.TestCards.cards;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShowdownServiceTest {
+
+    private final ShowdownService showdownService = new ShowdownService();
+
+    @Test
+    void settle_ShortStackWinsMainPot_SidePotsGoToBestEligibleHands() {
+        ShowdownResult result = showdownService.settle(new ShowdownRequest(cards("AhKhQd7c2s"), List.of(
+            new ShowdownPlayer(cards("AsAd"), 100, false),
+            new ShowdownPlayer(cards("KdKs"), 300, false),
+            new ShowdownPlayer(cards("JhTh"), 50, false)), null));
+
+        assertEquals(List.of(2), result.getWinners());
+        assertEquals(List.of(
+            new Pot(150, List.of(0, 1, 2), List.of(2)),
+            new Pot(100, List.of(0, 1), List.of(0)),
+            new Pot(200, List.of(1), List.of(1))), result.getPots());
+
+        PlayerShowdown straight = result.getPlayers().get(2);
+        assertEquals(HandCategory.STRAIGHT, straight.getRank().getCategory());
+        assertEquals(cards("AhKhQdJhTh"), straight.getBestHand());
+        assertEquals(cards("AhAdAsKhQd"), result.getPlayers().get(0).getBestHand());
+        assertEquals(List.of(100L, 200L, 150L),
+            result.getPlayers().stream().map(PlayerShowdown::getPayout).toList());
+    }
+
+    @Test
+    void settle_SplitPot_OddChipGoesToFirstWinnerAndFoldedChipsStay() {
+        ShowdownResult result = showdownService.settle(new ShowdownRequest(cards("AhKhQdJcTs"), List.of(
+            new ShowdownPlayer(cards("2c3d"), 10, false),
+            new ShowdownPlayer(cards("4c5d"), 10, false),
+            new ShowdownPlayer(null, 5, true)), null));
+
+        assertEquals(List.of(0, 1), result.getWinners());
+        assertEquals(List.of(new Pot(25, List.of(0, 1), List.of(0, 1))), result.getPots());
+        assertEquals(13, result.getPlayers().get(0).getPayout());
+        assertEquals(12, result.getPlayers().get(1).getPayout());
+        assertTrue(result.getPlayers().get(2).isFolded());
+        assertNull(result.getPlayers().get(2).getRank());
+    }
+
+    @Test
+    void settle_OmahaHiLo_SplitsPotBetweenHighAndLowWithOddChipHigh() {
+        ShowdownResult result = showdownService.settle(new ShowdownRequest(cards("Ah2d7cKsQs"), List.of(
+            new ShowdownPlayer(cards("AdAcKhKc"), 100, false),
+            new ShowdownPlayer(cards("3h4h9d9c"), 100, false),
+            new ShowdownPlayer(cards("3c5cJdTd"), 100, false),
+            new ShowdownPlayer(null, 1, true)), GameVariant.OMAHA_HI_LO));
+
+        assertEquals(List.of(2), result.getWinners());
+        assertEquals(List.of(new Pot(301, List.of(0, 1, 2), List.of(2), List.of(1))), result.getPots());
+        assertEquals(List.of(0L, 150L, 151L, 0L),
+            result.getPlayers().stream().map(PlayerShowdown::getPayout).toList());
+        assertEquals(cards("AhKsQsJdTd"), result.getPlayers().get(2).getBestHand());
+        assertEquals(cards("Ah7c4h3h2d"), result.getPlayers().get(1).getLowHand());
+        assertNull(result.getPlayers().get(0).getLowHand());
+        // Two aces of the hole cards and one of the board: only two hole cards play
+        assertEquals(HandCategory.THREE_OF_A_KIND, result.getPlayers().get(0).getRank().getCategory());
+    }
+
+    @Test
+    void settle_OmahaWithHoldemHoleCards_ThrowsBadRequest() {
+        List<ShowdownPlayer> players = List.of(
+            new ShowdownPlayer(cards("AsAd"), 10, false),
+            new ShowdownPlayer(cards("KsKd"), 10, false));
+
+        assertThrows(BusinessException.class, () -> showdownService.settle(
+            new ShowdownRequest(cards("AhKhQd7c2s"), players, GameVariant.OMAHA)));
+    }
+
+    @Test
+    void split_FoldedPlayerAboveLiveStack_ChipsJoinPotBelow() {
+        ShowdownService.Pots pots = ShowdownService.Pots.split(new long[] {50, 100, 300}, 0b101);
+
+        assertEquals(2, pots.count);
+        assertEquals(150, pots.amounts[0]);
+        assertEquals(0b101, pots.eligible[0]);
+        assertEquals(300, pots.amounts[1]);
+        assertEquals(0b100, pots.eligible[1]);
+    }
+
+    @Test
+    void bestFive_EveryHandOfSevenCards_KeepsItsStrength() {
+        HandRankTables tables = HandRankTables.standard();
+        long hand = CardMask.mask(cards("7h7d7s2c2dKhQh"));
+        long best = showdownService.bestFive(hand, tables.evaluate(hand));
+
+        assertEquals(5, Long.bitCount(best));
+        assertEquals(tables.evaluate(hand), tables.evaluate(best));
+        assertEquals(0, best & ~hand);
+    }
+
+    @Test
+    void settle_InvalidRequests_Throw() {
+        List<ShowdownPlayer> duplicate = List.of(
+            new ShowdownPlayer(cards("AsAd"), 10, false),
+            new ShowdownPlayer(cards("AsKd"), 10, false));
+        List<ShowdownPlayer> allFolded = List.of(
+            new ShowdownPlayer(null, 10, true),
+            new ShowdownPlayer(null, 10, true));
+
+        assertThrows(BusinessException.class,
+            () -> showdownService.settle(new ShowdownRequest(cards("AhKhQd7c2s"), duplicate, null)));
+        assertThrows(BusinessException.class,
+            () -> showdownService.settle(new ShowdownRequest(cards("AhKhQd7c"), allFolded, null)));
+        assertThrows(BusinessException.class,
+            () -> showdownService.settle(new ShowdownRequest(cards("AhKhQd7c2s"), allFolded, null)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.midgard.pokerengine.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuitSymmetryTest {
+
+    @Test
+    void all_HasTwentyFourPermutations_IdentityFirst() {
+        assertEquals(24, SuitSymmetry.ALL.length);
+        assertArrayEquals(new int[] {0, 1, 2, 3}, SuitSymmetry.ALL[0]);
+    }
+
+    @Test
+    void permute_SwapsSuitLanes() {
+        long aceOfFirstSuit = 1L << 12;
+        long aceOfSecondSuit = 1L << 25;
+        assertEquals(aceOfSecondSuit, SuitSymmetry.permute(aceOfFirstSuit, new int[] {1, 0, 2, 3}));
+    }
+
+    @Test
+    void stabilizer_NoKnownCards_IsWholeGroup() {
+        assertEquals(24, SuitSymmetry.stabilizer(0L).length);
+    }
+
+    @Test
+    void orbitSizeIfCanonical_CountsEachClassOnce() {
+        int[][] group = SuitSymmetry.stabilizer(0L);
+        int total = 0;
+        for (int card = 0; card < 52; card++) {
+            total += SuitSymmetry.orbitSizeIfCanonical(1L << card, group);
+        }
+        assertEquals(52, total);
+    }
+
+    @Test
+    void canonical_EveryRelabelling_GivesTheSameMask() {
+        long hand = 0x1F00L | 0x3L << 13 | 0x1000L << 39;
+        long canonical = SuitSymmetry.canonical(hand);
+        for (int[] perm : SuitSymmetry.ALL) {
+            assertEquals(canonical, SuitSymmetry.canonical(SuitSymmetry.permute(hand, perm)));
+        }
+        assertNotEquals(canonical, SuitSymmetry.canonical(0x1E01L | 0x3L << 13 | 0x1000L << 39));
+    }
+}
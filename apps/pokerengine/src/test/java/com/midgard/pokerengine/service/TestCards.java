@@ -0,0 +1,43 @@
+package com.midgard.pokerengine.service;
+
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses compact card strings such as "AsKd7h" for tests.
+ */
+final class TestCards {
+    private static final String RANKS = "23456789TJQKA";
+    private static final String SUITS = "hdcs";
+
+    private TestCards() {
+    }
+
+    static List<Card> cards(String compact) {
+        List<Card> cards = new ArrayList<>(compact.length() / 2);
+        for (int i = 0; i < compact.length(); i += 2) {
+            cards.add(CardMask.card(index(compact, i)));
+        }
+        return cards;
+    }
+
+    static long mask(String compact) {
+        long mask = 0;
+        for (int i = 0; i < compact.length(); i += 2) {
+            mask |= 1L << index(compact, i);
+        }
+        return mask;
+    }
+
+    private static int index(String compact, int offset) {
+        int rank = RANKS.indexOf(compact.charAt(offset));
+        int suit = SUITS.indexOf(compact.charAt(offset + 1));
+        if (rank < 0 || suit < 0) {
+            throw new IllegalArgumentException("Invalid card: " + compact.substring(offset, offset + 2));
+        }
+        return suit * CardMask.RANK_COUNT + rank;
+    }
+}
@@ -0,0 +1,188 @@
+package com.midgard.pokerengine.table;
+
+import com.midgard.pokerengine.model.Card;
+import com.midgard.pokerengine.model.CardMask;
+import com.midgard.pokerengine.service.Deck;
+import com.midgard.pokerengine.service.HandEvaluatorService;
+import com.midgard.pokerengine.service.ShowdownService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HoldemTableTest {
+
+    private final HandEvaluatorService evaluator = new HandEvaluatorService();
+
+    private HoldemTable table(int seats, long seed) {
+        return new HoldemTable(seats, 1, 2, evaluator, new ShowdownService(), new Deck(new SplittableRandom(seed)));
+    }
+
+    @Test
+    void startHand_ThreePlayers_PostsBlindsAndDealsDistinctCards() {
+        HoldemTable table = table(3, 1);
+        for (int seat = 0; seat < 3; seat++) {
+            table.sit(seat, 100);
+        }
+        table.startHand();
+
+        // Button 0, small blind 1, big blind 2, seat 0 first to act
+        assertEquals(Phase.PREFLOP, table.getPhase());
+        assertEquals(0, table.getButton());
+        assertEquals(99, table.getStack(1));
+        assertEquals(98, table.getStack(2));
+        assertEquals(2, table.getCurrentBet());
+        assertEquals(0, table.getToAct());
+        List<Card> dealt = new ArrayList<>();
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(2, table.getHoleCards(seat).size());
+            dealt.addAll(table.getHoleCards(seat));
+        }
+        assertEquals(6, Long.bitCount(CardMask.mask(dealt)));
+    }
+
+    @Test
+    void act_EveryoneFoldsToBigBlind_BigBlindWinsBlinds() {
+        HoldemTable table = table(3, 2);
+        for (int seat = 0; seat < 3; seat++) {
+            table.sit(seat, 100);
+        }
+        table.startHand();
+        table.act(0, ActionType.FOLD, 0);
+        table.act(1, ActionType.FOLD, 0);
+
+        assertEquals(Phase.WAITING, table.getPhase());
+        assertEquals(1, table.getHandsPlayed());
+        assertEquals(100, table.getStack(0));
+        assertEquals(99, table.getStack(1));
+        assertEquals(101, table.getStack(2));
+    }
+
+    @Test
+    void act_HeadsUpCheckedDown_DealsBoardAndPaysShowdown() {
+        HoldemTable table = table(2, 3);
+        table.sit(0, 100);
+        table.sit(1, 100);
+        table.startHand();
+
+        // Heads-up the button posts the small blind and acts first preflop, last after the flop
+        assertEquals(0, table.getToAct());
+        table.act(0, ActionType.CALL, 0);
+        table.act(1, ActionType.CHECK, 0);
+        assertEquals(Phase.FLOP, table.getPhase());
+        assertEquals(3, table.getBoard().size());
+        for (int street = 0; street < 3; street++) {
+            assertEquals(1, table.getToAct());
+            table.act(1, ActionType.CHECK, 0);
+            table.act(0, ActionType.CHECK, 0);
+        }
+
+        assertEquals(Phase.WAITING, table.getPhase());
+        assertEquals(5, table.getBoard().size());
+        int first = strength(table, 0);
+        int second = strength(table, 1);
+        assertEquals(first > second ? 102 : first == second ? 100 : 98, table.getStack(0));
+        assertEquals(200, table.getStack(0) + table.getStack(1));
+    }
+
+    @Test
+    void act_AllInWithDifferentStacks_SettlesSidePotAndKeepsChips() {
+        for (long seed = 0; seed < 50; seed++) {
+            HoldemTable table = table(3, seed);
+            table.sit(0, 50);
+            table.sit(1, 100);
+            table.sit(2, 200);
+            table.startHand();
+            table.act(0, ActionType.RAISE, 50);
+            table.act(1, ActionType.RAISE, 100);
+            assertFalse(table.canRaise(2), "nobody is left to call a raise");
+            table.act(2, ActionType.CALL, 0);
+
+            assertEquals(Phase.WAITING, table.getPhase());
+            assertEquals(350, table.getStack(0) + table.getStack(1) + table.getStack(2));
+            int[] strengths = {strength(table, 0), strength(table, 1), strength(table, 2)};
+            int best = Math.max(strengths[0], Math.max(strengths[1], strengths[2]));
+            if (strengths[0] == best && strengths[1] < best && strengths[2] < best) {
+                assertEquals(150, table.getStack(0));
+            }
+            if (strengths[0] < best && strengths[1] < best) {
+                // Seat 2 wins both pots and gets back what nobody could match
+                assertEquals(350, table.getStack(2));
+            }
+            assertTrue(table.getStack(2) >= 100, "seat 2's unmatched chips are returned");
+        }
+    }
+
+    @Test
+    void act_ShortAllInRaise_DoesNotReopenRaising() {
+        HoldemTable table = table(3, 4);
+        table.sit(0, 100);
+        table.sit(1, 100);
+        table.sit(2, 9);
+        table.startHand();
+        table.act(0, ActionType.RAISE, 6);
+        table.act(1, ActionType.CALL, 0);
+        // Big blind has 7 behind its 2: all-in to 9 is less than a full raise to 10
+        table.act(2, ActionType.RAISE, 9);
+
+        assertEquals(0, table.getToAct());
+        assertFalse(table.canRaise(0));
+        assertThrows(IllegalArgumentException.class, () -> table.act(0, ActionType.RAISE, 20));
+        table.act(0, ActionType.CALL, 0);
+        table.act(1, ActionType.CALL, 0);
+        assertEquals(Phase.FLOP, table.getPhase());
+        assertEquals(27, table.getPot());
+    }
+
+    @Test
+    void act_InvalidActions_AreRejected() {
+        HoldemTable table = table(2, 5);
+        assertThrows(IllegalStateException.class, table::startHand);
+        table.sit(0, 100);
+        table.sit(1, 100);
+        assertThrows(IllegalStateException.class, () -> table.sit(1, 100));
+        assertThrows(IllegalStateException.class, () -> table.act(0, ActionType.CHECK, 0));
+        table.startHand();
+
+        assertThrows(IllegalStateException.class, () -> table.act(1, ActionType.CALL, 0));
+        assertThrows(IllegalArgumentException.class, () -> table.act(0, ActionType.CHECK, 0));
+        assertThrows(IllegalArgumentException.class, () -> table.act(0, ActionType.RAISE, 3));
+        assertThrows(IllegalArgumentException.class, () -> table.act(0, ActionType.RAISE, 101));
+        assertThrows(IllegalStateException.class, () -> table.leave(0));
+        table.act(0, ActionType.RAISE, 100);
+        table.act(1, ActionType.FOLD, 0);
+        assertEquals(102, table.leave(0));
+    }
+
+    @Test
+    void startHand_PlayersAllInEveryHand_UnseatsTheBustedPlayer() {
+        HoldemTable table = table(2, 6);
+        table.sit(0, 10);
+        table.sit(1, 10);
+        while (table.isSeated(0) && table.isSeated(1)) {
+            table.startHand();
+            while (table.getPhase() != Phase.WAITING) {
+                int seat = table.getToAct();
+                if (table.canRaise(seat)) {
+                    table.act(seat, ActionType.RAISE, table.getCommitted(seat) + table.getStack(seat));
+                } else if (table.getCurrentBet() > table.getCommitted(seat)) {
+                    table.act(seat, ActionType.CALL, 0);
+                } else {
+                    table.act(seat, ActionType.CHECK, 0);
+                }
+            }
+        }
+
+        assertEquals(20, table.getStack(0) + table.getStack(1));
+        assertThrows(IllegalStateException.class, table::startHand);
+    }
+
+    private int strength(HoldemTable table, int seat) {
+        List<Card> hand = new ArrayList<>(table.getBoard());
+        hand.addAll(table.getHoleCards(seat));
+        return evaluator.strength(CardMask.mask(hand));
+    }
+}
@@ -0,0 +1,34 @@
+package com.midgard.pokerengine.table;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadSimulatorTest {
+
+    @Test
+    void run_BotTables_PlaysEveryHandAndReportsLatency() throws InterruptedException {
+        LoadSimulator.Report report = LoadSimulator.run(200, 6, 20, 2, 42);
+
+        assertEquals(200, report.tables());
+        assertEquals(4_000, report.hands());
+        assertTrue(report.actions() >= report.hands(), "every hand needs at least one action");
+        assertTrue(report.handsPerSecond() > 0);
+        assertTrue(report.p50Nanos() <= report.p99Nanos());
+        assertTrue(report.p99Nanos() <= report.p999Nanos());
+        assertTrue(report.p999Nanos() <= report.maxNanos());
+    }
+
+    @Test
+    void percentile_LogLinearBuckets_StayWithinBucketWidth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        assertEquals(100_000, histogram.count());
+        assertEquals(50_000, histogram.percentile(0.5), 50_000 / LatencyHistogram.SUB_BUCKETS);
+        assertEquals(99_000, histogram.percentile(0.99), 99_000 / LatencyHistogram.SUB_BUCKETS);
+        assertEquals(100_000, histogram.max());
+    }
+}
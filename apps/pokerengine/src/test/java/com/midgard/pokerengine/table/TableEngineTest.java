@@ -0,0 +1,89 @@
+package com.midgard.pokerengine.table;
+
+import com.midgard.pokerengine.service.Deck;
+import com.midgard.pokerengine.service.HandEvaluatorService;
+import com.midgard.pokerengine.service.ShowdownService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableEngineTest {
+
+    private HoldemTable table() {
+        return new HoldemTable(2, 1, 2, new HandEvaluatorService(), new ShowdownService(), new Deck(new SplittableRandom(7)));
+    }
+
+    @Test
+    void send_ConcurrentSenders_RunsEachTablesCommandsOneAtATime() throws Exception {
+        int tables = 50;
+        int senders = 4;
+        int commands = 2_000;
+        try (TableEngine engine = new TableEngine(4, 8)) {
+            List<TableActor> actors = new ArrayList<>();
+            int[] counts = new int[tables];
+            boolean[] running = new boolean[tables];
+            boolean[] overlapped = new boolean[1];
+            for (int t = 0; t < tables; t++) {
+                actors.add(engine.open(table()));
+            }
+            List<Thread> threads = new ArrayList<>();
+            for (int s = 0; s < senders; s++) {
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < commands; i++) {
+                        int t = i % tables;
+                        actors.get(t).send(table -> {
+                            if (running[t]) {
+                                overlapped[0] = true;
+                            }
+                            running[t] = true;
+                            counts[t]++;
+                            running[t] = false;
+                        });
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < tables; t++) {
+                int index = t;
+                results.add(actors.get(t).ask(table -> counts[index]));
+            }
+
+            for (CompletableFuture<Integer> result : results) {
+                assertEquals(senders * commands / tables, result.get(10, TimeUnit.SECONDS).intValue());
+            }
+            assertFalse(overlapped[0]);
+            assertEquals(tables, engine.size());
+        }
+    }
+
+    @Test
+    void ask_FailingCommand_CompletesExceptionallyAndTableKeepsRunning() throws Exception {
+        try (TableEngine engine = new TableEngine(1)) {
+            TableActor actor = engine.open(table());
+            CompletableFuture<Void> failed = actor.ask(table -> {
+                table.startHand();
+                return null;
+            });
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            actor.send(table -> table.sit(0, 100));
+            assertTrue(actor.ask(table -> table.isSeated(0)).get(10, TimeUnit.SECONDS));
+            assertSame(actor, engine.get(actor.getId()));
+            assertTrue(engine.remove(actor.getId()));
+            assertNull(engine.get(actor.getId()));
+        }
+    }
+}